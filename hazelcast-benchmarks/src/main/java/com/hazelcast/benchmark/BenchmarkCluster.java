@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmark;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+
+import java.util.UUID;
+
+/**
+ * An embedded single-member cluster and, optionally, a client connected to
+ * it over the loopback interface. Each instance uses a unique cluster name,
+ * so that benchmarks running in parallel on the same machine don't join.
+ */
+final class BenchmarkCluster {
+
+    /**
+     * The instance the benchmarked operations are invoked on.
+     */
+    enum Target {
+        /** The operations are invoked on the embedded member. */
+        MEMBER,
+        /** The operations are invoked on a client connected to the member. */
+        CLIENT
+    }
+
+    private final HazelcastInstance member;
+    private final HazelcastInstance client;
+
+    private BenchmarkCluster(HazelcastInstance member, HazelcastInstance client) {
+        this.member = member;
+        this.client = client;
+    }
+
+    static BenchmarkCluster start(Target target) {
+        String clusterName = "benchmark-" + UUID.randomUUID();
+
+        Config config = new Config().setClusterName(clusterName);
+        config.setProperty("hazelcast.phone.home.enabled", "false");
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getAutoDetectionConfig().setEnabled(false);
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        config.getNetworkConfig().getInterfaces().setEnabled(true).addInterface("127.0.0.1");
+        HazelcastInstance member = Hazelcast.newHazelcastInstance(config);
+
+        HazelcastInstance client = null;
+        if (target == Target.CLIENT) {
+            int port = member.getCluster().getLocalMember().getAddress().getPort();
+            ClientConfig clientConfig = new ClientConfig().setClusterName(clusterName);
+            clientConfig.getNetworkConfig().addAddress("127.0.0.1:" + port);
+            client = HazelcastClient.newHazelcastClient(clientConfig);
+        }
+        return new BenchmarkCluster(member, client);
+    }
+
+    HazelcastInstance member() {
+        return member;
+    }
+
+    /**
+     * Returns the client, if started, otherwise the member.
+     */
+    HazelcastInstance target() {
+        return client != null ? client : member;
+    }
+
+    void shutdown() {
+        if (client != null) {
+            client.shutdown();
+        }
+        member.shutdown();
+    }
+}
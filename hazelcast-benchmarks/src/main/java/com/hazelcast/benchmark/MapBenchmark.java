@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmark;
+
+import com.hazelcast.benchmark.BenchmarkCluster.Target;
+import com.hazelcast.map.IMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of single-key {@link IMap} operations on an embedded member and
+ * on a client connected to it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapBenchmark {
+
+    @Param({"MEMBER", "CLIENT"})
+    public Target target;
+
+    @Param({"100", "10000"})
+    public int valueSize;
+
+    @Param({"10000"})
+    public int keyCount;
+
+    private BenchmarkCluster cluster;
+    private IMap<Integer, byte[]> map;
+    private byte[] value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cluster = BenchmarkCluster.start(target);
+        map = cluster.target().getMap("map");
+        value = new byte[valueSize];
+        ThreadLocalRandom.current().nextBytes(value);
+        for (int key = 0; key < keyCount; key++) {
+            map.set(key, value);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cluster.shutdown();
+    }
+
+    @Benchmark
+    public byte[] get() {
+        return map.get(randomKey());
+    }
+
+    @Benchmark
+    public byte[] put() {
+        return map.put(randomKey(), value);
+    }
+
+    @Benchmark
+    public void set() {
+        map.set(randomKey(), value);
+    }
+
+    @Benchmark
+    public boolean containsKey() {
+        return map.containsKey(randomKey());
+    }
+
+    private int randomKey() {
+        return ThreadLocalRandom.current().nextInt(keyCount);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmark;
+
+import com.hazelcast.benchmark.BenchmarkCluster.Target;
+import com.hazelcast.map.IMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the partition operation threads: several caller threads
+ * keep a window of asynchronous operations in flight, spread over all
+ * partitions, so that the cost of scheduling and executing the partition
+ * operations dominates the cost of the individual calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class PartitionOperationBenchmark {
+
+    private static final int WINDOW = 128;
+
+    @Param({"MEMBER", "CLIENT"})
+    public Target target;
+
+    @Param({"10000"})
+    public int keyCount;
+
+    private BenchmarkCluster cluster;
+    private IMap<Integer, Long> map;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cluster = BenchmarkCluster.start(target);
+        map = cluster.target().getMap("map");
+        for (int key = 0; key < keyCount; key++) {
+            map.set(key, 0L);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cluster.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public void setAsync() {
+        CompletableFuture<?>[] futures = new CompletableFuture[WINDOW];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < WINDOW; i++) {
+            futures[i] = map.setAsync(random.nextInt(keyCount), random.nextLong()).toCompletableFuture();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public void getAsync() {
+        CompletableFuture<?>[] futures = new CompletableFuture[WINDOW];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < WINDOW; i++) {
+            futures[i] = map.getAsync(random.nextInt(keyCount)).toCompletableFuture();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
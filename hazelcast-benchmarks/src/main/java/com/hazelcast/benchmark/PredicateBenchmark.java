@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmark;
+
+import com.hazelcast.benchmark.BenchmarkCluster.Target;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link IMap} queries with common predicates, with and without
+ * an index on the queried attribute.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PredicateBenchmark {
+
+    private static final int AGE_COUNT = 100;
+
+    @Param({"MEMBER"})
+    public Target target;
+
+    @Param({"100000"})
+    public int entryCount;
+
+    @Param({"NONE", "HASH", "SORTED"})
+    public String index;
+
+    private BenchmarkCluster cluster;
+    private IMap<Long, Person> map;
+
+    private final Predicate<Long, Person> equalPredicate = Predicates.equal("age", 42);
+    private final Predicate<Long, Person> rangePredicate = Predicates.between("age", 40, 44);
+    private final Predicate<Long, Person> andPredicate =
+            Predicates.and(Predicates.equal("age", 42), Predicates.greaterThan("salary", 5_000d));
+    private final Predicate<Long, Person> sqlPredicate = Predicates.sql("age = 42 AND salary > 5000");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cluster = BenchmarkCluster.start(target);
+        map = cluster.target().getMap("persons");
+        if (!"NONE".equals(index)) {
+            map.addIndex(IndexType.valueOf(index), "age");
+        }
+        for (long id = 0; id < entryCount; id++) {
+            map.set(id, new Person(id, "name-" + id, (int) (id % AGE_COUNT), id % 10_000));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cluster.shutdown();
+    }
+
+    @Benchmark
+    public Collection<Person> equal() {
+        return map.values(equalPredicate);
+    }
+
+    @Benchmark
+    public Collection<Person> range() {
+        return map.values(rangePredicate);
+    }
+
+    @Benchmark
+    public Collection<Person> and() {
+        return map.values(andPredicate);
+    }
+
+    @Benchmark
+    public Collection<Person> sql() {
+        return map.values(sqlPredicate);
+    }
+
+    @Benchmark
+    public Set<Long> keySetEqual() {
+        return map.keySet(equalPredicate);
+    }
+}
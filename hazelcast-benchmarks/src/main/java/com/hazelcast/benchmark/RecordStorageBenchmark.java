@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmark;
+
+import com.hazelcast.benchmark.BenchmarkCluster.Target;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.map.IMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and allocation of {@link IMap} operations with the default and
+ * with the {@linkplain MapConfig#setOpenAddressingStorageEnabled
+ * open-addressing} record storage, on an embedded member. Run it with the
+ * default GC profiler to compare the allocation rate per operation, and
+ * see {@link RecordStorageFootprint} for the retained heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RecordStorageBenchmark {
+
+    @Param({"false", "true"})
+    public boolean openAddressingStorage;
+
+    @Param({"1000000"})
+    public int keyCount;
+
+    private BenchmarkCluster cluster;
+    private IMap<Integer, Integer> map;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cluster = BenchmarkCluster.start(Target.MEMBER);
+        cluster.member().getConfig().addMapConfig(new MapConfig("map")
+                .setOpenAddressingStorageEnabled(openAddressingStorage));
+        map = cluster.member().getMap("map");
+        for (int key = 0; key < keyCount; key++) {
+            map.set(key, key);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cluster.shutdown();
+    }
+
+    @Benchmark
+    public Integer get() {
+        return map.get(randomKey());
+    }
+
+    @Benchmark
+    public void set() {
+        int key = randomKey();
+        map.set(key, key);
+    }
+
+    /**
+     * Removes and inserts back a key, exercising the backward-shift
+     * deletion and the slot search of the open-addressing storage.
+     */
+    @Benchmark
+    public void removeAndSet() {
+        int key = randomKey();
+        map.delete(key);
+        map.set(key, key);
+    }
+
+    private int randomKey() {
+        return ThreadLocalRandom.current().nextInt(keyCount);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmark;
+
+import com.hazelcast.benchmark.BenchmarkCluster.Target;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.map.IMap;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Measures the heap retained by an {@link IMap} with the default and with
+ * the {@linkplain MapConfig#setOpenAddressingStorageEnabled
+ * open-addressing} record storage. JMH reports allocation rates, not
+ * retained sizes, so this is a plain program: it fills a map on an
+ * embedded member, forces full GCs and prints the used heap growth per
+ * entry. The keys and values are small integers, so the difference is
+ * dominated by the storage overhead.
+ * <p>
+ * Example: {@code java -Xmx4g -cp target/benchmarks.jar
+ * com.hazelcast.benchmark.RecordStorageFootprint 1000000}
+ */
+public final class RecordStorageFootprint {
+
+    private static final int DEFAULT_KEY_COUNT = 1_000_000;
+    private static final int WARMUP_KEY_COUNT = 10_000;
+    private static final int GC_ROUNDS = 5;
+
+    private RecordStorageFootprint() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int keyCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_KEY_COUNT;
+        for (boolean openAddressingStorage : new boolean[]{false, true}) {
+            System.out.printf("openAddressingStorage=%s: %.1f bytes per entry%n",
+                    openAddressingStorage, retainedBytesPerEntry(openAddressingStorage, keyCount));
+        }
+    }
+
+    private static double retainedBytesPerEntry(boolean openAddressingStorage, int keyCount)
+            throws InterruptedException {
+        BenchmarkCluster cluster = BenchmarkCluster.start(Target.MEMBER);
+        try {
+            cluster.member().getConfig().addMapConfig(new MapConfig("map")
+                    .setOpenAddressingStorageEnabled(openAddressingStorage));
+            IMap<Integer, Integer> map = cluster.member().getMap("map");
+            // create the record stores of all partitions before the baseline
+            for (int key = 0; key < WARMUP_KEY_COUNT; key++) {
+                map.set(-key - 1, 0);
+            }
+            map.clear();
+
+            long before = usedHeapAfterGc();
+            for (int key = 0; key < keyCount; key++) {
+                map.set(key, key);
+            }
+            long after = usedHeapAfterGc();
+            return (double) (after - before) / keyCount;
+        } finally {
+            cluster.shutdown();
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
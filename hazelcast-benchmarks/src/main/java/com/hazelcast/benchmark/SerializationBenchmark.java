@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmark;
+
+import com.hazelcast.benchmark.BenchmarkCluster.Target;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing and deserializing a small value object with the
+ * serialization formats supported by {@code SerializationServiceV1}, and
+ * of the raw {@code ObjectDataOutput} used by all of them.
+ * <p>
+ * Compact serialization needs the schema service of a member, so the
+ * benchmarks use the serialization service of an embedded member. The raw
+ * output benchmark uses a standalone service with unsafe access and native
+ * byte order enabled, which makes it create {@code UnsafeObjectDataOutput}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private BenchmarkCluster cluster;
+    private InternalSerializationService serializationService;
+    private InternalSerializationService unsafeSerializationService;
+    private BufferObjectDataOutput output;
+
+    private Person compactPerson;
+    private DataSerializablePerson dataSerializablePerson;
+    private SerializablePerson serializablePerson;
+    private Data compactData;
+    private Data dataSerializableData;
+    private Data serializableData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cluster = BenchmarkCluster.start(Target.MEMBER);
+        serializationService = ((SerializationServiceSupport) cluster.member()).getSerializationService();
+        unsafeSerializationService = new DefaultSerializationServiceBuilder()
+                .setAllowUnsafe(true)
+                .setUseNativeByteOrder(true)
+                .build();
+        output = unsafeSerializationService.createObjectDataOutput();
+
+        compactPerson = new Person(42L, "John Doe", 42, 4_200d);
+        dataSerializablePerson = new DataSerializablePerson(42L, "John Doe", 42, 4_200d);
+        serializablePerson = new SerializablePerson(42L, "John Doe", 42, 4_200d);
+        compactData = serializationService.toData(compactPerson);
+        dataSerializableData = serializationService.toData(dataSerializablePerson);
+        serializableData = serializationService.toData(serializablePerson);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        unsafeSerializationService.dispose();
+        cluster.shutdown();
+    }
+
+    @Benchmark
+    public Data compactToData() {
+        return serializationService.toData(compactPerson);
+    }
+
+    @Benchmark
+    public Object compactToObject() {
+        return serializationService.toObject(compactData);
+    }
+
+    @Benchmark
+    public Data dataSerializableToData() {
+        return serializationService.toData(dataSerializablePerson);
+    }
+
+    @Benchmark
+    public Object dataSerializableToObject() {
+        return serializationService.toObject(dataSerializableData);
+    }
+
+    @Benchmark
+    public Data javaSerializableToData() {
+        return serializationService.toData(serializablePerson);
+    }
+
+    @Benchmark
+    public Object javaSerializableToObject() {
+        return serializationService.toObject(serializableData);
+    }
+
+    @Benchmark
+    public int objectDataOutput() throws IOException {
+        output.clear();
+        output.writeLong(42L);
+        output.writeInt(42);
+        output.writeDouble(4_200d);
+        output.writeString("John Doe");
+        return output.position();
+    }
+}
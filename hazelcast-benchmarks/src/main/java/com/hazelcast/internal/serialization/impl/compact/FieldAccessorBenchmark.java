@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single field read and write done by the {@link
+ * ReflectiveCompactSerializer} through a {@link FieldAccessor}, compared
+ * with:
+ * <ul>
+ *     <li>{@code reflective*}: the {@link Field} methods the serializer used
+ *     before the accessors were introduced
+ *     <li>{@code constantHandle*}: the same method handles held in {@code
+ *     static final} fields, which the JIT can inline like a direct access.
+ *     The accessors are created per serialized class at runtime, so they
+ *     can't be constants; this is the bound a generated accessor could reach
+ *     <li>{@code direct*}: a plain field access
+ * </ul>
+ * The benchmark lives in the package of {@link FieldAccessor}, since the
+ * class is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessorBenchmark {
+
+    private static final MethodHandle CONSTANT_INT_GETTER;
+    private static final MethodHandle CONSTANT_INT_SETTER;
+    private static final MethodHandle CONSTANT_OBJECT_GETTER;
+    private static final MethodHandle CONSTANT_OBJECT_SETTER;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CONSTANT_INT_GETTER = lookup.findGetter(Sample.class, "intValue", int.class)
+                    .asType(MethodType.methodType(int.class, Object.class));
+            CONSTANT_INT_SETTER = lookup.findSetter(Sample.class, "intValue", int.class)
+                    .asType(MethodType.methodType(void.class, Object.class, int.class));
+            CONSTANT_OBJECT_GETTER = lookup.findGetter(Sample.class, "stringValue", String.class)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            CONSTANT_OBJECT_SETTER = lookup.findSetter(Sample.class, "stringValue", String.class)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Sample sample = new Sample();
+    private final String stringValue = "value";
+
+    private Field intField;
+    private Field objectField;
+    private FieldAccessor intAccessor;
+    private FieldAccessor objectAccessor;
+    private int intValue;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchFieldException {
+        intField = Sample.class.getDeclaredField("intValue");
+        intField.setAccessible(true);
+        objectField = Sample.class.getDeclaredField("stringValue");
+        objectField.setAccessible(true);
+        intAccessor = FieldAccessor.of(intField);
+        objectAccessor = FieldAccessor.of(objectField);
+        sample.intValue = 42;
+        sample.stringValue = stringValue;
+    }
+
+    @Benchmark
+    public int accessorGetInt() {
+        return intAccessor.getInt(sample);
+    }
+
+    @Benchmark
+    public int reflectiveGetInt() throws IllegalAccessException {
+        return intField.getInt(sample);
+    }
+
+    @Benchmark
+    public int constantHandleGetInt() throws Throwable {
+        return (int) CONSTANT_INT_GETTER.invokeExact((Object) sample);
+    }
+
+    @Benchmark
+    public int directGetInt() {
+        return sample.intValue;
+    }
+
+    @Benchmark
+    public void accessorSetInt() {
+        intAccessor.setInt(sample, intValue++);
+    }
+
+    @Benchmark
+    public void reflectiveSetInt() throws IllegalAccessException {
+        intField.setInt(sample, intValue++);
+    }
+
+    @Benchmark
+    public void constantHandleSetInt() throws Throwable {
+        CONSTANT_INT_SETTER.invokeExact((Object) sample, intValue++);
+    }
+
+    @Benchmark
+    public void directSetInt() {
+        sample.intValue = intValue++;
+    }
+
+    @Benchmark
+    public Object accessorGetObject() {
+        return objectAccessor.get(sample);
+    }
+
+    @Benchmark
+    public Object reflectiveGetObject() throws IllegalAccessException {
+        return objectField.get(sample);
+    }
+
+    @Benchmark
+    public Object constantHandleGetObject() throws Throwable {
+        return (Object) CONSTANT_OBJECT_GETTER.invokeExact((Object) sample);
+    }
+
+    @Benchmark
+    public Object directGetObject() {
+        return sample.stringValue;
+    }
+
+    @Benchmark
+    public void accessorSetObject() {
+        objectAccessor.set(sample, stringValue);
+    }
+
+    @Benchmark
+    public void reflectiveSetObject() throws IllegalAccessException {
+        objectField.set(sample, stringValue);
+    }
+
+    @Benchmark
+    public void constantHandleSetObject() throws Throwable {
+        CONSTANT_OBJECT_SETTER.invokeExact((Object) sample, (Object) stringValue);
+    }
+
+    @Benchmark
+    public void directSetObject() {
+        sample.stringValue = stringValue;
+    }
+
+    /**
+     * A class serialized by the reflective serializer, with private fields
+     * like the user classes usually have.
+     */
+    public static class Sample {
+
+        private int intValue;
+        private String stringValue;
+    }
+}
@@ -19,6 +19,8 @@ package com.hazelcast.jet.sql.impl;
 import com.hazelcast.function.ComparatorEx;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.internal.serialization.impl.SerializationUtil;
+import com.hazelcast.jet.sql.impl.expression.CompiledPredicate;
+import com.hazelcast.jet.sql.impl.expression.PredicateCompiler;
 import com.hazelcast.jet.sql.impl.opt.FieldCollation;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -144,7 +146,8 @@ public final class ExpressionUtil {
             @Nonnull Expression<Boolean> predicate,
             @Nonnull ExpressionEvalContext context
     ) {
-        return row0 -> projection(predicate, projections, row0.getRow(), context);
+        CompiledPredicate compiledPredicate = PredicateCompiler.compile(predicate, context);
+        return row0 -> projection(compiledPredicate, projections, row0.getRow(), context);
     }
 
     /**
@@ -224,6 +227,23 @@ public final class ExpressionUtil {
         return projection(projections, context, row);
     }
 
+    /**
+     * Projection with a compiled filter predicate for a single row. Returns
+     * {@code null} if the row is rejected by the predicate.
+     */
+    @Nullable
+    public static JetSqlRow projection(
+            @Nonnull CompiledPredicate predicate,
+            @Nonnull List<Expression<?>> projections,
+            @Nonnull Row row,
+            @Nonnull ExpressionEvalContext context
+    ) {
+        if (!predicate.test(row, context)) {
+            return null;
+        }
+        return projection(projections, context, row);
+    }
+
     private static JetSqlRow projection(
             @Nonnull List<Expression<?>> projections,
             @Nonnull ExpressionEvalContext context,
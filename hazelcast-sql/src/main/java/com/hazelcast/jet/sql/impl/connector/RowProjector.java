@@ -17,6 +17,8 @@
 package com.hazelcast.jet.sql.impl.connector;
 
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
+import com.hazelcast.jet.sql.impl.expression.CompiledPredicate;
+import com.hazelcast.jet.sql.impl.expression.PredicateCompiler;
 import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
@@ -36,6 +38,7 @@ public class RowProjector implements Row {
     private final QueryExtractor[] extractors;
 
     private final Expression<Boolean> predicate;
+    private final CompiledPredicate compiledPredicate;
     private final List<Expression<?>> projection;
     private final ExpressionEvalContext evalContext;
 
@@ -54,6 +57,7 @@ public class RowProjector implements Row {
 
         this.predicate = predicate != null ? predicate
                 : (Expression<Boolean>) ConstantExpression.create(true, QueryDataType.BOOLEAN);
+        this.compiledPredicate = PredicateCompiler.compile(this.predicate, evalContext);
         this.projection = projection;
         this.evalContext = evalContext;
     }
@@ -76,7 +80,7 @@ public class RowProjector implements Row {
     public JetSqlRow project(Object object) {
         target.setTarget(object, null);
 
-        return ExpressionUtil.projection(predicate, projection, this, evalContext);
+        return ExpressionUtil.projection(compiledPredicate, projection, this, evalContext);
     }
 
     @SuppressWarnings("unchecked")
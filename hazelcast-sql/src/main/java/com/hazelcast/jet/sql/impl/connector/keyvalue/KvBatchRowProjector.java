@@ -0,0 +1,393 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.keyvalue;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.jet.sql.impl.ExpressionUtil;
+import com.hazelcast.jet.sql.impl.expression.CompiledPredicate;
+import com.hazelcast.jet.sql.impl.expression.PredicateCompiler;
+import com.hazelcast.sql.impl.expression.BiExpression;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.expression.TriExpression;
+import com.hazelcast.sql.impl.expression.UniExpression;
+import com.hazelcast.sql.impl.expression.VariExpression;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.row.Row;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+
+/**
+ * A variant of {@link KvRowProjector} which filters and projects entries
+ * in column-oriented batches.
+ * <p>
+ * Entries are first {@linkplain #add added} to the batch: the fields used
+ * by the predicate or the projections are extracted into one array per
+ * field, numeric fields compared with a constant in the predicate also
+ * into a primitive array. When the batch is {@linkplain #flush flushed},
+ * the predicate is evaluated column-wise using a selection vector: the
+ * comparisons of a numeric field with a constant run in tight loops over
+ * the primitive arrays, the rest of the predicate is evaluated only for
+ * the rows still selected after that. Finally, the projections are
+ * evaluated for the selected rows.
+ * <p>
+ * When evaluating the remaining predicate and the projections, the batch
+ * acts as a {@link Row} positioned at the current row.
+ */
+public class KvBatchRowProjector implements Row {
+
+    private final KvRowProjector projector;
+    private final int capacity;
+
+    /** Extracted field values, {@code null} for fields not used by the query. */
+    private final Object[][] columns;
+    private final int[] usedColumns;
+    private final ColumnFilter[] columnFilters;
+    private final CompiledPredicate remainingPredicate;
+    private final List<Expression<?>> projections;
+    private final ExpressionEvalContext evalContext;
+
+    private final int[] selection;
+    private int size;
+    private int position;
+
+    KvBatchRowProjector(KvRowProjector projector, int capacity) {
+        checkPositive("capacity", capacity);
+        this.projector = projector;
+        this.capacity = capacity;
+        this.projections = projector.projections();
+        this.evalContext = projector.evalContext();
+
+        List<Expression<?>> conjuncts = conjuncts(projector.predicate());
+        List<ColumnFilter> columnFilters = new ArrayList<>();
+        List<Expression<?>> remaining = new ArrayList<>();
+        for (Expression<?> conjunct : conjuncts) {
+            if (ConstantExpression.TRUE.equals(conjunct)) {
+                continue;
+            }
+            ColumnFilter columnFilter = ColumnFilter.create(conjunct);
+            if (columnFilter != null) {
+                columnFilters.add(columnFilter);
+            } else {
+                remaining.add(conjunct);
+            }
+        }
+        this.columnFilters = columnFilters.toArray(new ColumnFilter[0]);
+        this.remainingPredicate = remaining.isEmpty() ? null : PredicateCompiler.compile(and(remaining), evalContext);
+
+        boolean[] used = new boolean[projector.fieldCount()];
+        boolean allUsed = !collectColumns(projector.predicate(), used);
+        for (Expression<?> projection : projections) {
+            allUsed |= !collectColumns(projection, used);
+        }
+        this.columns = new Object[used.length][];
+        List<Integer> usedColumns = new ArrayList<>();
+        for (int i = 0; i < used.length; i++) {
+            if (allUsed || used[i]) {
+                columns[i] = new Object[capacity];
+                usedColumns.add(i);
+            }
+        }
+        this.usedColumns = usedColumns.stream().mapToInt(Integer::intValue).toArray();
+        for (ColumnFilter columnFilter : this.columnFilters) {
+            columnFilter.allocate(capacity);
+        }
+        this.selection = new int[capacity];
+    }
+
+    /**
+     * Extracts the fields of the given entry into the batch. Must not be
+     * called when the batch {@linkplain #isFull() is full}.
+     */
+    public void add(Data key, Data value) {
+        assert size < capacity : "batch is full";
+        projector.setEntry(null, key, null, value);
+        for (int column : usedColumns) {
+            columns[column][size] = projector.get(column);
+        }
+        for (ColumnFilter columnFilter : columnFilters) {
+            columnFilter.load(columns[columnFilter.column][size], size);
+        }
+        size++;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Filters and projects the rows of the batch, adds the results to the
+     * given list and clears the batch.
+     */
+    public void flush(List<JetSqlRow> output) {
+        int selectedCount = size;
+        for (int i = 0; i < size; i++) {
+            selection[i] = i;
+        }
+        for (int i = 0; i < columnFilters.length && selectedCount > 0; i++) {
+            selectedCount = columnFilters[i].filter(selection, selectedCount);
+        }
+        if (remainingPredicate != null) {
+            int retained = 0;
+            for (int i = 0; i < selectedCount; i++) {
+                position = selection[i];
+                if (remainingPredicate.test(this, evalContext)) {
+                    selection[retained++] = position;
+                }
+            }
+            selectedCount = retained;
+        }
+        for (int i = 0; i < selectedCount; i++) {
+            position = selection[i];
+            output.add(ExpressionUtil.projection((Expression<Boolean>) null, projections, this, evalContext));
+        }
+
+        for (int column : usedColumns) {
+            // don't retain the values of the flushed batch
+            Arrays.fill(columns[column], 0, size, null);
+        }
+        size = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+        return (T) columns[index][position];
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public boolean isCooperative() {
+        return projector.isCooperative();
+    }
+
+    private static List<Expression<?>> conjuncts(Expression<Boolean> predicate) {
+        if (predicate instanceof AndPredicate) {
+            List<Expression<?>> conjuncts = new ArrayList<>();
+            Collections.addAll(conjuncts, ((AndPredicate) predicate).operands());
+            return conjuncts;
+        }
+        return Collections.singletonList(predicate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Expression<Boolean> and(List<Expression<?>> conjuncts) {
+        return conjuncts.size() == 1
+                ? (Expression<Boolean>) conjuncts.get(0)
+                : AndPredicate.create(conjuncts.toArray(new Expression<?>[0]));
+    }
+
+    /**
+     * Marks the fields referenced by the given expression. Returns {@code
+     * false} if the expression contains a node whose operands are unknown,
+     * in which case all fields must be extracted.
+     */
+    private static boolean collectColumns(Expression<?> expression, boolean[] used) {
+        if (expression instanceof ColumnExpression) {
+            used[((ColumnExpression<?>) expression).getIndex()] = true;
+            return true;
+        }
+        if (expression instanceof ConstantExpression || expression instanceof ParameterExpression) {
+            return true;
+        }
+        if (expression instanceof UniExpression) {
+            return collectColumns(((UniExpression<?>) expression).getOperand(), used);
+        }
+        if (expression instanceof BiExpression) {
+            BiExpression<?> bi = (BiExpression<?>) expression;
+            return collectColumns(bi.getOperand1(), used) & collectColumns(bi.getOperand2(), used);
+        }
+        if (expression instanceof TriExpression) {
+            TriExpression<?> tri = (TriExpression<?>) expression;
+            return collectColumns(tri.getOperand1(), used)
+                    & collectColumns(tri.getOperand2(), used)
+                    & collectColumns(tri.getOperand3(), used);
+        }
+        if (expression instanceof VariExpression) {
+            boolean result = true;
+            for (Expression<?> operand : ((VariExpression<?>) expression).operands()) {
+                result &= collectColumns(operand, used);
+            }
+            return result;
+        }
+        return false;
+    }
+
+    /**
+     * A comparison of a numeric field with a non-null constant, evaluated
+     * over a primitive array of the field values.
+     */
+    private static final class ColumnFilter {
+
+        private static final int LESS = 1;
+        private static final int EQUAL = 2;
+        private static final int GREATER = 4;
+
+        private final int column;
+        private final boolean floatingPoint;
+        /** The set of {@link Long#compare} results accepted by the comparison, as bits. */
+        private final int acceptedMask;
+        private final long longConstant;
+        private final double doubleConstant;
+
+        private long[] longValues;
+        private double[] doubleValues;
+        private boolean[] nulls;
+
+        private ColumnFilter(int column, boolean floatingPoint, int acceptedMask, Number constant) {
+            this.column = column;
+            this.floatingPoint = floatingPoint;
+            this.acceptedMask = acceptedMask;
+            this.longConstant = constant.longValue();
+            this.doubleConstant = constant.doubleValue();
+        }
+
+        static ColumnFilter create(Expression<?> expression) {
+            if (!(expression instanceof ComparisonPredicate)) {
+                return null;
+            }
+            ComparisonPredicate comparison = (ComparisonPredicate) expression;
+            Expression<?> left = comparison.getOperand1();
+            Expression<?> right = comparison.getOperand2();
+            boolean swapped = false;
+            if (left instanceof ConstantExpression && right instanceof ColumnExpression) {
+                Expression<?> tmp = left;
+                left = right;
+                right = tmp;
+                swapped = true;
+            }
+            if (!(left instanceof ColumnExpression) || !(right instanceof ConstantExpression)) {
+                return null;
+            }
+            Object constant = ((ConstantExpression<?>) right).getValue();
+            if (constant == null) {
+                return null;
+            }
+
+            boolean floatingPoint;
+            switch (left.getType().getTypeFamily()) {
+                case TINYINT:
+                case SMALLINT:
+                case INTEGER:
+                case BIGINT:
+                    floatingPoint = false;
+                    break;
+                case REAL:
+                case DOUBLE:
+                    floatingPoint = true;
+                    break;
+                default:
+                    return null;
+            }
+            if (right.getType().getTypeFamily() != left.getType().getTypeFamily()) {
+                return null;
+            }
+
+            int mask = acceptedMask(comparison.getMode());
+            if (swapped) {
+                // "constant < column" is "column > constant"
+                mask = (mask & EQUAL) | ((mask & LESS) != 0 ? GREATER : 0) | ((mask & GREATER) != 0 ? LESS : 0);
+            }
+            return new ColumnFilter(((ColumnExpression<?>) left).getIndex(), floatingPoint, mask, (Number) constant);
+        }
+
+        private static int acceptedMask(ComparisonMode mode) {
+            switch (mode) {
+                case EQUALS:
+                    return EQUAL;
+                case NOT_EQUALS:
+                    return LESS | GREATER;
+                case GREATER_THAN:
+                    return GREATER;
+                case GREATER_THAN_OR_EQUAL:
+                    return GREATER | EQUAL;
+                case LESS_THAN:
+                    return LESS;
+                case LESS_THAN_OR_EQUAL:
+                    return LESS | EQUAL;
+                default:
+                    throw new IllegalStateException("unexpected comparison mode: " + mode);
+            }
+        }
+
+        void allocate(int capacity) {
+            nulls = new boolean[capacity];
+            if (floatingPoint) {
+                doubleValues = new double[capacity];
+            } else {
+                longValues = new long[capacity];
+            }
+        }
+
+        void load(Object value, int row) {
+            nulls[row] = value == null;
+            if (value == null) {
+                return;
+            }
+            if (floatingPoint) {
+                doubleValues[row] = ((Number) value).doubleValue();
+            } else {
+                longValues[row] = ((Number) value).longValue();
+            }
+        }
+
+        /**
+         * Retains the selected rows which pass the comparison, returns their
+         * count. NULL values don't pass.
+         */
+        int filter(int[] selection, int selectedCount) {
+            int retained = 0;
+            if (floatingPoint) {
+                // Double.compare to match the Comparable semantics of NaN and -0.0
+                for (int i = 0; i < selectedCount; i++) {
+                    int row = selection[i];
+                    int order = Integer.signum(Double.compare(doubleValues[row], doubleConstant));
+                    if (!nulls[row] && (acceptedMask & (1 << (order + 1))) != 0) {
+                        selection[retained++] = row;
+                    }
+                }
+            } else {
+                for (int i = 0; i < selectedCount; i++) {
+                    int row = selection[i];
+                    int order = Long.compare(longValues[row], longConstant);
+                    if (!nulls[row] && (acceptedMask & (1 << (order + 1))) != 0) {
+                        selection[retained++] = row;
+                    }
+                }
+            }
+            return retained;
+        }
+    }
+}
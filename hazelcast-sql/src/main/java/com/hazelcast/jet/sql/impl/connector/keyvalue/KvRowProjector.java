@@ -19,6 +19,8 @@ package com.hazelcast.jet.sql.impl.connector.keyvalue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.jet.sql.impl.expression.CompiledPredicate;
+import com.hazelcast.jet.sql.impl.expression.PredicateCompiler;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -54,6 +56,7 @@ public class KvRowProjector implements Row {
     private final QueryExtractor[] extractors;
 
     private final Expression<Boolean> predicate;
+    private final CompiledPredicate compiledPredicate;
     private final List<Expression<?>> projections;
     private final ExpressionEvalContext evalContext;
 
@@ -74,6 +77,7 @@ public class KvRowProjector implements Row {
 
         this.predicate = predicate != null ? predicate
                 : (Expression<Boolean>) ConstantExpression.create(true, QueryDataType.BOOLEAN);
+        this.compiledPredicate = PredicateCompiler.compile(this.predicate, evalContext);
         this.projections = projections;
         this.evalContext = evalContext;
     }
@@ -105,10 +109,34 @@ public class KvRowProjector implements Row {
     }
 
     private JetSqlRow project(Object key, Data keyData, Object value, Data valueData) {
+        setEntry(key, keyData, value, valueData);
+
+        return ExpressionUtil.projection(compiledPredicate, projections, this, evalContext);
+    }
+
+    /**
+     * Sets the entry the fields are extracted from by {@link #get(int)},
+     * without filtering and projecting it.
+     */
+    void setEntry(Object key, Data keyData, Object value, Data valueData) {
         keyTarget.setTarget(key, keyData);
         valueTarget.setTarget(value, valueData);
+    }
+
+    int fieldCount() {
+        return extractors.length;
+    }
 
-        return ExpressionUtil.projection(predicate, projections, this, evalContext);
+    Expression<Boolean> predicate() {
+        return predicate;
+    }
+
+    List<Expression<?>> projections() {
+        return projections;
+    }
+
+    ExpressionEvalContext evalContext() {
+        return evalContext;
     }
 
     @Override
@@ -199,6 +227,10 @@ public class KvRowProjector implements Row {
             );
         }
 
+        public KvBatchRowProjector getBatch(ExpressionEvalContext evalContext, Extractors extractors, int batchSize) {
+            return new KvBatchRowProjector(get(evalContext, extractors), batchSize);
+        }
+
         @Override
         public void writeData(ObjectDataOutput out) throws IOException {
             out.writeInt(paths.length);
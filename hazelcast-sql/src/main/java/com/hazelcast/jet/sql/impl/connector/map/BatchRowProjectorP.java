@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Inbox;
+import com.hazelcast.jet.core.Watermark;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvBatchRowProjector;
+import com.hazelcast.map.impl.LazyMapEntry;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters and projects IMap entries using a {@link KvBatchRowProjector}.
+ * The entries are collected into the batch until it's full or the input
+ * is complete; the output rows of a batch are emitted before any other
+ * item.
+ */
+final class BatchRowProjectorP extends AbstractProcessor {
+
+    private final KvBatchRowProjector projector;
+    private final List<JetSqlRow> output = new ArrayList<>();
+    private int outputIndex;
+
+    BatchRowProjectorP(KvBatchRowProjector projector) {
+        this.projector = projector;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return projector.isCooperative();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void process(int ordinal, @Nonnull Inbox inbox) {
+        if (!emitOutput()) {
+            return;
+        }
+        for (Object item; (item = inbox.peek()) != null; ) {
+            LazyMapEntry<Object, Object> entry = (LazyMapEntry<Object, Object>) item;
+            projector.add(entry.getKeyData(), entry.getValueData());
+            inbox.remove();
+            if (projector.isFull() && !flush()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean tryProcessWatermark(@Nonnull Watermark watermark) {
+        return flush() && super.tryProcessWatermark(watermark);
+    }
+
+    @Override
+    public boolean saveToSnapshot() {
+        return flush();
+    }
+
+    @Override
+    public boolean complete() {
+        return flush();
+    }
+
+    /**
+     * Filters and projects the collected entries, if any, and emits the
+     * output rows. Returns {@code true} when all rows were emitted.
+     */
+    private boolean flush() {
+        if (!emitOutput()) {
+            return false;
+        }
+        if (projector.isEmpty()) {
+            return true;
+        }
+        projector.flush(output);
+        return emitOutput();
+    }
+
+    private boolean emitOutput() {
+        for (; outputIndex < output.size(); outputIndex++) {
+            if (!tryEmit(output.get(outputIndex))) {
+                return false;
+            }
+        }
+        output.clear();
+        outputIndex = 0;
+        return true;
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.jet.sql.impl.connector.map;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.ResettableSingletonTraverser;
+import com.hazelcast.jet.impl.execution.init.Contexts;
 import com.hazelcast.jet.impl.processor.TransformP;
 import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
@@ -40,12 +41,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static com.hazelcast.spi.properties.ClusterProperty.SQL_SCAN_BATCH_SIZE;
+
 public final class RowProjectorProcessorSupplier implements ProcessorSupplier, IdentifiedDataSerializable {
 
     private KvRowProjector.Supplier projectorSupplier;
 
     private transient ExpressionEvalContext evalContext;
     private transient Extractors extractors;
+    private transient int batchSize;
 
     @SuppressWarnings("unused")
     public RowProjectorProcessorSupplier() {
@@ -59,6 +63,9 @@ public final class RowProjectorProcessorSupplier implements ProcessorSupplier, I
     public void init(@Nonnull Context context) {
         evalContext = ExpressionEvalContext.from(context);
         extractors = Extractors.newBuilder(evalContext.getSerializationService()).build();
+        batchSize = context instanceof Contexts.MetaSupplierCtx ctx
+                ? ctx.nodeEngine().getProperties().getInteger(SQL_SCAN_BATCH_SIZE)
+                : 0;
     }
 
     @Nonnull
@@ -66,6 +73,10 @@ public final class RowProjectorProcessorSupplier implements ProcessorSupplier, I
     public Collection<? extends Processor> get(int count) {
         List<Processor> processors = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
+            if (batchSize > 0) {
+                processors.add(new BatchRowProjectorP(projectorSupplier.getBatch(evalContext, extractors, batchSize)));
+                continue;
+            }
             ResettableSingletonTraverser<JetSqlRow> traverser = new ResettableSingletonTraverser<>();
             KvRowProjector projector = projectorSupplier.get(evalContext, extractors);
             TransformP<LazyMapEntry<Object, Object>, JetSqlRow> processor = new TransformP<>(entry -> {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.expression;
+
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.Row;
+
+/**
+ * A filter predicate prepared for repeated evaluation, created by {@link
+ * PredicateCompiler}.
+ * <p>
+ * Subclasses generated by the compiler evaluate the SQL ternary logic
+ * with {@code int} values ({@link #TRUE}, {@link #FALSE}, {@link
+ * #UNKNOWN}) and primitive comparison operands, instead of walking the
+ * {@link Expression} tree and boxing every intermediate result.
+ * Sub-expressions the compiler doesn't support are evaluated by the
+ * interpreter, through the {@link #fallbacks} array.
+ * <p>
+ * Instances are not shared between threads, but they are stateless.
+ */
+public abstract class CompiledPredicate {
+
+    public static final int TRUE = 1;
+    public static final int FALSE = 0;
+    public static final int UNKNOWN = -1;
+
+    /** Sub-expressions evaluated by the interpreter. */
+    protected final Expression<?>[] fallbacks;
+
+    /** Values of the constants used by the generated code. */
+    protected final Object[] constants;
+
+    protected CompiledPredicate(Expression<?>[] fallbacks, Object[] constants) {
+        this.fallbacks = fallbacks;
+        this.constants = constants;
+    }
+
+    /**
+     * Evaluates the predicate on the given row.
+     *
+     * @return {@link #TRUE}, {@link #FALSE} or {@link #UNKNOWN}
+     */
+    public abstract int evalTernary(Row row, ExpressionEvalContext context);
+
+    /**
+     * Returns {@code true} if the predicate evaluates to SQL {@code TRUE} on
+     * the given row, {@code false} if it evaluates to {@code FALSE} or
+     * {@code UNKNOWN}.
+     */
+    public final boolean test(Row row, ExpressionEvalContext context) {
+        return evalTernary(row, context) == TRUE;
+    }
+
+    /**
+     * Converts the result of an interpreted boolean expression to the
+     * ternary {@code int} representation.
+     */
+    protected static int ternary(Object value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        return (Boolean) value ? TRUE : FALSE;
+    }
+
+    /**
+     * Predicate evaluated entirely by the interpreter. Used when no part of
+     * the expression tree can be compiled, or when compilation is disabled.
+     */
+    static final class Interpreted extends CompiledPredicate {
+
+        Interpreted(Expression<Boolean> predicate) {
+            super(new Expression<?>[]{predicate}, new Object[0]);
+        }
+
+        @Override
+        public int evalTernary(Row row, ExpressionEvalContext context) {
+            return ternary(fallbacks[0].evalTop(row, context));
+        }
+    }
+}
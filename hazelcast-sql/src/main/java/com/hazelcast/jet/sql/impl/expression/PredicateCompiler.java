@@ -0,0 +1,423 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.expression;
+
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.VariExpression;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+import org.codehaus.janino.SimpleCompiler;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.spi.properties.ClusterProperty.SQL_PREDICATE_COMPILATION_ENABLED;
+
+/**
+ * Compiles a filter {@link Expression} tree into a {@link CompiledPredicate}
+ * subclass generated at runtime with Janino.
+ * <p>
+ * The generated code evaluates AND, OR, NOT, IS [NOT] NULL, IS [NOT]
+ * TRUE/FALSE and comparisons of numeric, VARCHAR and BOOLEAN operands
+ * directly: the ternary logic uses {@code int} values and the comparison
+ * operands are unboxed to {@code long}, {@code double}, {@code boolean}
+ * or {@code String} locals. Column references read the row directly and
+ * constants are kept in typed fields. Any other node is evaluated by the
+ * interpreter, so every expression tree can be compiled.
+ * <p>
+ * The generated source doesn't depend on the values of the constants, so
+ * the compiled classes are cached by their source and reused by all
+ * predicates with the same shape. The cache keeps the least recently used
+ * {@value #CLASS_CACHE_SIZE} classes; an evicted class, with its class
+ * loader, is unloaded once the predicates using it are gone.
+ */
+public final class PredicateCompiler {
+
+    private static final String CLASS_NAME = "GeneratedPredicate";
+    private static final int CLASS_CACHE_SIZE = 256;
+    private static final float CLASS_CACHE_LOAD_FACTOR = 0.75f;
+
+    // access-ordered, guarded by itself
+    private static final Map<String, Constructor<? extends CompiledPredicate>> CLASS_CACHE =
+            new LinkedHashMap<>(CLASS_CACHE_SIZE, CLASS_CACHE_LOAD_FACTOR, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Constructor<? extends CompiledPredicate>> eldest) {
+                    return size() > CLASS_CACHE_SIZE;
+                }
+            };
+
+    private static final ILogger LOGGER = Logger.getLogger(PredicateCompiler.class);
+
+    private PredicateCompiler() {
+    }
+
+    /**
+     * Returns a predicate evaluating the given expression. Falls back to the
+     * interpreter if the compilation is disabled by {@link
+     * ClusterProperty#SQL_PREDICATE_COMPILATION_ENABLED}, if no node of the
+     * tree can be compiled or if the compilation fails.
+     */
+    @Nonnull
+    public static CompiledPredicate compile(
+            @Nonnull Expression<Boolean> predicate,
+            @Nonnull ExpressionEvalContext context
+    ) {
+        if (!isCompilationEnabled(context)) {
+            return new CompiledPredicate.Interpreted(predicate);
+        }
+
+        Generator generator = new Generator();
+        String rootMethod = generator.predicate(predicate);
+        if (generator.compiledNodeCount == 0) {
+            return new CompiledPredicate.Interpreted(predicate);
+        }
+
+        String source = generator.source(rootMethod);
+        try {
+            Constructor<? extends CompiledPredicate> constructor = cachedClass(source);
+            return constructor.newInstance(generator.fallbacks.toArray(new Expression<?>[0]),
+                    generator.constants.toArray());
+        } catch (Exception e) {
+            LOGGER.warning("Failed to compile predicate, falling back to interpreted evaluation: " + predicate, e);
+            return new CompiledPredicate.Interpreted(predicate);
+        }
+    }
+
+    /**
+     * Returns the constructor of the class compiled from the given source,
+     * compiling it if it isn't cached. The compilation runs outside the lock,
+     * so concurrent callers may compile the same source more than once.
+     */
+    private static Constructor<? extends CompiledPredicate> cachedClass(String source) {
+        Constructor<? extends CompiledPredicate> constructor;
+        synchronized (CLASS_CACHE) {
+            constructor = CLASS_CACHE.get(source);
+        }
+        if (constructor == null) {
+            constructor = compileClass(source);
+            synchronized (CLASS_CACHE) {
+                CLASS_CACHE.putIfAbsent(source, constructor);
+            }
+        }
+        return constructor;
+    }
+
+    private static boolean isCompilationEnabled(ExpressionEvalContext context) {
+        // the contexts of some tests don't have a node engine
+        NodeEngine nodeEngine = context.getNodeEngine();
+        HazelcastProperties properties = nodeEngine != null ? nodeEngine.getProperties() : null;
+        return properties != null
+                ? properties.getBoolean(SQL_PREDICATE_COMPILATION_ENABLED)
+                : Boolean.parseBoolean(SQL_PREDICATE_COMPILATION_ENABLED.getDefaultValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Constructor<? extends CompiledPredicate> compileClass(String source) {
+        try {
+            SimpleCompiler compiler = new SimpleCompiler();
+            compiler.setParentClassLoader(PredicateCompiler.class.getClassLoader());
+            compiler.cook(source);
+            Class<? extends CompiledPredicate> clazz =
+                    (Class<? extends CompiledPredicate>) compiler.getClassLoader().loadClass(CLASS_NAME);
+            return clazz.getConstructor(Expression[].class, Object[].class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot compile generated predicate:\n" + source, e);
+        }
+    }
+
+    /**
+     * Java types to which the operands of a compiled comparison are unboxed.
+     */
+    private enum OperandKind {
+        LONG("long", "((Number) %s).longValue()"),
+        DOUBLE("double", "((Number) %s).doubleValue()"),
+        BOOLEAN("boolean", "((Boolean) %s).booleanValue()"),
+        STRING("String", "((String) %s)");
+
+        private final String javaType;
+        private final String unboxFormat;
+
+        OperandKind(String javaType, String unboxFormat) {
+            this.javaType = javaType;
+            this.unboxFormat = unboxFormat;
+        }
+
+        String unbox(String value) {
+            return String.format(unboxFormat, value);
+        }
+
+        static OperandKind of(QueryDataTypeFamily family) {
+            switch (family) {
+                case TINYINT:
+                case SMALLINT:
+                case INTEGER:
+                case BIGINT:
+                    return LONG;
+                case REAL:
+                case DOUBLE:
+                    return DOUBLE;
+                case BOOLEAN:
+                    return BOOLEAN;
+                case VARCHAR:
+                    return STRING;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * Generates the source of a {@link CompiledPredicate} subclass, one
+     * method per boolean node of the tree.
+     */
+    private static final class Generator {
+
+        private final List<Expression<?>> fallbacks = new ArrayList<>();
+        private final List<Object> constants = new ArrayList<>();
+        private final StringBuilder fields = new StringBuilder();
+        private final StringBuilder constructorBody = new StringBuilder();
+        private final StringBuilder methods = new StringBuilder();
+        private int methodCount;
+        private int compiledNodeCount;
+
+        /**
+         * Generates a method evaluating the given boolean expression and
+         * returns its name.
+         */
+        String predicate(Expression<?> expression) {
+            StringBuilder body = new StringBuilder();
+            if (generatePredicate(expression, body)) {
+                compiledNodeCount++;
+            } else {
+                body.append("return ternary(").append(fallback(expression)).append(");\n");
+            }
+
+            String name = "p" + methodCount++;
+            methods.append("private int ").append(name).append("(Row row, ExpressionEvalContext context) {\n")
+                    .append(body)
+                    .append("}\n");
+            return name;
+        }
+
+        private boolean generatePredicate(Expression<?> expression, StringBuilder body) {
+            if (expression instanceof AndPredicate || expression instanceof OrPredicate) {
+                // short-circuit on the dominant value, remember an UNKNOWN operand
+                boolean and = expression instanceof AndPredicate;
+                int dominant = and ? CompiledPredicate.FALSE : CompiledPredicate.TRUE;
+                int neutral = and ? CompiledPredicate.TRUE : CompiledPredicate.FALSE;
+                body.append("int result = ").append(neutral).append(";\n");
+                body.append("int value;\n");
+                for (Expression<?> operand : ((VariExpression<?>) expression).operands()) {
+                    body.append("value = ").append(predicate(operand)).append("(row, context);\n");
+                    body.append("if (value == ").append(dominant).append(") { return ").append(dominant).append("; }\n");
+                    body.append("if (value == -1) { result = -1; }\n");
+                }
+                body.append("return result;\n");
+                return true;
+            }
+            if (expression instanceof NotPredicate) {
+                body.append("int value = ").append(predicate(((NotPredicate) expression).getOperand()))
+                        .append("(row, context);\n");
+                body.append("return value == -1 ? -1 : 1 - value;\n");
+                return true;
+            }
+            if (expression instanceof IsTruePredicate) {
+                return generateIs(((IsTruePredicate) expression).getOperand(), "== 1", body);
+            }
+            if (expression instanceof IsNotTruePredicate) {
+                return generateIs(((IsNotTruePredicate) expression).getOperand(), "!= 1", body);
+            }
+            if (expression instanceof IsFalsePredicate) {
+                return generateIs(((IsFalsePredicate) expression).getOperand(), "== 0", body);
+            }
+            if (expression instanceof IsNotFalsePredicate) {
+                return generateIs(((IsNotFalsePredicate) expression).getOperand(), "!= 0", body);
+            }
+            if (expression instanceof IsNullPredicate || expression instanceof IsNotNullPredicate) {
+                Expression<?> operand = expression instanceof IsNullPredicate
+                        ? ((IsNullPredicate) expression).getOperand()
+                        : ((IsNotNullPredicate) expression).getOperand();
+                if (!isPlainColumn(operand)) {
+                    return false;
+                }
+                String comparison = expression instanceof IsNullPredicate ? " == null" : " != null";
+                body.append("return ").append(columnValue((ColumnExpression<?>) operand)).append(comparison)
+                        .append(" ? 1 : 0;\n");
+                return true;
+            }
+            if (expression instanceof ComparisonPredicate) {
+                return generateComparison((ComparisonPredicate) expression, body);
+            }
+            if (expression instanceof ColumnExpression
+                    && expression.getType().getTypeFamily() == QueryDataTypeFamily.BOOLEAN) {
+                body.append("return ternary(").append(columnValue((ColumnExpression<?>) expression)).append(");\n");
+                return true;
+            }
+            if (expression instanceof ConstantExpression
+                    && expression.getType().getTypeFamily() == QueryDataTypeFamily.BOOLEAN) {
+                Boolean value = (Boolean) ((ConstantExpression<?>) expression).getValue();
+                body.append("return ").append(value == null ? -1 : value ? 1 : 0).append(";\n");
+                return true;
+            }
+            return false;
+        }
+
+        private boolean generateIs(Expression<?> operand, String condition, StringBuilder body) {
+            body.append("return ").append(predicate(operand)).append("(row, context) ").append(condition)
+                    .append(" ? 1 : 0;\n");
+            return true;
+        }
+
+        private boolean generateComparison(ComparisonPredicate comparison, StringBuilder body) {
+            Expression<?> left = comparison.getOperand1();
+            Expression<?> right = comparison.getOperand2();
+            OperandKind kind = OperandKind.of(left.getType().getTypeFamily());
+            if (kind == null || kind != OperandKind.of(right.getType().getTypeFamily())
+                    || isNullConstant(left) || isNullConstant(right)) {
+                return false;
+            }
+
+            // same evaluation order as ComparisonPredicate.eval: the right
+            // operand isn't evaluated if the left one is NULL
+            generateOperand(left, kind, "left", body);
+            generateOperand(right, kind, "right", body);
+
+            String operator = operator(comparison.getMode());
+            body.append("return ");
+            switch (kind) {
+                case LONG:
+                    body.append("left ").append(operator).append(" right");
+                    break;
+                case DOUBLE:
+                    // Double.compare to match Comparable semantics of NaN and -0.0
+                    body.append("Double.compare(left, right) ").append(operator).append(" 0");
+                    break;
+                case BOOLEAN:
+                    body.append("Boolean.compare(left, right) ").append(operator).append(" 0");
+                    break;
+                default:
+                    body.append("left.compareTo(right) ").append(operator).append(" 0");
+                    break;
+            }
+            body.append(" ? 1 : 0;\n");
+            return true;
+        }
+
+        private static String operator(ComparisonMode mode) {
+            switch (mode) {
+                case EQUALS:
+                    return "==";
+                case NOT_EQUALS:
+                    return "!=";
+                case GREATER_THAN:
+                    return ">";
+                case GREATER_THAN_OR_EQUAL:
+                    return ">=";
+                case LESS_THAN:
+                    return "<";
+                case LESS_THAN_OR_EQUAL:
+                    return "<=";
+                default:
+                    throw new IllegalStateException("unexpected comparison mode: " + mode);
+            }
+        }
+
+        /**
+         * Declares a local variable named {@code name} of the Java type of the
+         * given kind and assigns the value of the operand to it. Returns
+         * UNKNOWN from the generated method if the value is NULL.
+         */
+        private void generateOperand(Expression<?> operand, OperandKind kind, String name, StringBuilder body) {
+            if (operand instanceof ConstantExpression) {
+                String field = "c" + constants.size();
+                fields.append("private ").append(kind.javaType).append(' ').append(field).append(";\n");
+                constructorBody.append(field).append(" = ")
+                        .append(kind.unbox("constants[" + constants.size() + "]")).append(";\n");
+                constants.add(((ConstantExpression<?>) operand).getValue());
+                body.append(kind.javaType).append(' ').append(name).append(" = ").append(field).append(";\n");
+                return;
+            }
+
+            String value = isPlainColumn(operand)
+                    ? columnValue((ColumnExpression<?>) operand)
+                    : fallback(operand);
+            body.append("Object ").append(name).append("Object = ").append(value).append(";\n");
+            body.append("if (").append(name).append("Object == null) { return -1; }\n");
+            body.append(kind.javaType).append(' ').append(name).append(" = ")
+                    .append(kind.unbox(name + "Object")).append(";\n");
+        }
+
+        private String fallback(Expression<?> expression) {
+            fallbacks.add(expression);
+            return "fallbacks[" + (fallbacks.size() - 1) + "].eval(row, context)";
+        }
+
+        private static String columnValue(ColumnExpression<?> column) {
+            // the same as ColumnExpression.eval for non-OBJECT columns
+            return "row.get(" + column.getIndex() + ", false)";
+        }
+
+        private static boolean isPlainColumn(Expression<?> expression) {
+            return expression instanceof ColumnExpression
+                    && expression.getType().getTypeFamily() != QueryDataTypeFamily.OBJECT;
+        }
+
+        private static boolean isNullConstant(Expression<?> expression) {
+            return expression instanceof ConstantExpression && ((ConstantExpression<?>) expression).getValue() == null;
+        }
+
+        String source(String rootMethod) {
+            return "import com.hazelcast.sql.impl.expression.Expression;\n"
+                    + "import com.hazelcast.sql.impl.expression.ExpressionEvalContext;\n"
+                    + "import com.hazelcast.sql.impl.row.Row;\n"
+                    + "\n"
+                    + "public final class " + CLASS_NAME + " extends " + CompiledPredicate.class.getName() + " {\n"
+                    + fields
+                    + "public " + CLASS_NAME + "(Expression[] fallbacks, Object[] constants) {\n"
+                    + "super(fallbacks, constants);\n"
+                    + constructorBody
+                    + "}\n"
+                    + "public int evalTernary(Row row, ExpressionEvalContext context) {\n"
+                    + "return " + rootMethod + "(row, context);\n"
+                    + "}\n"
+                    + methods
+                    + "}\n";
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.hazelcast.jet.sql.impl.extract;
 
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.JsonMetadataInitializer;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.extract.QueryExtractor;
@@ -26,6 +27,7 @@ import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.sql.impl.type.QueryDataTypeMismatchException;
 
 import javax.annotation.concurrent.NotThreadSafe;
+import java.io.IOException;
 
 // remove in favor of IMDG implementation when JSON is supported
 @NotThreadSafe
@@ -35,7 +37,10 @@ class HazelcastJsonQueryTarget implements QueryTarget {
     private final Extractors extractors;
     private final boolean key;
 
+    private int fieldExtractorCount;
     private Object target;
+    private Object metadata;
+    private boolean metadataCreated;
 
     HazelcastJsonQueryTarget(SerializationService serializationService, Extractors extractors, boolean key) {
         this.serializationService = serializationService;
@@ -50,6 +55,8 @@ class HazelcastJsonQueryTarget implements QueryTarget {
         } else {
             this.target = target;
         }
+        this.metadata = null;
+        this.metadataCreated = false;
     }
 
     @Override
@@ -74,9 +81,10 @@ class HazelcastJsonQueryTarget implements QueryTarget {
     }
 
     private QueryExtractor createFieldExtractor(String path, QueryDataType type) {
+        fieldExtractorCount++;
         return () -> {
             try {
-                Object value = extractors.extract(target, path, null, false);
+                Object value = extractors.extract(target, path, metadata(), false);
                 return type.convert(value);
             } catch (QueryDataTypeMismatchException e) {
                 throw QueryException.dataException("Failed to extract map entry " + (key ? "key" : "value") + " field \""
@@ -88,4 +96,24 @@ class HazelcastJsonQueryTarget implements QueryTarget {
             }
         };
     }
+
+    /**
+     * Returns the binary form of the target when more than one field is
+     * extracted from it, so that the Json text is parsed once per row
+     * instead of once per field. Returns {@code null} otherwise or if the
+     * target isn't valid Json, the fields are then extracted from the text.
+     */
+    private Object metadata() {
+        if (!metadataCreated && fieldExtractorCount > 1) {
+            metadataCreated = true;
+            try {
+                metadata = target instanceof Data data
+                        ? JsonMetadataInitializer.BINARY_INSTANCE.createFromData(data)
+                        : JsonMetadataInitializer.BINARY_INSTANCE.createFromObject(target);
+            } catch (IOException e) {
+                metadata = null;
+            }
+        }
+        return metadata;
+    }
 }
@@ -37,6 +37,7 @@ import com.hazelcast.jet.core.TimestampKind;
 import com.hazelcast.jet.core.Vertex;
 import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
 import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.impl.processor.SortP;
 import com.hazelcast.jet.pipeline.ServiceFactories;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.HazelcastPhysicalScan;
@@ -62,6 +63,7 @@ import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.expression.MockExpressionEvalContext;
 import com.hazelcast.sql.impl.optimizer.PlanObjectKey;
+import com.hazelcast.sql.impl.row.EmptyRow;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.schema.Table;
 import com.hazelcast.sql.impl.type.QueryDataType;
@@ -110,6 +112,10 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
 
     private final DagBuildContextImpl dagBuildContext;
 
+    // the sort feeding the top-level LIMIT, if any, and the number of rows the limit needs from it
+    private SortPhysicalRel limitedSort;
+    private ToLongFunctionEx<Processor.Context> limitedSortLimitFn;
+
     public CreateTopLevelDagVisitor(
             NodeEngine nodeEngine,
             QueryParameterMetadata parameterMetadata,
@@ -308,9 +314,18 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         ComparatorEx<?> comparator = ExpressionUtil.comparisonFn(rel.getCollations());
 
         // Use 2-Phase sort for maximum parallelism
-        // First, construct processors for local sorting
-        Vertex sortVertex = dag.newUniqueVertex("Sort",
-                ProcessorMetaSupplier.of(sortP(comparator)));
+        // First, construct processors for local sorting. If the sort feeds the
+        // top-level LIMIT, each processor needs to emit only the first
+        // OFFSET + FETCH rows of its input.
+        Vertex sortVertex;
+        if (rel == limitedSort) {
+            ToLongFunctionEx<Processor.Context> limitFn = limitedSortLimitFn;
+            sortVertex = dag.newUniqueVertex("Sort", ProcessorMetaSupplier.of(
+                    () -> new SortP<>(comparator, SortP.SPILL_THRESHOLD_FROM_PROPERTY, limitFn)));
+        } else {
+            sortVertex = dag.newUniqueVertex("Sort",
+                    ProcessorMetaSupplier.of(sortP(comparator)));
+        }
         connectInput(rel.getInput(), sortVertex, null);
 
         // Then, combine the locally sorted inputs while preserving the ordering
@@ -640,6 +655,17 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
                 offset = limit.offset(dagBuildContext.getParameterMetadata());
             }
             input = limit.getInput();
+
+            // Projections don't change the number or the order of the rows, so
+            // the limit applies to a sort below them too.
+            RelNode limitInput = input;
+            while (limitInput instanceof CalcPhysicalRel calc && calc.getProgram().getCondition() == null) {
+                limitInput = calc.getInput();
+            }
+            if (limitInput instanceof SortPhysicalRel sort) {
+                limitedSort = sort;
+                limitedSortLimitFn = sortLimitFn(fetch, offset);
+            }
         }
 
         Vertex vertex = dag.newUniqueVertex(
@@ -655,6 +681,25 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         return vertex;
     }
 
+    /**
+     * Returns a function evaluating the number of rows the top-level LIMIT
+     * needs from its input, or -1 if the LIMIT or OFFSET values are invalid,
+     * which is reported by the sink.
+     */
+    private static ToLongFunctionEx<Processor.Context> sortLimitFn(Expression<?> fetch, Expression<?> offset) {
+        return context -> {
+            ExpressionEvalContext evalContext = ExpressionEvalContext.from(context);
+            Number fetchValue = (Number) fetch.eval(EmptyRow.INSTANCE, evalContext);
+            Number offsetValue = (Number) offset.eval(EmptyRow.INSTANCE, evalContext);
+            if (fetchValue == null || offsetValue == null || fetchValue.longValue() < 0 || offsetValue.longValue() < 0) {
+                return -1;
+            }
+            long limit = fetchValue.longValue() + offsetValue.longValue();
+            // on overflow there's no limit
+            return limit < 0 ? -1 : limit;
+        };
+    }
+
     public void optimizeFinishedDag() {
         decreaseParallelism(dag, nodeEngine.getConfig().getJetConfig().getCooperativeThreadCount());
     }
@@ -18,13 +18,16 @@ package com.hazelcast.jet.sql.impl.processors;
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
 import com.hazelcast.jet.core.Watermark;
+import com.hazelcast.jet.impl.execution.init.Contexts;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.JetJoinInfo;
 import com.hazelcast.jet.sql.impl.ObjectArrayKey;
@@ -36,25 +39,110 @@ import com.hazelcast.sql.impl.row.JetSqlRow;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_HASH_JOIN_SPILL_THRESHOLD;
+
+/**
+ * Hash join processor. The right (build) input on ordinal 1 is collected
+ * into a hash table, the left (probe) input on ordinal 0 is joined with
+ * it as it arrives.
+ * <p>
+ * For equi-joins with a positive spill threshold, a grace hash join is
+ * used: the build rows are divided into {@value #SPILL_PARTITION_COUNT}
+ * partitions by the hash of the join key. When the hash table exceeds the
+ * threshold, the rows of its largest partition are written to a {@link
+ * SpillFile}, as are all later build rows of that partition. Probe rows
+ * falling into a spilled partition are written to a second file of the
+ * partition. In the {@code complete} phase, the spilled partitions are
+ * joined one by one: the build file is loaded into the hash table and the
+ * probe file is streamed through it.
+ * <p>
+ * A spilled partition is loaded the same way as the build input: if it
+ * has too many rows to fit in memory, it is divided again into {@value
+ * #SPILL_PARTITION_COUNT} partitions using the next {@value
+ * #PARTITION_BITS} bits of the join key hash and some of them are spilled
+ * again, together with their probe rows. Only the rows of a single join
+ * key can't be divided, they must fit in the accumulation limit. The disk
+ * is accessed only by the I/O executor of the spill files, the processor
+ * backs off while a spill file is not writable or its next row is not
+ * read yet.
+ */
 public class SqlHashJoinP extends AbstractProcessor {
 
+    /**
+     * The number of hash partitions the build rows are divided into for
+     * spilling.
+     */
+    static final int SPILL_PARTITION_COUNT = 16;
+
+    /**
+     * The number of join key hash bits selecting the partition on each
+     * level of re-partitioning.
+     */
+    static final int PARTITION_BITS = 4;
+
+    /**
+     * The number of partitioning levels, after which the bits of the join
+     * key hash are exhausted and a partition is not divided further.
+     */
+    static final int MAX_PARTITION_LEVELS = Integer.SIZE / PARTITION_BITS;
+
+    /**
+     * Maximum number of build rows read back in one call.
+     */
+    static final int LOAD_BATCH_SIZE = 1024;
+
+    /**
+     * Spill threshold value meaning the threshold is taken from {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_HASH_JOIN_SPILL_THRESHOLD}
+     * of the member.
+     */
+    static final long SPILL_THRESHOLD_FROM_PROPERTY = 0;
+
     private final JetJoinInfo joinInfo;
     private final int rightInputColumnCount;
+    private final int[] inMemoryRowCounts = new int[SPILL_PARTITION_COUNT];
+    private final SpillFile[] spilledBuildPartitions = new SpillFile[SPILL_PARTITION_COUNT];
+    private final SpillFile[] spilledProbePartitions = new SpillFile[SPILL_PARTITION_COUNT];
+    private final Deque<SpilledPartition> pendingPartitions = new ArrayDeque<>();
 
     private ExpressionEvalContext evalContext;
     private Multimap<ObjectArrayKey, JetSqlRow> hashMap;
     private FlatMapper<JetSqlRow, JetSqlRow> flatMapper;
     private long maxItemsInHashTable;
+    private long spillThreshold;
+    private InternalSerializationService serializationService;
+    private Executor ioExecutor;
+    private SpilledPartition joinedPartition;
+    private int partitionLevel;
+    private boolean buildPartitionLoaded;
+    private JetSqlRow pendingProbeRow;
 
     public SqlHashJoinP(JetJoinInfo joinInfo, int rightInputColumnCount) {
+        this(joinInfo, rightInputColumnCount, SPILL_THRESHOLD_FROM_PROPERTY);
+    }
+
+    /**
+     * @param spillThreshold the number of build rows kept in memory before
+     *                       a partition of them is spilled to disk, {@link
+     *                       #SPILL_THRESHOLD_FROM_PROPERTY} to use the
+     *                       member property or a negative value to never
+     *                       spill
+     */
+    public SqlHashJoinP(JetJoinInfo joinInfo, int rightInputColumnCount, long spillThreshold) {
         this.joinInfo = joinInfo;
         this.rightInputColumnCount = rightInputColumnCount;
+        this.spillThreshold = spillThreshold;
     }
 
     @Override
@@ -63,6 +151,20 @@ public class SqlHashJoinP extends AbstractProcessor {
         this.hashMap = LinkedListMultimap.create();
         this.flatMapper = flatMapper(this::join);
         this.maxItemsInHashTable = context.maxProcessorAccumulatedRecords();
+        if (spillThreshold == SPILL_THRESHOLD_FROM_PROPERTY) {
+            spillThreshold = context instanceof Contexts.MetaSupplierCtx ctx
+                    ? ctx.nodeEngine().getProperties().getLong(JET_HASH_JOIN_SPILL_THRESHOLD)
+                    : -1;
+        }
+        if (!joinInfo.isEquiJoin()) {
+            // without join keys all rows would fall into a single partition
+            spillThreshold = -1;
+        }
+        if (spillThreshold > 0) {
+            spillThreshold = Math.min(spillThreshold, maxItemsInHashTable);
+            serializationService = ((Contexts.InternalProcSupplierCtx) context).serializationService();
+            ioExecutor = SpillFile.ioExecutor(context);
+        }
     }
 
     private Traverser<JetSqlRow> join(JetSqlRow leftRow) {
@@ -85,24 +187,224 @@ public class SqlHashJoinP extends AbstractProcessor {
 
     @Override
     protected boolean tryProcess0(@Nonnull Object item) {
-        return flatMapper.tryProcess((JetSqlRow) item);
+        return processProbeRow((JetSqlRow) item);
     }
 
     @Override
     protected boolean tryProcess1(@Nonnull Object item) {
-        if (hashMap.size() == maxItemsInHashTable) {
-            throw new AccumulationLimitExceededException();
-        }
         JetSqlRow rightRow = (JetSqlRow) item;
         ObjectArrayKey joinKeys = ObjectArrayKey.project(rightRow, joinInfo.rightEquiJoinIndices());
         // if there's a null in the key, then `null = null` is UNKNOWN in SQL, ignore such keys
         if (joinKeys.containsNull()) {
             return true;
         }
+        if (spillThreshold <= 0) {
+            addToHashTable(joinKeys, rightRow);
+            return true;
+        }
+
+        SpillFile spilledPartition = spilledBuildPartitions[partitionOf(joinKeys, partitionLevel)];
+        if (spilledPartition != null && !spilledPartition.isWritable()) {
+            return false;
+        }
+        insertBuildRow(joinKeys, rightRow);
+        return true;
+    }
+
+    @Override
+    public boolean complete() {
+        if (spillThreshold <= 0) {
+            return true;
+        }
+        while (true) {
+            if (joinedPartition == null) {
+                if (!nextSpilledPartition()) {
+                    return true;
+                }
+            }
+            if (!buildPartitionLoaded && !loadBatch()) {
+                return false;
+            }
+            if (!probeBatch()) {
+                return false;
+            }
+        }
+    }
+
+    private void addToHashTable(ObjectArrayKey joinKeys, JetSqlRow rightRow) {
+        if (hashMap.size() == maxItemsInHashTable) {
+            throw new AccumulationLimitExceededException();
+        }
         hashMap.put(joinKeys, rightRow);
+    }
+
+    /**
+     * Joins the probe row or, if its partition is spilled, appends it to
+     * the partition's probe file. Returns {@code false} if it has to be
+     * retried.
+     */
+    private boolean processProbeRow(JetSqlRow leftRow) {
+        if (spillThreshold > 0) {
+            ObjectArrayKey joinKeys = ObjectArrayKey.project(leftRow, joinInfo.leftEquiJoinIndices());
+            // a key with a null never matches, it's joined right away
+            SpillFile spilledPartition = joinKeys.containsNull()
+                    ? null
+                    : spilledProbePartitions[partitionOf(joinKeys, partitionLevel)];
+            if (spilledPartition != null) {
+                if (!spilledPartition.isWritable()) {
+                    return false;
+                }
+                spilledPartition.write(leftRow);
+                return true;
+            }
+        }
+        return flatMapper.tryProcess(leftRow);
+    }
+
+    /**
+     * Adds the build row to the hash table or, if its partition is spilled,
+     * appends it to the partition's build file.
+     */
+    private void insertBuildRow(ObjectArrayKey joinKeys, JetSqlRow rightRow) {
+        int partition = partitionOf(joinKeys, partitionLevel);
+        if (spilledBuildPartitions[partition] != null) {
+            spilledBuildPartitions[partition].write(rightRow);
+            return;
+        }
+        addToHashTable(joinKeys, rightRow);
+        inMemoryRowCounts[partition]++;
+        if (hashMap.size() >= spillThreshold && partitionLevel < MAX_PARTITION_LEVELS) {
+            spillLargestPartition();
+        }
+    }
+
+    private static int partitionOf(ObjectArrayKey joinKeys, int level) {
+        // each level uses different bits of the hash, so that a partition
+        // which is spilled again is divided among all partitions
+        return (fastIntMix(joinKeys.hashCode()) >>> (level * PARTITION_BITS)) & (SPILL_PARTITION_COUNT - 1);
+    }
+
+    /**
+     * Moves the build rows of the in-memory partition with the most rows
+     * to a new spill file.
+     */
+    private void spillLargestPartition() {
+        int partition = -1;
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            if (spilledBuildPartitions[i] == null
+                    && (partition < 0 || inMemoryRowCounts[i] > inMemoryRowCounts[partition])) {
+                partition = i;
+            }
+        }
+        if (partition < 0) {
+            return;
+        }
+        SpillFile buildFile = SpillFile.create(serializationService, ioExecutor);
+        List<ObjectArrayKey> keys = new ArrayList<>();
+        for (ObjectArrayKey key : hashMap.keySet()) {
+            if (partitionOf(key, partitionLevel) == partition) {
+                keys.add(key);
+            }
+        }
+        for (ObjectArrayKey key : keys) {
+            for (JetSqlRow row : hashMap.removeAll(key)) {
+                buildFile.write(row);
+            }
+        }
+        inMemoryRowCounts[partition] = 0;
+        spilledBuildPartitions[partition] = buildFile;
+        spilledProbePartitions[partition] = SpillFile.create(serializationService, ioExecutor);
+    }
+
+    /**
+     * Queues the partitions spilled on the current level and starts joining
+     * the next queued partition. Returns {@code false} if there's none
+     * left.
+     */
+    private boolean nextSpilledPartition() {
+        // the in-memory partitions have been fully probed at this point
+        hashMap.clear();
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            if (spilledBuildPartitions[i] != null) {
+                pendingPartitions.push(new SpilledPartition(
+                        spilledBuildPartitions[i], spilledProbePartitions[i], partitionLevel));
+                spilledBuildPartitions[i] = null;
+                spilledProbePartitions[i] = null;
+            }
+        }
+        joinedPartition = pendingPartitions.poll();
+        if (joinedPartition == null) {
+            return false;
+        }
+        partitionLevel = joinedPartition.level + 1;
+        buildPartitionLoaded = false;
+        Arrays.fill(inMemoryRowCounts, 0);
         return true;
     }
 
+    /**
+     * Reads up to {@link #LOAD_BATCH_SIZE} build rows of the partition
+     * being joined and inserts them the same way as the build input.
+     * Returns {@code true} when the whole partition has been loaded.
+     */
+    private boolean loadBatch() {
+        for (SpillFile spilledPartition : spilledBuildPartitions) {
+            if (spilledPartition != null && !spilledPartition.isWritable()) {
+                return false;
+            }
+        }
+        SpillFile buildFile = joinedPartition.buildFile;
+        for (int i = 0; i < LOAD_BATCH_SIZE; i++) {
+            if (!buildFile.isReadable()) {
+                return false;
+            }
+            JetSqlRow rightRow = buildFile.read();
+            if (rightRow == null) {
+                buildFile.close();
+                buildPartitionLoaded = true;
+                return true;
+            }
+            insertBuildRow(ObjectArrayKey.project(rightRow, joinInfo.rightEquiJoinIndices()), rightRow);
+        }
+        return false;
+    }
+
+    /**
+     * Joins the spilled probe rows of the partition being joined. Returns
+     * {@code true} when all of them have been joined and the partition's
+     * probe file has been deleted.
+     */
+    private boolean probeBatch() {
+        SpillFile probeFile = joinedPartition.probeFile;
+        for (int i = 0; i < LOAD_BATCH_SIZE; i++) {
+            if (pendingProbeRow == null) {
+                if (!probeFile.isReadable()) {
+                    return false;
+                }
+                pendingProbeRow = probeFile.read();
+                if (pendingProbeRow == null) {
+                    probeFile.close();
+                    joinedPartition = null;
+                    return true;
+                }
+            }
+            if (!processProbeRow(pendingProbeRow)) {
+                return false;
+            }
+            pendingProbeRow = null;
+        }
+        return false;
+    }
+
+    private static void closeSpillFiles(SpillFile[] spillFiles) {
+        for (int i = 0; i < spillFiles.length; i++) {
+            if (spillFiles[i] != null) {
+                spillFiles[i].close();
+                spillFiles[i] = null;
+            }
+        }
+    }
+
     @Override
     public boolean tryProcessWatermark(@Nonnull Watermark watermark) {
         return true;
@@ -114,20 +416,26 @@ public class SqlHashJoinP extends AbstractProcessor {
     }
 
     public static HashJoinProcessorSupplier supplier(JetJoinInfo joinInfo, int rightInputColumnCount) {
-        return new HashJoinProcessorSupplier(joinInfo, rightInputColumnCount);
+        return supplier(joinInfo, rightInputColumnCount, SPILL_THRESHOLD_FROM_PROPERTY);
+    }
+
+    static HashJoinProcessorSupplier supplier(JetJoinInfo joinInfo, int rightInputColumnCount, long spillThreshold) {
+        return new HashJoinProcessorSupplier(joinInfo, rightInputColumnCount, spillThreshold);
     }
 
     private static final class HashJoinProcessorSupplier implements ProcessorSupplier, DataSerializable {
         private JetJoinInfo joinInfo;
         private int rightInputColumnCount;
+        private long spillThreshold;
 
         @SuppressWarnings("unused") // for deserialization
         private HashJoinProcessorSupplier() {
         }
 
-        private HashJoinProcessorSupplier(JetJoinInfo joinInfo, int rightInputColumnCount) {
+        private HashJoinProcessorSupplier(JetJoinInfo joinInfo, int rightInputColumnCount, long spillThreshold) {
             this.joinInfo = joinInfo;
             this.rightInputColumnCount = rightInputColumnCount;
+            this.spillThreshold = spillThreshold;
         }
 
         @Nonnull
@@ -135,7 +443,7 @@ public class SqlHashJoinP extends AbstractProcessor {
         public Collection<? extends Processor> get(int count) {
             List<SqlHashJoinP> processors = new ArrayList<>(count);
             for (int i = 0; i < count; i++) {
-                processors.add(new SqlHashJoinP(joinInfo, rightInputColumnCount));
+                processors.add(new SqlHashJoinP(joinInfo, rightInputColumnCount, spillThreshold));
             }
             return processors;
         }
@@ -144,17 +452,41 @@ public class SqlHashJoinP extends AbstractProcessor {
         public void writeData(ObjectDataOutput out) throws IOException {
             out.writeObject(joinInfo);
             out.writeInt(rightInputColumnCount);
+            out.writeLong(spillThreshold);
         }
 
         @Override
         public void readData(ObjectDataInput in) throws IOException {
             joinInfo = in.readObject();
             rightInputColumnCount = in.readInt();
+            spillThreshold = in.readLong();
         }
     }
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        // spill files may exist if spilling is enabled
+        return spillThreshold <= 0;
+    }
+
+    @Override
+    public void close() {
+        closeSpillFiles(spilledBuildPartitions);
+        closeSpillFiles(spilledProbePartitions);
+        for (SpilledPartition partition; (partition = pendingPartitions.poll()) != null; ) {
+            partition.close();
+        }
+        if (joinedPartition != null) {
+            joinedPartition.close();
+            joinedPartition = null;
+        }
+    }
+
+    private record SpilledPartition(SpillFile buildFile, SpillFile probeFile, int level) {
+
+        void close() {
+            buildFile.close();
+            probeFile.close();
+        }
     }
 }
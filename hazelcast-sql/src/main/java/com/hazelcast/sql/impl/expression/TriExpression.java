@@ -41,6 +41,18 @@ public abstract class TriExpression<T> implements Expression<T> {
         this.operand3 = operand3;
     }
 
+    public Expression<?> getOperand1() {
+        return operand1;
+    }
+
+    public Expression<?> getOperand2() {
+        return operand2;
+    }
+
+    public Expression<?> getOperand3() {
+        return operand3;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeObject(operand1);
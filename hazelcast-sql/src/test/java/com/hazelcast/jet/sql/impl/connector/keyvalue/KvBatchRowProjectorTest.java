@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.keyvalue;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.RemainderFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static com.hazelcast.sql.impl.type.QueryDataType.VARCHAR;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class KvBatchRowProjectorTest {
+
+    private static final int ENTRY_COUNT = 1_000;
+    private static final int BATCH_SIZE = 64;
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void test_columnFilterAndRemainingPredicate() {
+        // this.key > 100 AND 800 >= this.key AND this.value % 3 = 0
+        Expression<Boolean> predicate = AndPredicate.create(
+                ComparisonPredicate.create(column(0), constant(100), ComparisonMode.GREATER_THAN),
+                ComparisonPredicate.create(constant(800), column(0), ComparisonMode.GREATER_THAN_OR_EQUAL),
+                ComparisonPredicate.create(
+                        RemainderFunction.create(column(1), constant(3), INT), constant(0), ComparisonMode.EQUALS)
+        );
+
+        check(predicate, asList(column(1), MultiplyFunction.create(column(0), constant(2), INT)));
+    }
+
+    @Test
+    public void test_noPredicate() {
+        check(null, asList(column(0), column(1)));
+    }
+
+    @Test
+    public void test_singleColumnFilter() {
+        Expression<Boolean> predicate =
+                ComparisonPredicate.create(column(0), constant(ENTRY_COUNT / 2), ComparisonMode.LESS_THAN);
+
+        check(predicate, asList(ConstantExpression.create("x", VARCHAR), column(0)));
+    }
+
+    private void check(Expression<Boolean> predicate, List<Expression<?>> projections) {
+        KvRowProjector.Supplier supplier = KvRowProjector.supplier(
+                new QueryPath[]{QueryPath.KEY_PATH, QueryPath.VALUE_PATH},
+                new QueryDataType[]{INT, INT},
+                GenericQueryTargetDescriptor.DEFAULT,
+                GenericQueryTargetDescriptor.DEFAULT,
+                predicate,
+                projections
+        );
+        Extractors extractors = Extractors.newBuilder(serializationService).build();
+        KvRowProjector rowProjector = supplier.get(SqlTestSupport.createExpressionEvalContext(), extractors);
+        KvBatchRowProjector batchProjector =
+                supplier.getBatch(SqlTestSupport.createExpressionEvalContext(), extractors, BATCH_SIZE);
+
+        List<JetSqlRow> expected = new ArrayList<>();
+        List<JetSqlRow> actual = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            JetSqlRow row = rowProjector.project(serializationService.toData(i), serializationService.toData(i * 7));
+            if (row != null) {
+                expected.add(row);
+            }
+
+            batchProjector.add(serializationService.toData(i), serializationService.toData(i * 7));
+            if (batchProjector.isFull()) {
+                batchProjector.flush(actual);
+            }
+        }
+        batchProjector.flush(actual);
+
+        assertThat(batchProjector.isEmpty()).isTrue();
+        assertThat(actual).isNotEmpty();
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static Expression<?> column(int index) {
+        return ColumnExpression.create(index, INT);
+    }
+
+    private static Expression<?> constant(int value) {
+        return ConstantExpression.create(value, INT);
+    }
+}
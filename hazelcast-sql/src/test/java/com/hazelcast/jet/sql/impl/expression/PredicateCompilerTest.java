@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.expression;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.row.HeapRow;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.jet.sql.SqlTestSupport.createExpressionEvalContext;
+import static com.hazelcast.spi.properties.ClusterProperty.SQL_PREDICATE_COMPILATION_ENABLED;
+import static com.hazelcast.sql.impl.expression.predicate.ComparisonMode.EQUALS;
+import static com.hazelcast.sql.impl.expression.predicate.ComparisonMode.GREATER_THAN;
+import static com.hazelcast.sql.impl.expression.predicate.ComparisonMode.LESS_THAN_OR_EQUAL;
+import static com.hazelcast.sql.impl.expression.predicate.ComparisonMode.NOT_EQUALS;
+import static com.hazelcast.sql.impl.type.QueryDataType.BIGINT;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
+import static com.hazelcast.sql.impl.type.QueryDataType.DECIMAL;
+import static com.hazelcast.sql.impl.type.QueryDataType.DOUBLE;
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static com.hazelcast.sql.impl.type.QueryDataType.VARCHAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PredicateCompilerTest {
+
+    private static final int INT_COLUMN = 0;
+    private static final int BIGINT_COLUMN = 1;
+    private static final int VARCHAR_COLUMN = 2;
+    private static final int DOUBLE_COLUMN = 3;
+    private static final int BOOLEAN_COLUMN = 4;
+    private static final int DECIMAL_COLUMN = 5;
+
+    private final ExpressionEvalContext context = contextWithCompilation(true);
+
+    @Test
+    public void test_comparisons() {
+        check(comparison(column(INT_COLUMN, INT), constant(5, INT), GREATER_THAN));
+        check(comparison(column(BIGINT_COLUMN, BIGINT), column(BIGINT_COLUMN, BIGINT), EQUALS));
+        check(comparison(constant("b", VARCHAR), column(VARCHAR_COLUMN, VARCHAR), LESS_THAN_OR_EQUAL));
+        check(comparison(column(DOUBLE_COLUMN, DOUBLE), constant(-0.0d, DOUBLE), EQUALS));
+        check(comparison(column(DOUBLE_COLUMN, DOUBLE), constant(Double.NaN, DOUBLE), NOT_EQUALS));
+        check(comparison(column(BOOLEAN_COLUMN, BOOLEAN), constant(true, BOOLEAN), GREATER_THAN));
+    }
+
+    @Test
+    public void test_logic() {
+        Expression<Boolean> intPredicate = comparison(column(INT_COLUMN, INT), constant(3, INT), GREATER_THAN);
+        Expression<Boolean> varcharPredicate = comparison(column(VARCHAR_COLUMN, VARCHAR), constant("c", VARCHAR), EQUALS);
+        Expression<Boolean> booleanColumn = column(BOOLEAN_COLUMN, BOOLEAN);
+
+        check(AndPredicate.create(intPredicate, varcharPredicate, booleanColumn));
+        check(OrPredicate.create(intPredicate, varcharPredicate, booleanColumn));
+        check(NotPredicate.create(AndPredicate.create(intPredicate, OrPredicate.create(varcharPredicate, booleanColumn))));
+        check(IsTruePredicate.create(OrPredicate.create(intPredicate, booleanColumn)));
+        check(IsNullPredicate.create(column(VARCHAR_COLUMN, VARCHAR)));
+        check(IsNotNullPredicate.create(column(DOUBLE_COLUMN, DOUBLE)));
+        check(AndPredicate.create(intPredicate, constant(null, BOOLEAN)));
+    }
+
+    @Test
+    public void test_fallbackToInterpreter() {
+        // DECIMAL comparison isn't compiled, INT + INT is evaluated by the interpreter
+        Expression<Boolean> decimalPredicate = comparison(
+                column(DECIMAL_COLUMN, DECIMAL), constant(BigDecimal.ONE, DECIMAL), GREATER_THAN);
+        Expression<Boolean> plusPredicate = comparison(
+                PlusFunction.create(column(INT_COLUMN, INT), constant(1, INT), INT), constant(4, INT), GREATER_THAN);
+
+        assertSame(CompiledPredicate.Interpreted.class,
+                PredicateCompiler.compile(decimalPredicate, context).getClass());
+        check(decimalPredicate);
+        check(plusPredicate);
+        check(AndPredicate.create(decimalPredicate, plusPredicate));
+    }
+
+    @Test
+    public void test_classReusedForDifferentConstants() {
+        CompiledPredicate predicate1 = PredicateCompiler.compile(
+                comparison(column(INT_COLUMN, INT), constant(1, INT), GREATER_THAN), context);
+        CompiledPredicate predicate2 = PredicateCompiler.compile(
+                comparison(column(INT_COLUMN, INT), constant(2, INT), GREATER_THAN), context);
+
+        assertNotSame(predicate1, predicate2);
+        assertSame(predicate1.getClass(), predicate2.getClass());
+        assertFalse(predicate1 instanceof CompiledPredicate.Interpreted);
+        assertEquals(CompiledPredicate.TRUE, predicate1.evalTernary(new HeapRow(new Object[]{2}), context));
+        assertEquals(CompiledPredicate.FALSE, predicate2.evalTernary(new HeapRow(new Object[]{2}), context));
+    }
+
+    @Test
+    public void test_compilationDisabled() {
+        CompiledPredicate predicate = PredicateCompiler.compile(
+                comparison(column(INT_COLUMN, INT), constant(1, INT), GREATER_THAN), contextWithCompilation(false));
+
+        assertSame(CompiledPredicate.Interpreted.class, predicate.getClass());
+    }
+
+    @Test
+    public void test_compilationDisabledByDefault() {
+        CompiledPredicate predicate = PredicateCompiler.compile(
+                comparison(column(INT_COLUMN, INT), constant(1, INT), GREATER_THAN), createExpressionEvalContext());
+
+        assertSame(CompiledPredicate.Interpreted.class, predicate.getClass());
+    }
+
+    private static ExpressionEvalContext contextWithCompilation(boolean enabled) {
+        Config config = new Config().setProperty(SQL_PREDICATE_COMPILATION_ENABLED.getName(), String.valueOf(enabled));
+        NodeEngine nodeEngine = mock(NodeEngine.class);
+        when(nodeEngine.getProperties()).thenReturn(new HazelcastProperties(config));
+        return ExpressionEvalContext.createContext(
+                new ArrayList<>(), nodeEngine, createExpressionEvalContext().getSerializationService(), null);
+    }
+
+    private void check(Expression<Boolean> predicate) {
+        CompiledPredicate compiled = PredicateCompiler.compile(predicate, context);
+        for (Row row : rows()) {
+            int expected = CompiledPredicate.ternary(predicate.eval(row, context));
+            assertEquals(predicate + " on " + row, expected, compiled.evalTernary(row, context));
+        }
+    }
+
+    private static List<Row> rows() {
+        Integer[] ints = {null, 1, 3, 5, 7};
+        Long[] longs = {null, Long.MIN_VALUE, 0L};
+        String[] strings = {null, "a", "b", "c"};
+        Double[] doubles = {null, 0.0d, -0.0d, Double.NaN, 1.5d};
+        Boolean[] booleans = {null, true, false};
+        BigDecimal[] decimals = {null, BigDecimal.ZERO, BigDecimal.TEN};
+
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(new HeapRow(new Object[]{
+                    ints[i % ints.length],
+                    longs[i % longs.length],
+                    strings[i % strings.length],
+                    doubles[i % doubles.length],
+                    booleans[i % booleans.length],
+                    decimals[i % decimals.length]
+            }));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Expression<T> column(int index, QueryDataType type) {
+        return (Expression<T>) ColumnExpression.create(index, type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Expression<T> constant(Object value, QueryDataType type) {
+        return (Expression<T>) ConstantExpression.create(value, type);
+    }
+
+    private static Expression<Boolean> comparison(Expression<?> left, Expression<?> right, ComparisonMode mode) {
+        return ComparisonPredicate.create(left, right, mode);
+    }
+}
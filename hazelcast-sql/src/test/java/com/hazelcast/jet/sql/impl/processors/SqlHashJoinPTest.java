@@ -31,6 +31,7 @@ import org.apache.calcite.rel.core.JoinRelType;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.hazelcast.jet.TestContextSupport.adaptSupplier;
@@ -139,12 +140,81 @@ public class SqlHashJoinPTest extends SqlTestSupport {
         );
     }
 
+    @Test
+    public void test_innerEquiJoin_spilling() {
+        List<JetSqlRow> leftInput = new ArrayList<>();
+        List<JetSqlRow> rightInput = new ArrayList<>();
+        List<JetSqlRow> output = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            leftInput.add(jetRow(i, "left-" + i));
+        }
+        for (int i = 100; i < 300; i++) {
+            rightInput.add(jetRow(i, "right-" + i));
+            rightInput.add(jetRow(i, "right2-" + i));
+            if (i < 200) {
+                output.add(jetRow(i, "left-" + i, i, "right-" + i));
+                output.add(jetRow(i, "left-" + i, i, "right2-" + i));
+            }
+        }
+
+        runTest(INNER, TRUE_PREDICATE, 2, new int[]{0}, new int[]{0}, 10, leftInput, rightInput, output);
+    }
+
+    @Test
+    public void test_leftEquiJoin_spilling() {
+        List<JetSqlRow> leftInput = new ArrayList<>();
+        List<JetSqlRow> rightInput = new ArrayList<>();
+        List<JetSqlRow> output = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            leftInput.add(jetRow(i, "left-" + i));
+            output.add(i < 100
+                    ? jetRow(i, "left-" + i, null, null)
+                    : jetRow(i, "left-" + i, i, "right-" + i));
+        }
+        for (int i = 100; i < 300; i++) {
+            rightInput.add(jetRow(i, "right-" + i));
+        }
+
+        runTest(LEFT, TRUE_PREDICATE, 2, new int[]{0}, new int[]{0}, 10, leftInput, rightInput, output);
+    }
+
+    @Test
+    public void test_innerEquiJoin_spilledPartitionSpilledAgain() {
+        // every spilled partition has many more rows than the threshold
+        List<JetSqlRow> leftInput = new ArrayList<>();
+        List<JetSqlRow> rightInput = new ArrayList<>();
+        List<JetSqlRow> output = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            leftInput.add(jetRow(i, "left-" + i));
+            rightInput.add(jetRow(i, "right-" + i));
+            output.add(jetRow(i, "left-" + i, i, "right-" + i));
+        }
+
+        runTest(INNER, TRUE_PREDICATE, 2, new int[]{0}, new int[]{0}, 4, leftInput, rightInput, output);
+    }
+
+    private void runTest(
+            JoinRelType joinType,
+            Expression<Boolean> nonEquiCondition,
+            int rightInputColumnCount,
+            int[] leftEquiJoinIndices,
+            int[] rightEquiJoinIndices,
+            List<JetSqlRow> leftInput,
+            List<JetSqlRow> rightInput,
+            List<JetSqlRow> output
+    ) {
+        runTest(joinType, nonEquiCondition, rightInputColumnCount, leftEquiJoinIndices, rightEquiJoinIndices, -1,
+                leftInput, rightInput, output);
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
     private void runTest(
             JoinRelType joinType,
             Expression<Boolean> nonEquiCondition,
             int rightInputColumnCount,
             int[] leftEquiJoinIndices,
             int[] rightEquiJoinIndices,
+            long spillThreshold,
             List<JetSqlRow> leftInput,
             List<JetSqlRow> rightInput,
             List<JetSqlRow> output
@@ -152,7 +222,8 @@ public class SqlHashJoinPTest extends SqlTestSupport {
 
         ProcessorSupplier processor = SqlHashJoinP.supplier(
                 new JetJoinInfo(joinType, leftEquiJoinIndices, rightEquiJoinIndices, nonEquiCondition, null),
-                rightInputColumnCount
+                rightInputColumnCount,
+                spillThreshold
         );
 
         TestSupport
@@ -160,7 +231,8 @@ public class SqlHashJoinPTest extends SqlTestSupport {
                 .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
                 .inputs(asList(leftInput, rightInput), new int[]{LOW_PRIORITY, HIGH_PRIORITY})
                 .hazelcastInstance(instance())
-                .outputChecker(SqlTestSupport::compareRowLists)
+                // spilled partitions are joined after the in-memory ones
+                .outputChecker(spillThreshold > 0 ? TestSupport.SAME_ITEMS_ANY_ORDER : SqlTestSupport::compareRowLists)
                 .disableSnapshots()
                 .expectOutput(output);
     }
@@ -25,9 +25,51 @@ import static com.hazelcast.client.impl.protocol.ClientMessage.SIZE_OF_FRAME_LEN
 
 public class ClientMessageWriter {
 
+    private final int gatheringThreshold;
     private transient ClientMessage.Frame currentFrame;
     //-1 means length is not written yet
     private transient int writeOffset = -1;
+    private transient ByteBuffer gatheredBuffer;
+    private boolean gatheringEnabled;
+
+    public ClientMessageWriter() {
+        this(-1);
+    }
+
+    /**
+     * @param gatheringThreshold the minimum content size in bytes of a frame
+     *                           for its content not to be copied into the dst,
+     *                           see {@link #takeGatheredBuffer()}. A value
+     *                           smaller than 1 disables it.
+     */
+    public ClientMessageWriter(int gatheringThreshold) {
+        this.gatheringThreshold = gatheringThreshold;
+    }
+
+    /**
+     * Sets whether the content of large frames may be left out of the dst.
+     * This is only allowed if the dst is written to the socket directly,
+     * followed by the buffer returned by {@link #takeGatheredBuffer()}.
+     * Disabled by default.
+     */
+    public void setGatheringEnabled(boolean gatheringEnabled) {
+        this.gatheringEnabled = gatheringEnabled;
+    }
+
+    /**
+     * Returns the content of the last frame that has not been copied into the
+     * dst because it is at least as large as the gathering threshold, or
+     * {@code null} if there is none. Only the header of the frame has been
+     * written to the dst, the returned buffer needs to be written directly
+     * after the dst and before anything else is written to the dst.
+     *
+     * @return the wrapped frame content or {@code null}
+     */
+    public ByteBuffer takeGatheredBuffer() {
+        ByteBuffer buffer = gatheredBuffer;
+        gatheredBuffer = null;
+        return buffer;
+    }
 
     public boolean writeTo(ByteBuffer dst, ClientMessage clientMessage) {
         if (currentFrame == null) {
@@ -42,6 +84,10 @@ public class ClientMessageWriter {
                     return true;
                 }
                 currentFrame = currentFrame.next;
+                if (gatheredBuffer != null) {
+                    // the next frame can only be written after the gathered frame content
+                    return false;
+                }
             } else {
                 return false;
             }
@@ -76,6 +122,12 @@ public class ClientMessageWriter {
             return true;
         }
 
+        if (writeOffset == 0 && gatheringEnabled && gatheringThreshold > 0 && frameContentLength >= gatheringThreshold) {
+            gatheredBuffer = ByteBuffer.wrap(frame.content);
+            writeOffset = frameContentLength;
+            return true;
+        }
+
         // the number of bytes that need to be written
         int bytesNeeded = frameContentLength - writeOffset;
 
@@ -19,19 +19,38 @@ package com.hazelcast.client.impl.protocol.task.map;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
 import com.hazelcast.instance.impl.Node;
+import com.hazelcast.config.MapConfig;
 import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.partition.InternalPartition;
+import com.hazelcast.internal.partition.InternalPartitionService;
+import com.hazelcast.internal.partition.PartitionReplica;
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.Timer;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
+import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.security.SecurityInterceptorConstants;
 import com.hazelcast.security.permission.ActionConstants;
 import com.hazelcast.security.permission.MapPermission;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.security.Permission;
-
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executes {@link com.hazelcast.map.IMap#get(Object)} on behalf of a client.
+ * <p>
+ * If {@link MapConfig#isReadBackupData()} is enabled and this member is one of
+ * the synchronous backup replicas of the partition, the value is read from the
+ * local backup without a hop to the partition owner. A synchronous backup has
+ * applied every update that has been acknowledged to its caller, so the read
+ * can only miss updates that are still in flight. The backup is not used while
+ * the partition is migrating or while its replica versions are dirty, e.g. after
+ * a missed backup, in which case the owner is invoked as usual.
+ */
 public class MapGetMessageTask
         extends AbstractMapPartitionMessageTask<MapGetCodec.RequestParameters> {
 
@@ -59,6 +78,42 @@ public class MapGetMessageTask
         return operation;
     }
 
+    @Override
+    protected CompletableFuture<Object> processInternal() {
+        Data value = readSyncBackupDataOrNull();
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return super.processInternal();
+    }
+
+    // runs on the partition thread, so the backup can't be updated concurrently
+    private Data readSyncBackupDataOrNull() {
+        MapService mapService = getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        MapContainer mapContainer = mapServiceContext.getMapContainer(parameters.name);
+        MapConfig mapConfig = mapContainer.getMapConfig();
+        if (!mapConfig.isReadBackupData()) {
+            return null;
+        }
+
+        int partitionId = getPartitionId();
+        InternalPartitionService partitionService = (InternalPartitionService) nodeEngine.getPartitionService();
+        InternalPartition partition = partitionService.getPartition(partitionId, false);
+        int replicaIndex = partition.getReplicaIndex(PartitionReplica.from(nodeEngine.getLocalMember()));
+        if (replicaIndex < 1 || replicaIndex > mapConfig.getBackupCount() || partition.isMigrating()) {
+            return null;
+        }
+        if (partitionService.getPartitionReplicaVersionManager()
+                .isPartitionReplicaVersionDirty(partitionId, mapContainer.getObjectNamespace())) {
+            return null;
+        }
+
+        RecordStore recordStore = mapServiceContext.getPartitionContainer(partitionId)
+                .getExistingRecordStore(parameters.name);
+        return recordStore != null ? recordStore.readBackupData(parameters.key) : null;
+    }
+
     @Override
     protected void beforeProcess() {
         startTimeNanos = Timer.nanos();
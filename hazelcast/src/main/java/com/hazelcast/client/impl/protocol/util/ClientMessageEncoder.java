@@ -27,24 +27,70 @@ import java.util.function.Supplier;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static com.hazelcast.internal.nio.IOUtil.copyFromHeapBuffer;
 
 /**
  * A {@link OutboundHandler} for the new-client. It writes ClientMessages to the ByteBuffer.
+ * <p>
+ * If a gathering threshold is configured, the content of a frame of at least
+ * that size, e.g. a large serialized value, isn't copied: only the frame header
+ * is written to the dst buffer and the content is exposed through
+ * {@link #gatheredBuffer()}, so the pipeline writes it straight from the array
+ * the value is stored in using a single gathering write. This only happens while
+ * the encoder is the last handler of the pipeline; with a handler behind it,
+ * e.g. TLS, the content is copied.
  */
 public class ClientMessageEncoder extends OutboundHandler<Supplier<ClientMessage>, ByteBuffer> {
 
     private ClientMessage message;
-    private final ClientMessageWriter clientMessageWriter = new ClientMessageWriter();
+    private ByteBuffer gatheredBuffer;
+    private final ClientMessageWriter clientMessageWriter;
+
+    public ClientMessageEncoder() {
+        this(-1);
+    }
+
+    /**
+     * @param gatheringThreshold the minimum content size in bytes of a frame
+     *                           to be written using a gathering write. A value
+     *                           smaller than 1 disables gathering writes.
+     */
+    public ClientMessageEncoder(int gatheringThreshold) {
+        this.clientMessageWriter = new ClientMessageWriter(gatheringThreshold);
+    }
 
     @Override
     public void handlerAdded() {
         initDstBuffer();
     }
 
+    @Override
+    public ByteBuffer gatheredBuffer() {
+        return gatheredBuffer;
+    }
+
+    @Override
+    public void setGatheringEnabled(boolean gatheringEnabled) {
+        super.setGatheringEnabled(gatheringEnabled);
+        clientMessageWriter.setGatheringEnabled(gatheringEnabled);
+    }
+
     @Override
     public HandlerStatus onWrite() {
         compactOrClear(dst);
         try {
+            if (gatheredBuffer != null) {
+                if (!gatheringEnabled) {
+                    // no longer the last handler, so the rest of the frame content has to go through the dst
+                    copyFromHeapBuffer(gatheredBuffer, dst);
+                }
+                if (gatheredBuffer.hasRemaining()) {
+                    // the previous frame content hasn't been written yet; nothing can be added before it is.
+                    return DIRTY;
+                }
+                gatheredBuffer = null;
+            }
+
             for (; ; ) {
                 if (message == null) {
                     message = src.get();
@@ -55,10 +101,17 @@ public class ClientMessageEncoder extends OutboundHandler<Supplier<ClientMessage
                     }
                 }
 
-                if (clientMessageWriter.writeTo(dst, message)) {
+                boolean written = clientMessageWriter.writeTo(dst, message);
+                gatheredBuffer = clientMessageWriter.takeGatheredBuffer();
+                if (written) {
                     // message got written, lets see if another message can be written
                     message = null;
-                } else {
+                }
+
+                if (gatheredBuffer != null) {
+                    // the frame content needs to be written before anything else can be added to the dst.
+                    return DIRTY;
+                } else if (!written) {
                     // the message didn't get written completely, so we are done.
                     return DIRTY;
                 }
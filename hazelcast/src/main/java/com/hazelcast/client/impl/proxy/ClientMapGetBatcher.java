@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.proxy;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetAllCodec;
+import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
+import com.hazelcast.client.impl.spi.impl.ClientInvocation;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.internal.util.ThreadUtil.getThreadId;
+
+/**
+ * Coalesces concurrent {@code IMap.get} calls for keys of the same partition
+ * into a single {@link MapGetAllCodec} message, which the member executes as a
+ * single partition operation. The response is demultiplexed back into the
+ * futures of the individual calls.
+ * <p>
+ * The {@link MapGetAllCodec} message carries no thread id, so unlike a
+ * plain get, a coalesced get doesn't wait for a key locked by a transaction.
+ * <p>
+ * There is no timer involved: a call is sent immediately, as a plain
+ * {@link MapGetCodec} message, if no message for its partition is in flight.
+ * A call made while only such plain gets are in flight starts a batch, it
+ * is sent immediately as a batch of one. Calls made while a batch is in
+ * flight are added to the pending batch of the partition, which is sent
+ * when the in-flight batches complete or once it reaches the maximum batch
+ * size. So the batching window adapts to the round-trip time: calls are not
+ * delayed under low load and batches grow with the load.
+ * <p>
+ * Only batches hold back the pending calls. A plain get may wait on the
+ * member, e.g. for a locked key, and must not delay the later calls.
+ * <p>
+ * Calls for a partition are sent in the order they were made.
+ *
+ * @see com.hazelcast.client.properties.ClientProperty#MAP_GET_BATCHING_ENABLED
+ */
+final class ClientMapGetBatcher {
+
+    private final HazelcastClientInstanceImpl client;
+    private final String name;
+    private final int maxBatchSize;
+    private final ConcurrentMap<Integer, PartitionBatch> batches = new ConcurrentHashMap<>();
+
+    ClientMapGetBatcher(HazelcastClientInstanceImpl client, String name, int maxBatchSize) {
+        this.client = client;
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Gets the value of the given key.
+     *
+     * @param keyData the serialized key
+     * @return the future completed with the serialized value, or {@code null}
+     * if there is no value for the key
+     */
+    InternalCompletableFuture<Data> get(Data keyData) {
+        int partitionId = client.getClientPartitionService().getPartitionId(keyData);
+        PartitionBatch batch = batches.computeIfAbsent(partitionId, PartitionBatch::new);
+        PendingGet get = new PendingGet(keyData, getThreadId());
+        if (batch.trySendAlone()) {
+            sendAlone(batch, get);
+            return get.future;
+        }
+        List<PendingGet> gets = batch.add(get, maxBatchSize);
+        if (gets != null) {
+            send(batch, gets);
+        }
+        return get.future;
+    }
+
+    private void sendAlone(PartitionBatch batch, PendingGet get) {
+        try {
+            ClientMessage request = MapGetCodec.encodeRequest(name, get.keyData, get.threadId);
+            new ClientInvocation(client, request, name, batch.partitionId).invoke()
+                    .whenComplete((response, t) -> {
+                        try {
+                            if (t != null) {
+                                get.future.completeExceptionally(t);
+                            } else {
+                                get.future.complete(MapGetCodec.decodeResponse(response));
+                            }
+                        } catch (Throwable e) {
+                            get.future.completeExceptionally(e);
+                        } finally {
+                            batch.completeAlone();
+                        }
+                    });
+        } catch (Throwable t) {
+            get.future.completeExceptionally(t);
+            batch.completeAlone();
+        }
+    }
+
+    private void send(PartitionBatch batch, List<PendingGet> gets) {
+        try {
+            List<Data> keys = new ArrayList<>(gets.size());
+            for (PendingGet get : gets) {
+                keys.add(get.keyData);
+            }
+            ClientMessage request = MapGetAllCodec.encodeRequest(name, keys);
+            new ClientInvocation(client, request, name, batch.partitionId).invoke()
+                    .whenComplete((response, t) -> {
+                        try {
+                            if (t != null) {
+                                completeAllExceptionally(gets, t);
+                            } else {
+                                completeAll(gets, MapGetAllCodec.decodeResponse(response));
+                            }
+                        } catch (Throwable e) {
+                            completeAllExceptionally(gets, e);
+                        } finally {
+                            onComplete(batch);
+                        }
+                    });
+        } catch (Throwable t) {
+            completeAllExceptionally(gets, t);
+            onComplete(batch);
+        }
+    }
+
+    private void onComplete(PartitionBatch batch) {
+        List<PendingGet> gets = batch.complete();
+        if (gets != null) {
+            send(batch, gets);
+        }
+    }
+
+    private static void completeAll(List<PendingGet> gets, List<Map.Entry<Data, Data>> entries) {
+        Map<Data, Data> values = new HashMap<>(entries.size());
+        for (Map.Entry<Data, Data> entry : entries) {
+            values.put(entry.getKey(), entry.getValue());
+        }
+        for (PendingGet get : gets) {
+            get.future.complete(values.get(get.keyData));
+        }
+    }
+
+    private static void completeAllExceptionally(List<PendingGet> gets, Throwable t) {
+        for (PendingGet get : gets) {
+            get.future.completeExceptionally(t);
+        }
+    }
+
+    private static final class PendingGet {
+        private final Data keyData;
+        private final long threadId;
+        private final InternalCompletableFuture<Data> future = new InternalCompletableFuture<>();
+
+        private PendingGet(Data keyData, long threadId) {
+            this.keyData = keyData;
+            this.threadId = threadId;
+        }
+    }
+
+    private static final class PartitionBatch {
+        private final int partitionId;
+        // guarded by this
+        private List<PendingGet> pending = new ArrayList<>();
+        // the number of batches in flight, guarded by this
+        private int inFlight;
+        // the number of gets sent alone and in flight, guarded by this
+        private int aloneInFlight;
+
+        private PartitionBatch(int partitionId) {
+            this.partitionId = partitionId;
+        }
+
+        /**
+         * Returns whether the next get can be sent alone, and counts it as
+         * in flight if so. That's the case when no other message of this
+         * partition is in flight.
+         */
+        private synchronized boolean trySendAlone() {
+            if (inFlight > 0 || aloneInFlight > 0) {
+                return false;
+            }
+            aloneInFlight++;
+            return true;
+        }
+
+        /**
+         * Called when a get sent alone completed. It doesn't release the
+         * pending batch, which waits only for the batches in flight.
+         */
+        private synchronized void completeAlone() {
+            aloneInFlight--;
+        }
+
+        /**
+         * Adds the get to the pending batch.
+         *
+         * @return the gets to send, or {@code null} if they are sent later
+         */
+        private synchronized List<PendingGet> add(PendingGet get, int maxBatchSize) {
+            pending.add(get);
+            if (inFlight > 0 && pending.size() < maxBatchSize) {
+                return null;
+            }
+            return drain();
+        }
+
+        /**
+         * Called when a batch of this partition completed.
+         *
+         * @return the gets to send, or {@code null} if there is nothing to send
+         */
+        private synchronized List<PendingGet> complete() {
+            inFlight--;
+            return inFlight == 0 && !pending.isEmpty() ? drain() : null;
+        }
+
+        private List<PendingGet> drain() {
+            List<PendingGet> gets = pending;
+            pending = new ArrayList<>();
+            inFlight++;
+            return gets;
+        }
+    }
+}
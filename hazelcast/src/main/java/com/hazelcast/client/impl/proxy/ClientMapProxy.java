@@ -105,6 +105,7 @@ import com.hazelcast.client.map.impl.iterator.ClientMapQueryIterable;
 import com.hazelcast.client.map.impl.iterator.ClientMapQueryPartitionIterable;
 import com.hazelcast.client.map.impl.iterator.ClientMapQueryPartitionIterator;
 import com.hazelcast.client.map.impl.querycache.ClientQueryCacheContext;
+import com.hazelcast.client.properties.ClientProperty;
 import com.hazelcast.cluster.Member;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.core.EntryEvent;
@@ -146,9 +147,11 @@ import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 import com.hazelcast.ringbuffer.ReadResultSet;
 import com.hazelcast.ringbuffer.impl.ReadResultSetImpl;
+import com.hazelcast.spi.impl.DelegatingCompletableFuture;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.UnmodifiableLazyList;
 import com.hazelcast.spi.impl.UnmodifiableLazySet;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -216,6 +219,8 @@ public class ClientMapProxy<K, V> extends ClientProxy
     private ClientLockReferenceIdGenerator lockReferenceIdGenerator;
     private ClientQueryCacheContext queryCacheContext;
     private boolean useDefaultReplaceAllOperation;
+    private ClientMapGetBatcher getBatcher;
+    private boolean readFromBackup;
 
     public ClientMapProxy(String serviceName, String name, ClientContext context) {
         super(serviceName, name, context);
@@ -227,6 +232,13 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
         lockReferenceIdGenerator = getClient().getLockReferenceIdGenerator();
         queryCacheContext = getContext().getQueryCacheContext();
+        HazelcastProperties properties = getClient().getProperties();
+        if (properties.getBoolean(ClientProperty.MAP_GET_BATCHING_ENABLED)) {
+            int maxBatchSize = properties.getInteger(ClientProperty.MAP_GET_BATCHING_MAX_SIZE);
+            checkPositive(ClientProperty.MAP_GET_BATCHING_MAX_SIZE.getName(), maxBatchSize);
+            getBatcher = new ClientMapGetBatcher(getClient(), name, maxBatchSize);
+        }
+        readFromBackup = properties.getBoolean(ClientProperty.READ_FROM_BACKUP_ENABLED);
     }
 
     @Override
@@ -262,9 +274,20 @@ public class ClientMapProxy<K, V> extends ClientProxy
 
     protected Object getInternal(Object key) {
         Data keyData = toData(key);
+        if (getBatcher != null) {
+            try {
+                return getBatcher.get(keyData).get();
+            } catch (Exception e) {
+                throw rethrow(e);
+            }
+        }
         ClientMessage request = MapGetCodec.encodeRequest(name, keyData, getThreadId());
-        ClientMessage response = invoke(request, keyData);
-        return MapGetCodec.decodeResponse(response);
+        try {
+            ClientMessage response = invokeOnKeyReplica(request, keyData).get();
+            return MapGetCodec.decodeResponse(response);
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
     }
 
     @Override
@@ -353,6 +376,9 @@ public class ClientMapProxy<K, V> extends ClientProxy
     public InternalCompletableFuture<V> getAsync(@Nonnull K key) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
 
+        if (getBatcher != null) {
+            return new DelegatingCompletableFuture<>(getSerializationService(), getBatcher.get(toData(key)));
+        }
         return new ClientDelegatingFuture<>(getAsyncInternal(key),
                 getSerializationService(), MapGetCodec::decodeResponse);
     }
@@ -361,7 +387,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
         try {
             Data keyData = toData(key);
             ClientMessage request = MapGetCodec.encodeRequest(name, keyData, getThreadId());
-            return invokeOnKeyOwner(request, keyData);
+            return invokeOnKeyReplica(request, keyData);
         } catch (Exception e) {
             throw rethrow(e);
         }
@@ -373,6 +399,15 @@ public class ClientMapProxy<K, V> extends ClientProxy
         return clientInvocation.invoke();
     }
 
+    private ClientInvocationFuture invokeOnKeyReplica(ClientMessage request, Data keyData) {
+        int partitionId = getContext().getPartitionService().getPartitionId(keyData);
+        ClientInvocation clientInvocation = new ClientInvocation(getClient(), request, getName(), partitionId);
+        if (readFromBackup) {
+            clientInvocation.allowReadFromBackup();
+        }
+        return clientInvocation.invoke();
+    }
+
     @Override
     public InternalCompletableFuture<V> putAsync(@Nonnull K key, @Nonnull V value) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
@@ -86,6 +86,7 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     private volatile long invocationTimeoutMillis;
     private boolean urgent;
     private boolean allowRetryOnRandom = true;
+    private boolean readFromBackup;
     private volatile boolean invoked;
 
     protected ClientInvocation(HazelcastClientInstance client,
@@ -151,6 +152,14 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
         this.allowRetryOnRandom = false;
     }
 
+    /**
+     * Allows a partition invocation of a read to be sent to a backup replica
+     * of the partition instead of its owner.
+     */
+    public void allowReadFromBackup() {
+        this.readFromBackup = true;
+    }
+
     public ClientInvocationFuture invoke() {
         clientMessage.setCorrelationId(callIdSequence.next());
         invokeOnSelection();
@@ -191,7 +200,9 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
             boolean invoked;
             if (routingMode != RoutingMode.SINGLE_MEMBER) {
                 if (partitionId != -1) {
-                    invoked = invocationService.invokeOnPartitionOwner(this, partitionId);
+                    invoked = readFromBackup
+                            ? invocationService.invokeOnPartitionReplica(this, partitionId)
+                            : invocationService.invokeOnPartitionOwner(this, partitionId);
                 } else if (uuid != null) {
                     invoked = invocationService.invokeOnTarget(this, uuid);
                 } else {
@@ -383,6 +394,10 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
         return connection != null;
     }
 
+    int getPartitionId() {
+        return partitionId;
+    }
+
     EventHandler getEventHandler() {
         return handler;
     }
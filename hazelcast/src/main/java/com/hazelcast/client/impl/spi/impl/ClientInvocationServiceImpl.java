@@ -49,6 +49,7 @@ import static com.hazelcast.client.properties.ClientProperty.INVOCATION_RETRY_PA
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_TIMEOUT_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.MAX_CONCURRENT_INVOCATIONS;
 import static com.hazelcast.client.properties.ClientProperty.OPERATION_BACKUP_TIMEOUT_MILLIS;
+import static com.hazelcast.client.properties.ClientProperty.READ_FROM_BACKUP_ENABLED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_PENDING_CALLS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_STARTED_INVOCATIONS;
@@ -100,6 +101,7 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
     private final ClientConnectionManager connectionManager;
     private final ClientPartitionService partitionService;
     private final RoutingMode routingMode;
+    private final ClientReadReplicaSelector readReplicaSelector;
 
     public ClientInvocationServiceImpl(HazelcastClientInstanceImpl client) {
         this.client = client;
@@ -121,6 +123,9 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
         this.routingMode = connectionManager.getRoutingMode();
         this.isBackupAckToClientEnabled = routingMode == RoutingMode.ALL_MEMBERS
                 && client.getClientConfig().isBackupAckToClientEnabled();
+        // the backup replicas are learned from the backup acks, so reads only go to the owners without them
+        this.readReplicaSelector = isBackupAckToClientEnabled && properties.getBoolean(READ_FROM_BACKUP_ENABLED)
+                ? new ClientReadReplicaSelector(partitionService, connectionManager) : null;
     }
 
     @Override
@@ -192,6 +197,28 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
         return invokeOnTarget(invocation, partitionOwner);
     }
 
+    @Override
+    public boolean invokeOnPartitionReplica(ClientInvocation invocation, int partitionId) {
+        if (readReplicaSelector == null) {
+            return invokeOnPartitionOwner(invocation, partitionId);
+        }
+        UUID partitionOwner = partitionService.getPartitionOwner(partitionId);
+        if (partitionOwner == null) {
+            if (invocationLogger.isFinestEnabled()) {
+                invocationLogger.finest("Partition owner is not assigned yet");
+            }
+            return false;
+        }
+
+        UUID target = readReplicaSelector.select(partitionId, partitionOwner);
+        if (!invokeOnTarget(invocation, target)) {
+            readReplicaSelector.release(target);
+            return false;
+        }
+        invocation.getClientInvocationFuture().whenComplete((response, t) -> readReplicaSelector.release(target));
+        return true;
+    }
+
     @Override
     public boolean invoke(ClientInvocation invocation) {
         ClientConnection connection = connectionManager.getRandomConnection();
@@ -389,8 +416,28 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
     public class BackupEventHandler extends ClientLocalBackupListenerCodec.AbstractEventHandler
             implements EventHandler<ClientMessage> {
 
+        @Override
+        public void handle(ClientMessage clientMessage) {
+            if (readReplicaSelector == null) {
+                super.handle(clientMessage);
+                return;
+            }
+            // the backup ack is sent by the backup replica over its own connection
+            ClientConnection connection = (ClientConnection) clientMessage.getConnection();
+            new ClientLocalBackupListenerCodec.AbstractEventHandler() {
+                @Override
+                public void handleBackupEvent(long sourceInvocationCorrelationId) {
+                    BackupEventHandler.this.handleBackupEvent(sourceInvocationCorrelationId, connection);
+                }
+            }.handle(clientMessage);
+        }
+
         @Override
         public void handleBackupEvent(long sourceInvocationCorrelationId) {
+            handleBackupEvent(sourceInvocationCorrelationId, null);
+        }
+
+        private void handleBackupEvent(long sourceInvocationCorrelationId, ClientConnection connection) {
             ClientInvocation invocation = getInvocation(sourceInvocationCorrelationId);
             if (invocation == null) {
                 if (invocationLogger.isFinestEnabled()) {
@@ -399,6 +446,9 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
                 }
                 return;
             }
+            if (connection != null && invocation.getPartitionId() != -1) {
+                readReplicaSelector.onBackupAck(invocation.getPartitionId(), connection.getRemoteUuid());
+            }
             invocation.notifyBackupComplete();
         }
     }
@@ -47,6 +47,16 @@ public interface ClientInvocationServiceInternal extends ClientInvocationService
     long getInvocationRetryPauseMillis();
 
 
+    /**
+     * Invokes a read on the owner or on a backup replica of the partition,
+     * see {@link ClientInvocation#allowReadFromBackup()}.
+     *
+     * @param invocation  to be invoked
+     * @param partitionId partition id that invocation should go to
+     * @return true if successfully send to a replica of the partition, false otherwise
+     */
+    boolean invokeOnPartitionReplica(ClientInvocation invocation, int partitionId);
+
     /**
      * Get call id sequence.
      *
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.impl.connection.ClientConnectionManager;
+import com.hazelcast.client.impl.spi.ClientPartitionService;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.internal.partition.IPartition.MAX_BACKUP_COUNT;
+
+/**
+ * Selects the member a read of a partition is sent to, among the partition
+ * owner and the backup replicas of the partition known to the client.
+ * <p>
+ * The client only knows the partition owners, so the backup replicas are
+ * learned from the backup acks: a backup ack for an invocation of a
+ * partition is sent by a backup replica of the partition over its own
+ * connection. The learned replicas of a partition are dropped when its owner
+ * changes. A learned replica may still be outdated, e.g. after a migration of
+ * only the backups; the member then forwards the read to the owner.
+ * <p>
+ * The selection is load-aware: the member with the fewest reads in flight
+ * that were sent through this selector is chosen, and the owner wins ties.
+ * So reads only go to the backups once the owner has reads queued.
+ */
+final class ClientReadReplicaSelector {
+
+    private final ClientPartitionService partitionService;
+    private final ClientConnectionManager connectionManager;
+    private final ConcurrentMap<Integer, BackupReplicas> backupReplicas = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, AtomicInteger> readsInFlight = new ConcurrentHashMap<>();
+
+    ClientReadReplicaSelector(ClientPartitionService partitionService, ClientConnectionManager connectionManager) {
+        this.partitionService = partitionService;
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * Records that the given member acknowledged a backup of the partition.
+     *
+     * @param partitionId the partition ID
+     * @param uuid        the UUID of the member
+     */
+    void onBackupAck(int partitionId, UUID uuid) {
+        UUID owner = partitionService.getPartitionOwner(partitionId);
+        if (owner == null || owner.equals(uuid)) {
+            return;
+        }
+        BackupReplicas current = backupReplicas.get(partitionId);
+        if (current != null && current.owner.equals(owner) && current.contains(uuid)) {
+            return;
+        }
+        backupReplicas.compute(partitionId, (id, replicas) -> {
+            if (replicas == null || !replicas.owner.equals(owner)) {
+                return new BackupReplicas(owner, new UUID[]{uuid});
+            }
+            return replicas.with(uuid);
+        });
+    }
+
+    /**
+     * Selects the member to send a read of the partition to. Every selection
+     * must be followed by a call to {@link #release(UUID)} with the selected
+     * member once the read completes.
+     *
+     * @param partitionId the partition ID
+     * @param owner       the UUID of the partition owner
+     * @return the UUID of the selected member
+     */
+    UUID select(int partitionId, UUID owner) {
+        UUID target = owner;
+        BackupReplicas replicas = backupReplicas.get(partitionId);
+        if (replicas != null && replicas.owner.equals(owner)) {
+            int minReads = readsInFlight(owner);
+            for (UUID uuid : replicas.uuids) {
+                int reads = readsInFlight(uuid);
+                if (reads < minReads && connectionManager.getActiveConnection(uuid) != null) {
+                    minReads = reads;
+                    target = uuid;
+                }
+            }
+        }
+        readsInFlight.computeIfAbsent(target, uuid -> new AtomicInteger()).incrementAndGet();
+        return target;
+    }
+
+    /**
+     * Releases a read sent to the member returned by {@link #select(int, UUID)}.
+     *
+     * @param uuid the UUID of the member
+     */
+    void release(UUID uuid) {
+        AtomicInteger reads = readsInFlight.get(uuid);
+        if (reads != null) {
+            reads.decrementAndGet();
+        }
+    }
+
+    private int readsInFlight(UUID uuid) {
+        AtomicInteger reads = readsInFlight.get(uuid);
+        return reads != null ? reads.get() : 0;
+    }
+
+    private static final class BackupReplicas {
+
+        private final UUID owner;
+        private final UUID[] uuids;
+
+        private BackupReplicas(UUID owner, UUID[] uuids) {
+            this.owner = owner;
+            this.uuids = uuids;
+        }
+
+        private boolean contains(UUID uuid) {
+            for (UUID replica : uuids) {
+                if (replica.equals(uuid)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private BackupReplicas with(UUID uuid) {
+            if (contains(uuid)) {
+                return this;
+            }
+            // replicas which aren't backups anymore are only dropped once the owner changes, so keep the newest ones
+            int length = Math.min(uuids.length + 1, MAX_BACKUP_COUNT);
+            UUID[] newUuids = new UUID[length];
+            System.arraycopy(uuids, uuids.length - (length - 1), newUuids, 0, length - 1);
+            newUuids[length - 1] = uuid;
+            return new BackupReplicas(owner, newUuids);
+        }
+    }
+}
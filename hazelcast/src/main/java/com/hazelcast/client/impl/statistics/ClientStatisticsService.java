@@ -198,6 +198,8 @@ public class ClientStatisticsService {
                             addStat(stats, prefix, "expirations", nearCacheStats.getExpirations());
                             addStat(stats, prefix, "invalidations", nearCacheStats.getInvalidations());
                             addStat(stats, prefix, "invalidationRequests", nearCacheStats.getInvalidationRequests());
+                            addStat(stats, prefix, "admissions", nearCacheStats.getAdmissions());
+                            addStat(stats, prefix, "admissionRejections", nearCacheStats.getAdmissionRejections());
                             addStat(stats, prefix, "ownedEntryMemoryCost", nearCacheStats.getOwnedEntryMemoryCost());
                             String persistenceFailure = nearCacheStats.getLastPersistenceFailure();
                             if (persistenceFailure != null && !persistenceFailure.isEmpty()) {
@@ -355,6 +355,68 @@ public final class ClientProperty {
     public static final HazelcastProperty CLIENT_CONNECTIVITY_LOGGING_DELAY_SECONDS
             = new HazelcastProperty("hazelcast.client.connectivity.logging.delay.seconds", 10);
 
+    /**
+     * Enables coalescing of concurrent {@code IMap.get} calls for keys of
+     * the same partition into a single {@code getAll} message. A call is
+     * sent immediately if there is no {@code getAll} message in flight for
+     * its partition, otherwise it is sent, together with the other calls
+     * made in the meantime, when the in-flight message completes. This
+     * reduces the per-message overhead when many small gets are made
+     * concurrently. A call made when nothing is in flight for its partition
+     * is sent as a plain get, which doesn't hold back the later calls.
+     * <p>
+     * Like {@code IMap.getAll}, coalesced gets don't wait for keys locked
+     * by a transaction, they read the value committed before it. So this
+     * should not be enabled for maps which are also updated in
+     * transactions, when a get must observe the outcome of a transaction
+     * in progress.
+     * <p>
+     * Only gets are coalesced, {@code put}, {@code set} and {@code remove}
+     * calls are always sent separately.
+     * <p>
+     * Gets on a map with a Near Cache are only coalesced on Near Cache misses
+     * of {@code IMap.get}; {@code IMap.getAsync} isn't coalesced then.
+     * <p>
+     * It is disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_GET_BATCHING_ENABLED
+            = new HazelcastProperty("hazelcast.client.map.get.batching.enabled", false);
+
+    /**
+     * The maximum number of {@code IMap.get} calls coalesced into a single
+     * message when {@link #MAP_GET_BATCHING_ENABLED} is set. A batch that
+     * reaches this size is sent even if there is a message in flight for
+     * its partition.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_GET_BATCHING_MAX_SIZE
+            = new HazelcastProperty("hazelcast.client.map.get.batching.max.size", 128);
+
+    /**
+     * Allows {@code IMap.get} calls to be sent to a backup replica of the
+     * partition instead of its owner, to spread the reads of hot partitions.
+     * The member serves the read from its backup if the map is configured
+     * with {@link com.hazelcast.config.MapConfig#setReadBackupData(boolean)
+     * read-backup-data} and it is a synchronous backup replica whose replica
+     * versions are in sync, otherwise the read is forwarded to the owner. So
+     * a read never misses an update acknowledged before the read was made.
+     * <p>
+     * The client learns the backup replicas of a partition from the backup
+     * acks of its own writes to the partition, so this requires the
+     * {@link com.hazelcast.client.config.RoutingMode#ALL_MEMBERS ALL_MEMBERS}
+     * routing mode with backup acks to the client enabled. A read is sent to
+     * the replica with the fewest reads in flight, preferring the owner.
+     * <p>
+     * It is disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty READ_FROM_BACKUP_ENABLED
+            = new HazelcastProperty("hazelcast.client.map.read.from.backup.enabled", false);
+
     private ClientProperty() {
     }
 }
@@ -100,6 +100,13 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
      * Default value of whether per entry statistics are enabled or not
      */
     public static final boolean DEFAULT_ENTRY_STATS_ENABLED = false;
+    /**
+     * Default value of whether the open-addressing record storage is enabled
+     * or not
+     *
+     * @since 6.0
+     */
+    public static final boolean DEFAULT_OPEN_ADDRESSING_STORAGE_ENABLED = false;
     /**
      * Default max size.
      */
@@ -118,6 +125,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
     private boolean readBackupData;
     private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
     private boolean perEntryStatsEnabled = DEFAULT_ENTRY_STATS_ENABLED;
+    private boolean openAddressingStorageEnabled = DEFAULT_OPEN_ADDRESSING_STORAGE_ENABLED;
     private int backupCount = DEFAULT_BACKUP_COUNT;
     private int asyncBackupCount = MIN_BACKUP_COUNT;
     private int timeToLiveSeconds = DEFAULT_TTL_SECONDS;
@@ -173,6 +181,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         this.cacheDeserializedValues = config.cacheDeserializedValues;
         this.statisticsEnabled = config.statisticsEnabled;
         this.perEntryStatsEnabled = config.perEntryStatsEnabled;
+        this.openAddressingStorageEnabled = config.openAddressingStorageEnabled;
         this.mergePolicyConfig = new MergePolicyConfig(config.mergePolicyConfig);
         this.wanReplicationRef = config.wanReplicationRef != null ? new WanReplicationRef(config.wanReplicationRef) : null;
         this.entryListenerConfigs = new ArrayList<>(config.getEntryListenerConfigs());
@@ -491,6 +500,41 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         return this;
     }
 
+    /**
+     * Checks if the open-addressing record storage is enabled for this map.
+     *
+     * @return {@code true} if the open-addressing record storage
+     * is enabled, {@code false} otherwise
+     * @since 6.0
+     */
+    public boolean isOpenAddressingStorageEnabled() {
+        return openAddressingStorageEnabled;
+    }
+
+    /**
+     * Set to enable/disable the open-addressing record storage.
+     * Its default value is {@code false}.
+     * <p>
+     * The storage keeps the keys and records of a partition in flat arrays
+     * indexed by an open-addressing hash table instead of a concurrent hash
+     * map, saving the per-entry node overhead. It applies to the
+     * {@link InMemoryFormat#BINARY BINARY} and {@link InMemoryFormat#OBJECT
+     * OBJECT} in-memory formats only.
+     * <p>
+     * The storage is chosen when a partition's record store is created, so
+     * changing this setting affects only record stores created afterwards.
+     *
+     * @param openAddressingStorageEnabled {@code true} to enable the
+     *                                     open-addressing record storage,
+     *                                     {@code false} to disable
+     * @return the current map config instance
+     * @since 6.0
+     */
+    public MapConfig setOpenAddressingStorageEnabled(boolean openAddressingStorageEnabled) {
+        this.openAddressingStorageEnabled = openAddressingStorageEnabled;
+        return this;
+    }
+
     /**
      * Checks if read-backup-data (reading local backup entries) is enabled for this map.
      *
@@ -899,6 +943,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (perEntryStatsEnabled != that.perEntryStatsEnabled) {
             return false;
         }
+        if (openAddressingStorageEnabled != that.openAddressingStorageEnabled) {
+            return false;
+        }
         if (!name.equals(that.name)) {
             return false;
         }
@@ -993,6 +1040,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         result = 31 * result + getPartitionLostListenerConfigs().hashCode();
         result = 31 * result + (statisticsEnabled ? 1 : 0);
         result = 31 * result + (perEntryStatsEnabled ? 1 : 0);
+        result = 31 * result + (openAddressingStorageEnabled ? 1 : 0);
         result = 31 * result + (partitioningStrategyConfig != null ? partitioningStrategyConfig.hashCode() : 0);
         result = 31 * result + (splitBrainProtectionName != null ? splitBrainProtectionName.hashCode() : 0);
         result = 31 * result + merkleTreeConfig.hashCode();
@@ -1033,6 +1081,7 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
                 + ", cacheDeserializedValues=" + cacheDeserializedValues
                 + ", statisticsEnabled=" + statisticsEnabled
                 + ", entryStatsEnabled=" + perEntryStatsEnabled
+                + ", openAddressingStorageEnabled=" + openAddressingStorageEnabled
                 + ", tieredStoreConfig=" + tieredStoreConfig
                 + ", partitioningAttributeConfigs=" + partitioningAttributeConfigs
                 + ", userCodeNamespace=" + userCodeNamespace
@@ -1087,6 +1136,11 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (out.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             out.writeString(userCodeNamespace);
         }
+
+        // RU_COMPAT_5_5
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            out.writeBoolean(openAddressingStorageEnabled);
+        }
     }
 
     @Override
@@ -1127,5 +1181,10 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (in.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             userCodeNamespace = in.readString();
         }
+
+        // RU_COMPAT_5_5
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            openAddressingStorageEnabled = in.readBoolean();
+        }
     }
 }
@@ -473,7 +473,8 @@ public class DefaultNodeExtension implements NodeExtension {
     @Override
     public OutboundHandler[] createOutboundHandlers(EndpointQualifier qualifier,
                                                     ServerConnection connection, ServerContext serverContext) {
-        return new OutboundHandler[]{new PacketEncoder()};
+        int gatheringThreshold = node.getProperties().getInteger(ClusterProperty.IO_WRITE_GATHERING_THRESHOLD);
+        return new OutboundHandler[]{new PacketEncoder(gatheringThreshold)};
     }
 
     @Override
@@ -294,6 +294,11 @@ public final class MetricDescriptorConstants {
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME = "totalElapsedMigrationOperationTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME = "totalElapsedDestinationCommitTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME = "totalElapsedMigrationTime";
+    public static final String MIGRATION_METRIC_SENT_MIGRATION_FRAGMENTS = "sentMigrationFragments";
+    public static final String MIGRATION_METRIC_SENT_MIGRATION_BYTES = "sentMigrationBytes";
+    public static final String MIGRATION_METRIC_IN_FLIGHT_MIGRATION_FRAGMENTS = "inFlightMigrationFragments";
+    public static final String MIGRATION_METRIC_MIGRATION_CREDIT_WAITS = "migrationCreditWaits";
+    public static final String MIGRATION_METRIC_MIGRATION_THROUGHPUT = "migrationThroughput";
     // ===[/MIGRATION]==================================================
 
     // ===[MULTIMAP]====================================================
@@ -312,6 +317,8 @@ public final class MetricDescriptorConstants {
     public static final String NEARCACHE_METRIC_EXPIRATIONS = "expirations";
     public static final String NEARCACHE_METRIC_INVALIDATIONS = "invalidations";
     public static final String NEARCACHE_METRIC_INVALIDATION_REQUESTS = "invalidationRequests";
+    public static final String NEARCACHE_METRIC_ADMISSIONS = "admissions";
+    public static final String NEARCACHE_METRIC_ADMISSION_REJECTIONS = "admissionRejections";
     public static final String NEARCACHE_METRIC_PERSISTENCE_COUNT = "persistenceCount";
     public static final String NEARCACHE_METRIC_LAST_PERSISTENCE_TIME = "lastPersistenceTime";
     public static final String NEARCACHE_METRIC_LAST_PERSISTENCE_DURATION = "lastPersistenceDuration";
@@ -333,12 +340,14 @@ public final class MetricDescriptorConstants {
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN = "bytesWritten";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_NORMAL_FRAMES_WRITTEN = "normalFramesWritten";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN = "priorityFramesWritten";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_GATHERED_WRITES = "gatheredWrites";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_QUEUE_PENDING_BYTES = "writeQueuePendingBytes";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_WRITE_QUEUE_PENDING_BYTES =
             "priorityWriteQueuePendingBytes";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED = "scheduled";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT = "processCount";
+    public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESSING_TIME_NANOS = "processingTimeNanos";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID = "ownerId";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS = "startedMigrations";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_COMPLETED_MIGRATIONS = "completedMigrations";
@@ -357,6 +366,8 @@ public final class MetricDescriptorConstants {
     public static final String NETWORKING_METRIC_NIO_THREAD_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String NETWORKING_METRIC_NIO_IO_BALANCER_IMBALANCE_DETECTED_COUNT = "imbalanceDetectedCount";
     public static final String NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_COMPLETED_COUNT = "migrationCompletedCount";
+    public static final String NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_REQUESTED_COUNT = "migrationRequestedCount";
+    public static final String NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_SUPPRESSED_COUNT = "migrationSuppressedCount";
     // ===[/NETWORKING]=================================================
 
     // ===[OPERATION]===================================================
@@ -364,12 +375,15 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_PREFIX_ADHOC = "operation.adhoc";
     public static final String OPERATION_PREFIX_GENERIC = "operation.generic";
     public static final String OPERATION_PREFIX_INVOCATIONS = "operation.invocations";
+    public static final String OPERATION_PREFIX_INVOCATIONS_LATENCY = "operation.invocations.latency";
     public static final String OPERATION_PREFIX_PARKER = "operation.parker";
     public static final String OPERATION_PREFIX_PARTITION = "operation.partition";
     public static final String OPERATION_PREFIX_THREAD = "operation.thread";
     public static final String OPERATION_DISCRIMINATOR_THREAD = "thread";
     public static final String OPERATION_DISCRIMINATOR_PARTITIONID = "partitionId";
     public static final String OPERATION_DISCRIMINATOR_GENERICID = "genericId";
+    public static final String OPERATION_DISCRIMINATOR_OPERATION = "operation";
+    public static final String OPERATION_TAG_TARGET = "target";
     public static final String OPERATION_METRIC_EXECUTOR_RUNNING_COUNT = "runningCount";
     public static final String OPERATION_METRIC_EXECUTOR_RUNNING_PARTITION_COUNT = "runningPartitionCount";
     public static final String OPERATION_METRIC_EXECUTOR_RUNNING_GENERIC_COUNT = "runningGenericCount";
@@ -411,6 +425,13 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_USED_PERCENTAGE = "usedPercentage";
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_LAST_CALL_ID = "lastCallId";
     public static final String OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_PENDING = "pending";
+    public static final String OPERATION_METRIC_INVOCATION_LATENCY_COUNT = "count";
+    public static final String OPERATION_METRIC_INVOCATION_LATENCY_WINDOW_COUNT = "windowCount";
+    public static final String OPERATION_METRIC_INVOCATION_LATENCY_P50 = "p50";
+    public static final String OPERATION_METRIC_INVOCATION_LATENCY_P90 = "p90";
+    public static final String OPERATION_METRIC_INVOCATION_LATENCY_P99 = "p99";
+    public static final String OPERATION_METRIC_INVOCATION_LATENCY_P999 = "p999";
+    public static final String OPERATION_METRIC_INVOCATION_LATENCY_MAX = "max";
     public static final String OPERATION_METRIC_OPERATION_RUNNER_EXECUTED_OPERATIONS_COUNT = "executedOperationsCount";
     public static final String OPERATION_METRIC_OPERATION_SERVICE_ASYNC_OPERATIONS = "asyncOperations";
     public static final String OPERATION_METRIC_OPERATION_SERVICE_TIMEOUT_COUNT = "operationTimeoutCount";
@@ -22,6 +22,8 @@ import com.hazelcast.nearcache.NearCacheStats;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.LongAccumulator;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_ADMISSIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_ADMISSION_REJECTIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EVICTIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EXPIRATIONS;
@@ -58,6 +60,10 @@ public class NearCacheStatsImpl implements NearCacheStats {
             newUpdater(NearCacheStatsImpl.class, "invalidations");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> INVALIDATION_REQUESTS =
             newUpdater(NearCacheStatsImpl.class, "invalidationRequests");
+    private static final AtomicLongFieldUpdater<NearCacheStatsImpl> ADMISSIONS =
+            newUpdater(NearCacheStatsImpl.class, "admissions");
+    private static final AtomicLongFieldUpdater<NearCacheStatsImpl> ADMISSION_REJECTIONS =
+            newUpdater(NearCacheStatsImpl.class, "admissionRejections");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> PERSISTENCE_COUNT =
             newUpdater(NearCacheStatsImpl.class, "persistenceCount");
 
@@ -81,6 +87,11 @@ public class NearCacheStatsImpl implements NearCacheStats {
     @Probe(name = NEARCACHE_METRIC_INVALIDATION_REQUESTS)
     private volatile long invalidationRequests;
 
+    @Probe(name = NEARCACHE_METRIC_ADMISSIONS)
+    private volatile long admissions;
+    @Probe(name = NEARCACHE_METRIC_ADMISSION_REJECTIONS)
+    private volatile long admissionRejections;
+
     @Probe(name = NEARCACHE_METRIC_PERSISTENCE_COUNT)
     private volatile long persistenceCount;
     @Probe(name = NEARCACHE_METRIC_LAST_PERSISTENCE_TIME, unit = MS)
@@ -107,6 +118,8 @@ public class NearCacheStatsImpl implements NearCacheStats {
         expirations = stats.getExpirations();
         invalidations = stats.getInvalidations();
         invalidationRequests = stats.getInvalidationRequests();
+        admissions = stats.getAdmissions();
+        admissionRejections = stats.getAdmissionRejections();
 
         persistenceCount = stats.getPersistenceCount();
         lastPersistenceTime = stats.getLastPersistenceTime();
@@ -242,6 +255,24 @@ public class NearCacheStatsImpl implements NearCacheStats {
         INVALIDATION_REQUESTS.set(this, 0);
     }
 
+    @Override
+    public long getAdmissions() {
+        return admissions;
+    }
+
+    public void incrementAdmissions() {
+        ADMISSIONS.incrementAndGet(this);
+    }
+
+    @Override
+    public long getAdmissionRejections() {
+        return admissionRejections;
+    }
+
+    public void incrementAdmissionRejections() {
+        ADMISSION_REJECTIONS.incrementAndGet(this);
+    }
+
     @Override
     public long getPersistenceCount() {
         return persistenceCount;
@@ -307,6 +338,8 @@ public class NearCacheStatsImpl implements NearCacheStats {
                 + ", expirations=" + expirations
                 + ", invalidations=" + invalidations
                 + ", invalidationRequests=" + invalidationRequests
+                + ", admissions=" + admissions
+                + ", admissionRejections=" + admissionRejections
                 + ", lastPersistenceTime=" + lastPersistenceTime
                 + ", persistenceCount=" + persistenceCount
                 + ", lastPersistenceDuration=" + lastPersistenceDuration
@@ -58,6 +58,33 @@ public interface NearCache<K, V> extends InitializingObject {
             = new HazelcastProperty(PROP_EXPIRATION_TASK_PERIOD_SECONDS,
             DEFAULT_EXPIRATION_TASK_PERIOD_SECONDS);
 
+    String PROP_ADMISSION_FILTER_ENABLED
+            = "hazelcast.nearcache.admission.filter.enabled";
+
+    /**
+     * Enables a count-min sketch based admission filter (TinyLFU) for Near
+     * Caches with eviction. A full Near Cache then only admits a new key if
+     * the key is accessed more frequently than the entry it would replace,
+     * which keeps one-off reads, like scans, from evicting the hot entries.
+     */
+    HazelcastProperty ADMISSION_FILTER_ENABLED
+            = new HazelcastProperty(PROP_ADMISSION_FILTER_ENABLED, false);
+
+    String PROP_PRELOADER_SNAPSHOT_ENABLED
+            = "hazelcast.nearcache.preloader.snapshot.enabled";
+
+    /**
+     * Makes the Near Cache preloader store the values together with the
+     * keys. Only the changes since the previous snapshot are written. On
+     * restart the values are served from the snapshot, as long as there was
+     * no invalidation in their partition since they were stored, instead of
+     * being fetched from the cluster.
+     * <p>
+     * Requires the preloader and invalidations to be enabled.
+     */
+    HazelcastProperty PRELOADER_SNAPSHOT_ENABLED
+            = new HazelcastProperty(PROP_PRELOADER_SNAPSHOT_ENABLED, false);
+
     /**
      * Indicates how a near cache is updated.
      */
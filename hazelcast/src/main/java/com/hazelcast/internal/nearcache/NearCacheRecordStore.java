@@ -128,4 +128,23 @@ public interface NearCacheRecordStore<K, V> extends InitializingObject {
      * @see StaleReadDetector
      */
     void setStaleReadDetector(StaleReadDetector detector);
+
+    /**
+     * Enables the frequency based admission filter of this record store.
+     * <p>
+     * When the record store is full, a new key is only admitted if it's
+     * accessed more frequently than the record which would be evicted in
+     * favour of it. Has no effect if eviction is disabled.
+     *
+     * @see NearCache#ADMISSION_FILTER_ENABLED
+     */
+    void enableAdmissionFilter();
+
+    /**
+     * Makes {@link #storeKeys()} store a snapshot of the keys and values
+     * and {@link #loadKeys} restore the still valid values of it.
+     *
+     * @see NearCache#PRELOADER_SNAPSHOT_ENABLED
+     */
+    void enablePreloaderSnapshot();
 }
@@ -51,6 +51,7 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
     private final boolean serializeKeys;
     private final HazelcastProperties properties;
 
+    private boolean admissionFilterEnabled;
     private volatile boolean preloadDone;
 
     public DefaultNearCache(String name, NearCacheConfig nearCacheConfig,
@@ -79,6 +80,13 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
         if (nearCacheRecordStore == null) {
             nearCacheRecordStore = createNearCacheRecordStore(name, nearCacheConfig);
         }
+        admissionFilterEnabled = properties.getBoolean(ADMISSION_FILTER_ENABLED);
+        if (admissionFilterEnabled) {
+            nearCacheRecordStore.enableAdmissionFilter();
+        }
+        if (properties.getBoolean(PRELOADER_SNAPSHOT_ENABLED)) {
+            nearCacheRecordStore.enablePreloaderSnapshot();
+        }
         nearCacheRecordStore.initialize();
 
         expirationTaskFuture = createAndScheduleExpirationTask();
@@ -130,7 +138,7 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
     public void put(K key, Data keyData, V value, Data valueData) {
         checkKeyFormat(key);
 
-        nearCacheRecordStore.doEviction(false);
+        evictIfRequired();
 
         nearCacheRecordStore.put(key, keyData, value, valueData);
     }
@@ -200,11 +208,18 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
 
     @Override
     public long tryReserveForUpdate(K key, Data keyData, UpdateSemantic updateSemantic) {
-        nearCacheRecordStore.doEviction(false);
+        evictIfRequired();
 
         return nearCacheRecordStore.tryReserveForUpdate(key, keyData, updateSemantic);
     }
 
+    private void evictIfRequired() {
+        // with an admission filter the record store decides about the eviction when a new key is reserved
+        if (!admissionFilterEnabled) {
+            nearCacheRecordStore.doEviction(false);
+        }
+    }
+
     @Override
     public V tryPublishReserved(K key, V value, long reservationId, boolean deserialize) {
         return nearCacheRecordStore.tryPublishReserved(key, value, reservationId, deserialize);
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * A count-min sketch which estimates the access frequency of keys within a
+ * time window, used as the admission filter of a Near Cache (TinyLFU).
+ * <p>
+ * Every counter is 4 bits wide, so 16 counters are packed into a single
+ * {@code long}. The frequency of a key is the minimum of its 4 counters. Once
+ * the number of recorded accesses reaches the sample size, all counters are
+ * halved, so the sketch forgets old accesses and adapts to a changing working
+ * set.
+ * <p>
+ * The sketch is thread-safe. Concurrent updates are lock-free; a lost
+ * increment during an aging pass only makes the estimate slightly less
+ * accurate.
+ */
+public final class FrequencySketch {
+
+    /**
+     * Maximum value of a single counter.
+     */
+    public static final int MAX_FREQUENCY = 15;
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L,
+    };
+    private static final long COUNTER_MASK = 0xfL;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final int MAX_TABLE_LENGTH = 1 << 20;
+    private static final int SPREAD_MULTIPLIER = 0x9E3779B9;
+    private static final int INT_HALF_BITS = 16;
+    private static final int LONG_HALF_BITS = 32;
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * @param maximumSize the maximum number of entries of the Near Cache
+     */
+    public FrequencySketch(int maximumSize) {
+        int tableLength = nextPowerOfTwo(Math.min(Math.max(maximumSize, 1), MAX_TABLE_LENGTH));
+        this.table = new AtomicLongArray(tableLength);
+        this.tableMask = tableLength - 1;
+        this.sampleSize = (int) Math.min((long) tableLength * SAMPLE_FACTOR, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of accesses of the key with the given hash
+     * code, between {@code 0} and {@link #MAX_FREQUENCY}.
+     *
+     * @param hashCode the hash code of the key
+     * @return the estimated frequency of the key
+     */
+    public int frequency(int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long word = table.get(indexOf(hash, i));
+            int count = (int) ((word >>> ((start + i) << 2)) & COUNTER_MASK);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the key with the given hash code.
+     *
+     * @param hashCode the hash code of the key
+     */
+    public void increment(int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && size.incrementAndGet() == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = COUNTER_MASK << offset;
+        for (; ; ) {
+            long word = table.get(index);
+            if ((word & mask) == mask) {
+                // the counter is saturated
+                return false;
+            }
+            if (table.compareAndSet(index, word, word + (1L << offset))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Halves all counters, so accesses which happened before the current
+     * sample period weigh less than recent ones.
+     */
+    private void reset() {
+        for (int i = 0; i < table.length(); i++) {
+            long word;
+            do {
+                word = table.get(i);
+            } while (!table.compareAndSet(i, word, (word >>> 1) & RESET_MASK));
+        }
+        size.addAndGet(-(sampleSize >>> 1));
+    }
+
+    private int indexOf(int hash, int depth) {
+        long h = (hash + SEEDS[depth]) * SEEDS[depth];
+        h += h >>> LONG_HALF_BITS;
+        return (int) h & tableMask;
+    }
+
+    private static int spread(int hashCode) {
+        int h = hashCode * SPREAD_MULTIPLIER;
+        return h ^ (h >>> INT_HALF_BITS);
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.internal.nearcache.impl.preloader;
 import com.hazelcast.config.NearCachePreloaderConfig;
 import com.hazelcast.internal.adapter.DataStructureAdapter;
 import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
+import com.hazelcast.internal.nearcache.NearCacheRecord;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.impl.HeapData;
@@ -38,6 +39,8 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Paths;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
 
 import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
 import static com.hazelcast.internal.nio.Bits.readIntB;
@@ -53,6 +56,8 @@ import static java.nio.ByteBuffer.allocate;
 
 /**
  * Loads and stores the keys from a Near Cache into a file.
+ * <p>
+ * Alternatively stores a snapshot of the keys and values, see {@link NearCachePreloaderSnapshot}.
  *
  * @param <K> type of the {@link com.hazelcast.internal.nearcache.NearCacheRecord} keys
  */
@@ -61,14 +66,38 @@ public class NearCachePreloader<K> {
     /**
      * File format for the file header.
      */
-    private enum FileFormat {
-        INTERLEAVED_LENGTH_FIELD
+    enum FileFormat {
+        INTERLEAVED_LENGTH_FIELD,
+        /**
+         * Keys, values and invalidation metadata, see {@link NearCachePreloaderSnapshot}.
+         */
+        KEY_VALUE_LOG
+    }
+
+    /**
+     * Callback to put a value of a snapshot into the Near Cache.
+     */
+    @FunctionalInterface
+    public interface SnapshotEntryConsumer {
+
+        /**
+         * Puts the value of a snapshot into the Near Cache, if it's still valid.
+         *
+         * @param key           the key
+         * @param value         the value
+         * @param partitionId   the partition ID of the key when the value was stored
+         * @param partitionUuid the partition UUID when the value was stored
+         * @param sequence      the invalidation sequence of the partition when the value was stored
+         * @return {@code true} if the value was put into the Near Cache,
+         * {@code false} if the value has to be fetched from the cluster
+         */
+        boolean accept(Data key, Data value, int partitionId, UUID partitionUuid, long sequence);
     }
 
     /**
      * Magic bytes for the file header.
      */
-    private static final int MAGIC_BYTES = 0xEA3CAC4E;
+    static final int MAGIC_BYTES = 0xEA3CAC4E;
 
     /**
      * Base-2 logarithm of buffer size.
@@ -82,7 +111,7 @@ public class NearCachePreloader<K> {
     /**
      * Batch size for the pre-loader.
      */
-    private static final int LOAD_BATCH_SIZE = 100;
+    static final int LOAD_BATCH_SIZE = 100;
 
     private final ILogger logger = Logger.getLogger(NearCachePreloader.class);
     private final byte[] tmpBytes = new byte[INT_SIZE_IN_BYTES];
@@ -94,6 +123,7 @@ public class NearCachePreloader<K> {
     private final NearCachePreloaderLock lock;
     private final File storeFile;
     private final File tmpStoreFile;
+    private final NearCachePreloaderSnapshot<K> snapshot;
 
     private ByteBuffer buf;
     private int lastWrittenBytes;
@@ -109,6 +139,8 @@ public class NearCachePreloader<K> {
         this.lock = new NearCachePreloaderLock(logger, filename + ".lock");
         this.storeFile = new File(filename);
         this.tmpStoreFile = new File(filename + "~");
+        this.snapshot = new NearCachePreloaderSnapshot<>(FileFormat.KEY_VALUE_LOG.ordinal(), storeFile, tmpStoreFile,
+                serializationService);
     }
 
     public void destroy() {
@@ -121,6 +153,20 @@ public class NearCachePreloader<K> {
      * @param adapter the {@link DataStructureAdapter} to load the values from
      */
     public void loadKeys(DataStructureAdapter<Object, ?> adapter) {
+        loadKeys(adapter, null);
+    }
+
+    /**
+     * Loads the values via a stored key file into the supplied {@link DataStructureAdapter}.
+     * <p>
+     * If the file is a snapshot with values, the values which are still valid
+     * are put into the Near Cache via the supplied consumer instead.
+     *
+     * @param adapter  the {@link DataStructureAdapter} to load the values from
+     * @param consumer the consumer to put the values of a snapshot into the
+     *                 Near Cache or {@code null} to load all values via the adapter
+     */
+    public void loadKeys(DataStructureAdapter<Object, ?> adapter, SnapshotEntryConsumer consumer) {
         if (!storeFile.exists()) {
             logger.info(format("Skipped loading keys of Near Cache %s since storage file doesn't exist (%s)", nearCacheName,
                     storeFile.getAbsolutePath()));
@@ -130,7 +176,16 @@ public class NearCachePreloader<K> {
         long startedNanos = Timer.nanos();
 
         try (BufferingInputStream bis = new BufferingInputStream(new FileInputStream(storeFile), BUFFER_SIZE)) {
-            if (!checkHeader(bis)) {
+            int fileFormat = checkHeader(bis);
+            if (fileFormat == FileFormat.KEY_VALUE_LOG.ordinal()) {
+                int restoredKeys = snapshot.load(adapter, consumer);
+
+                long elapsedMillis = Timer.millisElapsed(startedNanos);
+                logger.info(format("Loaded snapshot of Near Cache %s in %d ms, restored %d values", nearCacheName,
+                        elapsedMillis, restoredKeys));
+                return;
+            }
+            if (fileFormat < 0) {
                 return;
             }
 
@@ -143,19 +198,22 @@ public class NearCachePreloader<K> {
         }
     }
 
-    private boolean checkHeader(BufferingInputStream bis) throws IOException {
+    /**
+     * @return the file format or {@code -1} if the header is invalid
+     */
+    private int checkHeader(BufferingInputStream bis) throws IOException {
         int magicBytes = readInt(bis);
         if (magicBytes != MAGIC_BYTES) {
             logger.warning(format("Found invalid header for Near Cache %s (%s)", nearCacheName, storeFile.getAbsolutePath()));
-            return false;
+            return -1;
         }
         int fileFormat = readInt(bis);
         if (fileFormat < 0 || fileFormat > FileFormat.values().length - 1) {
             logger.warning(format("Found invalid file format for Near Cache %s (%s)", nearCacheName,
                     storeFile.getAbsolutePath()));
-            return false;
+            return -1;
         }
-        return true;
+        return fileFormat;
     }
 
     /**
@@ -200,6 +258,29 @@ public class NearCachePreloader<K> {
         }
     }
 
+    /**
+     * Stores a snapshot of the keys and values of the supplied records.
+     * <p>
+     * Only the records which changed since the last snapshot of this
+     * instance are written, see {@link NearCachePreloaderSnapshot}.
+     *
+     * @param iterator {@link Iterator} over the records of a {@link com.hazelcast.internal.nearcache.NearCacheRecordStore}
+     */
+    public void storeSnapshot(Iterator<? extends Map.Entry<K, ? extends NearCacheRecord>> iterator) {
+        long startedNanos = Timer.nanos();
+        try {
+            lastWrittenBytes = snapshot.store(iterator);
+            lastKeyCount = snapshot.size();
+
+            updatePersistenceStats(startedNanos);
+        } catch (Exception e) {
+            logger.warning(format("Could not store snapshot of Near Cache %s (%s)", nearCacheName,
+                    storeFile.getAbsolutePath()), e);
+
+            nearCacheStats.addPersistenceFailure(e);
+        }
+    }
+
     private void updatePersistenceStats(long startedNanos) {
         long elapsedMillis = Timer.millisElapsed(startedNanos);
         nearCacheStats.addPersistence(elapsedMillis, lastWrittenBytes, lastKeyCount);
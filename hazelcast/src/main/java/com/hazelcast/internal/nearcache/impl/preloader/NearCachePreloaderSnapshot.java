@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.preloader;
+
+import com.hazelcast.internal.adapter.DataStructureAdapter;
+import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloader.SnapshotEntryConsumer;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.internal.util.collection.InflatableSet;
+import com.hazelcast.internal.util.collection.InflatableSet.Builder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.hazelcast.internal.nearcache.NearCacheRecord.READ_PERMITTED;
+import static com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloader.LOAD_BATCH_SIZE;
+import static com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloader.MAGIC_BYTES;
+import static com.hazelcast.internal.nio.Bits.BYTE_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.internal.nio.IOUtil.rename;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Stores the keys and the serialized values of a Near Cache in a
+ * memory-mapped, append-only log, so a restarted Near Cache can serve the
+ * values without fetching them from the cluster.
+ * <p>
+ * The file starts with a header of the magic bytes, the file format and the
+ * end offset of the committed entries. It's followed by {@code PUT} entries,
+ * which contain the key, the value and the invalidation metadata (partition
+ * ID, partition UUID and invalidation sequence) of a record, and
+ * {@code REMOVE} entries, which contain a key only. A snapshot only appends
+ * the entries of records which changed since the previous snapshot. The end
+ * offset in the header is updated after the appended entries have been
+ * forced to the file, so a partially written snapshot is ignored. Once the
+ * log is more than twice the size of its live entries, a full snapshot is
+ * written to a temporary file which then replaces the log.
+ * <p>
+ * On load, a value is only put into the Near Cache if its invalidation
+ * metadata still matches the current one of the partition, i.e. there was no
+ * invalidation in the partition since the value was stored. The keys of all
+ * other values are fetched from the cluster.
+ * <p>
+ * This class is not thread-safe; the {@link NearCachePreloader} is used by a
+ * single storage task.
+ *
+ * @param <K> type of the {@link NearCacheRecord} keys
+ */
+class NearCachePreloaderSnapshot<K> {
+
+    static final int HEADER_SIZE = 2 * INT_SIZE_IN_BYTES + LONG_SIZE_IN_BYTES;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final int END_OFFSET = 2 * INT_SIZE_IN_BYTES;
+    private static final int PUT_METADATA_SIZE = INT_SIZE_IN_BYTES + 3 * LONG_SIZE_IN_BYTES;
+    private static final int COMPACTION_FACTOR = 2;
+    private static final int MAP_CHUNK_SIZE = 1 << 16;
+
+    private final int fileFormat;
+    private final File storeFile;
+    private final File tmpStoreFile;
+    private final SerializationService serializationService;
+
+    /**
+     * The entries in the log by their key, used to find the changed records.
+     */
+    private final Map<K, LogEntry> logEntries = new HashMap<>();
+
+    /**
+     * The end offset of the committed entries or {@code 0} if this instance
+     * didn't write the log yet.
+     */
+    private long end;
+    private long liveBytes;
+    private int generation;
+
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long mappedPosition;
+
+    NearCachePreloaderSnapshot(int fileFormat, File storeFile, File tmpStoreFile,
+                               SerializationService serializationService) {
+        this.fileFormat = fileFormat;
+        this.storeFile = storeFile;
+        this.tmpStoreFile = tmpStoreFile;
+        this.serializationService = serializationService;
+    }
+
+    /**
+     * Loads the snapshot, puts the still valid values into the Near Cache
+     * via the supplied consumer and fetches the remaining keys via the
+     * supplied {@link DataStructureAdapter}.
+     *
+     * @param adapter  the {@link DataStructureAdapter} to fetch the values from
+     * @param consumer the consumer to put values into the Near Cache or
+     *                 {@code null} if all values should be fetched
+     * @return the number of values which were restored from the snapshot
+     */
+    int load(DataStructureAdapter<Object, ?> adapter, SnapshotEntryConsumer consumer) throws IOException {
+        Map<Data, LoadedEntry> entries = readEntries();
+
+        int restored = 0;
+        Builder<Object> builder = InflatableSet.newBuilder(LOAD_BATCH_SIZE);
+        for (Map.Entry<Data, LoadedEntry> mapEntry : entries.entrySet()) {
+            Data key = mapEntry.getKey();
+            LoadedEntry entry = mapEntry.getValue();
+            if (consumer != null && entry.partitionUuid != null
+                    && consumer.accept(key, entry.value, entry.partitionId, entry.partitionUuid, entry.sequence)) {
+                restored++;
+                continue;
+            }
+
+            builder.add(serializationService.toObject(key));
+            if (builder.size() == LOAD_BATCH_SIZE) {
+                adapter.getAll(builder.build());
+                builder = InflatableSet.newBuilder(LOAD_BATCH_SIZE);
+            }
+        }
+        if (builder.size() > 0) {
+            adapter.getAll(builder.build());
+        }
+        return restored;
+    }
+
+    /**
+     * Returns the number of keys in the snapshot.
+     */
+    int size() {
+        return logEntries.size();
+    }
+
+    private Map<Data, LoadedEntry> readEntries() throws IOException {
+        try (FileChannel readChannel = FileChannel.open(storeFile.toPath(), READ)) {
+            long size = readChannel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is too large to be mapped: " + size + " bytes");
+            }
+            MappedByteBuffer buffer = readChannel.map(READ_ONLY, 0, size);
+            long committedEnd = buffer.getLong(END_OFFSET);
+            if (committedEnd < HEADER_SIZE || committedEnd > size) {
+                throw new IOException("Invalid end offset of snapshot: " + committedEnd);
+            }
+
+            Map<Data, LoadedEntry> entries = new LinkedHashMap<>();
+            buffer.position(HEADER_SIZE);
+            while (buffer.position() < committedEnd) {
+                byte type = buffer.get();
+                Data key = readData(buffer);
+                if (type == PUT) {
+                    Data value = readData(buffer);
+                    int partitionId = buffer.getInt();
+                    long mostSigBits = buffer.getLong();
+                    long leastSigBits = buffer.getLong();
+                    long sequence = buffer.getLong();
+                    UUID partitionUuid = mostSigBits == 0 && leastSigBits == 0 ? null : new UUID(mostSigBits, leastSigBits);
+                    entries.put(key, new LoadedEntry(value, partitionId, partitionUuid, sequence));
+                } else if (type == REMOVE) {
+                    entries.remove(key);
+                } else {
+                    throw new IOException("Invalid entry type of snapshot: " + type);
+                }
+            }
+            return entries;
+        }
+    }
+
+    private static Data readData(ByteBuffer buffer) {
+        byte[] payload = new byte[buffer.getInt()];
+        buffer.get(payload);
+        return new HeapData(payload);
+    }
+
+    /**
+     * Writes the records of the supplied iterator which changed since the
+     * last snapshot, or all of them if the log has to be compacted.
+     *
+     * @param iterator {@link Iterator} over the records of a {@link com.hazelcast.internal.nearcache.NearCacheRecordStore}
+     * @return the number of written bytes
+     */
+    int store(Iterator<? extends Map.Entry<K, ? extends NearCacheRecord>> iterator) throws IOException {
+        boolean compact = end == 0 || end - HEADER_SIZE > COMPACTION_FACTOR * liveBytes;
+        try {
+            long position;
+            if (compact) {
+                logEntries.clear();
+                liveBytes = 0;
+                channel = FileChannel.open(tmpStoreFile.toPath(), CREATE, TRUNCATE_EXISTING, READ, WRITE);
+                position = HEADER_SIZE;
+            } else {
+                channel = FileChannel.open(storeFile.toPath(), READ, WRITE);
+                position = end;
+            }
+            map(position, 0);
+
+            generation++;
+            writeChangedRecords(iterator);
+            writeRemovedRecords();
+
+            position = position();
+            mapped.force();
+            commit(position);
+
+            if (logEntries.isEmpty()) {
+                closeChannel();
+                deleteQuietly(storeFile);
+                end = 0;
+                return 0;
+            }
+            int writtenBytes = (int) (position - (compact ? 0 : end));
+            closeChannel();
+            if (compact) {
+                rename(tmpStoreFile, storeFile);
+            }
+            end = position;
+            return writtenBytes;
+        } catch (IOException | RuntimeException e) {
+            // the next snapshot starts from scratch
+            logEntries.clear();
+            end = 0;
+            throw e;
+        } finally {
+            closeChannel();
+            deleteQuietly(tmpStoreFile);
+        }
+    }
+
+    private void writeChangedRecords(Iterator<? extends Map.Entry<K, ? extends NearCacheRecord>> iterator)
+            throws IOException {
+        long now = Clock.currentTimeMillis();
+        while (iterator.hasNext()) {
+            Map.Entry<K, ? extends NearCacheRecord> mapEntry = iterator.next();
+            K key = mapEntry.getKey();
+            NearCacheRecord record = mapEntry.getValue();
+            Object value = record.getValue();
+            if (value == null || record.getReservationId() != READ_PERMITTED || record.isExpiredAt(now)) {
+                // the record is not readable, so it's removed from the log if it's there
+                continue;
+            }
+
+            LogEntry logEntry = logEntries.get(key);
+            if (logEntry != null && logEntry.value == value) {
+                logEntry.generation = generation;
+                continue;
+            }
+
+            int size = writePut(serializationService.toData(key), serializationService.toData(value), record);
+            if (logEntry != null) {
+                liveBytes -= logEntry.size;
+            }
+            logEntries.put(key, new LogEntry(value, size, generation));
+            liveBytes += size;
+        }
+    }
+
+    private void writeRemovedRecords() throws IOException {
+        Iterator<Map.Entry<K, LogEntry>> iterator = logEntries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, LogEntry> mapEntry = iterator.next();
+            LogEntry logEntry = mapEntry.getValue();
+            if (logEntry.generation != generation) {
+                writeRemove(serializationService.toData(mapEntry.getKey()));
+                liveBytes -= logEntry.size;
+                iterator.remove();
+            }
+        }
+    }
+
+    private int writePut(Data key, Data value, NearCacheRecord record) throws IOException {
+        int size = BYTE_SIZE_IN_BYTES + 2 * INT_SIZE_IN_BYTES + key.totalSize() + value.totalSize() + PUT_METADATA_SIZE;
+        ensureMapped(size);
+        mapped.put(PUT);
+        writeData(key);
+        writeData(value);
+        UUID partitionUuid = record.getUuid();
+        mapped.putInt(record.getPartitionId());
+        mapped.putLong(partitionUuid == null ? 0 : partitionUuid.getMostSignificantBits());
+        mapped.putLong(partitionUuid == null ? 0 : partitionUuid.getLeastSignificantBits());
+        mapped.putLong(record.getInvalidationSequence());
+        return size;
+    }
+
+    private void writeRemove(Data key) throws IOException {
+        ensureMapped(BYTE_SIZE_IN_BYTES + INT_SIZE_IN_BYTES + key.totalSize());
+        mapped.put(REMOVE);
+        writeData(key);
+    }
+
+    private void writeData(Data data) {
+        mapped.putInt(data.totalSize());
+        mapped.put(data.toByteArray());
+    }
+
+    private void commit(long position) throws IOException {
+        MappedByteBuffer header = channel.map(READ_WRITE, 0, HEADER_SIZE);
+        header.putInt(MAGIC_BYTES);
+        header.putInt(fileFormat);
+        header.putLong(position);
+        header.force();
+    }
+
+    private void ensureMapped(int size) throws IOException {
+        if (mapped.remaining() < size) {
+            long position = position();
+            mapped.force();
+            map(position, size);
+        }
+    }
+
+    private void map(long position, int minSize) throws IOException {
+        mappedPosition = position;
+        mapped = channel.map(READ_WRITE, position, Math.max(minSize, MAP_CHUNK_SIZE));
+    }
+
+    private long position() {
+        return mappedPosition + mapped.position();
+    }
+
+    private void closeChannel() {
+        // the mapped buffers are released by the garbage collector
+        mapped = null;
+        closeResource(channel);
+        channel = null;
+    }
+
+    /**
+     * A record as it was last written to the log.
+     */
+    private static final class LogEntry {
+
+        private final Object value;
+        private final int size;
+        private int generation;
+
+        LogEntry(Object value, int size, int generation) {
+            this.value = value;
+            this.size = size;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * A value read from the log with its invalidation metadata.
+     */
+    private static final class LoadedEntry {
+
+        private final Data value;
+        private final int partitionId;
+        private final UUID partitionUuid;
+        private final long sequence;
+
+        LoadedEntry(Data value, int partitionId, UUID partitionUuid, long sequence) {
+            this.value = value;
+            this.partitionId = partitionId;
+            this.partitionUuid = partitionUuid;
+            this.sequence = sequence;
+        }
+    }
+}
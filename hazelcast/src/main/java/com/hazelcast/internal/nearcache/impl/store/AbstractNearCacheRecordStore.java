@@ -20,6 +20,7 @@ import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.eviction.EvictionCandidate;
 import com.hazelcast.internal.eviction.EvictionChecker;
 import com.hazelcast.internal.eviction.EvictionListener;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
@@ -29,6 +30,7 @@ import com.hazelcast.internal.nearcache.NearCache;
 import com.hazelcast.internal.nearcache.NearCacheRecord;
 import com.hazelcast.internal.nearcache.NearCacheRecordStore;
 import com.hazelcast.internal.nearcache.impl.SampleableNearCacheRecordMap;
+import com.hazelcast.internal.nearcache.impl.admission.FrequencySketch;
 import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataContainer;
 import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
 import com.hazelcast.internal.serialization.Data;
@@ -79,6 +81,7 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
     protected EvictionChecker evictionChecker;
     protected SamplingEvictionStrategy<KS, R, NCRM> evictionStrategy;
     protected EvictionPolicyEvaluator<KS, R> evictionPolicyEvaluator;
+    protected FrequencySketch frequencySketch;
 
     protected volatile long reservationId;
     protected volatile StaleReadDetector staleReadDetector = ALWAYS_FRESH;
@@ -118,6 +121,13 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         this.staleReadDetector = staleReadDetector;
     }
 
+    @Override
+    public void enableAdmissionFilter() {
+        if (!evictionDisabled) {
+            this.frequencySketch = new FrequencySketch(nearCacheConfig.getEvictionConfig().getSize());
+        }
+    }
+
     @Override
     public abstract R getRecord(K key);
 
@@ -231,6 +241,7 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         R record = null;
         V value = null;
         try {
+            recordFrequency(key);
             record = getRecord(key);
 
             if (record == null) {
@@ -347,6 +358,10 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         if (evictionDisabled && evictionChecker.isEvictionRequired() && !containsRecordKey(key)) {
             return NOT_RESERVED;
         }
+        // with an admission filter a new key has to replace an eviction victim which is accessed less frequently
+        if (frequencySketch != null && !containsRecordKey(key) && !admit(key)) {
+            return NOT_RESERVED;
+        }
 
         long reservationId = nextReservationId();
 
@@ -361,6 +376,38 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         return reservationId;
     }
 
+    private void recordFrequency(K key) {
+        if (frequencySketch != null) {
+            frequencySketch.increment(key.hashCode());
+        }
+    }
+
+    /**
+     * Decides if a new key is admitted to a full Near Cache (TinyLFU).
+     * <p>
+     * The key is compared with the entry the eviction policy would evict next.
+     * It's only admitted, and the victim evicted, if the key was accessed more
+     * frequently than the victim. This prevents a scan over many keys, each of
+     * them accessed only once, from flushing out the frequently read entries.
+     */
+    private boolean admit(K key) {
+        if (!evictionChecker.isEvictionRequired()) {
+            return true;
+        }
+
+        EvictionCandidate<KS, R> victim = evictionStrategy.selectEvictionCandidate(records, evictionPolicyEvaluator);
+        if (victim == null
+                || isRecordExpired(victim.getEvictable())
+                || frequencySketch.frequency(key.hashCode()) > frequencySketch.frequency(victim.getAccessor().hashCode())) {
+            records.tryEvict(victim, this);
+            nearCacheStats.incrementAdmissions();
+            return true;
+        }
+
+        nearCacheStats.incrementAdmissionRejections();
+        return false;
+    }
+
     protected R publishReservedRecord(K key, V value, R reservedRecord, long reservationId) {
         if (reservedRecord.getReservationId() != reservationId) {
             return reservedRecord;
@@ -23,6 +23,8 @@ import com.hazelcast.config.NearCachePreloaderConfig;
 import com.hazelcast.internal.adapter.DataStructureAdapter;
 import com.hazelcast.internal.eviction.EvictionChecker;
 import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataContainer;
+import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
 import com.hazelcast.internal.nearcache.impl.maxsize.EntryCountNearCacheEvictionChecker;
 import com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloader;
 import com.hazelcast.internal.serialization.Data;
@@ -30,9 +32,13 @@ import com.hazelcast.internal.serialization.SerializationService;
 
 import javax.annotation.Nullable;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
+import static com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector.ALWAYS_FRESH;
 import static java.lang.String.format;
 
 /**
@@ -50,6 +56,8 @@ public abstract class BaseHeapNearCacheRecordStore<K, V, R extends NearCacheReco
     private final NearCachePreloader<K> nearCachePreloader;
     private final BiFunction<? super K, ? super R, ? extends R> invalidatorFunction = createInvalidatorFunction();
 
+    private boolean preloaderSnapshotEnabled;
+
     BaseHeapNearCacheRecordStore(String name, NearCacheConfig nearCacheConfig, SerializationService serializationService,
                                  ClassLoader classLoader) {
         super(nearCacheConfig, serializationService, classLoader);
@@ -117,20 +125,72 @@ public abstract class BaseHeapNearCacheRecordStore<K, V, R extends NearCacheReco
         }
     }
 
+    @Override
+    public void enablePreloaderSnapshot() {
+        this.preloaderSnapshotEnabled = true;
+    }
+
     @Override
     public void loadKeys(DataStructureAdapter<Object, ?> adapter) {
         if (nearCachePreloader != null) {
-            nearCachePreloader.loadKeys(adapter);
+            nearCachePreloader.loadKeys(adapter, preloaderSnapshotEnabled ? this::putSnapshotEntry : null);
         }
     }
 
     @Override
     public void storeKeys() {
-        if (nearCachePreloader != null) {
+        if (nearCachePreloader == null) {
+            return;
+        }
+        if (preloaderSnapshotEnabled) {
+            nearCachePreloader.storeSnapshot(records.entrySet().iterator());
+        } else {
             nearCachePreloader.storeKeys(records.keySet().iterator());
         }
     }
 
+    /**
+     * Puts a value of a preloader snapshot into this record store, if there
+     * was no invalidation in its partition since it was stored.
+     */
+    private boolean putSnapshotEntry(Data keyData, Data valueData, int partitionId, UUID partitionUuid, long sequence) {
+        StaleReadDetector staleReadDetector = this.staleReadDetector;
+        if (staleReadDetector == ALWAYS_FRESH || staleReadDetector.getPartitionId(keyData) != partitionId) {
+            // the value can't be validated without invalidation metadata
+            return false;
+        }
+        MetaDataContainer metaData = staleReadDetector.getMetaDataContainer(partitionId);
+        if (!isSameMetaData(metaData, partitionUuid, sequence)) {
+            return false;
+        }
+
+        K key = nearCacheConfig.isSerializeKeys() ? (K) keyData : serializationService.toObject(keyData);
+        if (frequencySketch == null) {
+            doEviction(false);
+        }
+        long reservationId = tryReserveForUpdate(key, keyData, READ_UPDATE);
+        if (reservationId == NOT_RESERVED) {
+            return false;
+        }
+        // the reservation takes the metadata at the time of its creation, an invalidation may have happened in between
+        R reservedRecord = records.get(key);
+        if (reservedRecord == null || reservedRecord.getInvalidationSequence() != sequence
+                || !reservedRecord.hasSameUuid(partitionUuid)) {
+            invalidate(key);
+            return false;
+        }
+        tryPublishReserved(key, (V) valueData, reservationId, false);
+        if (!isSameMetaData(metaData, partitionUuid, sequence)) {
+            invalidate(key);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isSameMetaData(MetaDataContainer metaData, UUID partitionUuid, long sequence) {
+        return partitionUuid.equals(metaData.getUuid()) && metaData.getSequence() == sequence;
+    }
+
     @Override
     public void destroy() {
         super.destroy();
@@ -63,6 +63,14 @@ import static com.hazelcast.internal.nio.IOUtil.newByteBuffer;
  */
 public abstract class OutboundHandler<S, D> extends ChannelHandler<OutboundHandler, S, D> {
 
+    /**
+     * Whether the {@link #gatheredBuffer()} of this handler is written to the
+     * socket, which is only the case for the last handler of the pipeline.
+     *
+     * @see #setGatheringEnabled(boolean)
+     */
+    protected boolean gatheringEnabled;
+
     /**
      * A callback to indicate that this OutboundHandler should be
      * processed.
@@ -77,6 +85,39 @@ public abstract class OutboundHandler<S, D> extends ChannelHandler<OutboundHandl
      */
     public abstract HandlerStatus onWrite() throws Exception;
 
+    /**
+     * Returns a buffer, in reading mode, that should be written to the socket
+     * directly after the dst buffer, or {@code null} if there is none.
+     * <p>
+     * This allows the last handler of the pipeline to hand a large payload to
+     * a gathering write instead of copying it into its dst buffer. As long as
+     * the returned buffer has remaining bytes, the handler should not add
+     * anything to its dst buffer since that would be written out of order.
+     * <p>
+     * The method is only called on the last handler in the pipeline. A handler
+     * must not leave anything in its gathered buffer unless
+     * {@link #gatheringEnabled} is set, since the handler after it only sees
+     * the dst buffer.
+     *
+     * @return the buffer to write after the dst buffer, or {@code null}.
+     */
+    public ByteBuffer gatheredBuffer() {
+        return null;
+    }
+
+    /**
+     * Sets whether the {@link #gatheredBuffer()} of this handler is written
+     * to the socket.
+     * <p>
+     * Called by the pipeline each time its handlers change, enabling it for
+     * the last handler and disabling it for all the others.
+     *
+     * @param gatheringEnabled {@code true} if this is the last handler of the pipeline.
+     */
+    public void setGatheringEnabled(boolean gatheringEnabled) {
+        this.gatheringEnabled = gatheringEnabled;
+    }
+
     /**
      * Initializes the dst ByteBuffer with the value for {@link ChannelOption#SO_SNDBUF}.
      * <p>
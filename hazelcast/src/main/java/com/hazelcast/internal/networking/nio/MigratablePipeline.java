@@ -53,4 +53,27 @@ public interface MigratablePipeline {
      * @return total load recorded by this pipeline
      */
     long load();
+
+    /**
+     * Get the number of bytes read or written by the current pipeline.
+     *
+     * @return total number of bytes transceived by this pipeline
+     */
+    long bytesTransceived();
+
+    /**
+     * Get the time spent processing the current pipeline. Unlike {@link #load()},
+     * it reflects the actual cost of the pipeline for the owning {@link NioThread}.
+     *
+     * @return total processing time of this pipeline in nanoseconds
+     */
+    long processingTimeNanos();
+
+    /**
+     * Get the number of frames waiting to be processed by the current pipeline.
+     * A pipeline which keeps having pending frames can't keep up with its load.
+     *
+     * @return the number of pending frames
+     */
+    int framesPending();
 }
@@ -111,6 +111,20 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
 
     @Override
     void process() throws Exception {
+        if (!trackProcessingTime) {
+            readAndProcess();
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            readAndProcess();
+        } finally {
+            processingTimeNanos.inc(System.nanoTime() - startNanos);
+        }
+    }
+
+    private void readAndProcess() throws Exception {
         int readBytes = socketChannel.read(receiveBuffer);
 
         if (readBytes == -1) {
@@ -172,6 +186,17 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
         return bytesRead.get();
     }
 
+    @Override
+    public long bytesTransceived() {
+        return bytesRead.get();
+    }
+
+    @Override
+    public int framesPending() {
+        // frames are processed as soon as they are read
+        return 0;
+    }
+
     @Override
     void publishMetrics() {
         if (currentThread() != owner) {
@@ -39,6 +39,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_GATHERED_WRITES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_NORMAL_FRAMES_WRITTEN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN;
@@ -67,6 +68,14 @@ public final class NioOutboundPipeline
         extends NioPipeline
         implements Supplier<OutboundFrame>, OutboundPipeline {
 
+    /**
+     * The maximum number of times the handlers are processed again within a
+     * single {@link #process()} after a gathered buffer got written, so a
+     * channel with a constant stream of large packets can't monopolize the
+     * thread.
+     */
+    private static final int MAX_GATHERING_ROUNDS = 16;
+
     public enum State {
         /*
          * The pipeline isn't scheduled (nothing to do).
@@ -115,7 +124,9 @@ public final class NioOutboundPipeline
     public final Queue<OutboundFrame> priorityWriteQueue = new ConcurrentLinkedQueue<>();
 
     private OutboundHandler[] handlers = new OutboundHandler[0];
+    private OutboundHandler lastHandler;
     private ByteBuffer sendBuffer;
+    private final ByteBuffer[] gatheringBuffers = new ByteBuffer[2];
 
     private final AtomicReference<State> scheduled = new AtomicReference<>(State.SCHEDULED);
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN, unit = BYTES, level = DEBUG)
@@ -124,6 +135,8 @@ public final class NioOutboundPipeline
     private final SwCounter normalFramesWritten = newSwCounter();
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN, level = DEBUG)
     private final SwCounter priorityFramesWritten = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_GATHERED_WRITES, level = DEBUG)
+    private final SwCounter gatheredWrites = newSwCounter();
 
     private volatile long lastWriteTime;
 
@@ -301,28 +314,30 @@ public final class NioOutboundPipeline
 
     // is never called concurrently!
     @Override
-    @SuppressWarnings("unchecked")
     public void process() throws Exception {
-        processCount.inc();
-
-        OutboundHandler[] localHandlers = handlers;
-        HandlerStatus pipelineStatus = CLEAN;
-        for (int handlerIndex = 0; handlerIndex < localHandlers.length; handlerIndex++) {
-            OutboundHandler handler = localHandlers[handlerIndex];
-
-            HandlerStatus handlerStatus = handler.onWrite();
+        if (!trackProcessingTime) {
+            processAndWrite();
+            return;
+        }
 
-            if (localHandlers != handlers) {
-                // change in the pipeline detected, therefor the loop is restarted.
-                localHandlers = handlers;
-                pipelineStatus = CLEAN;
-                handlerIndex = -1;
-            } else if (handlerStatus != CLEAN) {
-                pipelineStatus = handlerStatus;
-            }
+        long startNanos = System.nanoTime();
+        try {
+            processAndWrite();
+        } finally {
+            processingTimeNanos.inc(System.nanoTime() - startNanos);
         }
+    }
+
+    private void processAndWrite() throws Exception {
+        processCount.inc();
 
-        flushToSocket();
+        HandlerStatus pipelineStatus;
+        int gatheringRounds = 0;
+        // when a gathered buffer got written completely, the handlers are processed again so the
+        // frames behind it are written in the same run instead of waiting for the next OP_WRITE.
+        do {
+            pipelineStatus = processHandlers();
+        } while (flushToSocket() && pipelineStatus == DIRTY && ++gatheringRounds < MAX_GATHERING_ROUNDS);
 
         if (migrationRequested()) {
             startMigration();
@@ -350,6 +365,27 @@ public final class NioOutboundPipeline
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private HandlerStatus processHandlers() throws Exception {
+        OutboundHandler[] localHandlers = handlers;
+        HandlerStatus pipelineStatus = CLEAN;
+        for (int handlerIndex = 0; handlerIndex < localHandlers.length; handlerIndex++) {
+            OutboundHandler handler = localHandlers[handlerIndex];
+
+            HandlerStatus handlerStatus = handler.onWrite();
+
+            if (localHandlers != handlers) {
+                // change in the pipeline detected, therefor the loop is restarted.
+                localHandlers = handlers;
+                pipelineStatus = CLEAN;
+                handlerIndex = -1;
+            } else if (handlerStatus != CLEAN) {
+                pipelineStatus = handlerStatus;
+            }
+        }
+        return pipelineStatus;
+    }
+
     private void postProcessBlocked() {
         // pipeline is blocked; no point in receiving OP_WRITE events.
         unregisterOp(OP_WRITE);
@@ -435,11 +471,30 @@ public final class NioOutboundPipeline
         }
     }
 
-    private void flushToSocket() throws IOException {
+    /**
+     * Writes the sendBuffer to the socket. If the last handler has a gathered
+     * buffer, both buffers are written using a single gathering write.
+     *
+     * @return {@code true} if a gathered buffer got written completely.
+     */
+    private boolean flushToSocket() throws IOException {
         lastWriteTime = currentTimeMillis();
-        int written = socketChannel.write(sendBuffer);
+        ByteBuffer gatheredBuffer = lastHandler.gatheredBuffer();
+        if (gatheredBuffer == null) {
+            int written = socketChannel.write(sendBuffer);
+            bytesWritten.inc(written);
+            //System.out.println(channel + " bytes written:" + written);
+            return false;
+        }
+
+        gatheringBuffers[0] = sendBuffer;
+        gatheringBuffers[1] = gatheredBuffer;
+        long written = socketChannel.write(gatheringBuffers);
+        // don't keep the payload reachable after it has been written
+        gatheringBuffers[1] = null;
         bytesWritten.inc(written);
-        //System.out.println(channel + " bytes written:" + written);
+        gatheredWrites.inc();
+        return !gatheredBuffer.hasRemaining();
     }
 
     void drainWriteQueues() {
@@ -451,6 +506,16 @@ public final class NioOutboundPipeline
         return bytesWritten.get();
     }
 
+    @Override
+    public long bytesTransceived() {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public int framesPending() {
+        return totalFramesPending();
+    }
+
     @Override
     protected void publishMetrics() {
         if (currentThread() != owner) {
@@ -513,10 +578,13 @@ public final class NioOutboundPipeline
 
     private void updatePipeline(OutboundHandler[] newHandlers) {
         this.handlers = newHandlers;
-        this.sendBuffer = newHandlers.length == 0 ? null : (ByteBuffer) newHandlers[newHandlers.length - 1].dst();
+        this.lastHandler = newHandlers.length == 0 ? null : newHandlers[newHandlers.length - 1];
+        this.sendBuffer = lastHandler == null ? null : (ByteBuffer) lastHandler.dst();
 
         OutboundHandler prev = null;
         for (OutboundHandler handler : handlers) {
+            // only the gathered buffer of the last handler is written to the socket
+            handler.setGatheringEnabled(handler == lastHandler);
             if (prev == null) {
                 handler.src(this);
             } else {
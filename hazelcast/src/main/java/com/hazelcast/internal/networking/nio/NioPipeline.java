@@ -34,9 +34,11 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKIN
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_OPS_INTERESTED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_OPS_READY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_PROCESSING_TIME_NANOS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static java.lang.Thread.currentThread;
 
@@ -52,6 +54,12 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
     // the number of time the NioPipeline.process() method has been called.
     @Probe(name = NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT, level = DEBUG)
     protected final SwCounter processCount = newSwCounter();
+    // the total time spent in the NioPipeline.process() method, only measured
+    // when trackProcessingTime is set.
+    @Probe(name = NETWORKING_METRIC_NIO_PIPELINE_PROCESSING_TIME_NANOS, unit = NS, level = DEBUG)
+    protected final SwCounter processingTimeNanos = newSwCounter();
+    // whether the IOBalancer uses the processing time
+    protected final boolean trackProcessingTime;
     protected final ILogger logger;
     protected final NioChannel channel;
     protected final SocketChannel socketChannel;
@@ -88,6 +96,7 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
         this.logger = logger;
         this.initialOps = initialOps;
         this.ioBalancer = ioBalancer;
+        this.trackProcessingTime = ioBalancer.isProcessingTimeTracked();
         this.errorHandler = errorHandler;
     }
 
@@ -120,6 +129,11 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
         return owner;
     }
 
+    @Override
+    public long processingTimeNanos() {
+        return processingTimeNanos.get();
+    }
+
     void start() {
         owner.addTaskAndWakeup(() -> {
             try {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio.iobalancer;
+
+import com.hazelcast.internal.networking.nio.MigratablePipeline;
+import com.hazelcast.internal.networking.nio.NioThread;
+import com.hazelcast.internal.util.ItemCounter;
+import com.hazelcast.logging.ILogger;
+
+/**
+ * A {@link LoadTracker} which doesn't rely on a single counter to measure the
+ * load of a pipeline, but combines the processing time, the number of bytes
+ * transceived and the number of pending frames of the pipeline.
+ * <p>
+ * Each of these is normalized to the share of the pipeline in the total of all
+ * pipelines since the last calculation, so they can be weighted against each
+ * other. The load of a pipeline is the weighted sum of its shares, scaled by
+ * {@link #LOAD_SCALE}.
+ * <p>
+ * The processing time is the best approximation of the cost of a pipeline for
+ * its owning {@link NioThread}. The bytes transceived smooth out short spikes
+ * in processing time, and the pending frames reveal pipelines which don't get
+ * enough time to keep up.
+ */
+class AdaptiveLoadTracker extends LoadTracker {
+
+    static final long LOAD_SCALE = 1_000_000;
+
+    static final double PROCESSING_TIME_WEIGHT = 0.5;
+    static final double BYTES_TRANSCEIVED_WEIGHT = 0.3;
+    static final double FRAMES_PENDING_WEIGHT = 0.2;
+
+    //processing time and bytes per pipeline since an instance started
+    private final ItemCounter<MigratablePipeline> lastProcessingTime = new ItemCounter<>();
+    private final ItemCounter<MigratablePipeline> lastBytesTransceived = new ItemCounter<>();
+
+    //processing time, bytes and pending frames per pipeline since last calculation
+    private final ItemCounter<MigratablePipeline> processingTime = new ItemCounter<>();
+    private final ItemCounter<MigratablePipeline> bytesTransceived = new ItemCounter<>();
+    private final ItemCounter<MigratablePipeline> framesPending = new ItemCounter<>();
+
+    AdaptiveLoadTracker(NioThread[] ioThreads, ILogger logger) {
+        super(ioThreads, logger);
+    }
+
+    @Override
+    void updateNewWorkingImbalance() {
+        processingTime.reset();
+        bytesTransceived.reset();
+        framesPending.reset();
+
+        for (MigratablePipeline pipeline : getPipelines()) {
+            long pipelineProcessingTime = pipeline.processingTimeNanos();
+            long pipelineBytesTransceived = pipeline.bytesTransceived();
+            processingTime.set(pipeline, pipelineProcessingTime
+                    - lastProcessingTime.getAndSet(pipeline, pipelineProcessingTime));
+            bytesTransceived.set(pipeline, pipelineBytesTransceived
+                    - lastBytesTransceived.getAndSet(pipeline, pipelineBytesTransceived));
+            framesPending.set(pipeline, pipeline.framesPending());
+        }
+
+        for (MigratablePipeline pipeline : getPipelines()) {
+            double load = PROCESSING_TIME_WEIGHT * share(processingTime, pipeline)
+                    + BYTES_TRANSCEIVED_WEIGHT * share(bytesTransceived, pipeline)
+                    + FRAMES_PENDING_WEIGHT * share(framesPending, pipeline);
+            updatePipelineState(pipeline, (long) (load * LOAD_SCALE));
+        }
+    }
+
+    private static double share(ItemCounter<MigratablePipeline> counter, MigratablePipeline pipeline) {
+        long total = counter.total();
+        return total <= 0 ? 0 : (double) counter.get(pipeline) / total;
+    }
+
+    @Override
+    void removePipeline(MigratablePipeline pipeline) {
+        super.removePipeline(pipeline);
+        lastProcessingTime.remove(pipeline);
+        lastBytesTransceived.remove(pipeline);
+        processingTime.remove(pipeline);
+        bytesTransceived.remove(pipeline);
+        framesPending.remove(pipeline);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio.iobalancer;
+
+import com.hazelcast.internal.networking.nio.MigratablePipeline;
+import com.hazelcast.internal.networking.nio.NioThread;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * {@link MigrationStrategy} used together with the {@link AdaptiveLoadTracker}.
+ * <p>
+ * Like the {@link LoadMigrationStrategy} it migrates the busiest pipeline of
+ * the {@link LoadImbalance#srcOwner} that fits, but it applies hysteresis to
+ * prevent pipelines from ping-ponging between {@link NioThread} instances:
+ * <ul>
+ * <li>an imbalance is only detected when the least busy NioThread gets less than
+ * {@link #IMBALANCE_ENTER_RATIO} of the load of the busiest one. Once detected,
+ * it is only considered to be resolved when that ratio exceeds
+ * {@link #IMBALANCE_EXIT_RATIO}.</li>
+ * <li>a migration is only attempted once the same NioThread has been the busiest
+ * one for {@link #IMBALANCE_ROUNDS} consecutive rounds.</li>
+ * <li>a pipeline is only migrated when it would leave the destination NioThread
+ * less busy than the source NioThread.</li>
+ * <li>a migrated pipeline isn't migrated again during the next
+ * {@link #MIGRATION_COOLDOWN_ROUNDS} rounds.</li>
+ * </ul>
+ * The number of imbalances for which no migration was attempted because of the
+ * above is counted by {@link #migrationsSuppressed()}.
+ * <p>
+ * A single instance is shared by the inbound and outbound {@link LoadTracker}, so
+ * the state is tracked per {@link LoadImbalance} instance. Just like the
+ * LoadTracker, this class is not thread-safe.
+ */
+class AdaptiveMigrationStrategy implements MigrationStrategy {
+
+    static final double IMBALANCE_ENTER_RATIO = 0.7;
+    static final double IMBALANCE_EXIT_RATIO = 0.8;
+    static final int IMBALANCE_ROUNDS = 2;
+    static final int MIGRATION_COOLDOWN_ROUNDS = 5;
+
+    /**
+     * Migrating a pipeline with a load of at most half of the difference between
+     * the busiest and the least busy NioThread can't make the destination busier
+     * than the source.
+     */
+    private static final double MAXIMUM_LOAD_AFTER_MIGRATION_COEFFICIENT = 0.5;
+
+    private final Map<LoadImbalance, State> states = new IdentityHashMap<>();
+    private final SwCounter migrationsSuppressed = newSwCounter();
+
+    @Override
+    public boolean imbalanceDetected(LoadImbalance imbalance) {
+        State state = getState(imbalance);
+        state.round++;
+
+        long min = imbalance.minimumLoad;
+        long max = imbalance.maximumLoad;
+        if (imbalance.srcOwner == null || max <= 0 || min >= IMBALANCE_EXIT_RATIO * max) {
+            state.reset();
+            return false;
+        }
+
+        if (min < IMBALANCE_ENTER_RATIO * max) {
+            if (imbalance.srcOwner == state.srcOwner) {
+                state.imbalancedRounds++;
+            } else {
+                state.srcOwner = imbalance.srcOwner;
+                state.imbalancedRounds = 1;
+            }
+        }
+        // in between the enter and the exit ratio, an imbalance neither starts nor ends
+
+        if (state.imbalancedRounds == 0) {
+            return false;
+        } else if (state.imbalancedRounds < IMBALANCE_ROUNDS) {
+            migrationsSuppressed.inc();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public MigratablePipeline findPipelineToMigrate(LoadImbalance imbalance) {
+        State state = getState(imbalance);
+        state.migrationRounds.values().removeIf(round -> state.round - round >= MIGRATION_COOLDOWN_ROUNDS);
+
+        Set<? extends MigratablePipeline> candidates = imbalance.getPipelinesOwnedBy(imbalance.srcOwner);
+        long migrationThreshold = (long) ((imbalance.maximumLoad - imbalance.minimumLoad)
+                * MAXIMUM_LOAD_AFTER_MIGRATION_COEFFICIENT);
+        MigratablePipeline candidate = null;
+        long loadInSelectedPipeline = 0;
+        boolean coolingDown = false;
+        for (MigratablePipeline pipeline : candidates) {
+            long load = imbalance.getLoad(pipeline);
+            if (load > loadInSelectedPipeline && load <= migrationThreshold) {
+                if (state.migrationRounds.containsKey(pipeline)) {
+                    coolingDown = true;
+                } else {
+                    loadInSelectedPipeline = load;
+                    candidate = pipeline;
+                }
+            }
+        }
+
+        if (candidate != null) {
+            state.migrationRounds.put(candidate, state.round);
+            state.reset();
+        } else if (coolingDown) {
+            migrationsSuppressed.inc();
+        }
+        return candidate;
+    }
+
+    @Override
+    public long migrationsSuppressed() {
+        return migrationsSuppressed.get();
+    }
+
+    private State getState(LoadImbalance imbalance) {
+        return states.computeIfAbsent(imbalance, k -> new State());
+    }
+
+    private static final class State {
+        // the number of times the imbalance has been checked
+        private long round;
+        // the busiest NioThread of the current imbalance
+        private NioThread srcOwner;
+        // the number of consecutive rounds srcOwner has been imbalanced
+        private int imbalancedRounds;
+        // the round in which a pipeline was migrated for the pipelines in cooldown
+        private final Map<MigratablePipeline, Long> migrationRounds = new HashMap<>();
+
+        private void reset() {
+            srcOwner = null;
+            imbalancedRounds = 0;
+        }
+    }
+}
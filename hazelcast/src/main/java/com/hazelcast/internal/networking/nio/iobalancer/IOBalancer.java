@@ -34,6 +34,8 @@ import java.util.concurrent.LinkedBlockingQueue;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_IMBALANCE_DETECTED_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_COMPLETED_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_REQUESTED_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_SUPPRESSED_COUNT;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
@@ -57,6 +59,13 @@ import static com.hazelcast.spi.properties.ClusterProperty.IO_THREAD_COUNT;
  * {@link com.hazelcast.internal.networking.nio.iobalancer.MigrationStrategy}.
  * <p>
  * Measuring interval can be customized via {@link ClusterProperty#IO_BALANCER_INTERVAL_SECONDS}
+ * <p>
+ * By default the load of a pipeline is measured with a single counter, see
+ * {@code hazelcast.io.load}. When the {@code hazelcast.io.balancer.adaptive}
+ * system property is set to {@code true}, the {@link AdaptiveLoadTracker} and
+ * the {@link AdaptiveMigrationStrategy} are used instead. These combine the
+ * processing time, bytes and pending frames of a pipeline and apply hysteresis
+ * to prevent pipelines from moving back and forth.
  *
  * It doesn't leverage {@link ConnectionListener} capability
  * provided by {@link ServerConnectionManager} to observe connections
@@ -66,6 +75,7 @@ import static com.hazelcast.spi.properties.ClusterProperty.IO_THREAD_COUNT;
  */
 public class IOBalancer {
     private static final String PROP_MONKEY_BALANCER = "hazelcast.io.balancer.monkey";
+    private static final String PROP_ADAPTIVE_BALANCER = "hazelcast.io.balancer.adaptive";
     private final ILogger logger;
 
     private final int balancerIntervalSeconds;
@@ -86,6 +96,10 @@ public class IOBalancer {
     @Probe(name = NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_COMPLETED_COUNT, level = DEBUG)
     private final MwCounter migrationCompletedCount = newMwCounter();
 
+    // only IOBalancerThread will write to this field.
+    @Probe(name = NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_REQUESTED_COUNT, level = DEBUG)
+    private final SwCounter migrationRequestedCount = newSwCounter();
+
     public IOBalancer(NioThread[] inputThreads,
                       NioThread[] outputThreads,
                       String hzName,
@@ -96,12 +110,22 @@ public class IOBalancer {
         this.strategy = createMigrationStrategy();
         this.hzName = hzName;
 
-        this.inLoadTracker = new LoadTracker(inputThreads, logger);
-        this.outLoadTracker = new LoadTracker(outputThreads, logger);
+        this.inLoadTracker = createLoadTracker(inputThreads);
+        this.outLoadTracker = createLoadTracker(outputThreads);
 
         this.enabled = isEnabled(inputThreads, outputThreads);
     }
 
+    /**
+     * Returns whether the pipelines have to measure the time spent
+     * processing them. Only the adaptive load tracker uses it, measuring it
+     * otherwise costs two {@link System#nanoTime()} calls on every process
+     * call for nothing.
+     */
+    public boolean isProcessingTimeTracked() {
+        return enabled && inLoadTracker instanceof AdaptiveLoadTracker;
+    }
+
     // just for testing
     LoadTracker getInLoadTracker() {
         return inLoadTracker;
@@ -170,11 +194,27 @@ public class IOBalancer {
         }
     }
 
+    @Probe(name = NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_SUPPRESSED_COUNT, level = DEBUG)
+    private long migrationSuppressedCount() {
+        return strategy.migrationsSuppressed();
+    }
+
+    private static boolean isAdaptive() {
+        return Boolean.getBoolean(PROP_ADAPTIVE_BALANCER) && !Boolean.getBoolean(PROP_MONKEY_BALANCER);
+    }
+
+    private LoadTracker createLoadTracker(NioThread[] ioThreads) {
+        return isAdaptive() ? new AdaptiveLoadTracker(ioThreads, logger) : new LoadTracker(ioThreads, logger);
+    }
+
     private MigrationStrategy createMigrationStrategy() {
         if (Boolean.getBoolean(PROP_MONKEY_BALANCER)) {
             logger.warning("Using Monkey IO Balancer Strategy. This is for stress tests only. Do not user in production! "
                     + "Disable by not setting the property '" + PROP_MONKEY_BALANCER + "' to true.");
             return new MonkeyMigrationStrategy();
+        } else if (isAdaptive()) {
+            logger.finest("Using adaptive IO Balancer Strategy.");
+            return new AdaptiveMigrationStrategy();
         } else {
             logger.finest("Using normal IO Balancer Strategy.");
             return new LoadMigrationStrategy();
@@ -214,6 +254,7 @@ public class IOBalancer {
             logger.finest("Scheduling migration of pipeline " + pipeline
                     + " from " + srcOwner + " to " + dstOwner);
         }
+        migrationRequestedCount.inc();
         pipeline.requestMigration(dstOwner);
     }
 
@@ -120,14 +120,17 @@ class LoadTracker {
         }
     }
 
-    private void updateNewWorkingImbalance() {
+    /**
+     * Records the load of every known pipeline since the last calculation
+     * using {@link #updatePipelineState(MigratablePipeline, long)}.
+     */
+    void updateNewWorkingImbalance() {
         for (MigratablePipeline pipeline : pipelines) {
-            updatePipelineState(pipeline);
+            updatePipelineState(pipeline, getLoadSinceLastCheck(pipeline));
         }
     }
 
-    private void updatePipelineState(MigratablePipeline pipeline) {
-        long pipelineLoad = getLoadSinceLastCheck(pipeline);
+    final void updatePipelineState(MigratablePipeline pipeline, long pipelineLoad) {
         pipelineLoadCount.set(pipeline, pipelineLoad);
         NioThread owner = pipeline.owner();
         if (owner == null) {
@@ -41,4 +41,15 @@ interface MigrationStrategy {
      * @return Handler to migrate or <code>null</code> if no suitable candidate is found
      */
     MigratablePipeline findPipelineToMigrate(LoadImbalance imbalance);
+
+    /**
+     * Returns the number of detected imbalances for which the strategy
+     * deliberately didn't attempt a migration, e.g. to prevent pipelines
+     * from moving back and forth between ioThreads.
+     *
+     * @return the number of suppressed migrations
+     */
+    default long migrationsSuppressed() {
+        return 0;
+    }
 }
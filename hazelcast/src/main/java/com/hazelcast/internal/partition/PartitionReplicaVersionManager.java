@@ -48,6 +48,16 @@ public interface PartitionReplicaVersionManager {
     boolean isPartitionReplicaVersionStale(int partitionId, ServiceNamespace namespace,
                                            long[] replicaVersions, int replicaIndex);
 
+    /**
+     * Returns whether the local replica of given partition and namespace is marked as dirty,
+     * meaning this replica might have missed an update and is waiting for a replica sync.
+     * Should be called from the partition thread.
+     * @param partitionId partition ID
+     * @param namespace replica namespace
+     * @return true if the local replica is dirty, false otherwise
+     */
+    boolean isPartitionReplicaVersionDirty(int partitionId, ServiceNamespace namespace);
+
     /**
      * Returns replica versions for given partition and namespace.
      * @param partitionId partition ID
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Credit based flow control for migration fragments sent from a migration
+ * source to migration destinations.
+ * <p>
+ * Every destination owns a budget of {@code creditsPerDestination}
+ * credits, one credit per fragment in flight. Before a fragment is sent,
+ * the migration source reserves a credit for it and returns it once the
+ * destination has applied the fragment. When the budget of a destination
+ * is exhausted, the send is parked and resumed by the release which makes
+ * room for it, so neither the partition threads nor the async executor
+ * block while waiting.
+ * <p>
+ * The size of a fragment is only known once it has been serialized, while
+ * it is sent, but it is bounded by the maximum migrating data of a
+ * partition. So the in-flight data per destination is bounded by the
+ * budget times that maximum.
+ * <p>
+ * Because fragments of all partitions migrating to the same destination
+ * share a single budget, the number of parallel migrations can be raised
+ * without the in-flight migration data growing with it. The fragments of a
+ * single partition are still sent one after another: the destination
+ * applies them in order and each of them is prepared from the state left
+ * by the previous one.
+ * <p>
+ * A non-positive budget disables the flow control, in which case the
+ * in-flight data is bounded only by the number of parallel migrations.
+ */
+public final class ChunkedMigrationCredits {
+
+    private final int creditsPerDestination;
+    private final ConcurrentMap<Address, DestinationCredits> destinationCredits = new ConcurrentHashMap<>();
+
+    public ChunkedMigrationCredits(int creditsPerDestination) {
+        this.creditsPerDestination = creditsPerDestination;
+    }
+
+    public boolean isEnabled() {
+        return creditsPerDestination > 0;
+    }
+
+    /**
+     * Reserves a credit for a fragment sent to the given destination and runs
+     * {@code onAcquired} once it is granted. Runs it on the calling thread if
+     * a credit is available right away, otherwise on the thread that releases
+     * a credit later.
+     *
+     * @return {@code true} if the credit was granted immediately
+     */
+    public boolean acquire(Address destination, Runnable onAcquired) {
+        if (!isEnabled()) {
+            onAcquired.run();
+            return true;
+        }
+
+        DestinationCredits dc = destinationCredits.computeIfAbsent(destination,
+                ignored -> new DestinationCredits(creditsPerDestination));
+        if (dc.tryAcquire(onAcquired)) {
+            onAcquired.run();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a credit previously reserved by {@link #acquire} and runs the
+     * parked send which can use it.
+     */
+    public void release(Address destination) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        // the destination may have left the cluster in the meantime
+        DestinationCredits dc = destinationCredits.get(destination);
+        Runnable waiter = dc != null ? dc.release(creditsPerDestination) : null;
+        if (waiter != null) {
+            waiter.run();
+        }
+    }
+
+    /**
+     * Drops the credits of a destination which left the cluster. The sends
+     * parked for it are run, so that their migrations fail instead of
+     * waiting for a release which never comes.
+     */
+    public void removeDestination(Address destination) {
+        DestinationCredits dc = destinationCredits.remove(destination);
+        if (dc != null) {
+            for (Runnable waiter : dc.drainWaiters()) {
+                waiter.run();
+            }
+        }
+    }
+
+    /**
+     * @return the credits currently available for the given destination
+     */
+    public int getAvailableCredits(Address destination) {
+        DestinationCredits dc = destinationCredits.get(destination);
+        return dc != null ? dc.available() : creditsPerDestination;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkedMigrationCredits{creditsPerDestination=" + creditsPerDestination
+                + ", destinationCredits=" + destinationCredits + '}';
+    }
+
+    private static final class DestinationCredits {
+
+        private final Queue<Runnable> waiters = new ArrayDeque<>();
+        private int available;
+
+        DestinationCredits(int available) {
+            this.available = available;
+        }
+
+        synchronized boolean tryAcquire(Runnable onAcquired) {
+            // waiters are served in order, a newcomer must not overtake them
+            if (waiters.isEmpty() && available > 0) {
+                available--;
+                return true;
+            }
+            waiters.add(onAcquired);
+            return false;
+        }
+
+        /**
+         * @return the waiter which got the released credit, to be run
+         * outside the lock, or {@code null} if there is none
+         */
+        synchronized Runnable release(int maxAvailable) {
+            Runnable waiter = waiters.poll();
+            if (waiter == null) {
+                available = Math.min(available + 1, maxAvailable);
+            }
+            return waiter;
+        }
+
+        synchronized List<Runnable> drainWaiters() {
+            List<Runnable> drained = new ArrayList<>(waiters);
+            waiters.clear();
+            return drained;
+        }
+
+        synchronized int available() {
+            return available;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "DestinationCredits{available=" + available + ", waiters=" + waiters.size() + '}';
+        }
+    }
+}
@@ -174,4 +174,10 @@ public interface MigrationManager {
     boolean shouldTriggerRepartitioningWhenClusterStateAllowsMigration();
 
     MigrationStats getStats();
+
+    /**
+     * Returns the per-destination flow control applied to
+     * migration fragments sent from this member.
+     */
+    ChunkedMigrationCredits getChunkedMigrationCredits();
 }
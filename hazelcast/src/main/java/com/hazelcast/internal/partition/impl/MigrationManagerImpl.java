@@ -111,6 +111,7 @@ import static com.hazelcast.internal.partition.IPartitionService.SERVICE_NAME;
 import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
 import static com.hazelcast.memory.MemoryUnit.MEGABYTES;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.ASYNC_EXECUTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MAX_IN_FLIGHT_FRAGMENTS_PER_MEMBER;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MIGRATION_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_FRAGMENTED_MIGRATION_ENABLED;
@@ -157,6 +158,7 @@ public class MigrationManagerImpl implements MigrationManager {
     private final boolean fragmentedMigrationEnabled;
     private final boolean chunkedMigrationEnabled;
     private final int maxTotalChunkedDataInBytes;
+    private final ChunkedMigrationCredits chunkedMigrationCredits;
     private final long memberHeartbeatTimeoutMillis;
     private boolean triggerRepartitioningWhenClusterStateAllowsMigration;
     private final int maxParallelMigrations;
@@ -186,6 +188,8 @@ public class MigrationManagerImpl implements MigrationManager {
         fragmentedMigrationEnabled = properties.getBoolean(PARTITION_FRAGMENTED_MIGRATION_ENABLED);
         chunkedMigrationEnabled = properties.getBoolean(PARTITION_CHUNKED_MIGRATION_ENABLED);
         maxTotalChunkedDataInBytes = (int) MEGABYTES.toBytes(properties.getInteger(PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB));
+        chunkedMigrationCredits = new ChunkedMigrationCredits(
+                properties.getInteger(PARTITION_CHUNKED_MAX_IN_FLIGHT_FRAGMENTS_PER_MEMBER));
         maxParallelMigrations = properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS);
         partitionStateManager = partitionService.getPartitionStateManager();
         ILogger migrationThreadLogger = node.getLogger(MigrationThread.class);
@@ -640,6 +644,7 @@ public class MigrationManagerImpl implements MigrationManager {
     public void onMemberRemove(Member member) {
         shutdownRequestedMembers.remove(member);
         demoteRequestedMembers.remove(member);
+        chunkedMigrationCredits.removeDestination(member.getAddress());
     }
 
     @Override
@@ -823,6 +828,11 @@ public class MigrationManagerImpl implements MigrationManager {
         return stats;
     }
 
+    @Override
+    public ChunkedMigrationCredits getChunkedMigrationCredits() {
+        return chunkedMigrationCredits;
+    }
+
     /**
      * Invoked on the master node. Rearranges the partition table if there is no recent activity in the cluster after
      * this task has been scheduled, schedules migrations and syncs the partition state.
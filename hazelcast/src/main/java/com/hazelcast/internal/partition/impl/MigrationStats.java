@@ -23,6 +23,7 @@ import com.hazelcast.internal.util.Timer;
 import com.hazelcast.partition.MigrationState;
 
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -30,14 +31,21 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_DESTINATION_COMMIT_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_MIGRATION_OPERATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_MIGRATION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_IN_FLIGHT_MIGRATION_FRAGMENTS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_LAST_REPARTITION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_MIGRATION_CREDIT_WAITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_MIGRATION_THROUGHPUT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_PLANNED_MIGRATIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_SENT_MIGRATION_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_SENT_MIGRATION_FRAGMENTS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_COMPLETED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
 import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Collection of stats for partition migration tasks.
@@ -47,6 +55,12 @@ import static com.hazelcast.internal.metrics.ProbeUnit.NS;
  */
 public class MigrationStats {
 
+    /**
+     * idle time after which sending a migration fragment
+     * starts a new window for the throughput calculation
+     */
+    private static final long THROUGHPUT_WINDOW_IDLE_RESET_NANOS = SECONDS.toNanos(1);
+
     @Probe(name = MIGRATION_METRIC_LAST_REPARTITION_TIME, unit = MS)
     private volatile long lastRepartitionTime;
 
@@ -82,6 +96,38 @@ public class MigrationStats {
      */
     private final MigrationTimer migrationTime = new MigrationTimer();
 
+    /**
+     * number of migration fragments sent from this member as a migration
+     * source and applied by their destinations
+     */
+    @Probe(name = MIGRATION_METRIC_SENT_MIGRATION_FRAGMENTS)
+    private final LongAdder sentMigrationFragments = new LongAdder();
+
+    /**
+     * serialized size of the migration fragments sent from this member
+     * and applied by their destinations
+     */
+    @Probe(name = MIGRATION_METRIC_SENT_MIGRATION_BYTES, unit = BYTES)
+    private final LongAdder sentMigrationBytes = new LongAdder();
+
+    /**
+     * number of migration fragments sent but not yet applied by their destinations
+     */
+    @Probe(name = MIGRATION_METRIC_IN_FLIGHT_MIGRATION_FRAGMENTS)
+    private final AtomicInteger inFlightMigrationFragments = new AtomicInteger();
+
+    /**
+     * number of migration fragments parked until their destination had enough credits
+     *
+     * @see ChunkedMigrationCredits
+     */
+    @Probe(name = MIGRATION_METRIC_MIGRATION_CREDIT_WAITS)
+    private final LongAdder migrationCreditWaits = new LongAdder();
+
+    private final LongAdder throughputWindowBytes = new LongAdder();
+    private volatile long throughputWindowStartNanos;
+    private volatile long throughputWindowEndNanos;
+
     /**
      * Marks start of new repartitioning.
      * Resets stats from previous repartitioning round.
@@ -264,6 +310,91 @@ public class MigrationStats {
         return migrationTime.getTotalElapsedNanoseconds();
     }
 
+    /**
+     * Marks a migration fragment as sent to its destination.
+     * Must be followed by {@link #recordMigrationFragmentCompleted(long, boolean)}.
+     */
+    public void recordMigrationFragmentStarted() {
+        if (inFlightMigrationFragments.getAndIncrement() == 0) {
+            long now = Timer.nanos();
+            if (now - throughputWindowEndNanos > THROUGHPUT_WINDOW_IDLE_RESET_NANOS) {
+                throughputWindowBytes.reset();
+                throughputWindowStartNanos = now;
+            }
+        }
+    }
+
+    /**
+     * Marks a migration fragment as applied, or failed, on its destination.
+     * Only applied fragments are counted as sent.
+     *
+     * @param serializedSizeInBytes serialized size of the fragment or 0 if unknown
+     * @param applied               whether the destination applied the fragment
+     */
+    public void recordMigrationFragmentCompleted(long serializedSizeInBytes, boolean applied) {
+        if (applied) {
+            sentMigrationFragments.increment();
+            sentMigrationBytes.add(serializedSizeInBytes);
+            throughputWindowBytes.add(serializedSizeInBytes);
+        }
+        throughputWindowEndNanos = Timer.nanos();
+        inFlightMigrationFragments.decrementAndGet();
+    }
+
+    /**
+     * @see #migrationCreditWaits
+     */
+    public void recordMigrationCreditWait() {
+        migrationCreditWaits.increment();
+    }
+
+    /**
+     * @see #sentMigrationFragments
+     */
+    public long getSentMigrationFragments() {
+        return sentMigrationFragments.sum();
+    }
+
+    /**
+     * @see #sentMigrationBytes
+     */
+    public long getSentMigrationBytes() {
+        return sentMigrationBytes.sum();
+    }
+
+    /**
+     * @see #inFlightMigrationFragments
+     */
+    public int getInFlightMigrationFragments() {
+        return inFlightMigrationFragments.get();
+    }
+
+    /**
+     * @see #migrationCreditWaits
+     */
+    public long getMigrationCreditWaits() {
+        return migrationCreditWaits.sum();
+    }
+
+    /**
+     * Returns the rate at which migration data has been sent from this
+     * member since the current, or the last, period of sending began.
+     * Gaps shorter than {@link #THROUGHPUT_WINDOW_IDLE_RESET_NANOS}
+     * between fragments belong to the same period.
+     *
+     * @return bytes per second, or 0 if no migration data has been sent
+     */
+    @Probe(name = MIGRATION_METRIC_MIGRATION_THROUGHPUT, unit = BYTES)
+    public long getMigrationThroughput() {
+        long start = throughputWindowStartNanos;
+        long end = inFlightMigrationFragments.get() > 0 ? Timer.nanos() : throughputWindowEndNanos;
+        long elapsedNanos = end - start;
+        if (start == 0 || elapsedNanos <= 0) {
+            return 0;
+        }
+        return (long) (throughputWindowBytes.sum() * (double) SECONDS.toNanos(1) / elapsedNanos);
+    }
+
     public MigrationState toMigrationState() {
         return new MigrationStateImpl(lastRepartitionTime, plannedMigrations,
                 completedMigrations.intValue(), getElapsedMigrationTime());
@@ -283,7 +414,11 @@ public class MigrationStats {
                     .append(", elapsedDestinationCommitTime=").append(getElapsedDestinationCommitTime()).append("ms")
                     .append(", totalElapsedDestinationCommitTime=").append(getTotalElapsedDestinationCommitTime()).append("ms")
                     .append(", elapsedMigrationTime=").append(getElapsedMigrationTime()).append("ms")
-                    .append(", totalElapsedMigrationTime=").append(getTotalElapsedMigrationTime()).append("ms");
+                    .append(", totalElapsedMigrationTime=").append(getTotalElapsedMigrationTime()).append("ms")
+                    .append(", sentMigrationFragments=").append(getSentMigrationFragments())
+                    .append(", sentMigrationBytes=").append(getSentMigrationBytes())
+                    .append(", migrationCreditWaits=").append(getMigrationCreditWaits())
+                    .append(", migrationThroughput=").append(getMigrationThroughput()).append("B/s");
         }
         return s.toString();
     }
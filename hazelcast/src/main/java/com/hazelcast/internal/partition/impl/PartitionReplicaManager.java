@@ -322,6 +322,7 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         return replicaVersions[partitionId].isStale(namespace, versions, replicaIndex);
     }
 
+    @Override
     // called in operation threads
     public boolean isPartitionReplicaVersionDirty(int partitionId, ServiceNamespace namespace) {
         return replicaVersions[partitionId].isDirty(namespace);
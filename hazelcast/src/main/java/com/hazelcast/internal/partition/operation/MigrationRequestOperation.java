@@ -29,9 +29,11 @@ import com.hazelcast.internal.partition.PartitionReplica;
 import com.hazelcast.internal.partition.PartitionReplicaVersionManager;
 import com.hazelcast.internal.partition.PartitionReplicationEvent;
 import com.hazelcast.internal.partition.ReplicaFragmentMigrationState;
+import com.hazelcast.internal.partition.impl.ChunkedMigrationCredits;
 import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
 import com.hazelcast.internal.partition.impl.MigrationInterceptor.MigrationParticipant;
 import com.hazelcast.internal.partition.impl.MigrationManager;
+import com.hazelcast.internal.partition.impl.MigrationStats;
 import com.hazelcast.internal.partition.impl.PartitionDataSerializerHook;
 import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.util.ThreadUtil;
@@ -83,6 +85,9 @@ import static java.util.Collections.singleton;
  *
  * @since 5.1 If chunked migration is enabled,
  * it also subdivides fragments into chunks.
+ * <p>
+ * Fragments following the initial one reserve a credit of their
+ * destination before they are sent, see {@link ChunkedMigrationCredits}.
  */
 public class MigrationRequestOperation extends BaseMigrationOperation {
 
@@ -123,7 +128,7 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
             try {
                 executeBeforeMigrations();
                 namespacesContext = new ServiceNamespacesContext(nodeEngine, getPartitionReplicationEvent());
-                invokeMigrationOperation(initialReplicaFragmentMigrationState(), true);
+                invokeMigrationOperation(initialReplicaFragmentMigrationState(), true, false);
             } catch (Throwable e) {
                 logThrowable(e);
                 completeMigration(false);
@@ -145,8 +150,24 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
 
     /**
      * Invokes the {@link MigrationOperation} on the migration destination.
+     *
+     * @param creditReserved whether a credit was reserved for this fragment, given back once the destination responds
      */
-    private void invokeMigrationOperation(ReplicaFragmentMigrationState migrationState, boolean firstFragment) {
+    private void invokeMigrationOperation(ReplicaFragmentMigrationState migrationState, boolean firstFragment,
+                                          boolean creditReserved) {
+        InternalPartitionServiceImpl partitionService = getService();
+        MigrationStats stats = partitionService.getMigrationManager().getStats();
+        MigrationCallback callback = new MigrationCallback(migrationState, creditReserved);
+        stats.recordMigrationFragmentStarted();
+        try {
+            doInvokeMigrationOperation(migrationState, firstFragment, callback);
+        } catch (Throwable t) {
+            callback.accept(null, t);
+        }
+    }
+
+    private void doInvokeMigrationOperation(ReplicaFragmentMigrationState migrationState, boolean firstFragment,
+                                            MigrationCallback callback) {
         assert ThreadUtil.isRunningOnPartitionThread()
                 : "Migration operations must be invoked from a partition thread";
         boolean lastFragment = !namespacesContext.hasNext();
@@ -172,7 +193,7 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 .setResultDeserialized(true)
                 .setCallTimeout(partitionService.getPartitionMigrationTimeout())
                 .invoke()
-                .whenCompleteAsync(new MigrationCallback(), asyncExecutor);
+                .whenCompleteAsync(callback, asyncExecutor);
     }
 
     private void trySendNewFragment() {
@@ -193,8 +214,7 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
 
             // migration invocation must always happen on partition thread
             if (migrationState != null) {
-                // migration ops must be serialized and invoked from partition threads
-                getNodeEngine().getOperationService().execute(new InvokeMigrationOps(migrationState, getPartitionId()));
+                sendWhenCreditsAvailable(migrationManager, migrationState);
             } else {
                 getLogger().finest("All migration fragments done for " + migrationInfo);
                 completeMigration(true);
@@ -205,14 +225,33 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
         }
     }
 
+    /**
+     * Sends the fragment as soon as its destination has a credit for it.
+     * Parks the send instead of blocking the calling thread when the
+     * destination is saturated by fragments of other partitions.
+     */
+    private void sendWhenCreditsAvailable(MigrationManager migrationManager,
+                                          ReplicaFragmentMigrationState migrationState) {
+        ChunkedMigrationCredits credits = migrationManager.getChunkedMigrationCredits();
+        boolean creditReserved = credits.isEnabled();
+        // migration ops must be serialized and invoked from partition threads
+        Runnable send = () -> getNodeEngine().getOperationService()
+                .execute(new InvokeMigrationOps(migrationState, getPartitionId(), creditReserved));
+        if (!credits.acquire(migrationInfo.getDestinationAddress(), send)) {
+            migrationManager.getStats().recordMigrationCreditWait();
+        }
+    }
+
     private final class InvokeMigrationOps implements PartitionSpecificRunnable, UrgentSystemOperation {
 
         private final ReplicaFragmentMigrationState migrationState;
         private final int partitionId;
+        private final boolean creditReserved;
 
-        InvokeMigrationOps(ReplicaFragmentMigrationState migrationState, int partitionId) {
+        InvokeMigrationOps(ReplicaFragmentMigrationState migrationState, int partitionId, boolean creditReserved) {
             this.migrationState = migrationState;
             this.partitionId = partitionId;
+            this.creditReserved = creditReserved;
         }
 
         @Override
@@ -223,7 +262,7 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
         @Override
         public void run() {
             try {
-                invokeMigrationOperation(migrationState, false);
+                invokeMigrationOperation(migrationState, false, creditReserved);
             } catch (Throwable t) {
                 logThrowable(t);
                 completeMigration(false);
@@ -427,11 +466,17 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
      */
     private final class MigrationCallback implements BiConsumer<Object, Throwable> {
 
-        private MigrationCallback() {
+        private final ReplicaFragmentMigrationState migrationState;
+        private final boolean creditReserved;
+
+        private MigrationCallback(ReplicaFragmentMigrationState migrationState, boolean creditReserved) {
+            this.migrationState = migrationState;
+            this.creditReserved = creditReserved;
         }
 
         @Override
         public void accept(Object result, Throwable throwable) {
+            onFragmentCompleted(throwable == null && Boolean.TRUE.equals(result));
             if (throwable != null) {
                 logThrowable(throwable);
                 completeMigration(false);
@@ -448,5 +493,19 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
                 completeMigration(false);
             }
         }
+
+        /**
+         * Gives the credit back before sending the next fragment,
+         * so that the next fragment of this migration competes for
+         * it with the fragments of other migrations.
+         */
+        private void onFragmentCompleted(boolean applied) {
+            InternalPartitionServiceImpl partitionService = getService();
+            MigrationManager migrationManager = partitionService.getMigrationManager();
+            migrationManager.getStats().recordMigrationFragmentCompleted(migrationState.getSerializedSizeInBytes(), applied);
+            if (creditReserved) {
+                migrationManager.getChunkedMigrationCredits().release(migrationInfo.getDestinationAddress());
+            }
+        }
     }
 }
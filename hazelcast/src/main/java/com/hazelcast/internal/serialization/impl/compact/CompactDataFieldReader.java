@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.nio.serialization.FieldKind;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hazelcast.internal.nio.Bits.BYTE_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.NULL_ARRAY_LENGTH;
+import static com.hazelcast.internal.nio.Bits.SHORT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.readInt;
+import static com.hazelcast.internal.nio.Bits.readLong;
+import static com.hazelcast.internal.nio.Bits.readShort;
+import static com.hazelcast.internal.serialization.impl.compact.OffsetReader.BYTE_OFFSET_READER_RANGE;
+import static com.hazelcast.internal.serialization.impl.compact.OffsetReader.NULL_OFFSET;
+import static com.hazelcast.internal.serialization.impl.compact.OffsetReader.SHORT_OFFSET_READER_RANGE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads top-level fields of Compact serialized {@link Data} straight from
+ * its bytes, without creating an {@link InternalGenericRecord
+ * CompactInternalGenericRecord} and an input for each read.
+ * <p>
+ * The {@link FieldDescriptor}s of the read fields are resolved once per
+ * {@link Schema} and cached, so reading a field of an entry takes locating
+ * the data section of the entry and reading the field at its offset.
+ * <p>
+ * Only fields of the fixed-size kinds, their nullable variants and strings
+ * are read directly. For other kinds, Data with the schema included and
+ * non-heap Data, {@link #read} returns {@link #NOT_DIRECTLY_READABLE} and
+ * the caller should read the field through a generic record.
+ * <p>
+ * Thread-safe.
+ */
+public final class CompactDataFieldReader {
+
+    /**
+     * Returned by {@link #read} when the field can't be read directly.
+     */
+    public static final Object NOT_DIRECTLY_READABLE = new Object();
+
+    private static final int SCHEMA_ID_POSITION = HeapData.DATA_OFFSET;
+    private static final int DATA_POSITION = SCHEMA_ID_POSITION + LONG_SIZE_IN_BYTES;
+
+    /**
+     * Marks a field which is not present in the schema.
+     */
+    private static final FieldDescriptor MISSING_FIELD = new FieldDescriptor("", FieldKind.NOT_AVAILABLE);
+
+    /**
+     * Marks a field of a kind which is not read directly.
+     */
+    private static final FieldDescriptor UNREADABLE_FIELD = new FieldDescriptor("", FieldKind.NOT_AVAILABLE);
+
+    private final InternalSerializationService serializationService;
+    private final boolean bigEndian;
+    private final Map<Long, SchemaFields> schemaFieldsById = new ConcurrentHashMap<>();
+
+    // most of the data read by a reader shares a single schema
+    private volatile SchemaFields lastSchemaFields;
+
+    public CompactDataFieldReader(InternalSerializationService serializationService) {
+        this.serializationService = serializationService;
+        this.bigEndian = serializationService.getByteOrder() == ByteOrder.BIG_ENDIAN;
+    }
+
+    /**
+     * Reads the value of the given top-level field of the given Compact
+     * serialized data.
+     *
+     * @param data      the data
+     * @param fieldName the name of the field
+     * @return the value of the field, {@code null} if the field is null or
+     * not present in the schema of the data, or {@link
+     * #NOT_DIRECTLY_READABLE} if the field can't be read directly
+     */
+    public Object read(Data data, String fieldName) throws IOException {
+        if (!(data instanceof HeapData) || !data.isCompact()) {
+            return NOT_DIRECTLY_READABLE;
+        }
+        byte[] payload = data.toByteArray();
+        SchemaFields schemaFields = schemaFields(data, readLong(payload, SCHEMA_ID_POSITION, bigEndian));
+        FieldDescriptor field = schemaFields.field(fieldName);
+        if (field == MISSING_FIELD) {
+            return null;
+        }
+        if (field == UNREADABLE_FIELD) {
+            return NOT_DIRECTLY_READABLE;
+        }
+
+        int dataStart;
+        int variableOffsetsPosition;
+        int offsetSize;
+        if (schemaFields.schema.getNumberOfVariableSizeFields() != 0) {
+            int dataLength = readInt(payload, DATA_POSITION, bigEndian);
+            dataStart = DATA_POSITION + INT_SIZE_IN_BYTES;
+            variableOffsetsPosition = dataStart + dataLength;
+            if (dataLength < BYTE_OFFSET_READER_RANGE) {
+                offsetSize = BYTE_SIZE_IN_BYTES;
+            } else if (dataLength < SHORT_OFFSET_READER_RANGE) {
+                offsetSize = SHORT_SIZE_IN_BYTES;
+            } else {
+                offsetSize = INT_SIZE_IN_BYTES;
+            }
+        } else {
+            dataStart = DATA_POSITION;
+            variableOffsetsPosition = 0;
+            offsetSize = 0;
+        }
+
+        int fixedPosition = dataStart + field.getOffset();
+        switch (field.getKind()) {
+            case BOOLEAN:
+                return ((payload[fixedPosition] >>> field.getBitOffset()) & 1) != 0;
+            case INT8:
+                return payload[fixedPosition];
+            case INT16:
+                return readShort(payload, fixedPosition, bigEndian);
+            case INT32:
+                return readInt(payload, fixedPosition, bigEndian);
+            case INT64:
+                return readLong(payload, fixedPosition, bigEndian);
+            case FLOAT32:
+                return Float.intBitsToFloat(readInt(payload, fixedPosition, bigEndian));
+            case FLOAT64:
+                return Double.longBitsToDouble(readLong(payload, fixedPosition, bigEndian));
+            default:
+                break;
+        }
+
+        int position = readVariableSizeFieldPosition(payload, variableOffsetsPosition, offsetSize, field.getIndex());
+        if (position == NULL_OFFSET) {
+            return null;
+        }
+        position += dataStart;
+        switch (field.getKind()) {
+            case NULLABLE_BOOLEAN:
+                return payload[position] != 0;
+            case NULLABLE_INT8:
+                return payload[position];
+            case NULLABLE_INT16:
+                return readShort(payload, position, bigEndian);
+            case NULLABLE_INT32:
+                return readInt(payload, position, bigEndian);
+            case NULLABLE_INT64:
+                return readLong(payload, position, bigEndian);
+            case NULLABLE_FLOAT32:
+                return Float.intBitsToFloat(readInt(payload, position, bigEndian));
+            case NULLABLE_FLOAT64:
+                return Double.longBitsToDouble(readLong(payload, position, bigEndian));
+            case STRING:
+                int length = readInt(payload, position, bigEndian);
+                return length == NULL_ARRAY_LENGTH
+                        ? null
+                        : new String(payload, position + INT_SIZE_IN_BYTES, length, UTF_8);
+            default:
+                throw new IllegalStateException("Unexpected field kind: " + field.getKind());
+        }
+    }
+
+    private static boolean isDirectlyReadable(FieldKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case FLOAT32:
+            case FLOAT64:
+            case NULLABLE_BOOLEAN:
+            case NULLABLE_INT8:
+            case NULLABLE_INT16:
+            case NULLABLE_INT32:
+            case NULLABLE_INT64:
+            case NULLABLE_FLOAT32:
+            case NULLABLE_FLOAT64:
+            case STRING:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private int readVariableSizeFieldPosition(byte[] payload, int variableOffsetsPosition, int offsetSize, int index) {
+        switch (offsetSize) {
+            case BYTE_SIZE_IN_BYTES:
+                byte byteOffset = payload[variableOffsetsPosition + index];
+                return byteOffset == NULL_OFFSET ? NULL_OFFSET : Byte.toUnsignedInt(byteOffset);
+            case SHORT_SIZE_IN_BYTES:
+                short shortOffset = readShort(payload, variableOffsetsPosition + index * SHORT_SIZE_IN_BYTES, bigEndian);
+                return shortOffset == NULL_OFFSET ? NULL_OFFSET : Short.toUnsignedInt(shortOffset);
+            default:
+                return readInt(payload, variableOffsetsPosition + index * INT_SIZE_IN_BYTES, bigEndian);
+        }
+    }
+
+    private SchemaFields schemaFields(Data data, long schemaId) throws IOException {
+        SchemaFields schemaFields = lastSchemaFields;
+        if (schemaFields != null && schemaFields.schema.getSchemaId() == schemaId) {
+            return schemaFields;
+        }
+        schemaFields = schemaFieldsById.get(schemaId);
+        if (schemaFields == null) {
+            schemaFields = new SchemaFields(serializationService.extractSchemaFromData(data));
+            schemaFieldsById.put(schemaId, schemaFields);
+        }
+        lastSchemaFields = schemaFields;
+        return schemaFields;
+    }
+
+    /**
+     * The directly readable fields of a schema, resolved on first read.
+     */
+    private static final class SchemaFields {
+
+        private final Schema schema;
+        private final Map<String, FieldDescriptor> fields = new ConcurrentHashMap<>();
+
+        SchemaFields(Schema schema) {
+            this.schema = schema;
+        }
+
+        /**
+         * Returns the descriptor of the field, {@link #MISSING_FIELD} if it's
+         * not in the schema or {@link #UNREADABLE_FIELD} if it can't be read
+         * directly.
+         */
+        FieldDescriptor field(String fieldName) {
+            return fields.computeIfAbsent(fieldName, name -> {
+                FieldDescriptor field = schema.getField(name);
+                if (field == null) {
+                    return MISSING_FIELD;
+                }
+                return isDirectlyReadable(field.getKind()) ? field : UNREADABLE_FIELD;
+            });
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.util.ExceptionUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes an instance field through {@link MethodHandle}s, used by
+ * the {@link ReflectiveCompactSerializer}.
+ * <p>
+ * The handles are adapted to take the declaring object as an {@link Object}
+ * and, for primitive fields, to take and return the primitive type, so they
+ * are invoked with {@link MethodHandle#invokeExact} without boxing or the
+ * per-call access checks of {@link Field#get}/{@link Field#set}. The handles
+ * are created per serialized class, so unlike handles held in {@code static
+ * final} fields they are not constants the JIT can inline; {@code
+ * FieldAccessorBenchmark} in the benchmarks module measures them against
+ * the reflective access and such constant handles.
+ * <p>
+ * If a direct setter cannot be created (e.g. the field is final and its
+ * class does not allow it), the handles fall back to invoking the typed
+ * {@link Field} methods, keeping the same handle types.
+ */
+final class FieldAccessor {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(MethodHandle getter, MethodHandle setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates the accessor of the given field, the field must be accessible.
+     */
+    static FieldAccessor of(Field field) {
+        Class<?> type = field.getType();
+        Class<?> handleType = type.isPrimitive() ? type : Object.class;
+        MethodType getterType = MethodType.methodType(handleType, Object.class);
+        MethodType setterType = MethodType.methodType(void.class, Object.class, handleType);
+        MethodHandle getter;
+        MethodHandle setter;
+        try {
+            getter = LOOKUP.unreflectGetter(field).asType(getterType);
+            setter = LOOKUP.unreflectSetter(field).asType(setterType);
+        } catch (IllegalAccessException e) {
+            getter = reflectiveHandle(field, "get", getterType);
+            setter = reflectiveHandle(field, "set", setterType);
+        }
+        return new FieldAccessor(getter, setter);
+    }
+
+    /**
+     * Returns the handle of the typed {@link Field} method with the given
+     * prefix, e.g. {@link Field#getInt} for an {@code int} field, bound to
+     * the given field.
+     */
+    private static MethodHandle reflectiveHandle(Field field, String prefix, MethodType type) {
+        Class<?> fieldType = field.getType();
+        String name = prefix;
+        if (fieldType.isPrimitive()) {
+            String typeName = fieldType.getName();
+            name += Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+        }
+        try {
+            return LOOKUP.findVirtual(Field.class, name, type).bindTo(field);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not access the field " + field, e);
+        }
+    }
+
+    Object get(Object object) {
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    void set(Object object, Object value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    boolean getBoolean(Object object) {
+        try {
+            return (boolean) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    void setBoolean(Object object, boolean value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    byte getByte(Object object) {
+        try {
+            return (byte) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    void setByte(Object object, byte value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    char getChar(Object object) {
+        try {
+            return (char) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    void setChar(Object object, char value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    short getShort(Object object) {
+        try {
+            return (short) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    void setShort(Object object, short value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    int getInt(Object object) {
+        try {
+            return (int) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    void setInt(Object object, int value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    long getLong(Object object) {
+        try {
+            return (long) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    void setLong(Object object, long value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    float getFloat(Object object) {
+        try {
+            return (float) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    void setFloat(Object object, float value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    double getDouble(Object object) {
+        try {
+            return (double) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+
+    void setDouble(Object object, double value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable t) {
+            throw ExceptionUtil.sneakyThrow(t);
+        }
+    }
+}
@@ -63,10 +63,16 @@ import static java.util.stream.Collectors.toList;
  * For any other class as the field type, it will work recursively and try to de/serialize a sub-class.
  * Thus, if any sub-fields does not have an accessible empty constructor, deserialization fails with
  * HazelcastSerializationException.
+ * <p>
+ * The fields are accessed through {@link FieldAccessor}s created once per
+ * class, which invoke typed method handles instead of reflective {@link
+ * Field} methods. The fields to read are resolved once per class and
+ * {@link Schema}, so reading an object does not check for every field
+ * whether it exists in the schema of the data.
  */
 public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
-    private final Map<Class, ReaderWriter[]> readerWritersCache = new ConcurrentHashMap<>();
+    private final Map<Class, ClassReaderWriters> readerWritersCache = new ConcurrentHashMap<>();
     private final CompactStreamSerializer compactStreamSerializer;
 
     public ReflectiveCompactSerializer(CompactStreamSerializer compactStreamSerializer) {
@@ -96,11 +102,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean writeFast(Class clazz, CompactWriter compactWriter, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
-        for (ReaderWriter readerWriter : readerWriters) {
+        for (ReaderWriter readerWriter : classReaderWriters.all) {
             try {
                 readerWriter.write(compactWriter, object);
             } catch (Exception e) {
@@ -111,13 +117,13 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean readFast(Class clazz, DefaultCompactReader compactReader, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
 
         Schema schema = compactReader.getSchema();
-        for (ReaderWriter readerWriter : readerWriters) {
+        for (ReaderWriter readerWriter : classReaderWriters.readersFor(schema)) {
             try {
                 readerWriter.read(compactReader, schema, object);
             } catch (Exception e) {
@@ -179,119 +185,143 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
             field.setAccessible(true);
             Class<?> type = field.getType();
             String name = field.getName();
-
+            FieldAccessor accessor = FieldAccessor.of(field);
 
             // Use normal reader-writers for the primitive types to avoid boxing-unboxing
             if (Byte.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT8, NULLABLE_INT8)) {
-                            field.setByte(o, reader.readInt8(name));
-                        }
+                    public boolean readsFrom(Schema schema) {
+                        return isFieldExist(schema, name, INT8, NULLABLE_INT8);
+                    }
+
+                    @Override
+                    public void read(CompactReader reader, Schema schema, Object o) {
+                        accessor.setByte(o, reader.readInt8(name));
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt8(name, field.getByte(o));
+                    public void write(CompactWriter writer, Object o) {
+                        writer.writeInt8(name, accessor.getByte(o));
                     }
                 };
             } else if (Character.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setChar(o, (char) reader.readInt16(name));
-                        }
+                    public boolean readsFrom(Schema schema) {
+                        return isFieldExist(schema, name, INT16, NULLABLE_INT16);
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt16(name, (short) field.getChar(o));
+                    public void read(CompactReader reader, Schema schema, Object o) {
+                        accessor.setChar(o, (char) reader.readInt16(name));
+                    }
+
+                    @Override
+                    public void write(CompactWriter writer, Object o) {
+                        writer.writeInt16(name, (short) accessor.getChar(o));
                     }
                 };
             } else if (Short.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setShort(o, reader.readInt16(name));
-                        }
+                    public boolean readsFrom(Schema schema) {
+                        return isFieldExist(schema, name, INT16, NULLABLE_INT16);
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt16(name, field.getShort(o));
+                    public void read(CompactReader reader, Schema schema, Object o) {
+                        accessor.setShort(o, reader.readInt16(name));
+                    }
+
+                    @Override
+                    public void write(CompactWriter writer, Object o) {
+                        writer.writeInt16(name, accessor.getShort(o));
                     }
                 };
             } else if (Integer.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT32, NULLABLE_INT32)) {
-                            field.setInt(o, reader.readInt32(name));
-                        }
+                    public boolean readsFrom(Schema schema) {
+                        return isFieldExist(schema, name, INT32, NULLABLE_INT32);
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt32(name, field.getInt(o));
+                    public void read(CompactReader reader, Schema schema, Object o) {
+                        accessor.setInt(o, reader.readInt32(name));
+                    }
+
+                    @Override
+                    public void write(CompactWriter writer, Object o) {
+                        writer.writeInt32(name, accessor.getInt(o));
                     }
                 };
             } else if (Long.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT64, NULLABLE_INT64)) {
-                            field.setLong(o, reader.readInt64(name));
-                        }
+                    public boolean readsFrom(Schema schema) {
+                        return isFieldExist(schema, name, INT64, NULLABLE_INT64);
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt64(name, field.getLong(o));
+                    public void read(CompactReader reader, Schema schema, Object o) {
+                        accessor.setLong(o, reader.readInt64(name));
+                    }
+
+                    @Override
+                    public void write(CompactWriter writer, Object o) {
+                        writer.writeInt64(name, accessor.getLong(o));
                     }
                 };
             } else if (Float.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT32, NULLABLE_FLOAT32)) {
-                            field.setFloat(o, reader.readFloat32(name));
-                        }
+                    public boolean readsFrom(Schema schema) {
+                        return isFieldExist(schema, name, FLOAT32, NULLABLE_FLOAT32);
+                    }
+
+                    @Override
+                    public void read(CompactReader reader, Schema schema, Object o) {
+                        accessor.setFloat(o, reader.readFloat32(name));
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeFloat32(name, field.getFloat(o));
+                    public void write(CompactWriter writer, Object o) {
+                        writer.writeFloat32(name, accessor.getFloat(o));
                     }
                 };
             } else if (Double.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT64, NULLABLE_FLOAT64)) {
-                            field.setDouble(o, reader.readFloat64(name));
-                        }
+                    public boolean readsFrom(Schema schema) {
+                        return isFieldExist(schema, name, FLOAT64, NULLABLE_FLOAT64);
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeFloat64(name, field.getDouble(o));
+                    public void read(CompactReader reader, Schema schema, Object o) {
+                        accessor.setDouble(o, reader.readFloat64(name));
+                    }
+
+                    @Override
+                    public void write(CompactWriter writer, Object o) {
+                        writer.writeFloat64(name, accessor.getDouble(o));
                     }
                 };
             } else if (Boolean.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, BOOLEAN, NULLABLE_BOOLEAN)) {
-                            field.setBoolean(o, reader.readBoolean(name));
-                        }
+                    public boolean readsFrom(Schema schema) {
+                        return isFieldExist(schema, name, BOOLEAN, NULLABLE_BOOLEAN);
+                    }
+
+                    @Override
+                    public void read(CompactReader reader, Schema schema, Object o) {
+                        accessor.setBoolean(o, reader.readBoolean(name));
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeBoolean(name, field.getBoolean(o));
+                    public void write(CompactWriter writer, Object o) {
+                        writer.writeBoolean(name, accessor.getBoolean(o));
                     }
                 };
             } else {
@@ -299,39 +329,76 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                 readerWriters[index] = new ReaderWriterAdapter(
                         ValueReaderWriters.readerWriterFor(compactStreamSerializer, clazz, type,
                                 field.getGenericType(), name),
-                        field
+                        accessor
                 );
             }
 
             index++;
         }
 
-        readerWritersCache.put(clazz, readerWriters);
+        readerWritersCache.put(clazz, new ClassReaderWriters(readerWriters));
+    }
+
+    /**
+     * The reader-writers of the fields of a class, and the ones reading
+     * the fields of the class from the data of each schema seen so far.
+     */
+    private static final class ClassReaderWriters {
+
+        private final ReaderWriter[] all;
+        private final Map<Long, ReaderWriter[]> readersBySchemaId = new ConcurrentHashMap<>();
+
+        ClassReaderWriters(ReaderWriter[] all) {
+            this.all = all;
+        }
+
+        ReaderWriter[] readersFor(Schema schema) {
+            ReaderWriter[] readers = readersBySchemaId.get(schema.getSchemaId());
+            if (readers == null) {
+                readers = Arrays.stream(all)
+                        .filter(readerWriter -> readerWriter.readsFrom(schema))
+                        .toArray(ReaderWriter[]::new);
+                readersBySchemaId.put(schema.getSchemaId(), readers);
+            }
+            return readers;
+        }
     }
 
     private static final class ReaderWriterAdapter implements ReaderWriter {
 
         private final ValueReaderWriter readerWriter;
-        private final Field field;
+        private final FieldAccessor accessor;
 
 
-        ReaderWriterAdapter(ValueReaderWriter readerWriter, Field field) {
+        ReaderWriterAdapter(ValueReaderWriter readerWriter, FieldAccessor accessor) {
             this.readerWriter = readerWriter;
-            this.field = field;
+            this.accessor = accessor;
         }
 
         @Override
-        public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-            field.set(o, readerWriter.read(reader, schema));
+        public boolean readsFrom(Schema schema) {
+            // the value reader-writers check the schema themselves
+            return true;
         }
 
         @Override
-        public void write(CompactWriter writer, Object o) throws Exception {
-            readerWriter.write(writer, field.get(o));
+        public void read(CompactReader reader, Schema schema, Object o) {
+            accessor.set(o, readerWriter.read(reader, schema));
+        }
+
+        @Override
+        public void write(CompactWriter writer, Object o) {
+            readerWriter.write(writer, accessor.get(o));
         }
     }
 
     private interface ReaderWriter {
+        /**
+         * Returns {@code true} if {@link #read} should be called for the data
+         * of the given schema. Called once per schema.
+         */
+        boolean readsFrom(Schema schema);
+
         void read(CompactReader reader, Schema schema, Object o) throws Exception;
 
         void write(CompactWriter writer, Object o) throws Exception;
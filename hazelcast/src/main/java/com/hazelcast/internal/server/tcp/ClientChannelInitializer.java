@@ -24,6 +24,7 @@ import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.ServerConnection;
 
 import static com.hazelcast.instance.ProtocolType.CLIENT;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_GATHERING_THRESHOLD;
 
 public class ClientChannelInitializer
         extends AbstractChannelInitializer {
@@ -35,7 +36,8 @@ public class ClientChannelInitializer
     @Override
     public void initChannel(Channel channel) {
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
-        SingleProtocolEncoder protocolEncoder = new SingleProtocolEncoder(new ClientMessageEncoder());
+        int gatheringThreshold = serverContext.properties().getInteger(IO_WRITE_GATHERING_THRESHOLD);
+        SingleProtocolEncoder protocolEncoder = new SingleProtocolEncoder(new ClientMessageEncoder(gatheringThreshold));
         SingleProtocolDecoder protocolDecoder = new SingleProtocolDecoder(
                 CLIENT,
                 new ClientMessageDecoder(connection, serverContext.getClientEngine(), serverContext.properties()),
@@ -27,6 +27,8 @@ import java.util.function.Supplier;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static com.hazelcast.internal.nio.IOUtil.copyFromHeapBuffer;
+import static com.hazelcast.internal.nio.PacketIOHelper.HEADER_SIZE;
 
 /**
  * A {@link OutboundHandler} that for member to member communication.
@@ -36,24 +38,64 @@ import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
  * It makes use of a flyweight to allow the sharing of a packet-instance over
  * multiple connections. The flyweight contains the actual 'position' state of
  * what has been written.
+ * <p>
+ * Small packets are coalesced into the dst buffer so that many of them are
+ * written with a single socket write. If a gathering threshold is configured,
+ * the payload of a packet of at least that size isn't copied: only its header
+ * is written to the dst buffer and the payload is exposed through
+ * {@link #gatheredBuffer()}, so the pipeline can write both using a single
+ * gathering write. This only happens while the encoder is the last handler of
+ * the pipeline; with a handler behind it, e.g. TLS, the payload is copied.
  *
  * @see PacketDecoder
  */
 public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer> {
 
     private final PacketIOHelper packetWriter = new PacketIOHelper();
+    private final int gatheringThreshold;
 
     private Packet packet;
+    private ByteBuffer gatheredBuffer;
+
+    public PacketEncoder() {
+        this(-1);
+    }
+
+    /**
+     * @param gatheringThreshold the minimum payload size in bytes of a packet
+     *                           to be written using a gathering write. A value
+     *                           smaller than 1 disables gathering writes.
+     */
+    public PacketEncoder(int gatheringThreshold) {
+        this.gatheringThreshold = gatheringThreshold;
+    }
 
     @Override
     public void handlerAdded() {
         initDstBuffer();
     }
 
+    @Override
+    public ByteBuffer gatheredBuffer() {
+        return gatheredBuffer;
+    }
+
     @Override
     public HandlerStatus onWrite() {
         compactOrClear(dst);
         try {
+            if (gatheredBuffer != null) {
+                if (!gatheringEnabled) {
+                    // no longer the last handler, so the rest of the payload has to go through the dst
+                    copyFromHeapBuffer(gatheredBuffer, dst);
+                }
+                if (gatheredBuffer.hasRemaining()) {
+                    // the payload of the previous packet hasn't been written yet; nothing can be added before it is.
+                    return DIRTY;
+                }
+                gatheredBuffer = null;
+            }
+
             for (; ; ) {
                 if (packet == null) {
                     packet = src.get();
@@ -64,7 +106,9 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
                     }
                 }
 
-                if (packetWriter.writeTo(packet, dst)) {
+                if (isGathered(packet)) {
+                    return writeHeader();
+                } else if (packetWriter.writeTo(packet, dst)) {
                     // packet got written, lets see if another packet can be written
                     packet = null;
                 } else {
@@ -76,4 +120,21 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
             dst.flip();
         }
     }
+
+    private boolean isGathered(Packet packet) {
+        return gatheringEnabled && gatheringThreshold > 0 && packet.totalSize() >= gatheringThreshold;
+    }
+
+    private HandlerStatus writeHeader() {
+        if (dst.remaining() < HEADER_SIZE) {
+            // the packet is retried once the dst has been written to the socket.
+            return DIRTY;
+        }
+
+        PacketIOHelper.writeHeaderTo(packet, dst);
+        gatheredBuffer = ByteBuffer.wrap(packet.toByteArray());
+        packet = null;
+        // the payload needs to be written before anything else can be added to the dst.
+        return DIRTY;
+    }
 }
@@ -37,6 +37,7 @@ import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
 import static com.hazelcast.internal.nio.ascii.TextEncoder.TEXT_ENCODER;
 import static com.hazelcast.internal.server.ServerContext.KILO_BYTE;
 import static com.hazelcast.internal.util.StringUtil.stringToBytes;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_GATHERING_THRESHOLD;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_CLIENT_SEND_BUFFER_SIZE;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_SEND_BUFFER_SIZE;
 
@@ -154,7 +155,8 @@ public class UnifiedProtocolEncoder
         channel.options()
                 .setOption(SO_SNDBUF, clientSndBuf());
 
-        channel.outboundPipeline().replace(this, new ClientMessageEncoder());
+        int gatheringThreshold = props.getInteger(IO_WRITE_GATHERING_THRESHOLD);
+        channel.outboundPipeline().replace(this, new ClientMessageEncoder(gatheringThreshold));
     }
 
     private void initChannelForText() {
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.atomic.AtomicLongFieldUpdater.newUpdater;
+
+/**
+ * A high resolution latency histogram in the style of HdrHistogram.
+ * <p>
+ * Unlike the {@link LatencyDistribution}, which has a single bucket per
+ * power of 2, every power of 2 is split into {@link #SUB_BUCKET_COUNT} linear
+ * sub-buckets. So the error of a recorded latency is at most 1/{@link #SUB_BUCKET_COUNT}
+ * (about 3%) of its value, which makes the histogram suitable for reporting
+ * tail latencies like the 99.9th percentile.
+ * <p>
+ * Latencies are recorded in microseconds, from 0 up to {@link Integer#MAX_VALUE}.
+ * Latencies below 2 * {@link #SUB_BUCKET_COUNT} microseconds are recorded
+ * exactly. Recording is lock-free and can be done by any thread. Percentiles
+ * are calculated on a {@link Snapshot}.
+ */
+public final class LatencyHistogram {
+
+    public static final int SUB_BUCKET_BITS = 5;
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    public static final int BUCKET_COUNT = bucketIndex(Integer.MAX_VALUE) + 1;
+
+    private static final double HUNDRED_PERCENT = 100d;
+
+    private static final AtomicLongFieldUpdater<LatencyHistogram> MAX_MICROS
+            = newUpdater(LatencyHistogram.class, "maxMicros");
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private volatile long maxMicros;
+
+    public void done(long startNanos) {
+        recordNanos(System.nanoTime() - startNanos);
+    }
+
+    public void recordNanos(long durationNanos) {
+        // nano clock is not guaranteed to be monotonic. So
+        // lets record it as zero, so we can at least count.
+        if (durationNanos < 0) {
+            durationNanos = 0;
+        }
+
+        long d = NANOSECONDS.toMicros(durationNanos);
+        int durationMicros = d > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) d;
+
+        buckets.incrementAndGet(bucketIndex(durationMicros));
+
+        for (; ; ) {
+            long currentMax = maxMicros;
+            if (durationMicros <= currentMax) {
+                break;
+            }
+
+            if (MAX_MICROS.compareAndSet(this, currentMax, durationMicros)) {
+                break;
+            }
+        }
+    }
+
+    public long maxMicros() {
+        return maxMicros;
+    }
+
+    /**
+     * Takes a snapshot of the recorded latencies. Latencies recorded
+     * concurrently may or may not be included.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int k = 0; k < BUCKET_COUNT; k++) {
+            counts[k] = buckets.get(k);
+        }
+        return new Snapshot(counts, maxMicros);
+    }
+
+    /**
+     * The index of the bucket a latency is placed in.
+     */
+    static int bucketIndex(int us) {
+        int shift = Math.max(0, Integer.SIZE - 1 - Integer.numberOfLeadingZeros(us) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (us >>> shift);
+    }
+
+    /**
+     * The maximum value that can be placed in a bucket.
+     */
+    static long bucketMaxUs(int bucket) {
+        int shift = Math.max(0, (bucket >> SUB_BUCKET_BITS) - 1);
+        long bucketMinUs = (long) (bucket - (shift << SUB_BUCKET_BITS)) << shift;
+        return bucketMinUs + (1L << shift) - 1;
+    }
+
+    /**
+     * An immutable copy of the counts of a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot {
+
+        public static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0);
+
+        private final long[] counts;
+        private final long count;
+        private final long maxMicros;
+
+        private Snapshot(long[] counts, long maxMicros) {
+            this.counts = counts;
+            long count = 0;
+            int highestBucket = -1;
+            for (int k = 0; k < counts.length; k++) {
+                count += counts[k];
+                if (counts[k] > 0) {
+                    highestBucket = k;
+                }
+            }
+            this.count = count;
+            this.maxMicros = highestBucket == -1 ? 0 : Math.min(bucketMaxUs(highestBucket), maxMicros);
+        }
+
+        public long count() {
+            return count;
+        }
+
+        /**
+         * The highest latency in this snapshot. For a snapshot created by
+         * {@link #since(Snapshot)} it is the highest latency of the histogram
+         * if that falls in the same bucket.
+         */
+        public long maxMicros() {
+            return maxMicros;
+        }
+
+        /**
+         * Returns the latency in microseconds which the given percentage of
+         * the latencies in this snapshot doesn't exceed, or 0 if the snapshot
+         * is empty.
+         *
+         * @param percentile the percentile in the range of 0..100, e.g. 99.9
+         */
+        public long valueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / HUNDRED_PERCENT * count));
+            long seen = 0;
+            for (int k = 0; k < counts.length; k++) {
+                seen += counts[k];
+                if (seen >= rank) {
+                    return Math.min(bucketMaxUs(k), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+
+        /**
+         * Returns a snapshot of the latencies recorded after the given snapshot
+         * of the same histogram was taken.
+         */
+        public Snapshot since(Snapshot previous) {
+            long[] delta = new long[BUCKET_COUNT];
+            for (int k = 0; k < BUCKET_COUNT; k++) {
+                delta[k] = counts[k] - previous.counts[k];
+            }
+            return new Snapshot(delta, maxMicros);
+        }
+    }
+}
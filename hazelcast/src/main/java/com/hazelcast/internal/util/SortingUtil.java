@@ -139,17 +139,44 @@ public final class SortingUtil {
         PagingPredicateImpl pagingPredicateImpl = (PagingPredicateImpl) pagingPredicate;
         Comparator<QueryableEntry> comparator = newComparator(pagingPredicateImpl);
         Collections.sort(list, comparator);
-        int nearestPage = nearestAnchorEntry.getKey();
-        int pageSize = pagingPredicate.getPageSize();
-        int page = pagingPredicate.getPage();
-        long totalSize = pageSize * ((long) page - nearestPage);
+        int totalSize = getPagingLimit(pagingPredicate, nearestAnchorEntry);
         if (list.size() > totalSize) {
-            // it's safe to cast totalSize back to int here since it's limited by the list size
-            list = list.subList(0, (int) totalSize);
+            list = list.subList(0, totalSize);
         }
         return list;
     }
 
+    /**
+     * Creates a heap retaining the entries the given paging predicate may
+     * return after the given anchor: the entries of the pages from the
+     * anchored page up to and including the current page. Feeding all the
+     * matching entries to the heap selects them without buffering and sorting
+     * all the matches.
+     *
+     * @param pagingPredicate    the paging predicate, may be {@code null}
+     * @param nearestAnchorEntry the nearest anchor of the paging predicate
+     * @return the heap or {@code null} if the paging predicate is {@code null}
+     */
+    public static TopKHeap<QueryableEntry> newTopKHeap(PagingPredicate pagingPredicate,
+                                                       Map.Entry<Integer, Map.Entry> nearestAnchorEntry) {
+        if (pagingPredicate == null) {
+            return null;
+        }
+        return new TopKHeap<>(getPagingLimit(pagingPredicate, nearestAnchorEntry),
+                newComparator((PagingPredicateImpl) pagingPredicate));
+    }
+
+    /**
+     * Returns the number of entries the given paging predicate needs from a
+     * source of candidates after the nearest anchor to assemble its current
+     * page.
+     */
+    private static int getPagingLimit(PagingPredicate pagingPredicate, Map.Entry<Integer, Map.Entry> nearestAnchorEntry) {
+        int nearestPage = nearestAnchorEntry.getKey();
+        long totalSize = pagingPredicate.getPageSize() * ((long) pagingPredicate.getPage() - nearestPage);
+        return (int) Math.min(totalSize, Integer.MAX_VALUE);
+    }
+
     public static ResultSet getSortedQueryResultSet(List<Map.Entry> list,
                                                     PagingPredicateImpl pagingPredicate, IterationType iterationType) {
         List<? extends Map.Entry> subList = getSortedSubListAndUpdateAnchor(list, pagingPredicate, iterationType);
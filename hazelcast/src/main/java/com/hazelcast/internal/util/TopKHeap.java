@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+
+/**
+ * Retains the {@code capacity} smallest of the elements offered to it, as
+ * ordered by a comparator.
+ * <p>
+ * The elements are kept in a binary max-heap: the largest retained element
+ * is at the root, so an offered element either replaces it or is rejected
+ * in {@code O(log capacity)}. Selecting the first {@code k} of {@code n}
+ * elements this way takes {@code O(n log k)} time and {@code O(k)} memory,
+ * instead of buffering and sorting all {@code n} elements.
+ * <p>
+ * Not thread-safe.
+ *
+ * @param <E> the element type
+ */
+public final class TopKHeap<E> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int capacity;
+    private final Comparator<? super E> comparator;
+
+    private Object[] elements;
+    private int size;
+
+    /**
+     * @param capacity   the maximum number of retained elements, must be positive
+     * @param comparator the comparator defining the order of the elements
+     */
+    public TopKHeap(int capacity, Comparator<? super E> comparator) {
+        this.capacity = checkPositive("capacity", capacity);
+        this.comparator = comparator;
+        this.elements = new Object[Math.min(capacity, INITIAL_CAPACITY)];
+    }
+
+    /**
+     * Offers an element to this heap.
+     *
+     * @param element the element
+     * @return {@code true} if the element is retained, {@code false} if it
+     * is not smaller than any of the {@code capacity} retained elements. A
+     * retained element may be evicted by a later call.
+     */
+    public boolean offer(E element) {
+        if (size < capacity) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, (int) Math.min((long) size << 1, capacity));
+            }
+            siftUp(size++, element);
+            return true;
+        }
+        if (comparator.compare(element, elementAt(0)) >= 0) {
+            return false;
+        }
+        siftDown(0, element);
+        return true;
+    }
+
+    /**
+     * @return the maximum number of retained elements
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the retained elements sorted in ascending order. The heap is
+     * not modified.
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> toSortedList() {
+        Object[] sorted = Arrays.copyOf(elements, size);
+        Arrays.sort(sorted, (o1, o2) -> comparator.compare((E) o1, (E) o2));
+        List<E> list = new ArrayList<>(size);
+        for (Object element : sorted) {
+            list.add((E) element);
+        }
+        return list;
+    }
+
+    private void siftUp(int index, E element) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            E parentElement = elementAt(parent);
+            if (comparator.compare(element, parentElement) <= 0) {
+                break;
+            }
+            elements[index] = parentElement;
+            index = parent;
+        }
+        elements[index] = element;
+    }
+
+    private void siftDown(int index, E element) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && comparator.compare(elementAt(right), elementAt(child)) > 0) {
+                child = right;
+            }
+            E childElement = elementAt(child);
+            if (comparator.compare(element, childElement) >= 0) {
+                break;
+            }
+            elements[index] = childElement;
+            index = child;
+        }
+        elements[index] = element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        return (E) elements[index];
+    }
+}
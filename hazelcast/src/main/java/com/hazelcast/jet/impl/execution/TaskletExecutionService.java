@@ -79,6 +79,7 @@ import static java.util.stream.Collectors.toList;
 public class TaskletExecutionService {
 
     public static final String TASKLET_INIT_CLOSE_EXECUTOR_NAME = "jet:tasklet_initClose";
+    public static final String SPILL_IO_EXECUTOR_NAME = "jet:spill_io";
 
     private final ExecutorService blockingTaskletExecutor = newCachedThreadPool(new BlockingTaskThreadFactory());
     private final ExecutionService hzExecutionService;
@@ -98,6 +99,8 @@ public class TaskletExecutionService {
         hzExecutionService = nodeEngine.getExecutionService();
         hzExecutionService.register(TASKLET_INIT_CLOSE_EXECUTOR_NAME,
                 RuntimeAvailableProcessors.get(), Integer.MAX_VALUE, CACHED);
+        hzExecutionService.register(SPILL_IO_EXECUTOR_NAME,
+                RuntimeAvailableProcessors.get(), Integer.MAX_VALUE, CACHED);
         this.hzInstanceName = nodeEngine.getHazelcastInstance().getName();
         this.cooperativeWorkers = new CooperativeWorker[threadCount];
         this.cooperativeThreadPool = new Thread[threadCount];
@@ -164,6 +167,7 @@ public class TaskletExecutionService {
         Arrays.stream(cooperativeWorkers).forEach(thread -> thread.newTaskletSemaphore.release());
         blockingTaskletExecutor.shutdownNow();
         hzExecutionService.shutdownExecutor(TASKLET_INIT_CLOSE_EXECUTOR_NAME);
+        hzExecutionService.shutdownExecutor(SPILL_IO_EXECUTOR_NAME);
     }
 
     private void submitBlockingTasklets(ExecutionTracker executionTracker, ClassLoader jobClassLoader,
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.core.Processor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.util.ExceptionUtil.sneakyThrow;
+import static com.hazelcast.jet.impl.execution.TaskletExecutionService.SPILL_IO_EXECUTOR_NAME;
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+
+/**
+ * A temporary file holding a sequence of serialized items, used by
+ * processors which spill their accumulated state to local disk when it
+ * exceeds the memory budget.
+ * <p>
+ * The file is written once, sequentially, and then read back once,
+ * sequentially, in the order the items were written. The items are
+ * serialized into chunks of about {@value #CHUNK_SIZE} bytes in memory,
+ * the disk is accessed only by tasks running on the I/O executor, one
+ * after another, so the calling thread never blocks on the disk. This
+ * keeps cooperative processors cooperative when they spill:
+ * <ul>
+ *     <li>a full chunk is handed over to the executor to be written. The
+ *     caller should stop writing while {@link #isWritable()} returns
+ *     {@code false}, otherwise the chunks waiting for the disk pile up in
+ *     memory.
+ *     <li>when reading, the next chunk is read ahead by the executor. The
+ *     caller should call {@link #read()} only when {@link #isReadable()}
+ *     returns {@code true}, otherwise it waits for the disk.
+ * </ul>
+ * The file is created lazily by the first chunk and deleted on {@link
+ * #close()}.
+ * <p>
+ * Not thread-safe.
+ */
+public final class SpillFile implements Closeable {
+
+    private static final String FILE_PREFIX = "hazelcast-jet-spill-";
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int MAX_PENDING_CHUNKS = 4;
+
+    private final InternalSerializationService serializationService;
+    private final Executor ioExecutor;
+    private final AtomicInteger pendingChunks = new AtomicInteger();
+
+    // the last task submitted to the executor, the tasks are chained so that they
+    // run one after another
+    private CompletableFuture<?> lastIo = CompletableFuture.completedFuture(null);
+
+    // accessed only by the I/O tasks
+    private Path path;
+    private DataOutputStream out;
+    private DataInputStream in;
+
+    private ByteArrayOutputStream chunkBytes = new ByteArrayOutputStream(CHUNK_SIZE);
+    private DataOutputStream chunk = new DataOutputStream(chunkBytes);
+    private CompletableFuture<byte[]> nextChunk;
+    private ByteBuffer readChunk;
+    private boolean reading;
+    private long itemCount;
+    private long remainingCount;
+    private long chunkCount;
+    private long remainingChunkCount;
+
+    private SpillFile(InternalSerializationService serializationService, Executor ioExecutor) {
+        this.serializationService = serializationService;
+        this.ioExecutor = ioExecutor;
+    }
+
+    /**
+     * Creates a new empty spill file in the default temporary-file
+     * directory, opened for writing. The disk is accessed by tasks
+     * submitted to the given executor.
+     */
+    @Nonnull
+    public static SpillFile create(
+            @Nonnull InternalSerializationService serializationService,
+            @Nonnull Executor ioExecutor
+    ) {
+        return new SpillFile(serializationService, ioExecutor);
+    }
+
+    /**
+     * Returns the executor for the spill file I/O of the member the
+     * processor with the given context runs on.
+     */
+    @Nonnull
+    public static Executor ioExecutor(@Nonnull Processor.Context context) {
+        return getNodeEngine(context.hazelcastInstance()).getExecutionService().getExecutor(SPILL_IO_EXECUTOR_NAME);
+    }
+
+    /**
+     * Appends the given item to the file. Must not be called after {@link
+     * #read()} or {@link #isReadable()} has been called.
+     */
+    public void write(@Nonnull Object item) {
+        assert !reading : "spill file already switched to reading";
+        Data data = serializationService.toData(item);
+        try {
+            chunk.writeInt(data.totalSize());
+            chunk.write(data.toByteArray());
+        } catch (IOException e) {
+            throw sneakyThrow(e);
+        }
+        itemCount++;
+        if (chunkBytes.size() >= CHUNK_SIZE) {
+            flushChunk();
+        }
+    }
+
+    /**
+     * Returns {@code false} if too many written chunks are waiting for the
+     * disk and the caller should retry later, before it writes more
+     * items.
+     */
+    public boolean isWritable() {
+        checkIoFailure();
+        return pendingChunks.get() < MAX_PENDING_CHUNKS;
+    }
+
+    /**
+     * Returns {@code true} if {@link #read()} returns without waiting for
+     * the disk. The first call finishes writing and switches the file to
+     * reading.
+     */
+    public boolean isReadable() {
+        startReading();
+        checkIoFailure();
+        return remainingCount == 0 || readChunk.hasRemaining() || nextChunk.isDone();
+    }
+
+    /**
+     * Returns the next item of the file or {@code null}, if all items have
+     * been read. The first call finishes writing and switches the file to
+     * reading. Waits for the disk, unless {@link #isReadable()} returned
+     * {@code true} before.
+     */
+    @Nullable
+    public <T> T read() {
+        startReading();
+        if (remainingCount == 0) {
+            return null;
+        }
+        if (!readChunk.hasRemaining()) {
+            readChunk = ByteBuffer.wrap(await(nextChunk));
+            readAhead();
+        }
+        byte[] bytes = new byte[readChunk.getInt()];
+        readChunk.get(bytes);
+        remainingCount--;
+        return serializationService.toObject(new HeapData(bytes));
+    }
+
+    /**
+     * Returns the number of items written to this file.
+     */
+    public long itemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Deletes the file. The file is closed and deleted by the I/O
+     * executor, the method does not wait for it.
+     */
+    @Override
+    public void close() {
+        chunkBytes = null;
+        chunk = null;
+        nextChunk = null;
+        readChunk = null;
+        lastIo = lastIo.handleAsync((r, t) -> {
+            closeResource(out);
+            closeResource(in);
+            out = null;
+            in = null;
+            if (path != null) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw sneakyThrow(e);
+                }
+            }
+            return null;
+        }, ioExecutor);
+    }
+
+    private void flushChunk() {
+        byte[] bytes = chunkBytes.toByteArray();
+        chunkBytes.reset();
+        chunkCount++;
+        pendingChunks.incrementAndGet();
+        lastIo = lastIo.thenRunAsync(() -> {
+            try {
+                if (out == null) {
+                    path = Files.createTempFile(FILE_PREFIX, ".bin");
+                    out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), CHUNK_SIZE));
+                }
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            } catch (IOException e) {
+                throw sneakyThrow(e);
+            } finally {
+                pendingChunks.decrementAndGet();
+            }
+        }, ioExecutor);
+    }
+
+    private void startReading() {
+        if (reading) {
+            return;
+        }
+        reading = true;
+        if (chunkBytes.size() > 0) {
+            flushChunk();
+        }
+        chunkBytes = null;
+        chunk = null;
+        remainingCount = itemCount;
+        remainingChunkCount = chunkCount;
+        readChunk = ByteBuffer.allocate(0);
+        if (chunkCount > 0) {
+            lastIo = lastIo.thenRunAsync(() -> {
+                try {
+                    out.close();
+                    out = null;
+                    in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), CHUNK_SIZE));
+                } catch (IOException e) {
+                    throw sneakyThrow(e);
+                }
+            }, ioExecutor);
+        }
+        readAhead();
+    }
+
+    private void readAhead() {
+        if (remainingChunkCount == 0) {
+            nextChunk = CompletableFuture.completedFuture(null);
+            return;
+        }
+        remainingChunkCount--;
+        nextChunk = lastIo.thenApplyAsync(r -> {
+            try {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return bytes;
+            } catch (IOException e) {
+                throw sneakyThrow(e);
+            }
+        }, ioExecutor);
+        lastIo = nextChunk;
+    }
+
+    private void checkIoFailure() {
+        if (lastIo.isCompletedExceptionally()) {
+            await(lastIo);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw sneakyThrow(e.getCause());
+        }
+    }
+}
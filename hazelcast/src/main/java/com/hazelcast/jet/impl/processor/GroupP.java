@@ -17,23 +17,33 @@
 package com.hazelcast.jet.impl.processor;
 
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.aggregate.AggregateOperation1;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.execution.init.Contexts;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_GROUP_SPILL_THRESHOLD;
 import static java.util.Collections.singletonList;
 
 /**
@@ -41,28 +51,108 @@ import static java.util.Collections.singletonList;
  * aggregate operation on each group. The items may originate from one or
  * more inbound edges. The supplied aggregate operation must have as many
  * accumulation functions as there are inbound edges.
+ * <p>
+ * If the spill threshold is positive and the aggregate operation has a
+ * {@linkplain AggregateOperation#combineFn() combine} primitive, the
+ * groups are divided into {@value #SPILL_PARTITION_COUNT} partitions by
+ * the hash of the key. When the number of groups in memory reaches the
+ * threshold, the accumulators of the largest in-memory partition are
+ * written to a {@link SpillFile} and all further items of that partition
+ * are appended to the file as they arrive. In the {@code complete} phase,
+ * the in-memory groups are emitted first, then each spilled partition is
+ * read back, re-aggregated and emitted in turn.
+ * <p>
+ * A spilled partition is re-aggregated the same way as the input: if it
+ * has too many groups to fit in memory, it is divided again into {@value
+ * #SPILL_PARTITION_COUNT} partitions using the next {@value
+ * #PARTITION_BITS} bits of the key hash and some of them are spilled
+ * again. The accumulation limit applies to the re-aggregated groups as
+ * well. The disk is accessed only by the I/O executor of the spill files,
+ * the processor backs off while a spill file is not writable or its next
+ * record is not read yet.
  */
 public class GroupP<K, A, R, OUT> extends AbstractProcessor {
 
+    /**
+     * The number of hash partitions the groups are divided into for
+     * spilling.
+     */
+    static final int SPILL_PARTITION_COUNT = 16;
+
+    /**
+     * The number of key hash bits selecting the partition on each level of
+     * re-partitioning.
+     */
+    static final int PARTITION_BITS = 4;
+
+    /**
+     * The number of partitioning levels, after which the bits of the key
+     * hash are exhausted and a partition is not divided further.
+     */
+    static final int MAX_PARTITION_LEVELS = Integer.SIZE / PARTITION_BITS;
+
+    /**
+     * Maximum number of spilled records read back in one call.
+     */
+    static final int LOAD_BATCH_SIZE = 1024;
+
+    /**
+     * Spill threshold value meaning the threshold is taken from {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_GROUP_SPILL_THRESHOLD}
+     * of the member.
+     */
+    static final long SPILL_THRESHOLD_FROM_PROPERTY = 0;
+
+    /**
+     * The ordinal of a spilled record holding a key and its accumulator,
+     * the other records hold a raw item and its ordinal.
+     */
+    private static final int ACCUMULATOR_ORDINAL = -1;
+
     protected final Map<K, A> keyToAcc = new HashMap<>();
 
     private final List<FunctionEx<?, ? extends K>> groupKeyFns;
     private final AggregateOperation<A, R> aggrOp;
     private final BiFunction<? super K, ? super R, OUT> mapToOutputFn;
+    private final int[] inMemoryGroupCounts = new int[SPILL_PARTITION_COUNT];
+    private final SpillFile[] spilledPartitions = new SpillFile[SPILL_PARTITION_COUNT];
 
     private long maxEntries;
+    private long spillThreshold;
+    private InternalSerializationService serializationService;
+    private Executor ioExecutor;
+    private final Deque<SpilledPartition> pendingPartitions = new ArrayDeque<>();
     private Traverser<OUT> resultTraverser;
+    private SpillFile loadedPartition;
+    private int partitionLevel;
 
     public GroupP(
             @Nonnull List<FunctionEx<?, ? extends K>> groupKeyFns,
             @Nonnull AggregateOperation<A, R> aggrOp,
             @Nonnull BiFunction<? super K, ? super R, OUT> mapToOutputFn
+    ) {
+        this(groupKeyFns, aggrOp, mapToOutputFn, SPILL_THRESHOLD_FROM_PROPERTY);
+    }
+
+    /**
+     * @param spillThreshold the number of groups kept in memory before a
+     *                       partition of them is spilled to disk, {@link
+     *                       #SPILL_THRESHOLD_FROM_PROPERTY} to use the
+     *                       member property or a negative value to never
+     *                       spill
+     */
+    public GroupP(
+            @Nonnull List<FunctionEx<?, ? extends K>> groupKeyFns,
+            @Nonnull AggregateOperation<A, R> aggrOp,
+            @Nonnull BiFunction<? super K, ? super R, OUT> mapToOutputFn,
+            long spillThreshold
     ) {
         checkTrue(groupKeyFns.size() == aggrOp.arity(), groupKeyFns.size() + " key functions " +
                 "provided for " + aggrOp.arity() + "-arity aggregate operation");
         this.groupKeyFns = groupKeyFns;
         this.aggrOp = aggrOp;
         this.mapToOutputFn = mapToOutputFn;
+        this.spillThreshold = spillThreshold;
     }
 
     public <T> GroupP(
@@ -76,6 +166,20 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxEntries = context.maxProcessorAccumulatedRecords();
+        if (spillThreshold == SPILL_THRESHOLD_FROM_PROPERTY) {
+            spillThreshold = context instanceof Contexts.MetaSupplierCtx ctx
+                    ? ctx.nodeEngine().getProperties().getLong(JET_GROUP_SPILL_THRESHOLD)
+                    : -1;
+        }
+        if (aggrOp.combineFn() == null) {
+            // accumulators cannot be merged back after spilling
+            spillThreshold = -1;
+        }
+        if (spillThreshold > 0) {
+            spillThreshold = Math.min(spillThreshold, maxEntries);
+            serializationService = ((Contexts.InternalProcSupplierCtx) context).serializationService();
+            ioExecutor = SpillFile.ioExecutor(context);
+        }
     }
 
     @Override
@@ -83,14 +187,16 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     protected boolean tryProcess(int ordinal, @Nonnull Object item) {
         Function<Object, ? extends K> keyFn = (Function<Object, ? extends K>) groupKeyFns.get(ordinal);
         K key = keyFn.apply(item);
-        A acc = keyToAcc.computeIfAbsent(key, k -> {
-            if (keyToAcc.size() == maxEntries) {
-                throw new AccumulationLimitExceededException();
-            }
+        if (spillThreshold <= 0) {
+            accumulate(ordinal, key, item);
+            return true;
+        }
 
-            return aggrOp.createFn().get();
-        });
-        aggrOp.accumulateFn(ordinal).accept(acc, item);
+        SpillFile spilledPartition = spilledPartitions[partitionOf(key, partitionLevel)];
+        if (spilledPartition != null && !spilledPartition.isWritable()) {
+            return false;
+        }
+        insert(ordinal, key, item);
         return true;
     }
 
@@ -101,20 +207,197 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
                     // reuse null filtering done by map()
                     .map(e -> mapToOutputFn.apply(e.getKey(), aggrOp.finishFn().apply(e.getValue())));
         }
-        return emitFromTraverser(resultTraverser);
+        while (true) {
+            // a spilled partition is emitted only once it is fully loaded
+            if (loadedPartition != null && !loadBatch()) {
+                return false;
+            }
+            if (!emitFromTraverser(resultTraverser)) {
+                return false;
+            }
+            if (!nextSpilledPartition()) {
+                return true;
+            }
+        }
     }
 
     @Override
     public boolean closeIsCooperative() {
+        // spill files may exist if spilling is enabled
+        return spillThreshold <= 0;
+    }
+
+    @Override
+    public void close() {
+        for (int i = 0; i < spilledPartitions.length; i++) {
+            if (spilledPartitions[i] != null) {
+                spilledPartitions[i].close();
+                spilledPartitions[i] = null;
+            }
+        }
+        for (SpilledPartition partition; (partition = pendingPartitions.poll()) != null; ) {
+            partition.file.close();
+        }
+        if (loadedPartition != null) {
+            loadedPartition.close();
+            loadedPartition = null;
+        }
+    }
+
+    /**
+     * Adds an item or, if the ordinal is {@link #ACCUMULATOR_ORDINAL}, a
+     * spilled accumulator to its group. If the partition of the key is
+     * spilled, appends it to the partition's file instead.
+     */
+    @SuppressWarnings("unchecked")
+    private void insert(int ordinal, K key, Object itemOrAcc) {
+        int partition = partitionOf(key, partitionLevel);
+        SpillFile spilledPartition = spilledPartitions[partition];
+        if (spilledPartition != null) {
+            spilledPartition.write(ordinal == ACCUMULATOR_ORDINAL
+                    ? new Object[]{ordinal, key, itemOrAcc}
+                    : new Object[]{ordinal, itemOrAcc});
+            return;
+        }
+        int sizeBefore = keyToAcc.size();
+        if (ordinal == ACCUMULATOR_ORDINAL) {
+            combine(key, (A) itemOrAcc);
+        } else {
+            accumulate(ordinal, key, itemOrAcc);
+        }
+        if (keyToAcc.size() > sizeBefore) {
+            inMemoryGroupCounts[partition]++;
+            if (keyToAcc.size() >= spillThreshold && partitionLevel < MAX_PARTITION_LEVELS) {
+                spillLargestPartition();
+            }
+        }
+    }
+
+    private void accumulate(int ordinal, K key, Object item) {
+        A acc = keyToAcc.computeIfAbsent(key, k -> {
+            if (keyToAcc.size() == maxEntries) {
+                throw new AccumulationLimitExceededException();
+            }
+
+            return aggrOp.createFn().get();
+        });
+        aggrOp.accumulateFn(ordinal).accept(acc, item);
+    }
+
+    private void combine(K key, A spilledAcc) {
+        A acc = keyToAcc.get(key);
+        if (acc != null) {
+            aggrOp.combineFn().accept(acc, spilledAcc);
+            return;
+        }
+        if (keyToAcc.size() == maxEntries) {
+            throw new AccumulationLimitExceededException();
+        }
+        keyToAcc.put(key, spilledAcc);
+    }
+
+    private static int partitionOf(Object key, int level) {
+        // each level uses different bits of the hash, so that a partition
+        // which is spilled again is divided among all partitions
+        return (fastIntMix(Objects.hashCode(key)) >>> (level * PARTITION_BITS)) & (SPILL_PARTITION_COUNT - 1);
+    }
+
+    /**
+     * Moves the accumulators of the in-memory partition with the most
+     * groups to a new spill file.
+     */
+    private void spillLargestPartition() {
+        int partition = -1;
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            if (spilledPartitions[i] == null
+                    && (partition < 0 || inMemoryGroupCounts[i] > inMemoryGroupCounts[partition])) {
+                partition = i;
+            }
+        }
+        if (partition < 0) {
+            return;
+        }
+        SpillFile spillFile = SpillFile.create(serializationService, ioExecutor);
+        for (Iterator<Entry<K, A>> iterator = keyToAcc.entrySet().iterator(); iterator.hasNext(); ) {
+            Entry<K, A> entry = iterator.next();
+            if (partitionOf(entry.getKey(), partitionLevel) == partition) {
+                spillFile.write(new Object[]{ACCUMULATOR_ORDINAL, entry.getKey(), entry.getValue()});
+                iterator.remove();
+            }
+        }
+        inMemoryGroupCounts[partition] = 0;
+        spilledPartitions[partition] = spillFile;
+    }
+
+    /**
+     * Queues the partitions spilled on the current level and starts loading
+     * the next queued partition. Returns {@code false} if there's none
+     * left.
+     */
+    private boolean nextSpilledPartition() {
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            if (spilledPartitions[i] != null) {
+                pendingPartitions.push(new SpilledPartition(spilledPartitions[i], partitionLevel));
+                spilledPartitions[i] = null;
+            }
+        }
+        SpilledPartition partition = pendingPartitions.poll();
+        if (partition == null) {
+            return false;
+        }
+        loadedPartition = partition.file;
+        partitionLevel = partition.level + 1;
+        Arrays.fill(inMemoryGroupCounts, 0);
         return true;
     }
 
+    /**
+     * Reads up to {@link #LOAD_BATCH_SIZE} records of the partition being
+     * loaded and inserts them the same way as the input items. Returns
+     * {@code true} when the whole partition has been loaded.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean loadBatch() {
+        for (SpillFile spilledPartition : spilledPartitions) {
+            if (spilledPartition != null && !spilledPartition.isWritable()) {
+                return false;
+            }
+        }
+        for (int i = 0; i < LOAD_BATCH_SIZE; i++) {
+            if (!loadedPartition.isReadable()) {
+                return false;
+            }
+            Object[] record = loadedPartition.read();
+            if (record == null) {
+                loadedPartition.close();
+                loadedPartition = null;
+                return true;
+            }
+            int ordinal = (int) record[0];
+            if (ordinal == ACCUMULATOR_ORDINAL) {
+                insert(ordinal, (K) record[1], record[2]);
+            } else {
+                Object item = record[1];
+                insert(ordinal, ((Function<Object, ? extends K>) groupKeyFns.get(ordinal)).apply(item), item);
+            }
+        }
+        return false;
+    }
+
+    private record SpilledPartition(SpillFile file, int level) {
+    }
+
     private class ResultTraverser implements Traverser<Entry<K, A>> {
-        private final Iterator<Entry<K, A>> iter = keyToAcc.entrySet().iterator();
+        private Iterator<Entry<K, A>> iter;
 
         @Override
         public Entry<K, A> next() {
+            if (iter == null) {
+                iter = keyToAcc.entrySet().iterator();
+            }
             if (!iter.hasNext()) {
+                // a fresh iterator is created for the groups of the next loaded partition
+                iter = null;
                 return null;
             }
             try {
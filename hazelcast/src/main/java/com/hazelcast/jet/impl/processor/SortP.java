@@ -16,36 +16,159 @@
 
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.function.ToLongFunctionEx;
+import com.hazelcast.internal.util.TopKHeap;
 import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.execution.init.Contexts;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.Executor;
 
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SORT_SPILL_THRESHOLD;
+
+/**
+ * Sorts its input and emits it in the {@code complete} phase.
+ * <p>
+ * If the spill threshold is positive, the processor buffers at most
+ * that many items in memory. When the buffer is full, its content is
+ * written in sorted order to a {@link SpillFile} (a sorted run) and the
+ * buffer is reused. In the {@code complete} phase the runs and the
+ * remaining buffered items are k-way merged. Both spilling and merging are
+ * done in small steps and the disk is accessed only by the I/O executor
+ * of the spill files, so the processor stays cooperative. It backs off
+ * while a run is not writable or the next item of a run is not read yet.
+ * <p>
+ * If the downstream needs only the first {@code limit} items, the
+ * processor retains at most {@code limit} smallest items in a {@link
+ * TopKHeap} instead of buffering the whole input, as long as the limit does
+ * not exceed the spill threshold.
+ */
 public class SortP<T> extends AbstractProcessor {
 
+    /**
+     * Maximum number of items written to a run in one call.
+     */
+    static final int SPILL_BATCH_SIZE = 1024;
+
+    /**
+     * Spill threshold value meaning the threshold is taken from {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_SORT_SPILL_THRESHOLD}
+     * of the member.
+     */
+    public static final long SPILL_THRESHOLD_FROM_PROPERTY = 0;
+
+    private final Comparator<T> comparator;
     private final PriorityQueue<T> priorityQueue;
-    private final Traverser<T> resultTraverser;
+    private final List<SpillFile> runs = new ArrayList<>();
+
+    private Traverser<T> resultTraverser;
+    private SpillFile currentRun;
+    private Merger merger;
+    private InternalSerializationService serializationService;
+    private Executor ioExecutor;
+    private final ToLongFunctionEx<Processor.Context> limitFn;
 
+    private TopKHeap<T> topK;
+    private boolean dropAll;
+    private long spillThreshold;
     private long maxItems;
 
     public SortP(@Nullable Comparator<T> comparator) {
-        this.priorityQueue = new PriorityQueue<>(comparator);
+        this(comparator, SPILL_THRESHOLD_FROM_PROPERTY);
+    }
+
+    /**
+     * @param comparator     comparator of the items, {@code null} for the
+     *                       natural ordering
+     * @param spillThreshold the number of items buffered in memory before
+     *                       they are spilled to disk, {@link
+     *                       #SPILL_THRESHOLD_FROM_PROPERTY} to use the member
+     *                       property or a negative value to never spill
+     */
+    public SortP(@Nullable Comparator<T> comparator, long spillThreshold) {
+        this(comparator, spillThreshold, null);
+    }
+
+    /**
+     * @param comparator     comparator of the items, {@code null} for the
+     *                       natural ordering
+     * @param spillThreshold the number of items buffered in memory before
+     *                       they are spilled to disk, {@link
+     *                       #SPILL_THRESHOLD_FROM_PROPERTY} to use the member
+     *                       property or a negative value to never spill
+     * @param limitFn        function evaluated in {@code init()} returning the
+     *                       number of first items the downstream needs, or
+     *                       {@code null} if it needs all of them. The
+     *                       processor may emit more items than the limit.
+     */
+    @SuppressWarnings("unchecked")
+    public SortP(@Nullable Comparator<T> comparator, long spillThreshold,
+                 @Nullable ToLongFunctionEx<Processor.Context> limitFn) {
+        this.comparator = comparator != null ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        this.spillThreshold = spillThreshold;
+        this.limitFn = limitFn;
+        this.priorityQueue = new PriorityQueue<>(this.comparator);
         this.resultTraverser = priorityQueue::poll;
     }
 
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxItems = context.maxProcessorAccumulatedRecords();
+        if (spillThreshold == SPILL_THRESHOLD_FROM_PROPERTY) {
+            spillThreshold = context instanceof Contexts.MetaSupplierCtx ctx
+                    ? ctx.nodeEngine().getProperties().getLong(JET_SORT_SPILL_THRESHOLD)
+                    : -1;
+        }
+        if (limitFn != null) {
+            long limit = limitFn.applyAsLong(context);
+            if (limit == 0) {
+                dropAll = true;
+                return;
+            }
+            if (limit > 0 && limit <= maxItems && limit <= Integer.MAX_VALUE
+                    && (spillThreshold <= 0 || limit <= spillThreshold)) {
+                topK = new TopKHeap<>((int) limit, comparator);
+                return;
+            }
+        }
+        if (spillThreshold > 0) {
+            serializationService = ((Contexts.InternalProcSupplierCtx) context).serializationService();
+            ioExecutor = SpillFile.ioExecutor(context);
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess0(@Nonnull Object item) {
+        if (dropAll) {
+            return true;
+        }
+        if (topK != null) {
+            topK.offer((T) item);
+            return true;
+        }
+        if (currentRun != null && !spillBatch()) {
+            return false;
+        }
+        if (spillThreshold > 0 && priorityQueue.size() >= Math.min(spillThreshold, maxItems)) {
+            currentRun = SpillFile.create(serializationService, ioExecutor);
+            if (!spillBatch()) {
+                return false;
+            }
+        }
         if (priorityQueue.size() == maxItems) {
             throw new AccumulationLimitExceededException();
         }
@@ -56,11 +179,127 @@ public class SortP<T> extends AbstractProcessor {
 
     @Override
     public boolean complete() {
+        if (topK != null) {
+            resultTraverser = Traversers.traverseIterable(topK.toSortedList());
+            topK = null;
+        }
+        if (currentRun != null && !spillBatch()) {
+            return false;
+        }
+        if (!runs.isEmpty()) {
+            if (merger == null) {
+                merger = new Merger();
+            }
+            return merger.emit();
+        }
         return emitFromTraverser(resultTraverser);
     }
 
     @Override
     public boolean closeIsCooperative() {
+        // run files may exist if spilling is enabled
+        return spillThreshold <= 0;
+    }
+
+    @Override
+    public void close() {
+        for (SpillFile run : runs) {
+            run.close();
+        }
+        runs.clear();
+        if (currentRun != null) {
+            currentRun.close();
+            currentRun = null;
+        }
+    }
+
+    /**
+     * Moves up to {@link #SPILL_BATCH_SIZE} smallest buffered items to the
+     * current run, as long as the run is writable. Returns {@code true}
+     * when the buffer has been fully drained and the run is complete.
+     */
+    private boolean spillBatch() {
+        for (int i = 0; i < SPILL_BATCH_SIZE && !priorityQueue.isEmpty() && currentRun.isWritable(); i++) {
+            currentRun.write(priorityQueue.poll());
+        }
+        if (!priorityQueue.isEmpty()) {
+            return false;
+        }
+        runs.add(currentRun);
+        currentRun = null;
         return true;
     }
+
+    /**
+     * Merges the sorted runs and the items still in the in-memory buffer.
+     * Each source is represented by its current head item in a heap of
+     * size {@code runs.size() + 1}. The source of the last emitted item
+     * is advanced only once its next item has been read from the disk.
+     */
+    private final class Merger {
+
+        private final PriorityQueue<RunHead> heads;
+        private final Queue<RunHead> toAdvance = new ArrayDeque<>();
+        private T pendingItem;
+
+        Merger() {
+            heads = new PriorityQueue<>(runs.size() + 1, (o1, o2) -> comparator.compare(o1.item, o2.item));
+            for (SpillFile run : runs) {
+                toAdvance.add(new RunHead(run));
+            }
+            toAdvance.add(new RunHead(null));
+        }
+
+        /**
+         * Emits the merged items until the outbox is full or a run is not
+         * readable. Returns {@code true} when all items have been emitted.
+         */
+        boolean emit() {
+            while (true) {
+                for (RunHead head; (head = toAdvance.peek()) != null; toAdvance.remove()) {
+                    if (!head.isReadable()) {
+                        return false;
+                    }
+                    if (head.advance()) {
+                        heads.add(head);
+                    }
+                }
+                if (pendingItem != null) {
+                    if (!tryEmit(pendingItem)) {
+                        return false;
+                    }
+                    pendingItem = null;
+                }
+                RunHead head = heads.poll();
+                if (head == null) {
+                    return true;
+                }
+                pendingItem = head.item;
+                toAdvance.add(head);
+            }
+        }
+    }
+
+    /**
+     * The current item of a sorted source, either a run or, if {@code run}
+     * is {@code null}, the in-memory buffer.
+     */
+    private final class RunHead {
+
+        private final SpillFile run;
+        private T item;
+
+        RunHead(@Nullable SpillFile run) {
+            this.run = run;
+        }
+
+        boolean isReadable() {
+            return run == null || run.isReadable();
+        }
+
+        boolean advance() {
+            item = run != null ? run.read() : priorityQueue.poll();
+            return item != null;
+        }
+    }
 }
@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.json.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hazelcast.internal.json.NonTerminalJsonValue;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.query.impl.getters.JsonPathCursor;
+import com.hazelcast.query.impl.getters.MultiResult;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.hazelcast.json.internal.JsonDataSerializerHook.BINARY_JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A binary form of a Json value which is created once, when the value is
+ * stored, and navigated by queries without parsing the Json text again.
+ * <p>
+ * Values are laid out on an {@code int} tape in document order. Each value
+ * starts with a header holding its type in the lowest {@link #TYPE_BITS}
+ * bits and a payload in the remaining bits:
+ * <ul>
+ *     <li>{@code null}, {@code true} and {@code false} take only the header</li>
+ *     <li>integral and floating point numbers are followed by the two halves
+ *     of a {@code long}, the latter holding the raw bits of a {@code double}.
+ *     Integral numbers outside the range of {@code long} are stored as the
+ *     nearest {@code double}</li>
+ *     <li>strings keep their UTF-8 length as the payload and are followed by
+ *     their offset in the string buffer</li>
+ *     <li>arrays and objects keep their size as the payload and are followed
+ *     by the position of their offset table. The table of an array lists
+ *     the positions of its items. The table of an object lists a
+ *     {@code (name hash, name offset, name length, value position)} entry
+ *     for each attribute, sorted by the name hash, so an attribute is found
+ *     with a binary search.</li>
+ * </ul>
+ * The value returned for a path follows the semantics of the Json getters
+ * which parse the text.
+ */
+public final class BinaryJson implements IdentifiedDataSerializable {
+
+    static final int TYPE_BITS = 3;
+    static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+
+    static final int NULL = 0;
+    static final int TRUE = 1;
+    static final int FALSE = 2;
+    static final int LONG = 3;
+    static final int DOUBLE = 4;
+    static final int STRING = 5;
+    static final int ARRAY = 6;
+    static final int OBJECT = 7;
+
+    private static final int OBJECT_ENTRY_SIZE = 4;
+    private static final int INITIAL_CAPACITY = 32;
+    private static final int INT_BITS = 32;
+    private static final long INT_MASK = 0xFFFFFFFFL;
+    private static final int HASH_MULTIPLIER = 31;
+
+    private int[] tape;
+    private byte[] strings;
+
+    public BinaryJson() {
+        // No-op.
+    }
+
+    BinaryJson(int[] tape, byte[] strings) {
+        this.tape = tape;
+        this.strings = strings;
+    }
+
+    /**
+     * Creates the binary form of the Json value the given parser points
+     * at the start of.
+     *
+     * @return the binary form or {@code null} if the input is empty
+     * @throws IOException if the input is not a valid Json value
+     */
+    public static BinaryJson create(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return null;
+        }
+        Builder builder = new Builder();
+        builder.writeValue(parser, token);
+        return builder.build();
+    }
+
+    /**
+     * Returns the value stored at the given path. Strings, numbers, booleans
+     * and {@code null} are converted to their Java counterparts, objects and
+     * arrays are returned as {@link NonTerminalJsonValue#INSTANCE}. A path
+     * containing {@code [any]} returns a {@link MultiResult}.
+     *
+     * @return the value or {@code null} if the path does not exist
+     * @throws UnsupportedOperationException if the path contains nested
+     *                                       arrays after {@code [any]}
+     */
+    public Object getValue(Path path) {
+        int pos = 0;
+        for (int i = 0; i < path.depth(); i++) {
+            if (path.isAny(i)) {
+                return getMultiValue(pos, path, i + 1);
+            }
+            pos = path.isArray(i) ? findItem(pos, path.arrayIndex(i)) : findAttribute(pos, path, i);
+            if (pos < 0) {
+                return null;
+            }
+        }
+        return toValue(pos);
+    }
+
+    @SuppressWarnings("checkstyle:cyclomaticcomplexity")
+    private MultiResult<Object> getMultiValue(int arrayPos, Path path, int depth) {
+        int header = tape[arrayPos];
+        if ((header & TYPE_MASK) != ARRAY) {
+            return null;
+        }
+        int size = header >>> TYPE_BITS;
+        int table = tape[arrayPos + 1];
+        MultiResult<Object> multiResult = new MultiResult<>();
+        for (int i = 0; i < size; i++) {
+            int pos = tape[table + i];
+            int type = tape[pos] & TYPE_MASK;
+            if (depth == path.depth()) {
+                // like the text getters, return scalars directly from the array and skip non-scalars
+                if (type != ARRAY && type != OBJECT) {
+                    multiResult.add(toValue(pos));
+                }
+            } else if (type == OBJECT) {
+                int valuePos = pos;
+                for (int j = depth; j < path.depth() && valuePos >= 0; j++) {
+                    if (path.isArray(j)) {
+                        throw new UnsupportedOperationException("Nested arrays in JSON paths are not supported");
+                    }
+                    valuePos = findAttribute(valuePos, path, j);
+                }
+                if (valuePos >= 0) {
+                    multiResult.add(toValue(valuePos));
+                }
+            } else if (type == ARRAY && path.isArray(depth)) {
+                throw new UnsupportedOperationException("Nested arrays in JSON paths are not supported");
+            }
+        }
+        return multiResult;
+    }
+
+    private int findItem(int pos, int index) {
+        int header = tape[pos];
+        if ((header & TYPE_MASK) != ARRAY || index < 0 || index >= header >>> TYPE_BITS) {
+            return -1;
+        }
+        return tape[tape[pos + 1] + index];
+    }
+
+    private int findAttribute(int pos, Path path, int depth) {
+        int header = tape[pos];
+        if ((header & TYPE_MASK) != OBJECT) {
+            return -1;
+        }
+        int size = header >>> TYPE_BITS;
+        int table = tape[pos + 1];
+        int hash = path.hash(depth);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tape[table + mid * OBJECT_ENTRY_SIZE] < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        byte[] name = path.name(depth);
+        // entries with equal hashes keep the document order, so the first matching attribute wins
+        for (int entry = table + low * OBJECT_ENTRY_SIZE;
+             low < size && tape[entry] == hash;
+             low++, entry += OBJECT_ENTRY_SIZE) {
+            int nameOffset = tape[entry + 1];
+            if (Arrays.equals(strings, nameOffset, nameOffset + tape[entry + 2], name, 0, name.length)) {
+                return tape[entry + 3];
+            }
+        }
+        return -1;
+    }
+
+    private Object toValue(int pos) {
+        int header = tape[pos];
+        return switch (header & TYPE_MASK) {
+            case NULL -> null;
+            case TRUE -> true;
+            case FALSE -> false;
+            case LONG -> readLong(pos + 1);
+            case DOUBLE -> Double.longBitsToDouble(readLong(pos + 1));
+            case STRING -> new String(strings, tape[pos + 1], header >>> TYPE_BITS, UTF_8);
+            default -> NonTerminalJsonValue.INSTANCE;
+        };
+    }
+
+    private long readLong(int pos) {
+        return ((long) tape[pos] << INT_BITS) | (tape[pos + 1] & INT_MASK);
+    }
+
+    static int hash(byte[] bytes, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = HASH_MULTIPLIER * hash + bytes[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeIntArray(tape);
+        out.writeByteArray(strings);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        tape = in.readIntArray();
+        strings = in.readByteArray();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JsonDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return BINARY_JSON;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BinaryJson that = (BinaryJson) o;
+        return Arrays.equals(tape, that.tape) && Arrays.equals(strings, that.strings);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(tape) + Arrays.hashCode(strings);
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryJson{"
+                + "tapeLength=" + tape.length
+                + ", stringsLength=" + strings.length
+                + '}';
+    }
+
+    /**
+     * A query path prepared for the navigation of {@link BinaryJson}
+     * values. Immutable, so it is created once per path and shared.
+     */
+    public static final class Path {
+
+        private static final int ANY = Integer.MIN_VALUE;
+        private static final int ATTRIBUTE = Integer.MIN_VALUE + 1;
+
+        private final byte[][] names;
+        private final int[] hashes;
+        private final int[] arrayIndexes;
+
+        private Path(byte[][] names, int[] hashes, int[] arrayIndexes) {
+            this.names = names;
+            this.hashes = hashes;
+            this.arrayIndexes = arrayIndexes;
+        }
+
+        /**
+         * Creates a path from the given cursor. The cursor is reset
+         * afterwards.
+         */
+        public static Path create(JsonPathCursor cursor) {
+            cursor.reset();
+            int depth = 0;
+            while (cursor.getNext() != null) {
+                depth++;
+            }
+            cursor.reset();
+
+            byte[][] names = new byte[depth][];
+            int[] hashes = new int[depth];
+            int[] arrayIndexes = new int[depth];
+            for (int i = 0; cursor.getNext() != null; i++) {
+                if (cursor.isArray()) {
+                    arrayIndexes[i] = cursor.isAny() ? ANY : cursor.getArrayIndex();
+                } else {
+                    byte[] name = cursor.getCurrentAsUTF8();
+                    names[i] = name;
+                    hashes[i] = BinaryJson.hash(name, 0, name.length);
+                    arrayIndexes[i] = ATTRIBUTE;
+                }
+            }
+            cursor.reset();
+            return new Path(names, hashes, arrayIndexes);
+        }
+
+        int depth() {
+            return arrayIndexes.length;
+        }
+
+        boolean isArray(int depth) {
+            return arrayIndexes[depth] != ATTRIBUTE;
+        }
+
+        boolean isAny(int depth) {
+            return arrayIndexes[depth] == ANY;
+        }
+
+        int arrayIndex(int depth) {
+            return arrayIndexes[depth];
+        }
+
+        byte[] name(int depth) {
+            return names[depth];
+        }
+
+        int hash(int depth) {
+            return hashes[depth];
+        }
+    }
+
+    /**
+     * Writes the tape of a {@link BinaryJson} in a single pass over the
+     * parser tokens. The offset table of an array or object is appended
+     * after its values, once its size is known. Until then, the table
+     * entries wait on a stack shared by all open arrays and objects.
+     */
+    private static final class Builder {
+
+        private int[] tape = new int[INITIAL_CAPACITY];
+        private int tapeSize;
+        private byte[] strings = new byte[INITIAL_CAPACITY];
+        private int stringsSize;
+        private int[] stack = new int[INITIAL_CAPACITY];
+        private int stackSize;
+
+        int writeValue(JsonParser parser, JsonToken token) throws IOException {
+            int pos = tapeSize;
+            switch (token) {
+                case START_OBJECT -> writeObject(parser);
+                case START_ARRAY -> writeArray(parser);
+                case VALUE_STRING -> {
+                    byte[] bytes = parser.getText().getBytes(UTF_8);
+                    append(header(STRING, bytes.length));
+                    append(appendString(bytes));
+                }
+                case VALUE_NUMBER_INT -> writeInteger(parser);
+                case VALUE_NUMBER_FLOAT -> writeLong(DOUBLE, Double.doubleToRawLongBits(parser.getValueAsDouble()));
+                case VALUE_TRUE -> append(TRUE);
+                case VALUE_FALSE -> append(FALSE);
+                case VALUE_NULL -> append(NULL);
+                default -> throw new IOException("Unexpected Json token: " + token);
+            }
+            return pos;
+        }
+
+        private void writeObject(JsonParser parser) throws IOException {
+            int pos = tapeSize;
+            append(0);
+            append(0);
+            int stackStart = stackSize;
+            JsonToken token;
+            while ((token = nextToken(parser)) != JsonToken.END_OBJECT) {
+                byte[] name = parser.currentName().getBytes(UTF_8);
+                int nameOffset = appendString(name);
+                int valuePos = writeValue(parser, nextToken(parser));
+                push(hash(name, 0, name.length));
+                push(nameOffset);
+                push(name.length);
+                push(valuePos);
+            }
+            int size = (stackSize - stackStart) / OBJECT_ENTRY_SIZE;
+
+            // sort the entries by the name hash, the entry index keeps equal hashes in document order
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = ((long) stack[stackStart + i * OBJECT_ENTRY_SIZE] << INT_BITS) | i;
+            }
+            Arrays.sort(order);
+
+            tape[pos] = header(OBJECT, size);
+            tape[pos + 1] = tapeSize;
+            for (long key : order) {
+                int entry = stackStart + (int) (key & INT_MASK) * OBJECT_ENTRY_SIZE;
+                for (int i = 0; i < OBJECT_ENTRY_SIZE; i++) {
+                    append(stack[entry + i]);
+                }
+            }
+            stackSize = stackStart;
+        }
+
+        private void writeArray(JsonParser parser) throws IOException {
+            int pos = tapeSize;
+            append(0);
+            append(0);
+            int stackStart = stackSize;
+            JsonToken token;
+            while ((token = nextToken(parser)) != JsonToken.END_ARRAY) {
+                push(writeValue(parser, token));
+            }
+            tape[pos] = header(ARRAY, stackSize - stackStart);
+            tape[pos + 1] = tapeSize;
+            for (int i = stackStart; i < stackSize; i++) {
+                append(stack[i]);
+            }
+            stackSize = stackStart;
+        }
+
+        private void writeInteger(JsonParser parser) throws IOException {
+            // a big integer loses precision as a double, but doesn't prevent
+            // the queries on the rest of the document from using the metadata
+            if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                writeLong(DOUBLE, Double.doubleToRawLongBits(parser.getValueAsDouble()));
+            } else {
+                writeLong(LONG, parser.getLongValue());
+            }
+        }
+
+        private void writeLong(int type, long value) {
+            append(type);
+            append((int) (value >>> INT_BITS));
+            append((int) value);
+        }
+
+        BinaryJson build() {
+            return new BinaryJson(Arrays.copyOf(tape, tapeSize), Arrays.copyOf(strings, stringsSize));
+        }
+
+        private static JsonToken nextToken(JsonParser parser) throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IOException("Unexpected end of Json input");
+            }
+            return token;
+        }
+
+        private static int header(int type, int payload) {
+            return (payload << TYPE_BITS) | type;
+        }
+
+        private void append(int value) {
+            if (tapeSize == tape.length) {
+                tape = Arrays.copyOf(tape, tapeSize << 1);
+            }
+            tape[tapeSize++] = value;
+        }
+
+        private void push(int value) {
+            if (stackSize == stack.length) {
+                stack = Arrays.copyOf(stack, stackSize << 1);
+            }
+            stack[stackSize++] = value;
+        }
+
+        private int appendString(byte[] bytes) {
+            int offset = stringsSize;
+            if (stringsSize + bytes.length > strings.length) {
+                strings = Arrays.copyOf(strings, Math.max(strings.length << 1, stringsSize + bytes.length));
+            }
+            System.arraycopy(bytes, 0, strings, offset, bytes.length);
+            stringsSize += bytes.length;
+            return offset;
+        }
+    }
+}
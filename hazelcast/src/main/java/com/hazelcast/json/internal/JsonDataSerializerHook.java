@@ -38,8 +38,9 @@ public final class JsonDataSerializerHook implements DataSerializerHook {
     public static final int JSON_SCHEMA_NAME_VALUE = 0;
     public static final int JSON_SCHEMA_TERMINAL_NODE = 1;
     public static final int JSON_SCHEMA_STRUCT_NODE = 2;
+    public static final int BINARY_JSON = 3;
 
-    private static final int LEN = JSON_SCHEMA_STRUCT_NODE + 1;
+    private static final int LEN = BINARY_JSON + 1;
 
     @Override
     public int getFactoryId() {
@@ -54,6 +55,7 @@ public final class JsonDataSerializerHook implements DataSerializerHook {
         constructors[JSON_SCHEMA_NAME_VALUE] = JsonSchemaNameValue::new;
         constructors[JSON_SCHEMA_TERMINAL_NODE] = JsonSchemaTerminalNode::new;
         constructors[JSON_SCHEMA_STRUCT_NODE] = JsonSchemaStructNode::new;
+        constructors[BINARY_JSON] = BinaryJson::new;
 
         return new ArrayDataSerializableFactory(constructors);
     }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map;
+
+import com.hazelcast.spi.annotation.NamespacesSupported;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+
+/**
+ * A {@link MapStore} which stores and deletes batches of entries
+ * asynchronously.
+ * <p>
+ * When a map is configured with write-behind and write-coalescing, its
+ * write-behind queues are flushed using {@link #storeAllAsync} and {@link
+ * #deleteAllAsync} instead of {@link #storeAll} and {@link #deleteAll}.
+ * Partitions are split into groups, each group flushes its batches one after
+ * another, and the batches of different groups are in flight at the same
+ * time. The number of groups is defined by the {@code
+ * hazelcast.map.write.behind.async.concurrency} property. This suits stores
+ * with high latency but plenty of throughput.
+ * <p>
+ * If the returned stage completes exceptionally, the batch is retried and,
+ * if it still fails, its entries are put back to the write-behind queues and
+ * stored again later. Unlike the synchronous flush, failed batches are not
+ * retried entry by entry.
+ * <p>
+ * The asynchronous methods are called from Hazelcast threads and must not
+ * block. The synchronous methods, used by write-through maps and by
+ * write-behind maps without write-coalescing, await the asynchronous ones by
+ * default.
+ *
+ * @param <K> type of the MapStore key
+ * @param <V> type of the MapStore value
+ * @since 6.0
+ */
+@NamespacesSupported
+public interface AsyncMapStore<K, V> extends MapStore<K, V> {
+
+    /**
+     * Stores multiple entries asynchronously.
+     *
+     * @param map map of entries to store
+     * @return a stage completed once all the entries are stored
+     */
+    CompletionStage<Void> storeAllAsync(Map<K, V> map);
+
+    /**
+     * Deletes multiple entries from the store asynchronously.
+     *
+     * @param keys the keys of the entries to delete
+     * @return a stage completed once all the entries are deleted
+     */
+    CompletionStage<Void> deleteAllAsync(Collection<K> keys);
+
+    @Override
+    default void store(K key, V value) {
+        storeAll(singletonMap(key, value));
+    }
+
+    @Override
+    default void storeAll(Map<K, V> map) {
+        storeAllAsync(map).toCompletableFuture().join();
+    }
+
+    @Override
+    default void delete(K key) {
+        deleteAll(singleton(key));
+    }
+
+    @Override
+    default void deleteAll(Collection<K> keys) {
+        deleteAllAsync(keys).toCompletableFuture().join();
+    }
+}
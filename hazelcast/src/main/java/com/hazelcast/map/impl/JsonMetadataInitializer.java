@@ -19,6 +19,7 @@ package com.hazelcast.map.impl;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.hazelcast.core.HazelcastJsonValue;
+import com.hazelcast.json.internal.BinaryJson;
 import com.hazelcast.json.internal.JsonSchemaHelper;
 import com.hazelcast.internal.serialization.Data;
 
@@ -27,20 +28,33 @@ import java.io.IOException;
 
 import static com.hazelcast.internal.serialization.impl.HeapData.HEAP_DATA_OVERHEAD;
 
+/**
+ * Creates the metadata of Json keys and values. The metadata is either a
+ * {@link com.hazelcast.json.internal.JsonSchemaNode} which describes the
+ * positions of the values in the Json text, or a {@link BinaryJson} which
+ * the queries navigate instead of the text.
+ */
 public class JsonMetadataInitializer implements MetadataInitializer {
 
-    public static final JsonMetadataInitializer INSTANCE = new JsonMetadataInitializer();
+    public static final JsonMetadataInitializer INSTANCE = new JsonMetadataInitializer(false);
+    public static final JsonMetadataInitializer BINARY_INSTANCE = new JsonMetadataInitializer(true);
 
     private static final int UTF_CHAR_COUNT_FIELD_SIZE = 4;
 
     private static final JsonFactory FACTORY = new JsonFactory();
 
+    private final boolean binary;
+
+    JsonMetadataInitializer(boolean binary) {
+        this.binary = binary;
+    }
+
     @Override
     public Object createFromData(Data data) throws IOException {
         if (data.isJson()) {
             try (JsonParser parser = FACTORY.createParser(new ByteArrayInputStream(data.toByteArray(),
                     HEAP_DATA_OVERHEAD + UTF_CHAR_COUNT_FIELD_SIZE, data.dataSize() - UTF_CHAR_COUNT_FIELD_SIZE))) {
-                return JsonSchemaHelper.createSchema(parser);
+                return create(parser);
             }
         }
         return null;
@@ -51,9 +65,13 @@ public class JsonMetadataInitializer implements MetadataInitializer {
         if (obj instanceof HazelcastJsonValue) {
             String str = obj.toString();
             try (JsonParser parser = FACTORY.createParser(str)) {
-                return JsonSchemaHelper.createSchema(parser);
+                return create(parser);
             }
         }
         return null;
     }
+
+    private Object create(JsonParser parser) throws IOException {
+        return binary ? BinaryJson.create(parser) : JsonSchemaHelper.createSchema(parser);
+    }
 }
@@ -20,6 +20,7 @@ import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.diagnostics.Diagnostics;
 import com.hazelcast.internal.diagnostics.StoreLatencyPlugin;
 import com.hazelcast.internal.namespace.NamespaceUtil;
+import com.hazelcast.map.AsyncMapStore;
 import com.hazelcast.map.EntryLoader;
 import com.hazelcast.map.MapLoader;
 import com.hazelcast.map.MapLoaderLifecycleSupport;
@@ -33,6 +34,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletionStage;
 
 @SuppressWarnings("unchecked")
 public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
@@ -46,6 +48,11 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
      * or {@code null} if none was provided.
      */
     private MapStore mapStore;
+    /**
+     * The configured {@link MapStore} if it's an {@link AsyncMapStore},
+     * {@code null} otherwise. Not wrapped by latency tracking.
+     */
+    private final AsyncMapStore asyncMapStore;
 
     private boolean withExpirationTime;
 
@@ -74,6 +81,7 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
         }
         this.mapLoader = loader;
         this.mapStore = store;
+        this.asyncMapStore = impl instanceof AsyncMapStore asyncStore ? asyncStore : null;
         this.namespace = namespace;
         this.nodeEngine = nodeEngine;
     }
@@ -157,6 +165,27 @@ public class MapStoreWrapper implements MapStore, MapLoaderLifecycleSupport {
         }
     }
 
+    /**
+     * @return {@code true} if the configured {@link MapStore} is an {@link AsyncMapStore}
+     */
+    public boolean isAsyncMapStore() {
+        return asyncMapStore != null;
+    }
+
+    /**
+     * Stores the given entries using the configured {@link AsyncMapStore}.
+     */
+    public CompletionStage<Void> storeAllAsync(Map map) {
+        return NamespaceUtil.callWithOwnClassLoader(asyncMapStore, () -> asyncMapStore.storeAllAsync(map));
+    }
+
+    /**
+     * Deletes the given keys using the configured {@link AsyncMapStore}.
+     */
+    public CompletionStage<Void> deleteAllAsync(Collection keys) {
+        return NamespaceUtil.callWithOwnClassLoader(asyncMapStore, () -> asyncMapStore.deleteAllAsync(keys));
+    }
+
     /**
      * Returns an {@link Iterable} of all keys or {@code null}
      * if a map loader is not configured for this map.
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.map.AsyncMapStore;
+import com.hazelcast.map.impl.mapstore.MapStoreContext;
+import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_STORE_OFFLOADABLE_EXECUTOR;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Processes store operations of write-coalescing maps backed by an {@link
+ * AsyncMapStore}.
+ * <p>
+ * Entries are split into lanes by their partitions, the batches of a lane
+ * are stored one after another using the asynchronous store methods while
+ * the lanes are processed concurrently. Since all the entries of a key
+ * belong to the same lane, the store operations on a key are applied in
+ * order. The number of lanes is defined by {@link
+ * ClusterProperty#MAP_WRITE_BEHIND_ASYNC_CONCURRENCY}.
+ * <p>
+ * Failed batches are retried after {@link #RETRY_STORE_AFTER_WAIT_SECONDS}
+ * on the {@link ExecutionService#MAP_STORE_OFFLOADABLE_EXECUTOR}.
+ */
+class AsyncWriteBehindProcessor extends DefaultWriteBehindProcessor {
+
+    private final int laneCount;
+    private final Executor retryExecutor;
+
+    AsyncWriteBehindProcessor(MapStoreContext mapStoreContext) {
+        super(mapStoreContext);
+        assert writeCoalescing && mapStore.isAsyncMapStore();
+        NodeEngine nodeEngine = mapStoreContext.getMapServiceContext().getNodeEngine();
+        this.laneCount = Math.max(1, nodeEngine.getProperties()
+                .getInteger(ClusterProperty.MAP_WRITE_BEHIND_ASYNC_CONCURRENCY));
+        ExecutionService executionService = nodeEngine.getExecutionService();
+        this.retryExecutor = command -> executionService.schedule(MAP_STORE_OFFLOADABLE_EXECUTOR, command,
+                RETRY_STORE_AFTER_WAIT_SECONDS, SECONDS);
+    }
+
+    @Override
+    public Map<Integer, List<DelayedEntry>> process(List<DelayedEntry> delayedEntries) {
+        if (delayedEntries == null || delayedEntries.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        sort(delayedEntries);
+
+        List<DelayedEntry>[] lanes = toLanes(delayedEntries);
+        List<CompletableFuture<List<DelayedEntry>>> futures = new ArrayList<>(lanes.length);
+        for (List<DelayedEntry> lane : lanes) {
+            if (lane != null) {
+                futures.add(processLane(lane));
+            }
+        }
+
+        Map<Integer, List<DelayedEntry>> failuresByPartition = new HashMap<>();
+        for (CompletableFuture<List<DelayedEntry>> future : futures) {
+            // lanes never complete exceptionally, failures are collected
+            addFailsTo(failuresByPartition, future.join());
+        }
+        return failuresByPartition;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DelayedEntry>[] toLanes(List<DelayedEntry> sortedEntries) {
+        List<DelayedEntry>[] lanes = new List[laneCount];
+        for (DelayedEntry entry : sortedEntries) {
+            int lane = entry.getPartitionId() % laneCount;
+            if (lanes[lane] == null) {
+                lanes[lane] = new ArrayList<>();
+            }
+            lanes[lane].add(entry);
+        }
+        return lanes;
+    }
+
+    /**
+     * Stores the given sorted entries chunk by chunk using write batch size
+     * {@link #writeBatchSize}.
+     *
+     * @return a future completed with the entries which were not stored.
+     */
+    private CompletableFuture<List<DelayedEntry>> processLane(List<DelayedEntry> sortedEntries) {
+        // only accessed by the sequential stages of the lane
+        List<DelayedEntry> failures = new ArrayList<>();
+        int chunkSize = writeBatchSize > 1 ? writeBatchSize : sortedEntries.size();
+
+        CompletableFuture<Void> lane = completedFuture(null);
+        for (int from = 0; from < sortedEntries.size(); from += chunkSize) {
+            List<DelayedEntry> chunk = sortedEntries.subList(from, Math.min(from + chunkSize, sortedEntries.size()));
+            lane = lane.thenCompose(ignored -> processChunk(chunk, failures));
+        }
+        return lane.thenApply(ignored -> failures);
+    }
+
+    private CompletableFuture<Void> processChunk(List<DelayedEntry> chunk, List<DelayedEntry> failures) {
+        // split into delete and write, the same way as the synchronous
+        // processor does for write-coalescing maps
+        List<DelayedEntry> deletes = new ArrayList<>();
+        List<DelayedEntry> writes = new ArrayList<>();
+        for (DelayedEntry entry : chunk) {
+            if (entry.getValue() == null) {
+                deletes.add(entry);
+            } else {
+                writes.add(entry);
+            }
+        }
+        return storeBatch(deletes, StoreOperationType.DELETE, failures)
+                .thenCompose(ignored -> storeBatch(writes, StoreOperationType.WRITE, failures));
+    }
+
+    private CompletableFuture<Void> storeBatch(List<DelayedEntry> entries, StoreOperationType operationType,
+                                               List<DelayedEntry> failures) {
+        if (entries.isEmpty()) {
+            return completedFuture(null);
+        }
+
+        Map<Object, DelayedEntry> batchMap = prepareBatchMap(entries.toArray(new DelayedEntry[0]));
+        return storeBatch(batchMap, operationType, 1).handle((ignored, throwable) -> {
+            if (throwable != null) {
+                // These entries will be re-added to the front of the
+                // partition-write-behind-queues and re-processed later.
+                failures.addAll(batchMap.values());
+                logger.severe("Number of entries which could not be stored is = [" + batchMap.size() + "]"
+                        + ", Hazelcast will indefinitely retry to store them", unwrap(throwable));
+            }
+            return null;
+        });
+    }
+
+    private CompletableFuture<Void> storeBatch(Map<Object, DelayedEntry> batchMap, StoreOperationType operationType,
+                                               int attempt) {
+        CompletableFuture<Void> future;
+        try {
+            callBeforeStoreListeners(batchMap.values());
+            Map map = toObjectMap(batchMap, mapStore.isWithExpirationTime());
+            CompletionStage<Void> stage = operationType == StoreOperationType.DELETE
+                    ? mapStore.deleteAllAsync(map.keySet())
+                    : mapStore.storeAllAsync(map);
+            future = stage.toCompletableFuture();
+        } catch (Exception e) {
+            future = failedFuture(e);
+        }
+
+        return future
+                .thenRun(() -> callAfterStoreListeners(batchMap.values()))
+                .exceptionallyCompose(throwable -> {
+                    if (attempt >= RETRY_TIMES_OF_A_FAILED_STORE_OPERATION) {
+                        return failedFuture(throwable);
+                    }
+                    return completedFuture(null).thenComposeAsync(
+                            ignored -> storeBatch(batchMap, operationType, attempt + 1), retryExecutor);
+                });
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
@@ -46,9 +46,9 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return Long.compare(s1, s2);
     };
 
-    private static final int RETRY_TIMES_OF_A_FAILED_STORE_OPERATION = 3;
+    static final int RETRY_TIMES_OF_A_FAILED_STORE_OPERATION = 3;
 
-    private static final int RETRY_STORE_AFTER_WAIT_SECONDS = 1;
+    static final int RETRY_STORE_AFTER_WAIT_SECONDS = 1;
 
     private final List<StoreListener> storeListeners;
 
@@ -126,7 +126,7 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return failuresByPartition;
     }
 
-    private void addFailsTo(Map<Integer, List<DelayedEntry>> failsPerPartition, List<DelayedEntry> fails) {
+    void addFailsTo(Map<Integer, List<DelayedEntry>> failsPerPartition, List<DelayedEntry> fails) {
         if (fails == null || fails.isEmpty()) {
             return;
         }
@@ -197,7 +197,7 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return totalFailures == null ? Collections.emptyList() : totalFailures;
     }
 
-    private Map prepareBatchMap(DelayedEntry[] delayedEntries) {
+    Map<Object, DelayedEntry> prepareBatchMap(DelayedEntry[] delayedEntries) {
         final int length = delayedEntries.length;
         final Map<Object, DelayedEntry> batchMap = createHashMap(length);
         // process in reverse order since we do want to process
@@ -355,7 +355,7 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return Collections.emptyList();
     }
 
-    private void sort(List<DelayedEntry> entries) {
+    void sort(List<DelayedEntry> entries) {
         if (entries == null || entries.isEmpty()) {
             return;
         }
@@ -440,7 +440,7 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         @Override
         public boolean run() throws Exception {
             callBeforeStoreListeners(batchMap.values());
-            final Map map = convertToObject(batchMap);
+            final Map map = toObjectMap(batchMap, withTtl);
             boolean result;
             try {
                 result = operationType.processBatch(map, mapStore);
@@ -458,20 +458,24 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
             failedDelayedEntries.addAll(batchMap.values());
             return failedDelayedEntries;
         }
+    }
 
-        private Map convertToObject(Map<Object, DelayedEntry> batchMap) {
-            final Map map = createHashMap(batchMap.size());
-            for (DelayedEntry entry : batchMap.values()) {
-                final Object key = toObject(entry.getKey());
-                final Object value = toObject(entry.getValue());
-                if (withTtl && value != null) {
-                    map.put(key, new MetadataAwareValue(value, entry.getExpirationTime()));
-                } else {
-                    map.put(key, value);
-                }
+    /**
+     * Converts the given batch to a map of deserialized keys and values to be
+     * passed to the map store.
+     */
+    Map toObjectMap(Map<Object, DelayedEntry> batchMap, boolean withTtl) {
+        final Map map = createHashMap(batchMap.size());
+        for (DelayedEntry entry : batchMap.values()) {
+            final Object key = toObject(entry.getKey());
+            final Object value = toObject(entry.getValue());
+            if (withTtl && value != null) {
+                map.put(key, new MetadataAwareValue(value, entry.getExpirationTime()));
+            } else {
+                map.put(key, value);
             }
-            return map;
         }
+        return map;
     }
 
     private void sleepSeconds(long secs) {
@@ -27,6 +27,12 @@ public final class WriteBehindProcessors {
     }
 
     public static WriteBehindProcessor createWriteBehindProcessor(MapStoreContext mapStoreContext) {
+        // asynchronous store methods are batch-only, they can be used
+        // only when the store operations on a key are coalesced
+        if (mapStoreContext.getMapStoreWrapper().isAsyncMapStore()
+                && mapStoreContext.getMapStoreConfig().isWriteCoalescing()) {
+            return new AsyncWriteBehindProcessor(mapStoreContext);
+        }
         return new DefaultWriteBehindProcessor(mapStoreContext);
     }
 }
@@ -23,6 +23,7 @@ import com.hazelcast.internal.namespace.NamespaceUtil;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.TopKHeap;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.LazyMapEntry;
 import com.hazelcast.map.impl.MapContainer;
@@ -48,6 +49,7 @@ import java.util.Map.Entry;
 import java.util.function.BiConsumer;
 
 import static com.hazelcast.internal.util.SortingUtil.compareAnchor;
+import static com.hazelcast.internal.util.SortingUtil.newTopKHeap;
 import static com.hazelcast.internal.util.ToHeapDataConverter.toHeapData;
 import static com.hazelcast.map.impl.record.Records.getValueOrCachedValue;
 
@@ -87,6 +89,9 @@ public class PartitionScanRunner {
         Extractors extractors = mapServiceContext.getExtractors(mapName);
         Map.Entry<Integer, Map.Entry> nearestAnchorEntry =
                 pagingPredicate == null ? null : pagingPredicate.getNearestAnchorEntry();
+        // with a paging predicate only the entries up to the end of the current
+        // page can make it to the caller, so only those are retained
+        TopKHeap<QueryableEntry> topK = newTopKHeap(pagingPredicate, nearestAnchorEntry);
 
         recordStore.forEachAfterLoad(new BiConsumer<>() {
             LazyMapEntry queryEntry = new LazyMapEntry();
@@ -108,7 +113,13 @@ public class PartitionScanRunner {
 
                     // always copy key&value to heap if map is backed by native memory
                     value = nativeMemory ? toHeapData((Data) value) : value;
-                    result.add(queryEntry.init(ss, toHeapData(key), value, extractors));
+                    queryEntry.init(ss, toHeapData(key), value, extractors);
+                    if (topK == null) {
+                        result.add(queryEntry);
+                    } else if (!topK.offer(queryEntry)) {
+                        // not retained, the entry can be reused
+                        return;
+                    }
 
                     // We can't reuse the existing entry after it was added to the
                     // result. Allocate the new one.
@@ -116,6 +127,11 @@ public class PartitionScanRunner {
                 }
             }
         }, false);
+        if (topK != null) {
+            for (QueryableEntry entry : topK.toSortedList()) {
+                result.add(entry);
+            }
+        }
         result.orderAndLimit(pagingPredicate, nearestAnchorEntry);
     }
 
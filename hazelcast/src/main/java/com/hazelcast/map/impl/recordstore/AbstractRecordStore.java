@@ -47,6 +47,8 @@ import com.hazelcast.wan.impl.CallerProvenance;
 
 import javax.annotation.Nonnull;
 
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_JSON_BINARY_METADATA_ENABLED;
+
 /**
  * Contains record store common parts.
  */
@@ -123,8 +125,11 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
 
         // Add observer for json metadata
         if (mapContainer.getMapConfig().getMetadataPolicy() == MetadataPolicy.CREATE_ON_UPDATE) {
+            boolean binaryJson = mapServiceContext.getNodeEngine().getProperties()
+                    .getBoolean(QUERY_JSON_BINARY_METADATA_ENABLED);
             mutationObserver.add(new JsonMetadataMutationObserver(serializationService,
-                    JsonMetadataInitializer.INSTANCE, getOrCreateMetadataStore()));
+                    binaryJson ? JsonMetadataInitializer.BINARY_INSTANCE : JsonMetadataInitializer.INSTANCE,
+                    getOrCreateMetadataStore()));
         }
 
         // Add observer for indexing
@@ -175,6 +180,9 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     }
 
     public Storage createStorage(RecordFactory recordFactory, InMemoryFormat memoryFormat) {
+        if (mapContainer.getMapConfig().isOpenAddressingStorageEnabled()) {
+            return new OpenAddressingStorage(memoryFormat, getExpirySystem(), serializationService);
+        }
         return new StorageImpl(memoryFormat, getExpirySystem(), serializationService);
     }
 
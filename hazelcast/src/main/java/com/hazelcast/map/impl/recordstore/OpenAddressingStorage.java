@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.ThreadLocalRandomProvider;
+import com.hazelcast.map.impl.EntryCostEstimator;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+import static com.hazelcast.map.impl.OwnedEntryCostEstimatorFactory.createMapSizeEstimator;
+
+/**
+ * {@link Storage} implementation which keeps keys and records in flat
+ * arrays indexed by an open-addressing hash table with linear probing,
+ * instead of the per-entry nodes of {@link StorageSCHM}.
+ * <p>
+ * Layout and invariants:
+ * <ul>
+ *     <li>The table has {@code capacity} home slots (a power of two)
+ *     followed by a probe tail of {@link #PROBE_TAIL_LENGTH} slots.
+ *     Probing never wraps around: when no free slot is found before
+ *     the end of the arrays, the table is grown. Consequently, every
+ *     entry sits at or after its home slot.</li>
+ *     <li>Removal uses backward-shift deletion, so there are no
+ *     tombstones and entries only ever move towards lower indexes
+ *     within their own cluster.</li>
+ * </ul>
+ * Fetching walks the slots from the highest index to the lowest.
+ * Together with the invariants above, this lets the cursor based
+ * {@link #fetchKeys} and {@link #fetchEntries} resume after a resize
+ * without returning an entry twice.
+ * <p>
+ * A backward shift can move an entry from a visited slot to one which
+ * is yet to be visited, so {@link #mutationTolerantIterator()} does not
+ * walk the slots. It iterates over a snapshot of the keys instead and
+ * looks each of them up when it gets to it.
+ * <p>
+ * This class is not thread-safe, it is meant to be accessed only by
+ * the partition thread owning the record store.
+ *
+ * @param <R> the value type to be put in this storage.
+ */
+public class OpenAddressingStorage<R extends Record> implements Storage<Data, R> {
+
+    static final int DEFAULT_INITIAL_CAPACITY = 256;
+    static final int PROBE_TAIL_LENGTH = 64;
+    static final float LOAD_FACTOR = 0.6f;
+
+    private final SerializationService serializationService;
+    private final InMemoryFormat inMemoryFormat;
+    private final ExpirySystem expirySystem;
+
+    private Data[] keys;
+    private Record[] records;
+    private int[] hashes;
+    private int capacity;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+
+    // not final for testing purposes.
+    private EntryCostEstimator<Data, Record> entryCostEstimator;
+
+    public OpenAddressingStorage(InMemoryFormat inMemoryFormat, ExpirySystem expirySystem,
+                                 SerializationService serializationService) {
+        this.entryCostEstimator = createMapSizeEstimator(inMemoryFormat);
+        this.inMemoryFormat = inMemoryFormat;
+        this.expirySystem = expirySystem;
+        this.serializationService = serializationService;
+        allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void put(Data key, R record) {
+        int hash = hashOf(key);
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            Record previousRecord = records[slot];
+            records[slot] = record;
+            updateCostEstimate(-entryCostEstimator.calculateValueCost(previousRecord));
+            updateCostEstimate(entryCostEstimator.calculateValueCost(record));
+            return;
+        }
+
+        if (size >= resizeThreshold) {
+            resize(capacity << 1);
+        }
+        insert(key, record, hash);
+        size++;
+        updateCostEstimate(entryCostEstimator.calculateEntryCost(key, record));
+    }
+
+    @Override
+    public R updateRecordValue(Data key, R record, Object value) {
+        updateCostEstimate(-entryCostEstimator.calculateValueCost(record));
+
+        record.setValue(inMemoryFormat == BINARY
+                ? serializationService.toData(value) : serializationService.toObject(value));
+
+        updateCostEstimate(entryCostEstimator.calculateValueCost(record));
+        return record;
+    }
+
+    @Override
+    public R get(Data key) {
+        int slot = findSlot(key, hashOf(key));
+        return slot < 0 ? null : (R) records[slot];
+    }
+
+    @Override
+    public R getIfSameKey(Data key) {
+        throw new UnsupportedOperationException("OpenAddressingStorage#getIfSameKey");
+    }
+
+    @Override
+    public void removeRecord(Data dataKey, @Nonnull R record) {
+        int slot = findSlot(dataKey, hashOf(dataKey));
+        if (slot < 0) {
+            return;
+        }
+        deleteSlot(slot);
+        size--;
+
+        updateCostEstimate(-entryCostEstimator.calculateEntryCost(dataKey, record));
+    }
+
+    @Override
+    public boolean containsKey(Data key) {
+        return findSlot(key, hashOf(key)) >= 0;
+    }
+
+    @Override
+    public Iterator<Map.Entry<Data, R>> mutationTolerantIterator() {
+        return new SlotIterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        allocate(DEFAULT_INITIAL_CAPACITY);
+        size = 0;
+
+        entryCostEstimator.reset();
+    }
+
+    @Override
+    public void destroy(boolean isDuringShutdown) {
+        clear(isDuringShutdown);
+    }
+
+    @Override
+    public EntryCostEstimator getEntryCostEstimator() {
+        return entryCostEstimator;
+    }
+
+    @Override
+    public void setEntryCostEstimator(EntryCostEstimator entryCostEstimator) {
+        this.entryCostEstimator = entryCostEstimator;
+    }
+
+    @Override
+    public Iterable<EntryView> getRandomSamples(int sampleCount) {
+        if (sampleCount < 0) {
+            throw new IllegalArgumentException("Sample count cannot be a negative value.");
+        }
+        if (sampleCount == 0 || size == 0) {
+            return Collections.emptyList();
+        }
+        int startSlot = ThreadLocalRandomProvider.get().nextInt(keys.length);
+        return () -> new SamplingIterator(startSlot, sampleCount);
+    }
+
+    @Override
+    public MapKeysWithCursor fetchKeys(IterationPointer[] pointers, int size) {
+        List<Data> fetchedKeys = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (key, record) -> fetchedKeys.add(key));
+        return new MapKeysWithCursor(fetchedKeys, newPointers);
+    }
+
+    @Override
+    public MapEntriesWithCursor fetchEntries(IterationPointer[] pointers, int size) {
+        List<Map.Entry<Data, Data>> entriesData = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (key, record) -> {
+            Data dataValue = serializationService.toData(record.getValue());
+            entriesData.add(new AbstractMap.SimpleEntry<>(key, dataValue));
+        });
+        return new MapEntriesWithCursor(entriesData, newPointers);
+    }
+
+    @Override
+    public Data extractDataKeyFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getDataKey();
+    }
+
+    @Override
+    public Data toBackingDataKeyFormat(Data key) {
+        return key;
+    }
+
+    protected void updateCostEstimate(long entrySize) {
+        entryCostEstimator.adjustEstimateBy(entrySize);
+    }
+
+    // only used for testing purposes.
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Fetches entries walking the slots downwards from the last pointer.
+     * <p>
+     * Once at least {@code size} entries are fetched, the walk goes on
+     * until an empty slot is reached and the pointer is left on it. No
+     * entry above an empty slot can have its home slot below it, so
+     * after a resize, an entry has already been observed if and only if
+     * its home slot in an earlier table is above that table's pointer.
+     * The pointer size is the table capacity, since that is what
+     * determines the home slots.
+     */
+    private IterationPointer[] fetchNext(IterationPointer[] pointers, int size, FetchConsumer consumer) {
+        pointers = checkPointers(pointers);
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+
+        int slot = lastPointer.getIndex();
+        if (slot < 0 || slot >= keys.length) {
+            slot = keys.length - 1;
+        }
+        int counter = 0;
+        while (slot >= 0) {
+            Data key = keys[slot];
+            if (key == null) {
+                if (counter >= size) {
+                    break;
+                }
+            } else if (hasNotBeenObserved(hashes[slot], pointers)) {
+                consumer.accept(key, records[slot]);
+                counter++;
+            }
+            slot--;
+        }
+        lastPointer.setIndex(slot);
+        return pointers;
+    }
+
+    private IterationPointer[] checkPointers(IterationPointer[] pointers) {
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+        boolean iterationStarted = lastPointer.getSize() == -1;
+        boolean tableResized = lastPointer.getSize() != capacity;
+        // clone pointers to avoid mutating given reference
+        // add new pointer if resize happened during iteration
+        int newLength = !iterationStarted && tableResized ? pointers.length + 1 : pointers.length;
+
+        IterationPointer[] updatedPointers = new IterationPointer[newLength];
+        for (int i = 0; i < pointers.length; i++) {
+            updatedPointers[i] = new IterationPointer(pointers[i]);
+        }
+
+        // reset last pointer if we haven't started iteration or there was a resize
+        if (iterationStarted || tableResized) {
+            updatedPointers[updatedPointers.length - 1] = new IterationPointer(Integer.MAX_VALUE, capacity);
+        }
+        return updatedPointers;
+    }
+
+    private static boolean hasNotBeenObserved(int hash, IterationPointer[] pointers) {
+        // check only the pointers up to the last, we haven't observed it with the last pointer
+        for (int i = 0; i < pointers.length - 1; i++) {
+            IterationPointer pointer = pointers[i];
+            int homeSlot = hash & (pointer.getSize() - 1);
+            if (homeSlot > pointer.getIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hashOf(Data key) {
+        return fastIntMix(key.hashCode());
+    }
+
+    private int findSlot(Data key, int hash) {
+        Data[] keys = this.keys;
+        int[] hashes = this.hashes;
+        for (int slot = hash & mask; slot < keys.length; slot++) {
+            Data current = keys[slot];
+            if (current == null) {
+                return -1;
+            }
+            if (hashes[slot] == hash && current.equals(key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(Data key, Record record, int hash) {
+        while (true) {
+            for (int slot = hash & mask; slot < keys.length; slot++) {
+                if (keys[slot] == null) {
+                    keys[slot] = key;
+                    records[slot] = record;
+                    hashes[slot] = hash;
+                    return;
+                }
+            }
+            // probe tail exhausted, grow and retry
+            resize(capacity << 1);
+        }
+    }
+
+    private void deleteSlot(int slot) {
+        int hole = slot;
+        for (int next = slot + 1; next < keys.length && keys[next] != null; next++) {
+            int homeSlot = hashes[next] & mask;
+            if (homeSlot <= hole) {
+                keys[hole] = keys[next];
+                records[hole] = records[next];
+                hashes[hole] = hashes[next];
+                hole = next;
+            }
+        }
+        keys[hole] = null;
+        records[hole] = null;
+        hashes[hole] = 0;
+    }
+
+    private void resize(int newCapacity) {
+        Data[] oldKeys = keys;
+        Record[] oldRecords = records;
+        int[] oldHashes = hashes;
+
+        allocate(newCapacity);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            Data key = oldKeys[slot];
+            if (key != null) {
+                insert(key, oldRecords[slot], oldHashes[slot]);
+            }
+        }
+    }
+
+    private void allocate(int newCapacity) {
+        capacity = nextPowerOfTwo(newCapacity);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+        keys = new Data[capacity + PROBE_TAIL_LENGTH];
+        records = new Record[capacity + PROBE_TAIL_LENGTH];
+        hashes = new int[capacity + PROBE_TAIL_LENGTH];
+    }
+
+    @FunctionalInterface
+    private interface FetchConsumer {
+        void accept(Data key, Record record);
+    }
+
+    /**
+     * Iterates over the keys present when the iterator was created,
+     * skipping the ones removed in the meantime and returning the
+     * current record of the others. Arbitrary removals, insertions and
+     * resizes during the iteration can neither make it skip an entry
+     * present all along nor return an entry twice. Entries inserted
+     * after the iterator was created are not returned.
+     */
+    private final class SlotIterator implements Iterator<Map.Entry<Data, R>> {
+
+        private final Data[] snapshotKeys = new Data[size];
+        private final int[] snapshotHashes = new int[size];
+        private int index;
+        private Map.Entry<Data, R> nextEntry;
+
+        SlotIterator() {
+            int count = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != null) {
+                    snapshotKeys[count] = keys[slot];
+                    snapshotHashes[count] = hashes[slot];
+                    count++;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (nextEntry == null && index < snapshotKeys.length) {
+                Data key = snapshotKeys[index];
+                snapshotKeys[index] = null;
+                int slot = findSlot(key, snapshotHashes[index]);
+                index++;
+                if (slot >= 0) {
+                    nextEntry = new AbstractMap.SimpleImmutableEntry<>(keys[slot], (R) records[slot]);
+                }
+            }
+            return nextEntry != null;
+        }
+
+        @Override
+        public Map.Entry<Data, R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Data, R> entry = nextEntry;
+            nextEntry = null;
+            return entry;
+        }
+    }
+
+    /**
+     * Visits up to {@code sampleCount} entries starting from a random
+     * slot and wrapping around the end of the arrays at most once.
+     */
+    private final class SamplingIterator implements Iterator<EntryView> {
+
+        private final int sampleCount;
+        private int visitedSlots;
+        private int returnedCount;
+        private int slot;
+
+        private SamplingIterator(int startSlot, int sampleCount) {
+            this.sampleCount = sampleCount;
+            this.slot = startSlot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (returnedCount >= sampleCount) {
+                return false;
+            }
+            Data[] keys = OpenAddressingStorage.this.keys;
+            while (visitedSlots < keys.length) {
+                if (slot >= keys.length) {
+                    slot = 0;
+                }
+                if (keys[slot] != null && records[slot] != null) {
+                    return true;
+                }
+                slot++;
+                visitedSlots++;
+            }
+            return false;
+        }
+
+        @Override
+        public EntryView next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Data key = keys[slot];
+            Record record = records[slot];
+            slot++;
+            visitedSlots++;
+            returnedCount++;
+            return new LazyEvictableEntryView<>(key, record, expirySystem.getExpiryMetadata(key), serializationService);
+        }
+    }
+}
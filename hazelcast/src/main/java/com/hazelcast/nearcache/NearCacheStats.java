@@ -78,6 +78,26 @@ public interface NearCacheStats extends LocalInstanceStats {
      */
     long getInvalidationRequests();
 
+    /**
+     * @return number of Near Cache entries owned by this member which were admitted by the admission filter
+     * in place of an evicted entry (when the admission filter is enabled), {@code 0} for implementations which
+     * don't track admissions
+     * @since 6.0
+     */
+    default long getAdmissions() {
+        return 0;
+    }
+
+    /**
+     * @return number of Near Cache entries which were rejected by the admission filter, because they were accessed
+     * less frequently than the entry they would have replaced (when the admission filter is enabled), {@code 0}
+     * for implementations which don't track admissions
+     * @since 6.0
+     */
+    default long getAdmissionRejections() {
+        return 0;
+    }
+
     /**
      * @return the number of Near Cache key persistences (when the pre-load feature is enabled)
      */
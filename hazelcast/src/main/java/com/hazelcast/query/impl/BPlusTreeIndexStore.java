@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.query.Predicate;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static com.hazelcast.query.impl.IndexBPlusTree.ABOVE;
+import static com.hazelcast.query.impl.IndexBPlusTree.BELOW;
+import static com.hazelcast.query.impl.IndexBPlusTree.MAX_VALUE;
+import static com.hazelcast.query.impl.IndexBPlusTree.MIN_VALUE;
+import static com.hazelcast.query.impl.OrderedIndexStore.SPECIAL_AWARE_COMPARATOR;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptySet;
+
+/**
+ * Store indexes rankly in a B+tree.
+ * <p>
+ * Functionally equivalent to the {@link OrderedIndexStore}, but the entries are
+ * kept in the packed leaves of an {@link IndexBPlusTree} instead of in a skip
+ * list of skip lists, which makes range scans cheaper and the index smaller.
+ * <p>
+ * The results of {@code getRecords} are always collected into new maps, so the
+ * {@link IndexCopyBehavior} makes no difference for this store.
+ */
+@SuppressWarnings("rawtypes")
+public class BPlusTreeIndexStore extends BaseSingleValueIndexStore {
+
+    private final IndexBPlusTree tree;
+
+    public BPlusTreeIndexStore(IndexCopyBehavior copyOn) {
+        this(copyOn, IndexBPlusTree.DEFAULT_NODE_CAPACITY);
+    }
+
+    BPlusTreeIndexStore(IndexCopyBehavior copyOn, int nodeCapacity) {
+        super(copyOn, true);
+        assert copyOn != null;
+        this.tree = new IndexBPlusTree(nodeCapacity);
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        return tree.put(value, record);
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        return tree.remove(value, recordKey);
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        // We still need to canonicalize query arguments for ordered indexes to
+        // support InPredicate queries.
+        return Comparables.canonicalizeForHashLookup(value);
+    }
+
+    @Override
+    public Comparable canonicalizeScalarForStorage(Comparable value) {
+        // Returning the original value since ordered indexes are not supporting
+        // hash lookups on their stored values, so there is no need in providing
+        // canonical representations.
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            tree.clear();
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return false;
+    }
+
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(boolean descending) {
+        return new EntryIterator(fullScan(descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(@Nonnull Comparable value) {
+        return new EntryIterator(pointScan(value, false, null));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparison comparison, Comparable searchedValue, boolean descending) {
+        Scan scan = comparisonScan(comparison, searchedValue, descending, null);
+        return scan == null ? emptyIterator() : new EntryIterator(scan);
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(
+            Comparable from,
+            boolean fromInclusive,
+            Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        Scan scan = rangeScan(from, fromInclusive, to, toInclusive, descending, null);
+        return scan == null ? emptyIterator() : new EntryIterator(scan);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable value, boolean descending) {
+        return getSqlRecordIteratorBatch(value, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable value,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        return new BatchIterator(pointScan(value, descending, lastEntryKeyData));
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(boolean descending) {
+        return new BatchIterator(fullScan(descending));
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(comparison, searchedValue, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        Scan scan = comparisonScan(comparison, searchedValue, descending, lastEntryKeyData);
+        return scan == null ? emptyIterator() : new BatchIterator(scan);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        Scan scan = rangeScan(from, fromInclusive, to, toInclusive, descending, lastEntryKeyData);
+        return scan == null ? emptyIterator() : new BatchIterator(scan);
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            collect(pointScan(value, false, null), records);
+            return new SingleResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        takeReadLock();
+        try {
+            MultiResultSet results = createMultiResultSet();
+            for (Comparable value : values) {
+                Map<Data, QueryableEntry> records = new HashMap<>();
+                collect(pointScan(value, false, null), records);
+                if (!records.isEmpty()) {
+                    results.addResultSet(records);
+                }
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable searchedValue) {
+        switch (comparison) {
+            case LESS:
+                return getRecords(NULL, false, searchedValue, false);
+            case LESS_OR_EQUAL:
+                return getRecords(NULL, false, searchedValue, true);
+            case GREATER:
+                return getRecords(searchedValue, false, POSITIVE_INFINITY, true);
+            case GREATER_OR_EQUAL:
+                return getRecords(searchedValue, true, POSITIVE_INFINITY, true);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        takeReadLock();
+        try {
+            Scan scan = rangeScan(from, fromInclusive, to, toInclusive, false, null);
+            if (scan == null) {
+                return emptySet();
+            }
+            Map<Data, QueryableEntry> records = new HashMap<>();
+            collect(scan, records);
+            if (SPECIAL_AWARE_COMPARATOR.compare(from, to) == 0) {
+                return new SingleResultSet(records);
+            }
+            MultiResultSet results = createMultiResultSet();
+            if (!records.isEmpty()) {
+                results.addResultSet(records);
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    private Scan fullScan(boolean descending) {
+        return descending
+                ? new Scan(tree.cursor(MAX_VALUE, null, BELOW, true), null, false, true)
+                : new Scan(tree.cursor(MIN_VALUE, null, ABOVE, false), null, false, false);
+    }
+
+    private Scan pointScan(Comparable value, boolean descending, Data lastEntryKeyData) {
+        int bias;
+        if (descending) {
+            bias = lastEntryKeyData == null ? ABOVE : BELOW;
+        } else {
+            bias = lastEntryKeyData == null ? BELOW : ABOVE;
+        }
+        return new Scan(tree.cursor(value, lastEntryKeyData, bias, descending), value, true, descending);
+    }
+
+    private Scan comparisonScan(Comparison comparison, Comparable searchedValue, boolean descending,
+                                Data lastEntryKeyData) {
+        switch (comparison) {
+            case LESS:
+                return rangeScan(NULL, false, searchedValue, false, descending, lastEntryKeyData);
+            case LESS_OR_EQUAL:
+                return rangeScan(NULL, false, searchedValue, true, descending, lastEntryKeyData);
+            case GREATER:
+                return rangeScan(searchedValue, false, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            case GREATER_OR_EQUAL:
+                return rangeScan(searchedValue, true, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    /**
+     * Returns a scan over the given range, or {@code null} if the range is
+     * empty.
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber", "checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity"})
+    private Scan rangeScan(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive, boolean descending,
+                           Data lastEntryKeyData) {
+        boolean useCursor = lastEntryKeyData != null;
+        if (useCursor && !descending && !fromInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `from` must be inclusive");
+        }
+        if (useCursor && descending && !toInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `to` must be inclusive");
+        }
+
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order == 0) {
+            if (!fromInclusive || !toInclusive) {
+                return null;
+            }
+            return pointScan(from, descending, lastEntryKeyData);
+        } else if (order > 0) {
+            return null;
+        }
+
+        if (descending) {
+            int bias = !useCursor && toInclusive ? ABOVE : BELOW;
+            return new Scan(tree.cursor(to, lastEntryKeyData, bias, true), from, fromInclusive, true);
+        } else {
+            int bias = !useCursor && fromInclusive ? BELOW : ABOVE;
+            return new Scan(tree.cursor(from, lastEntryKeyData, bias, false), to, toInclusive, false);
+        }
+    }
+
+    private static void collect(Scan scan, Map<Data, QueryableEntry> records) {
+        while (scan.hasCurrent) {
+            QueryableEntry entry = scan.cursor.entry();
+            records.put(entry.getKeyData(), entry);
+            scan.advance();
+        }
+    }
+
+    private static boolean sameValue(Comparable left, Comparable right) {
+        // consecutive equal values in the tree usually share the instance
+        return left == right || SPECIAL_AWARE_COMPARATOR.compare(left, right) == 0;
+    }
+
+    /**
+     * A tree cursor limited by an end value.
+     */
+    private static final class Scan {
+        final IndexBPlusTree.Cursor cursor;
+        final Comparable end;
+        final boolean endInclusive;
+        final boolean descending;
+        boolean hasCurrent;
+
+        Scan(IndexBPlusTree.Cursor cursor, Comparable end, boolean endInclusive, boolean descending) {
+            this.cursor = cursor;
+            this.end = end;
+            this.endInclusive = endInclusive;
+            this.descending = descending;
+            advance();
+        }
+
+        void advance() {
+            if (!cursor.advance()) {
+                hasCurrent = false;
+            } else if (end == null) {
+                hasCurrent = true;
+            } else {
+                int order = SPECIAL_AWARE_COMPARATOR.compare(cursor.value(), end);
+                hasCurrent = descending ? order > 0 || order == 0 && endInclusive : order < 0 || order == 0 && endInclusive;
+            }
+        }
+    }
+
+    private static final class EntryIterator implements Iterator<QueryableEntry> {
+        private final Scan scan;
+
+        private EntryIterator(Scan scan) {
+            this.scan = scan;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return scan.hasCurrent;
+        }
+
+        @Override
+        public QueryableEntry next() {
+            if (!scan.hasCurrent) {
+                throw new NoSuchElementException();
+            }
+            QueryableEntry entry = scan.cursor.entry();
+            scan.advance();
+            return entry;
+        }
+    }
+
+    /**
+     * Groups the entries of a scan by their values. The entries of a group are
+     * read lazily from the scan; the entries of a group left unread when
+     * moving to the next group are skipped.
+     */
+    private static final class BatchIterator implements Iterator<IndexKeyEntries> {
+        private final Scan scan;
+        private Group group;
+
+        private BatchIterator(Scan scan) {
+            this.scan = scan;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (group != null) {
+                while (scan.hasCurrent && sameValue(group.value, scan.cursor.value())) {
+                    scan.advance();
+                }
+                group = null;
+            }
+            return scan.hasCurrent;
+        }
+
+        @Override
+        public IndexKeyEntries next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            group = new Group(scan.cursor.value());
+            return new IndexKeyEntries(group.value, group);
+        }
+
+        private final class Group implements Iterator<QueryableEntry> {
+            private final Comparable value;
+
+            private Group(Comparable value) {
+                this.value = value;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return group == this && scan.hasCurrent && sameValue(value, scan.cursor.value());
+            }
+
+            @Override
+            public QueryableEntry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                QueryableEntry entry = scan.cursor.entry();
+                scan.advance();
+                return entry;
+            }
+        }
+    }
+}
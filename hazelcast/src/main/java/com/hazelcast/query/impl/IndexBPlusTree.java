@@ -0,0 +1,786 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import static com.hazelcast.query.impl.OrderedIndexStore.DATA_COMPARATOR;
+import static com.hazelcast.query.impl.OrderedIndexStore.SPECIAL_AWARE_COMPARATOR;
+
+/**
+ * A B+tree mapping (attribute value, entry key) pairs to index entries.
+ * <p>
+ * Unlike the nested skip lists of the {@link OrderedIndexStore}, all entries
+ * of the tree are kept in leaves with packed arrays of values, keys and
+ * entries, ordered by value and then by key. So a range scan walks through
+ * a few arrays per leaf instead of chasing a pointer per entry, and an
+ * indexed entry costs 3 array slots instead of several objects. Consecutive
+ * entries with an equal value share the value instance.
+ *
+ * <h2>Concurrency</h2>
+ * The tree supports a single writer and any number of concurrent readers.
+ * Writers are expected to be serialized externally, e.g. by the write lock of
+ * the index store.
+ * <p>
+ * Readers don't take locks, they use optimistic lock coupling: every node has
+ * a version which is odd while the writer modifies the node. A reader records
+ * the version of a node before reading it, and validates the version didn't
+ * change before trusting what it read. If it did, the reader restarts from the
+ * root. The writer keeps all nodes it modifies locked until the parents of the
+ * nodes are updated, so a reader never sees a half-done split or merge. The
+ * old root is locked while the root is replaced, so once a reader has a stable
+ * version of the root, it checks the root is still the same node.
+ * <p>
+ * Leaves aren't linked. A {@link Cursor} copies the remainder of a leaf and
+ * finds the next leaf by searching for the separator bounding the leaf.
+ * This makes iteration weakly consistent in the same way as the iteration of
+ * a {@link java.util.concurrent.ConcurrentSkipListMap}: it never returns an
+ * entry twice and it returns all entries which weren't concurrently modified.
+ */
+@SuppressWarnings("rawtypes")
+final class IndexBPlusTree {
+
+    static final int DEFAULT_NODE_CAPACITY = 64;
+
+    /**
+     * A node is merged or evened out with a sibling when it gets less than a
+     * quarter full.
+     */
+    private static final int MIN_FILL_DIVISOR = 4;
+    private static final int INITIAL_PATH_LENGTH = 8;
+
+    /**
+     * A bias for a search key without an entry key, or to search right below
+     * the search key.
+     */
+    static final int BELOW = -1;
+    /**
+     * A bias to search for exactly the search key.
+     */
+    static final int EXACT = 0;
+    /**
+     * A bias for a search key without an entry key, or to search right above
+     * the search key.
+     */
+    static final int ABOVE = 1;
+
+    /**
+     * A search value below all values.
+     */
+    static final Comparable MIN_VALUE = new Unbounded();
+    /**
+     * A search value above all values.
+     */
+    static final Comparable MAX_VALUE = new Unbounded();
+
+    private final int capacity;
+    private final int minSize;
+
+    private volatile Node root;
+
+    // the path of the current write operation
+    private Inner[] path = new Inner[INITIAL_PATH_LENGTH];
+    private int[] pathIndexes = new int[INITIAL_PATH_LENGTH];
+
+    IndexBPlusTree() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    IndexBPlusTree(int capacity) {
+        assert capacity >= MIN_FILL_DIVISOR;
+        this.capacity = capacity;
+        this.minSize = capacity / MIN_FILL_DIVISOR;
+        this.root = new Leaf(capacity);
+    }
+
+    /**
+     * Associates the given entry with the given value.
+     * <p>
+     * Must not be called concurrently with another write operation.
+     *
+     * @return the entry previously associated with the value and the key of
+     * the entry, or {@code null} if there was none.
+     */
+    QueryableEntry put(Comparable value, QueryableEntry entry) {
+        Data key = entry.getKeyData();
+        int depth = descend(value, key);
+        Leaf leaf = (Leaf) (depth == 0 ? root : path[depth - 1].children[pathIndexes[depth - 1]]);
+
+        int position = leaf.firstIndex(value, key, EXACT, true);
+        if (position < leaf.size && compare(value, key, EXACT, leaf.values[position], leaf.keys[position]) == 0) {
+            lock(leaf);
+            QueryableEntry oldEntry = leaf.entries[position];
+            leaf.entries[position] = entry;
+            unlock(leaf);
+            return oldEntry;
+        }
+
+        // consecutive equal values share the value instance
+        if (position > 0 && SPECIAL_AWARE_COMPARATOR.compare(value, leaf.values[position - 1]) == 0) {
+            value = leaf.values[position - 1];
+        } else if (position < leaf.size && SPECIAL_AWARE_COMPARATOR.compare(value, leaf.values[position]) == 0) {
+            value = leaf.values[position];
+        }
+
+        lock(leaf);
+        if (leaf.size < capacity) {
+            leaf.insert(position, value, key, entry);
+        } else {
+            Leaf right = new Leaf(capacity);
+            int mid = capacity / 2;
+            leaf.moveTo(mid, right);
+            if (position <= mid) {
+                leaf.insert(position, value, key, entry);
+            } else {
+                right.insert(position - mid, value, key, entry);
+            }
+            insertIntoParent(depth, leaf, right.values[0], right.keys[0], right);
+        }
+        unlock(leaf);
+        return null;
+    }
+
+    /**
+     * Removes the association of the entry with the given key and the given
+     * value.
+     * <p>
+     * Must not be called concurrently with another write operation.
+     *
+     * @return the removed entry, or {@code null} if there was none.
+     */
+    QueryableEntry remove(Comparable value, Data key) {
+        int depth = descend(value, key);
+        Leaf leaf = (Leaf) (depth == 0 ? root : path[depth - 1].children[pathIndexes[depth - 1]]);
+
+        int position = leaf.firstIndex(value, key, EXACT, true);
+        if (position == leaf.size || compare(value, key, EXACT, leaf.values[position], leaf.keys[position]) != 0) {
+            return null;
+        }
+
+        lock(leaf);
+        QueryableEntry oldEntry = leaf.entries[position];
+        leaf.remove(position);
+        if (depth > 0 && leaf.size < minSize) {
+            rebalance(depth, leaf);
+        }
+        unlock(leaf);
+        return oldEntry;
+    }
+
+    /**
+     * Removes all entries.
+     * <p>
+     * Must not be called concurrently with another write operation.
+     */
+    void clear() {
+        Node oldRoot = root;
+        lock(oldRoot);
+        root = new Leaf(capacity);
+        unlock(oldRoot);
+    }
+
+    /**
+     * Returns a cursor over the entries following the given search key, or
+     * preceding it if descending.
+     *
+     * @param value      the value of the search key, or {@link #MIN_VALUE}
+     *                   or {@link #MAX_VALUE}.
+     * @param key        the entry key of the search key, or {@code null}.
+     * @param bias       {@link #BELOW} or {@link #ABOVE}; whether the search key
+     *                   is right below or above the given value and key.
+     * @param descending whether to iterate in descending order.
+     */
+    Cursor cursor(Comparable value, Data key, int bias, boolean descending) {
+        assert bias != EXACT;
+        return new Cursor(value, key, bias, descending);
+    }
+
+    // just for testing
+    int height() {
+        int height = 1;
+        for (Node node = root; node instanceof Inner inner; node = inner.children[0]) {
+            height++;
+        }
+        return height;
+    }
+
+    /**
+     * Descends to the leaf for the given value and key, recording the inner
+     * nodes on the way in the path.
+     *
+     * @return the depth of the leaf.
+     */
+    private int descend(Comparable value, Data key) {
+        int depth = 0;
+        Node node = root;
+        while (node instanceof Inner inner) {
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+                pathIndexes = Arrays.copyOf(pathIndexes, depth * 2);
+            }
+            int index = inner.firstIndex(value, key, EXACT, false);
+            path[depth] = inner;
+            pathIndexes[depth] = index;
+            depth++;
+            node = inner.children[index];
+        }
+        return depth;
+    }
+
+    /**
+     * Inserts the separator and the new right sibling of the node at the given
+     * depth, splitting the parent if needed.
+     */
+    private void insertIntoParent(int depth, Node left, Comparable value, Data key, Node right) {
+        if (depth == 0) {
+            Inner newRoot = new Inner(capacity);
+            newRoot.children[0] = left;
+            newRoot.insert(0, value, key, right);
+            root = newRoot;
+            return;
+        }
+
+        Inner parent = path[depth - 1];
+        int index = pathIndexes[depth - 1];
+        lock(parent);
+        if (parent.size < capacity) {
+            parent.insert(index, value, key, right);
+        } else {
+            Inner newRight = new Inner(capacity);
+            int mid = capacity / 2;
+            Comparable promotedValue;
+            Data promotedKey;
+            if (index < mid) {
+                promotedValue = parent.values[mid - 1];
+                promotedKey = parent.keys[mid - 1];
+                parent.moveTo(mid - 1, newRight);
+                parent.insert(index, value, key, right);
+            } else if (index == mid) {
+                promotedValue = value;
+                promotedKey = key;
+                parent.moveTo(mid, right, newRight);
+            } else {
+                promotedValue = parent.values[mid];
+                promotedKey = parent.keys[mid];
+                parent.moveTo(mid, newRight);
+                newRight.insert(index - mid - 1, value, key, right);
+            }
+            insertIntoParent(depth - 1, parent, promotedValue, promotedKey, newRight);
+        }
+        unlock(parent);
+    }
+
+    /**
+     * Merges the underflowing node at the given depth with a sibling, or
+     * evens out their sizes if they don't fit in a single node. The node is
+     * expected to be locked.
+     */
+    private void rebalance(int depth, Node node) {
+        Inner parent = path[depth - 1];
+        int index = pathIndexes[depth - 1];
+        lock(parent);
+        if (parent.size == 0) {
+            // the node is an only child, the root always has 2 children or more
+            rebalance(depth - 1, parent);
+            unlock(parent);
+            return;
+        }
+
+        int separator = index > 0 ? index - 1 : 0;
+        Node left = parent.children[separator];
+        Node right = parent.children[separator + 1];
+        Node sibling = left == node ? right : left;
+        boolean leaf = node instanceof Leaf;
+        lock(sibling);
+        if (left.size + right.size + (leaf ? 0 : 1) <= capacity) {
+            if (leaf) {
+                ((Leaf) left).append((Leaf) right);
+            } else {
+                ((Inner) left).append(parent.values[separator], parent.keys[separator], (Inner) right);
+            }
+            parent.remove(separator);
+        } else if (leaf) {
+            Leaf.redistribute((Leaf) left, (Leaf) right, parent, separator);
+        } else {
+            Inner.redistribute((Inner) left, (Inner) right, parent, separator);
+        }
+        unlock(sibling);
+
+        if (depth == 1) {
+            if (parent.size == 0) {
+                root = left;
+            }
+        } else if (parent.size < minSize) {
+            rebalance(depth - 1, parent);
+        }
+        unlock(parent);
+    }
+
+    private static void lock(Node node) {
+        node.version++;
+        VarHandle.storeStoreFence();
+    }
+
+    private static void unlock(Node node) {
+        node.version++;
+    }
+
+    private static int stableVersion(Node node) {
+        for (; ; ) {
+            int version = node.version;
+            if ((version & 1) == 0) {
+                return version;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static boolean validate(Node node, int version) {
+        VarHandle.acquireFence();
+        return node.version == version;
+    }
+
+    /**
+     * Compares the search key to the key of a slot. Unless the bias is
+     * {@link #EXACT}, a search key is never equal to a slot.
+     */
+    static int compare(Comparable searchValue, Data searchKey, int bias, Comparable value, Data key) {
+        if (searchValue == MIN_VALUE) {
+            return -1;
+        } else if (searchValue == MAX_VALUE) {
+            return 1;
+        }
+
+        int order = SPECIAL_AWARE_COMPARATOR.compare(searchValue, value);
+        if (order != 0) {
+            return order;
+        } else if (searchKey == null) {
+            return bias;
+        }
+        order = DATA_COMPARATOR.compare(searchKey, key);
+        return order != 0 ? order : bias;
+    }
+
+    private abstract static class Node {
+        final Comparable[] values;
+        final Data[] keys;
+        volatile int version;
+        int size;
+
+        Node(int capacity) {
+            this.values = new Comparable[capacity];
+            this.keys = new Data[capacity];
+        }
+
+        /**
+         * Returns the index of the first slot which is greater than the
+         * search key, or greater or equal if inclusive.
+         */
+        final int firstIndex(Comparable searchValue, Data searchKey, int bias, boolean inclusive) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int order = compare(searchValue, searchKey, bias, values[mid], keys[mid]);
+                if (order > 0 || (order == 0 && !inclusive)) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final QueryableEntry[] entries;
+
+        Leaf(int capacity) {
+            super(capacity);
+            this.entries = new QueryableEntry[capacity];
+        }
+
+        void insert(int index, Comparable value, Data key, QueryableEntry entry) {
+            int moved = size - index;
+            System.arraycopy(values, index, values, index + 1, moved);
+            System.arraycopy(keys, index, keys, index + 1, moved);
+            System.arraycopy(entries, index, entries, index + 1, moved);
+            values[index] = value;
+            keys[index] = key;
+            entries[index] = entry;
+            size++;
+        }
+
+        void remove(int index) {
+            int moved = size - index - 1;
+            System.arraycopy(values, index + 1, values, index, moved);
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(entries, index + 1, entries, index, moved);
+            size--;
+            values[size] = null;
+            keys[size] = null;
+            entries[size] = null;
+        }
+
+        /**
+         * Moves the slots starting from the given index to the empty right sibling.
+         */
+        void moveTo(int from, Leaf right) {
+            int moved = size - from;
+            System.arraycopy(values, from, right.values, 0, moved);
+            System.arraycopy(keys, from, right.keys, 0, moved);
+            System.arraycopy(entries, from, right.entries, 0, moved);
+            right.size = moved;
+            size = from;
+            Arrays.fill(values, from, from + moved, null);
+            Arrays.fill(keys, from, from + moved, null);
+            Arrays.fill(entries, from, from + moved, null);
+        }
+
+        /**
+         * Evens out the sizes of the given siblings and updates the separator
+         * between them.
+         */
+        static void redistribute(Leaf left, Leaf right, Inner parent, int separator) {
+            int leftSize = (left.size + right.size) / 2;
+            if (left.size > leftSize) {
+                int moved = left.size - leftSize;
+                System.arraycopy(right.values, 0, right.values, moved, right.size);
+                System.arraycopy(right.keys, 0, right.keys, moved, right.size);
+                System.arraycopy(right.entries, 0, right.entries, moved, right.size);
+                System.arraycopy(left.values, leftSize, right.values, 0, moved);
+                System.arraycopy(left.keys, leftSize, right.keys, 0, moved);
+                System.arraycopy(left.entries, leftSize, right.entries, 0, moved);
+                Arrays.fill(left.values, leftSize, left.size, null);
+                Arrays.fill(left.keys, leftSize, left.size, null);
+                Arrays.fill(left.entries, leftSize, left.size, null);
+                left.size = leftSize;
+                right.size += moved;
+            } else {
+                int moved = leftSize - left.size;
+                System.arraycopy(right.values, 0, left.values, left.size, moved);
+                System.arraycopy(right.keys, 0, left.keys, left.size, moved);
+                System.arraycopy(right.entries, 0, left.entries, left.size, moved);
+                int rightSize = right.size - moved;
+                System.arraycopy(right.values, moved, right.values, 0, rightSize);
+                System.arraycopy(right.keys, moved, right.keys, 0, rightSize);
+                System.arraycopy(right.entries, moved, right.entries, 0, rightSize);
+                Arrays.fill(right.values, rightSize, right.size, null);
+                Arrays.fill(right.keys, rightSize, right.size, null);
+                Arrays.fill(right.entries, rightSize, right.size, null);
+                left.size = leftSize;
+                right.size = rightSize;
+            }
+            parent.values[separator] = right.values[0];
+            parent.keys[separator] = right.keys[0];
+        }
+
+        void append(Leaf right) {
+            System.arraycopy(right.values, 0, values, size, right.size);
+            System.arraycopy(right.keys, 0, keys, size, right.size);
+            System.arraycopy(right.entries, 0, entries, size, right.size);
+            size += right.size;
+        }
+    }
+
+    /**
+     * An inner node with size separators and size + 1 children. All slots of
+     * a child are greater or equal to the separator on its left and less than
+     * the separator on its right.
+     */
+    private static final class Inner extends Node {
+        final Node[] children;
+
+        Inner(int capacity) {
+            super(capacity);
+            this.children = new Node[capacity + 1];
+        }
+
+        /**
+         * Inserts a separator at the given index with the child on its right.
+         */
+        void insert(int index, Comparable value, Data key, Node rightChild) {
+            int moved = size - index;
+            System.arraycopy(values, index, values, index + 1, moved);
+            System.arraycopy(keys, index, keys, index + 1, moved);
+            System.arraycopy(children, index + 1, children, index + 2, moved);
+            values[index] = value;
+            keys[index] = key;
+            children[index + 1] = rightChild;
+            size++;
+        }
+
+        /**
+         * Removes the separator at the given index with the child on its right.
+         */
+        void remove(int index) {
+            int moved = size - index - 1;
+            System.arraycopy(values, index + 1, values, index, moved);
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(children, index + 2, children, index + 1, moved);
+            children[size] = null;
+            size--;
+            values[size] = null;
+            keys[size] = null;
+        }
+
+        /**
+         * Moves the separators starting from the given index and the children
+         * on their right to the empty right sibling. The separator at the given
+         * index is dropped and its right child becomes the first child of the
+         * sibling.
+         */
+        void moveTo(int from, Inner right) {
+            int moved = size - from - 1;
+            if (moved >= 0) {
+                System.arraycopy(values, from + 1, right.values, 0, moved);
+                System.arraycopy(keys, from + 1, right.keys, 0, moved);
+                System.arraycopy(children, from + 1, right.children, 0, moved + 1);
+                right.size = moved;
+            }
+            Arrays.fill(values, from, size, null);
+            Arrays.fill(keys, from, size, null);
+            Arrays.fill(children, from + 1, size + 1, null);
+            size = from;
+        }
+
+        /**
+         * Moves the separators starting from the given index and the children
+         * on their right to the empty right sibling, with the given child
+         * becoming the first child of the sibling.
+         */
+        void moveTo(int from, Node firstChild, Inner right) {
+            int moved = size - from;
+            System.arraycopy(values, from, right.values, 0, moved);
+            System.arraycopy(keys, from, right.keys, 0, moved);
+            System.arraycopy(children, from + 1, right.children, 1, moved);
+            right.children[0] = firstChild;
+            right.size = moved;
+            Arrays.fill(values, from, size, null);
+            Arrays.fill(keys, from, size, null);
+            Arrays.fill(children, from + 1, size + 1, null);
+            size = from;
+        }
+
+        /**
+         * Evens out the sizes of the given siblings, rotating separators
+         * through the separator between them.
+         */
+        static void redistribute(Inner left, Inner right, Inner parent, int separator) {
+            int total = left.size + 1 + right.size;
+            Comparable[] values = new Comparable[total];
+            Data[] keys = new Data[total];
+            Node[] children = new Node[total + 1];
+            System.arraycopy(left.values, 0, values, 0, left.size);
+            System.arraycopy(left.keys, 0, keys, 0, left.size);
+            System.arraycopy(left.children, 0, children, 0, left.size + 1);
+            values[left.size] = parent.values[separator];
+            keys[left.size] = parent.keys[separator];
+            System.arraycopy(right.values, 0, values, left.size + 1, right.size);
+            System.arraycopy(right.keys, 0, keys, left.size + 1, right.size);
+            System.arraycopy(right.children, 0, children, left.size + 1, right.size + 1);
+
+            int leftSize = (total - 1) / 2;
+            int rightSize = total - 1 - leftSize;
+            Arrays.fill(left.values, null);
+            Arrays.fill(left.keys, null);
+            Arrays.fill(left.children, null);
+            Arrays.fill(right.values, null);
+            Arrays.fill(right.keys, null);
+            Arrays.fill(right.children, null);
+            System.arraycopy(values, 0, left.values, 0, leftSize);
+            System.arraycopy(keys, 0, left.keys, 0, leftSize);
+            System.arraycopy(children, 0, left.children, 0, leftSize + 1);
+            parent.values[separator] = values[leftSize];
+            parent.keys[separator] = keys[leftSize];
+            System.arraycopy(values, leftSize + 1, right.values, 0, rightSize);
+            System.arraycopy(keys, leftSize + 1, right.keys, 0, rightSize);
+            System.arraycopy(children, leftSize + 1, right.children, 0, rightSize + 1);
+            left.size = leftSize;
+            right.size = rightSize;
+        }
+
+        void append(Comparable separatorValue, Data separatorKey, Inner right) {
+            values[size] = separatorValue;
+            keys[size] = separatorKey;
+            System.arraycopy(right.values, 0, values, size + 1, right.size);
+            System.arraycopy(right.keys, 0, keys, size + 1, right.size);
+            System.arraycopy(right.children, 0, children, size + 1, right.size + 1);
+            size += right.size + 1;
+        }
+    }
+
+    /**
+     * Iterates over the entries of the tree a leaf at a time.
+     */
+    final class Cursor {
+        private final boolean descending;
+        private final Comparable[] values = new Comparable[capacity];
+        private final Data[] keys = new Data[capacity];
+        private final QueryableEntry[] entries = new QueryableEntry[capacity];
+
+        private Comparable searchValue;
+        private Data searchKey;
+        private int searchBias;
+        private int batchSize;
+        private int index;
+        private boolean exhausted;
+
+        private Cursor(Comparable searchValue, Data searchKey, int searchBias, boolean descending) {
+            this.searchValue = searchValue;
+            this.searchKey = searchKey;
+            this.searchBias = searchBias;
+            this.descending = descending;
+        }
+
+        /**
+         * Moves to the next entry.
+         *
+         * @return {@code true} if there is a next entry, {@code false} otherwise.
+         */
+        boolean advance() {
+            if (++index < batchSize) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            read();
+            index = 0;
+            return batchSize > 0;
+        }
+
+        Comparable value() {
+            return values[index];
+        }
+
+        QueryableEntry entry() {
+            return entries[index];
+        }
+
+        @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity"})
+        private void read() {
+            Comparable value = searchValue;
+            Data key = searchKey;
+            int bias = searchBias;
+            restart:
+            for (; ; ) {
+                Node node = root;
+                int version = stableVersion(node);
+                if (node != root) {
+                    // the root was split or collapsed while we waited for it to be unlocked,
+                    // the old root covers only a part of the tree now
+                    continue;
+                }
+                Comparable fenceValue = null;
+                Data fenceKey = null;
+                while (node instanceof Inner inner) {
+                    Node child;
+                    try {
+                        // descending, a search key equal to a separator belongs to the child on its left
+                        int childIndex = inner.firstIndex(value, key, bias, descending);
+                        child = inner.children[childIndex];
+                        if (!descending && childIndex < inner.size) {
+                            fenceValue = inner.values[childIndex];
+                            fenceKey = inner.keys[childIndex];
+                        } else if (descending && childIndex > 0) {
+                            fenceValue = inner.values[childIndex - 1];
+                            fenceKey = inner.keys[childIndex - 1];
+                        }
+                    } catch (RuntimeException e) {
+                        if (validate(inner, version)) {
+                            throw e;
+                        }
+                        continue restart;
+                    }
+                    if (child == null) {
+                        // concurrently modified
+                        continue restart;
+                    }
+                    int childVersion = stableVersion(child);
+                    if (!validate(inner, version)) {
+                        continue restart;
+                    }
+                    node = child;
+                    version = childVersion;
+                }
+
+                Leaf leaf = (Leaf) node;
+                int size;
+                try {
+                    size = copy(leaf, value, key, bias);
+                } catch (RuntimeException e) {
+                    if (validate(leaf, version)) {
+                        throw e;
+                    }
+                    continue;
+                }
+                if (!validate(leaf, version)) {
+                    continue;
+                }
+
+                if (fenceKey == null) {
+                    exhausted = true;
+                } else {
+                    // all the entries between the search key and the fence were in the leaf
+                    value = fenceValue;
+                    key = fenceKey;
+                    bias = EXACT;
+                    if (size == 0) {
+                        continue;
+                    }
+                }
+                searchValue = value;
+                searchKey = key;
+                searchBias = bias;
+                batchSize = size;
+                return;
+            }
+        }
+
+        private int copy(Leaf leaf, Comparable value, Data key, int bias) {
+            int leafSize = leaf.size;
+            int position = leaf.firstIndex(value, key, bias, true);
+            if (descending) {
+                int size = Math.min(position, leafSize);
+                for (int i = 0; i < size; i++) {
+                    int slot = size - 1 - i;
+                    values[i] = leaf.values[slot];
+                    keys[i] = leaf.keys[slot];
+                    entries[i] = leaf.entries[slot];
+                }
+                return size;
+            } else {
+                int size = Math.max(0, leafSize - position);
+                System.arraycopy(leaf.values, position, values, 0, size);
+                System.arraycopy(leaf.keys, position, keys, 0, size);
+                System.arraycopy(leaf.entries, position, entries, 0, size);
+                return size;
+            }
+        }
+    }
+
+    private static final class Unbounded implements Comparable {
+        @Override
+        public int compareTo(Object o) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
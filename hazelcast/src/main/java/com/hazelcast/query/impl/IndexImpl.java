@@ -21,7 +21,9 @@ import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.monitor.impl.PerIndexStats;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.query.impl.GlobalIndexPartitionTracker.PartitionStamp;
+import com.hazelcast.query.impl.bitmap.Bitmap;
 import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.spi.properties.ClusterProperty;
 
 /**
  * Provides implementation of on-heap indexes.
@@ -49,16 +51,30 @@ public class IndexImpl extends AbstractIndex {
                                           PerIndexStats stats, String mapName, int ignored) {
         switch (config.getType()) {
             case SORTED:
-                return new OrderedIndexStore(copyBehavior);
+                return sortedBackend(node) == OrderedIndexStore.Backend.B_PLUS_TREE
+                        ? new BPlusTreeIndexStore(copyBehavior)
+                        : new OrderedIndexStore(copyBehavior);
             case HASH:
                 return new UnorderedIndexStore(copyBehavior);
             case BITMAP:
-                return new BitmapIndexStore(config);
+                return new BitmapIndexStore(config, bitmapBackend(node));
             default:
                 throw new IllegalArgumentException("unexpected index type: " + config.getType());
         }
     }
 
+    private static OrderedIndexStore.Backend sortedBackend(Node node) {
+        return node == null
+                ? OrderedIndexStore.Backend.SKIP_LIST
+                : node.getProperties().getEnum(ClusterProperty.SORTED_INDEX_BACKEND, OrderedIndexStore.Backend.class);
+    }
+
+    private static Bitmap.Backend bitmapBackend(Node node) {
+        return node == null
+                ? Bitmap.Backend.SPARSE
+                : node.getProperties().getEnum(ClusterProperty.BITMAP_INDEX_BACKEND, Bitmap.Backend.class);
+    }
+
     @Override
     public final boolean hasPartitionIndexed(int partitionId) {
         return partitionTracker.isIndexed(partitionId);
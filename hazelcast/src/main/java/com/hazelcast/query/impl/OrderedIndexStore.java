@@ -65,6 +65,24 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
         }
     };
 
+    /**
+     * Defines how the entries of sorted indexes are stored.
+     */
+    public enum Backend {
+
+        /**
+         * A skip list of values, each with a skip list or a tree of entries,
+         * see {@link OrderedIndexStore}.
+         */
+        SKIP_LIST,
+
+        /**
+         * A B+tree of entries ordered by value and key, see
+         * {@link BPlusTreeIndexStore}.
+         */
+        B_PLUS_TREE
+    }
+
     private final ConcurrentSkipListMap<Comparable, NavigableMap<Data, QueryableEntry>> recordMap =
             new ConcurrentSkipListMap<>(SPECIAL_AWARE_COMPARATOR);
 
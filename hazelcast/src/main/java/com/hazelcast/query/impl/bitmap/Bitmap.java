@@ -35,24 +35,68 @@ import java.util.Map;
  * of type {@code E}. Each indexed entry is uniquely identified by its unique
  * {@code long} key provided externally.
  * <p>
- * Internally, each bitmap manages a set of sparse bit sets, one for each
- * possible attribute value, and a sparse array to map from unique {@code long}
- * entry keys back to entries.
+ * Internally, each bitmap manages a set of bit sets, one for each possible
+ * attribute value, and a sparse array to map from unique {@code long} entry
+ * keys back to entries. The kind of the bit sets is defined by the {@link
+ * Backend} of the bitmap.
  *
  * @param <E> the type of entries being indexed.
  */
 @SuppressWarnings("rawtypes")
 public final class Bitmap<E> {
 
-    private final Map<Object, SparseBitSet> bitSets = new HashMap<>();
+    private final Map<Object, LongBitSet> bitSets = new HashMap<>();
 
     private final SparseArray<E> entries = new SparseArray<>();
 
+    private final Backend backend;
+
+    // the keys of all the entries, used by the roaring backend as a universe
+    // for negations
+    private final RoaringBitSet keys;
+
     // Note! At the moment bitmap index doesn't support memory statistics,
     // because we cannot produce precise memory estimate.
     // Instead, we provide zero memory consumption estimation.
     private enum ZeroCost { ZERO_COST }
 
+    /**
+     * Defines how the per-value bit sets of a bitmap are stored and combined.
+     */
+    public enum Backend {
+
+        /**
+         * On-heap sparse bit sets, predicates are evaluated by merging the
+         * iterators of the bit sets one member at a time.
+         */
+        SPARSE,
+
+        /**
+         * Roaring-style bit sets keeping their dense containers off-heap,
+         * predicates are evaluated by intersecting and uniting the bit sets
+         * a {@code long} word at a time.
+         */
+        ROARING
+
+    }
+
+    /**
+     * Constructs a new bitmap using the {@link Backend#SPARSE sparse} backend.
+     */
+    public Bitmap() {
+        this(Backend.SPARSE);
+    }
+
+    /**
+     * Constructs a new bitmap using the given backend.
+     *
+     * @param backend the backend to use.
+     */
+    public Bitmap(Backend backend) {
+        this.backend = backend;
+        this.keys = backend == Backend.ROARING ? new RoaringBitSet(true) : null;
+    }
+
     /**
      * Inserts the given values associated with the given entry having the given
      * unique key.
@@ -66,12 +110,15 @@ public final class Bitmap<E> {
             Object value = values.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
+            LongBitSet bitSet = bitSets.computeIfAbsent(value, x -> newBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
             bitSet.add(key);
         }
 
         entries.set(key, entry);
+        if (keys != null) {
+            keys.add(key);
+        }
     }
 
     /**
@@ -88,7 +135,7 @@ public final class Bitmap<E> {
             Object value = oldValues.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.get(value);
+            LongBitSet bitSet = bitSets.get(value);
             if (bitSet != null) {
                 bitSet.remove(key);
             }
@@ -99,12 +146,15 @@ public final class Bitmap<E> {
             Object value = newValues.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
+            LongBitSet bitSet = bitSets.computeIfAbsent(value, x -> newBitSet());
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
             bitSet.add(key);
         }
 
         entries.set(key, entry);
+        if (keys != null) {
+            keys.add(key);
+        }
     }
 
     /**
@@ -119,7 +169,7 @@ public final class Bitmap<E> {
             Object value = values.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.get(value);
+            LongBitSet bitSet = bitSets.get(value);
             if (bitSet != null) {
                 if (bitSet.remove(key)) {
                     bitSets.remove(value);
@@ -129,6 +179,9 @@ public final class Bitmap<E> {
         }
 
         entries.clear(key);
+        if (keys != null) {
+            keys.remove(key);
+        }
     }
 
     /**
@@ -137,6 +190,9 @@ public final class Bitmap<E> {
     public void clear() {
         bitSets.clear();
         entries.clear();
+        if (keys != null) {
+            keys.clear();
+        }
     }
 
     /**
@@ -153,7 +209,14 @@ public final class Bitmap<E> {
      * @return an iterator containing entries matching the given predicate.
      */
     public Iterator<E> evaluate(Predicate predicate, TypeConverter converter) {
-        return new EntryIterator<>(predicateIterator(predicate, converter), entries.iterator());
+        AscendingLongIterator iterator = backend == Backend.ROARING
+                ? predicateBitSet(predicate, converter).iterator()
+                : predicateIterator(predicate, converter);
+        return new EntryIterator<>(iterator, entries.iterator());
+    }
+
+    private LongBitSet newBitSet() {
+        return backend == Backend.ROARING ? new RoaringBitSet(true) : new SparseBitSet();
     }
 
     @SuppressWarnings("checkstyle:npathcomplexity")
@@ -210,7 +273,7 @@ public final class Bitmap<E> {
     }
 
     private AscendingLongIterator valueIterator(Comparable value, TypeConverter converter) {
-        SparseBitSet bitSet = bitSets.get(converter.convert(value));
+        LongBitSet bitSet = bitSets.get(converter.convert(value));
         return bitSet == null ? AscendingLongIterator.EMPTY : bitSet.iterator();
     }
 
@@ -222,6 +285,60 @@ public final class Bitmap<E> {
         return iterators;
     }
 
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    private RoaringBitSet predicateBitSet(Predicate predicate, TypeConverter converter) {
+        if (predicate instanceof AndPredicate andPredicate) {
+            Predicate[] predicates = andPredicate.getPredicates();
+            assert predicates.length > 0;
+            return RoaringBitSet.and(predicateBitSets(predicates, converter));
+        }
+
+        if (predicate instanceof OrPredicate orPredicate) {
+            Predicate[] predicates = orPredicate.getPredicates();
+            assert predicates.length > 0;
+            return RoaringBitSet.or(predicateBitSets(predicates, converter));
+        }
+
+        if (predicate instanceof NotPredicate notPredicate) {
+            Predicate subPredicate = notPredicate.getPredicate();
+            return RoaringBitSet.andNot(keys, predicateBitSet(subPredicate, converter));
+        }
+
+        if (predicate instanceof NotEqualPredicate notEqualPredicate) {
+            Comparable value = notEqualPredicate.getValue();
+            return RoaringBitSet.andNot(keys, valueBitSet(value, converter));
+        }
+
+        if (predicate instanceof EqualPredicate equalPredicate) {
+            Comparable value = equalPredicate.getFrom();
+            return valueBitSet(value, converter);
+        }
+
+        if (predicate instanceof InPredicate inPredicate) {
+            Comparable[] values = inPredicate.getValues();
+            RoaringBitSet[] bitSets = new RoaringBitSet[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                bitSets[i] = valueBitSet(values[i], converter);
+            }
+            return RoaringBitSet.or(bitSets);
+        }
+
+        throw new IllegalArgumentException("unexpected predicate: " + predicate);
+    }
+
+    private RoaringBitSet[] predicateBitSets(Predicate[] predicates, TypeConverter converter) {
+        RoaringBitSet[] bitSets = new RoaringBitSet[predicates.length];
+        for (int i = 0; i < predicates.length; ++i) {
+            bitSets[i] = predicateBitSet(predicates[i], converter);
+        }
+        return bitSets;
+    }
+
+    private RoaringBitSet valueBitSet(Comparable value, TypeConverter converter) {
+        RoaringBitSet bitSet = (RoaringBitSet) bitSets.get(converter.convert(value));
+        return bitSet == null ? RoaringBitSet.EMPTY : bitSet;
+    }
+
     /**
      * Maps unique entry keys back to entries.
      */
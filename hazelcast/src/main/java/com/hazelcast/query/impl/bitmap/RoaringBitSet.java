@@ -0,0 +1,804 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.query.impl.bitmap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+import static com.hazelcast.query.impl.bitmap.BitmapUtils.capacityDeltaInt;
+import static com.hazelcast.query.impl.bitmap.BitmapUtils.capacityDeltaShort;
+import static com.hazelcast.query.impl.bitmap.BitmapUtils.toUnsignedInt;
+import static com.hazelcast.query.impl.bitmap.BitmapUtils.unsignedBinarySearch;
+import static java.lang.Long.bitCount;
+import static java.lang.Long.numberOfTrailingZeros;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+
+/**
+ * Stores a set of bits indexable by non-negative {@code long} indexes in a
+ * form suitable for bulk set operations.
+ * <p>
+ * Members are split into 48-bit prefixes and 16-bit postfixes. The prefixes
+ * are kept in a sorted array and each of them resolves a container for the
+ * postfixes, in the style of Roaring Bitmap:
+ * <ul>
+ * <li>{@link ArrayContainer ArrayContainer} which manages sorted short array
+ * of up to {@link #ARRAY_CONTAINER_MAX_SIZE} postfixes.
+ * <li>{@link BitmapContainer BitmapContainer} which manages directly
+ * indexable array of 1024 {@code long} words. Bit sets created with {@code
+ * offHeap} set to {@code true} keep these words in direct memory.
+ * </ul>
+ * <p>
+ * Unlike {@link SparseBitSet}, which is combined with other bit sets through
+ * {@link BitmapAlgorithms} iterators one member at a time, bit sets of this
+ * kind are combined eagerly by {@link #and}, {@link #or} and {@link #andNot}.
+ * Two bitmap containers are combined a {@code long} word at a time in plain
+ * loops over heap arrays which the JIT is able to unroll and vectorize.
+ * <p>
+ * The results of the set operations are heap-based and may share containers
+ * with the operands, so they are valid only until the operands are modified.
+ * <p>
+ * Empty containers are never stored by the implementation.
+ */
+final class RoaringBitSet implements LongBitSet {
+
+    /**
+     * The size at which ArrayContainer is converted to BitmapContainer. At
+     * this size the memory cost of having sorted short array is equal to the
+     * cost of having directly indexable long array of bits.
+     */
+    public static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+
+    /**
+     * Denotes an empty bit set, must never be modified.
+     */
+    public static final RoaringBitSet EMPTY = new RoaringBitSet(false, 0);
+
+    private static final int POSTFIX_BITS = 16;
+    private static final int POSTFIX_MASK = 0xFFFF;
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_COUNT = (1 << POSTFIX_BITS) >>> WORD_SHIFT;
+    private static final int MIN_CAPACITY = 4;
+
+    private final boolean offHeap;
+
+    private long[] prefixes;
+    private Container[] containers;
+    private int size;
+
+    /**
+     * Constructs a new empty bit set.
+     *
+     * @param offHeap {@code true} if bitmap containers of this bit set should
+     *                keep their words in direct memory, {@code false}
+     *                otherwise.
+     */
+    RoaringBitSet(boolean offHeap) {
+        this(offHeap, MIN_CAPACITY);
+    }
+
+    private RoaringBitSet(boolean offHeap, int capacity) {
+        this.offHeap = offHeap;
+        this.prefixes = new long[capacity];
+        this.containers = new Container[capacity];
+    }
+
+    /**
+     * Adds the given member to this bit set.
+     *
+     * @param member the member to add.
+     */
+    @Override
+    public void add(long member) {
+        assert member >= 0;
+        long prefix = member >>> POSTFIX_BITS;
+        int postfix = (int) member & POSTFIX_MASK;
+
+        int index = find(prefix);
+        if (index >= 0) {
+            containers[index] = containers[index].add(postfix, offHeap);
+        } else {
+            insert(-(index + 1), prefix, new ArrayContainer(postfix));
+        }
+    }
+
+    /**
+     * Removes the given member from this bit set.
+     *
+     * @param member the member to remove.
+     * @return {@code true} if this bit set became empty as a result of the
+     * member removal, {@code false} otherwise.
+     */
+    @Override
+    public boolean remove(long member) {
+        assert member >= 0;
+        int index = find(member >>> POSTFIX_BITS);
+        if (index < 0) {
+            return false;
+        }
+
+        Container container = containers[index].remove((int) member & POSTFIX_MASK);
+        if (container == null) {
+            delete(index);
+            return size == 0;
+        }
+        containers[index] = container;
+        return false;
+    }
+
+    /**
+     * Removes all the members from this bit set.
+     */
+    public void clear() {
+        prefixes = new long[MIN_CAPACITY];
+        containers = new Container[MIN_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * @return {@code true} if this bit set has no members, {@code false}
+     * otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of members in this bit set.
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; ++i) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * @return an iterator that iterates over all the indexes of bits set in
+     * this bit set.
+     */
+    @Override
+    public AscendingLongIterator iterator() {
+        return new IteratorImpl(this);
+    }
+
+    /**
+     * @return a bit set that represents a result of intersection of the given
+     * bit sets.
+     */
+    public static RoaringBitSet and(RoaringBitSet[] bitSets) {
+        assert bitSets.length > 0;
+
+        // Start with the smallest bit set, intersections may only shrink it.
+        int smallest = 0;
+        long smallestCardinality = Long.MAX_VALUE;
+        for (int i = 0; i < bitSets.length; ++i) {
+            long cardinality = bitSets[i].cardinality();
+            if (cardinality < smallestCardinality) {
+                smallest = i;
+                smallestCardinality = cardinality;
+            }
+        }
+
+        RoaringBitSet result = bitSets[smallest];
+        for (int i = 0; i < bitSets.length && !result.isEmpty(); ++i) {
+            if (i != smallest) {
+                result = and(result, bitSets[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a bit set that represents a result of union over the given bit
+     * sets.
+     */
+    public static RoaringBitSet or(RoaringBitSet[] bitSets) {
+        if (bitSets.length == 0) {
+            return EMPTY;
+        }
+        RoaringBitSet result = bitSets[0];
+        for (int i = 1; i < bitSets.length; ++i) {
+            result = or(result, bitSets[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @return a bit set that contains the members of the given left bit set
+     * which are not members of the given right bit set.
+     */
+    public static RoaringBitSet andNot(RoaringBitSet left, RoaringBitSet right) {
+        RoaringBitSet result = new RoaringBitSet(false, left.size);
+        int j = 0;
+        for (int i = 0; i < left.size; ++i) {
+            long prefix = left.prefixes[i];
+            while (j < right.size && right.prefixes[j] < prefix) {
+                ++j;
+            }
+
+            Container container = left.containers[i];
+            if (j < right.size && right.prefixes[j] == prefix) {
+                container = andNot(container, right.containers[j]);
+            }
+            result.append(prefix, container);
+        }
+        return result;
+    }
+
+    private static RoaringBitSet and(RoaringBitSet left, RoaringBitSet right) {
+        RoaringBitSet result = new RoaringBitSet(false, Math.min(left.size, right.size));
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            long leftPrefix = left.prefixes[i];
+            long rightPrefix = right.prefixes[j];
+            if (leftPrefix < rightPrefix) {
+                ++i;
+            } else if (leftPrefix > rightPrefix) {
+                ++j;
+            } else {
+                result.append(leftPrefix, and(left.containers[i], right.containers[j]));
+                ++i;
+                ++j;
+            }
+        }
+        return result;
+    }
+
+    private static RoaringBitSet or(RoaringBitSet left, RoaringBitSet right) {
+        RoaringBitSet result = new RoaringBitSet(false, left.size + right.size);
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            long leftPrefix = left.prefixes[i];
+            long rightPrefix = right.prefixes[j];
+            if (leftPrefix < rightPrefix) {
+                result.append(leftPrefix, left.containers[i]);
+                ++i;
+            } else if (leftPrefix > rightPrefix) {
+                result.append(rightPrefix, right.containers[j]);
+                ++j;
+            } else {
+                result.append(leftPrefix, or(left.containers[i], right.containers[j]));
+                ++i;
+                ++j;
+            }
+        }
+        for (; i < left.size; ++i) {
+            result.append(left.prefixes[i], left.containers[i]);
+        }
+        for (; j < right.size; ++j) {
+            result.append(right.prefixes[j], right.containers[j]);
+        }
+        return result;
+    }
+
+    private static Container and(Container left, Container right) {
+        if (left instanceof BitmapContainer leftBitmap && right instanceof BitmapContainer rightBitmap) {
+            long[] words = leftBitmap.words(true);
+            long[] rightWords = rightBitmap.words(false);
+            int cardinality = 0;
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                long word = words[i] & rightWords[i];
+                words[i] = word;
+                cardinality += bitCount(word);
+            }
+            return fromWords(words, cardinality);
+        }
+
+        // At least one of the containers is an array container, look up its
+        // postfixes in the other one.
+        if (left instanceof ArrayContainer leftArray
+                && (!(right instanceof ArrayContainer rightArray) || leftArray.size <= rightArray.size)) {
+            return leftArray.filter(right, true);
+        } else {
+            return ((ArrayContainer) right).filter(left, true);
+        }
+    }
+
+    private static Container or(Container left, Container right) {
+        if (left instanceof ArrayContainer leftArray && right instanceof ArrayContainer rightArray) {
+            return leftArray.union(rightArray);
+        }
+
+        BitmapContainer bitmap = left instanceof BitmapContainer leftBitmap ? leftBitmap : (BitmapContainer) right;
+        Container other = bitmap == left ? right : left;
+        long[] words = bitmap.words(true);
+        if (other instanceof BitmapContainer otherBitmap) {
+            long[] otherWords = otherBitmap.words(false);
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                words[i] |= otherWords[i];
+            }
+        } else {
+            ((ArrayContainer) other).setBits(words);
+        }
+        return fromWords(words, countBits(words));
+    }
+
+    private static Container andNot(Container left, Container right) {
+        if (left instanceof ArrayContainer leftArray) {
+            return leftArray.filter(right, false);
+        }
+
+        long[] words = ((BitmapContainer) left).words(true);
+        if (right instanceof BitmapContainer rightBitmap) {
+            long[] rightWords = rightBitmap.words(false);
+            for (int i = 0; i < WORD_COUNT; ++i) {
+                words[i] &= ~rightWords[i];
+            }
+        } else {
+            ((ArrayContainer) right).clearBits(words);
+        }
+        return fromWords(words, countBits(words));
+    }
+
+    private static int countBits(long[] words) {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += bitCount(word);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Creates the most compact container for the given heap words having the
+     * given cardinality, returns {@code null} if the words are empty.
+     */
+    private static Container fromWords(long[] words, int cardinality) {
+        if (cardinality == 0) {
+            return null;
+        }
+        if (cardinality > ARRAY_CONTAINER_MAX_SIZE) {
+            return new BitmapContainer(words, cardinality);
+        }
+
+        short[] values = new short[cardinality];
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            long word = words[i];
+            while (word != 0) {
+                values[count++] = (short) (i << WORD_SHIFT | numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        assert count == cardinality;
+        return new ArrayContainer(values, cardinality);
+    }
+
+    private int find(long prefix) {
+        // Members are mostly added in ascending order, check the last
+        // container first.
+        int last = size - 1;
+        if (last >= 0 && prefixes[last] == prefix) {
+            return last;
+        }
+        return Arrays.binarySearch(prefixes, 0, size, prefix);
+    }
+
+    private void insert(int index, long prefix, Container container) {
+        ensureCapacity();
+        arraycopy(prefixes, index, prefixes, index + 1, size - index);
+        arraycopy(containers, index, containers, index + 1, size - index);
+        prefixes[index] = prefix;
+        containers[index] = container;
+        ++size;
+    }
+
+    private void append(long prefix, Container container) {
+        if (container == null) {
+            return;
+        }
+        assert size == 0 || prefixes[size - 1] < prefix;
+        ensureCapacity();
+        prefixes[size] = prefix;
+        containers[size] = container;
+        ++size;
+    }
+
+    private void delete(int index) {
+        --size;
+        arraycopy(prefixes, index + 1, prefixes, index, size - index);
+        arraycopy(containers, index + 1, containers, index, size - index);
+        containers[size] = null;
+    }
+
+    private void ensureCapacity() {
+        int capacity = prefixes.length;
+        if (size == capacity) {
+            int newCapacity = capacity + capacityDeltaInt(capacity);
+            prefixes = copyOf(prefixes, newCapacity);
+            containers = copyOf(containers, newCapacity);
+        }
+    }
+
+    /**
+     * Defines internal contract of containers responsible for storing of
+     * 16-bit postfixes.
+     */
+    private abstract static class Container {
+
+        /**
+         * @return the number of postfixes in this container.
+         */
+        abstract int cardinality();
+
+        /**
+         * Adds the given postfix to this container.
+         *
+         * @param postfix the postfix to add.
+         * @param offHeap {@code true} if the container should keep its words
+         *                off-heap once upgraded to a bitmap container.
+         * @return this container or a new container if this one was upgraded.
+         */
+        abstract Container add(int postfix, boolean offHeap);
+
+        /**
+         * Removes the given postfix from this container.
+         *
+         * @param postfix the postfix to remove.
+         * @return this container, a new container if this one was downgraded
+         * or {@code null} if this container became empty.
+         */
+        abstract Container remove(int postfix);
+
+        /**
+         * @return {@code true} if the given postfix is present in this
+         * container, {@code false} otherwise.
+         */
+        abstract boolean contains(int postfix);
+
+        /**
+         * @return the given postfix if it's present in this container,
+         * otherwise the smallest postfix greater than the given one, or
+         * {@code -1} if no such postfix exists.
+         */
+        abstract int nextAtLeast(int postfix);
+
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private short[] values;
+        private int size;
+
+        ArrayContainer(int postfix) {
+            this.values = new short[MIN_CAPACITY];
+            this.values[0] = (short) postfix;
+            this.size = 1;
+        }
+
+        ArrayContainer(short[] values, int size) {
+            assert size > 0;
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        Container add(int postfix, boolean offHeap) {
+            int index = unsignedBinarySearch(values, size, postfix);
+            if (index >= 0) {
+                return this;
+            }
+
+            if (size == ARRAY_CONTAINER_MAX_SIZE) {
+                BitmapContainer bitmap = new BitmapContainer(offHeap);
+                for (int i = 0; i < size; ++i) {
+                    bitmap.add(toUnsignedInt(values[i]), offHeap);
+                }
+                bitmap.add(postfix, offHeap);
+                return bitmap;
+            }
+
+            index = -(index + 1);
+            if (size == values.length) {
+                values = copyOf(values, size + capacityDeltaShort(size));
+            }
+            arraycopy(values, index, values, index + 1, size - index);
+            values[index] = (short) postfix;
+            ++size;
+            return this;
+        }
+
+        @Override
+        Container remove(int postfix) {
+            int index = unsignedBinarySearch(values, size, postfix);
+            if (index < 0) {
+                return this;
+            }
+
+            --size;
+            if (size == 0) {
+                return null;
+            }
+            arraycopy(values, index + 1, values, index, size - index);
+            return this;
+        }
+
+        @Override
+        boolean contains(int postfix) {
+            return unsignedBinarySearch(values, size, postfix) >= 0;
+        }
+
+        @Override
+        int nextAtLeast(int postfix) {
+            int index = unsignedBinarySearch(values, size, postfix);
+            if (index >= 0) {
+                return postfix;
+            }
+            index = -(index + 1);
+            return index < size ? toUnsignedInt(values[index]) : -1;
+        }
+
+        /**
+         * @return a container having postfixes of this container which are
+         * (if {@code keep} is {@code true}) or are not (otherwise) present in
+         * the given container, or {@code null} if there are no such postfixes.
+         */
+        Container filter(Container that, boolean keep) {
+            short[] filtered = new short[size];
+            int count = 0;
+            for (int i = 0; i < size; ++i) {
+                short value = values[i];
+                if (that.contains(toUnsignedInt(value)) == keep) {
+                    filtered[count++] = value;
+                }
+            }
+            return count == 0 ? null : new ArrayContainer(filtered, count);
+        }
+
+        Container union(ArrayContainer that) {
+            if (this.size + that.size > ARRAY_CONTAINER_MAX_SIZE) {
+                long[] words = new long[WORD_COUNT];
+                this.setBits(words);
+                that.setBits(words);
+                return fromWords(words, countBits(words));
+            }
+
+            short[] merged = new short[this.size + that.size];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.size && j < that.size) {
+                int left = toUnsignedInt(this.values[i]);
+                int right = toUnsignedInt(that.values[j]);
+                if (left <= right) {
+                    merged[count++] = this.values[i++];
+                    if (left == right) {
+                        ++j;
+                    }
+                } else {
+                    merged[count++] = that.values[j++];
+                }
+            }
+            while (i < this.size) {
+                merged[count++] = this.values[i++];
+            }
+            while (j < that.size) {
+                merged[count++] = that.values[j++];
+            }
+            return new ArrayContainer(merged, count);
+        }
+
+        void setBits(long[] words) {
+            for (int i = 0; i < size; ++i) {
+                int postfix = toUnsignedInt(values[i]);
+                words[postfix >>> WORD_SHIFT] |= 1L << postfix;
+            }
+        }
+
+        void clearBits(long[] words) {
+            for (int i = 0; i < size; ++i) {
+                int postfix = toUnsignedInt(values[i]);
+                words[postfix >>> WORD_SHIFT] &= ~(1L << postfix);
+            }
+        }
+
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        // Exactly one of the word storages is present: the off-heap one for
+        // containers of off-heap bit sets, the heap one otherwise.
+        private final long[] heapWords;
+        private final LongBuffer offHeapWords;
+
+        private int cardinality;
+
+        BitmapContainer(boolean offHeap) {
+            if (offHeap) {
+                this.heapWords = null;
+                this.offHeapWords = ByteBuffer.allocateDirect(WORD_COUNT * Long.BYTES)
+                                              .order(ByteOrder.nativeOrder())
+                                              .asLongBuffer();
+            } else {
+                this.heapWords = new long[WORD_COUNT];
+                this.offHeapWords = null;
+            }
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.heapWords = words;
+            this.offHeapWords = null;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container add(int postfix, boolean offHeap) {
+            int index = postfix >>> WORD_SHIFT;
+            long word = word(index);
+            long bit = 1L << postfix;
+            if ((word & bit) == 0) {
+                setWord(index, word | bit);
+                ++cardinality;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(int postfix) {
+            int index = postfix >>> WORD_SHIFT;
+            long word = word(index);
+            long bit = 1L << postfix;
+            if ((word & bit) == 0) {
+                return this;
+            }
+
+            setWord(index, word & ~bit);
+            --cardinality;
+            // Downgrade only at half of the upgrade size to avoid flipping
+            // between the container kinds on alternating adds and removes.
+            return cardinality > ARRAY_CONTAINER_MAX_SIZE / 2 ? this : fromWords(words(false), cardinality);
+        }
+
+        @Override
+        boolean contains(int postfix) {
+            return (word(postfix >>> WORD_SHIFT) & 1L << postfix) != 0;
+        }
+
+        @Override
+        int nextAtLeast(int postfix) {
+            int index = postfix >>> WORD_SHIFT;
+            long word = word(index) & -1L << postfix;
+            while (word == 0) {
+                if (++index == WORD_COUNT) {
+                    return -1;
+                }
+                word = word(index);
+            }
+            return index << WORD_SHIFT | numberOfTrailingZeros(word);
+        }
+
+        /**
+         * @param copy {@code true} if the returned words may be modified by
+         *             the caller.
+         * @return the words of this container on heap.
+         */
+        long[] words(boolean copy) {
+            if (offHeapWords == null) {
+                return copy ? heapWords.clone() : heapWords;
+            }
+            // a bulk copy from direct memory, always a fresh array
+            long[] words = new long[WORD_COUNT];
+            offHeapWords.get(0, words);
+            return words;
+        }
+
+        private long word(int index) {
+            return offHeapWords == null ? heapWords[index] : offHeapWords.get(index);
+        }
+
+        private void setWord(int index, long word) {
+            if (offHeapWords == null) {
+                heapWords[index] = word;
+            } else {
+                offHeapWords.put(index, word);
+            }
+        }
+
+    }
+
+    private static final class IteratorImpl implements AscendingLongIterator {
+
+        private final RoaringBitSet bitSet;
+
+        private int containerIndex;
+        private long index;
+
+        IteratorImpl(RoaringBitSet bitSet) {
+            this.bitSet = bitSet;
+            seek(0, 0);
+        }
+
+        @Override
+        public long getIndex() {
+            return index;
+        }
+
+        @Override
+        public long advance() {
+            long current = index;
+            if (current == END) {
+                return END;
+            }
+
+            int postfix = (int) current & POSTFIX_MASK;
+            if (postfix == POSTFIX_MASK) {
+                seek(containerIndex + 1, 0);
+            } else {
+                seek(containerIndex, postfix + 1);
+            }
+            return current;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long member) {
+            if (index == END || index >= member) {
+                return index;
+            }
+
+            long prefix = member >>> POSTFIX_BITS;
+            int postfix = (int) member & POSTFIX_MASK;
+            if (bitSet.prefixes[containerIndex] == prefix) {
+                seek(containerIndex, postfix);
+            } else {
+                int found = Arrays.binarySearch(bitSet.prefixes, containerIndex + 1, bitSet.size, prefix);
+                if (found >= 0) {
+                    seek(found, postfix);
+                } else {
+                    seek(-(found + 1), 0);
+                }
+            }
+            return index;
+        }
+
+        /**
+         * Positions this iterator at the first member at or after the given
+         * postfix in the container at the given index.
+         */
+        private void seek(int containerIndex, int postfix) {
+            RoaringBitSet bitSet = this.bitSet;
+            while (containerIndex < bitSet.size) {
+                int found = bitSet.containers[containerIndex].nextAtLeast(postfix);
+                if (found != -1) {
+                    this.containerIndex = containerIndex;
+                    this.index = bitSet.prefixes[containerIndex] << POSTFIX_BITS | found;
+                    return;
+                }
+                ++containerIndex;
+                postfix = 0;
+            }
+            this.index = END;
+        }
+
+    }
+
+}
@@ -24,6 +24,7 @@ import com.hazelcast.internal.json.JsonValue;
 import com.hazelcast.internal.json.NonTerminalJsonValue;
 import com.hazelcast.internal.serialization.impl.NavigableJsonInputAdapter;
 import com.hazelcast.internal.util.collection.WeightedEvictableList.WeightedItem;
+import com.hazelcast.json.internal.BinaryJson;
 import com.hazelcast.json.internal.JsonPattern;
 import com.hazelcast.json.internal.JsonSchemaHelper;
 import com.hazelcast.json.internal.JsonSchemaNode;
@@ -146,6 +147,10 @@ public abstract class AbstractJsonGetter extends Getter {
         if (metadata == null) {
             return getValue(obj, attributePath);
         }
+        if (metadata instanceof BinaryJson binaryJson) {
+            // the binary form is navigated without touching the Json text
+            return binaryJson.getValue(contextCache.getContext(attributePath).getBinaryJsonPath());
+        }
         JsonSchemaNode schemaNode = (JsonSchemaNode) metadata;
 
         NavigableJsonInputAdapter adapter = annotate(obj);
@@ -20,14 +20,17 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactDataFieldReader;
 import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
 
 public class CompactGetter extends Getter {
     private final InternalSerializationService serializationService;
+    private final CompactDataFieldReader fieldReader;
 
     public CompactGetter(InternalSerializationService serializationService) {
         super(null);
         this.serializationService = serializationService;
+        this.fieldReader = new CompactDataFieldReader(serializationService);
     }
 
     private Object getValueInternal(Object target, String fieldPath, boolean useLazyDeserialization) throws Exception {
@@ -35,12 +38,23 @@ public class CompactGetter extends Getter {
         if (target instanceof CompactGenericRecord genericRecord) {
             record = genericRecord;
         } else {
+            if (isTopLevelField(fieldPath)) {
+                // read the field from the bytes if possible, without creating a generic record
+                Object value = fieldReader.read((Data) target, fieldPath);
+                if (value != CompactDataFieldReader.NOT_DIRECTLY_READABLE) {
+                    return value;
+                }
+            }
             record = serializationService.readAsInternalGenericRecord((Data) target);
         }
         GenericRecordQueryReader reader = new GenericRecordQueryReader(record, useLazyDeserialization);
         return reader.read(fieldPath);
     }
 
+    private static boolean isTopLevelField(String fieldPath) {
+        return fieldPath.indexOf('.') < 0 && fieldPath.indexOf('[') < 0;
+    }
+
     @Override
     public Object getValue(Object target, String fieldPath) throws Exception {
         return getValueInternal(target, fieldPath, false);
@@ -16,6 +16,7 @@
 
 package com.hazelcast.query.impl.getters;
 
+import com.hazelcast.json.internal.BinaryJson;
 import com.hazelcast.json.internal.JsonPattern;
 import com.hazelcast.internal.util.collection.WeightedEvictableList;
 import com.hazelcast.internal.util.collection.WeightedEvictableList.WeightedItem;
@@ -28,10 +29,12 @@ public class JsonGetterContext {
     private static final int PATTERN_CACHE_MAX_VOTES = 20;
 
     private final JsonPathCursor pathCursor;
+    private final BinaryJson.Path binaryJsonPath;
     private final ThreadLocal<WeightedEvictableList<JsonPattern>> patternListHolder;
 
     public JsonGetterContext(String attributePath) {
         this.pathCursor = JsonPathCursor.createCursor(attributePath);
+        this.binaryJsonPath = BinaryJson.Path.create(new JsonPathCursor(pathCursor));
         patternListHolder = new ThreadLocal<>();
     }
 
@@ -51,6 +54,10 @@ public class JsonGetterContext {
         return new JsonPathCursor(pathCursor);
     }
 
+    public BinaryJson.Path getBinaryJsonPath() {
+        return binaryJsonPath;
+    }
+
     private WeightedEvictableList<JsonPattern> getPatternList() {
         WeightedEvictableList<JsonPattern> list = patternListHolder.get();
         if (list == null) {
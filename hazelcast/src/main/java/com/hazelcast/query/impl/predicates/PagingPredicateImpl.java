@@ -22,6 +22,7 @@ import com.hazelcast.internal.serialization.BinaryInterface;
 import com.hazelcast.internal.util.IterationType;
 import com.hazelcast.internal.util.Preconditions;
 import com.hazelcast.internal.util.SortingUtil;
+import com.hazelcast.internal.util.TopKHeap;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -206,16 +207,15 @@ public class PagingPredicateImpl<K, V>
         if (set == null || set.isEmpty()) {
             return set;
         }
-        List<QueryableEntry<K, V>> resultList = new ArrayList<>();
         Map.Entry<Integer, Map.Entry> nearestAnchorEntry = getNearestAnchorEntry();
+        TopKHeap<QueryableEntry> topK = SortingUtil.newTopKHeap(this, nearestAnchorEntry);
         for (QueryableEntry<K, V> queryableEntry : set) {
             if (SortingUtil.compareAnchor(this, queryableEntry, nearestAnchorEntry)) {
-                resultList.add(queryableEntry);
+                topK.offer(queryableEntry);
             }
         }
 
-        List<QueryableEntry<K, V>> sortedSubList =
-                (List) SortingUtil.getSortedSubList((List) resultList, this, nearestAnchorEntry);
+        List<QueryableEntry<K, V>> sortedSubList = (List) topK.toSortedList();
         return new LinkedHashSet<>(sortedSubList);
     }
 
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
+import com.hazelcast.internal.util.concurrent.IdleStrategy;
+import com.hazelcast.internal.util.concurrent.ManyToOneConcurrentArrayQueue;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * An {@link OperationQueue} for a single consumer, the
+ * {@link PartitionOperationThread}, backed by a bounded array ring.
+ * <p>
+ * Adding a normal task doesn't allocate or lock, it claims a slot of the
+ * ring with a CAS. The consumer drains the ring into a batch and takes the
+ * tasks from the batch, so it frees many slots at once and touches the
+ * ring only once per batch. When idle, the consumer spins, yields and
+ * parks for short periods following its {@link IdleStrategy} before it
+ * blocks until a producer wakes it up.
+ * <p>
+ * When the ring is full, the tasks are added to an unbounded overflow
+ * queue. As long as the overflow queue isn't empty, all tasks are added to
+ * it and the consumer takes from it only once the ring is empty, so the
+ * FIFO ordering of the tasks of each producer is preserved. The priority
+ * tasks are rare and are kept in a separate unbounded queue.
+ * <p>
+ * Only {@link #take(boolean)} with {@code priorityOnly=false} is
+ * supported since the queue has a single consumer.
+ */
+public final class ArrayOperationQueue implements OperationQueue {
+
+    static final int BATCH_SIZE = 64;
+
+    private static final long IDLE_MAX_SPINS = 100;
+    private static final long IDLE_MAX_YIELDS = 10;
+    private static final long IDLE_MIN_PARK_NS = MICROSECONDS.toNanos(1);
+    private static final long IDLE_MAX_PARK_NS = MICROSECONDS.toNanos(100);
+
+    private final ManyToOneConcurrentArrayQueue<Object> normalQueue;
+    private final Queue<Object> overflowQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Object> priorityQueue = new ConcurrentLinkedQueue<>();
+    private final IdleStrategy idleStrategy;
+
+    // only accessed by the consumer thread
+    private final Object[] batch = new Object[BATCH_SIZE];
+    private final Predicate<Object> batchCollector = this::collect;
+    private int batchIndex;
+    private int batchSize;
+
+    private Thread consumerThread;
+    private volatile boolean consumerBlocked;
+
+    /**
+     * Creates a queue with a ring of the given capacity, rounded up to the
+     * next power of two.
+     *
+     * @param capacity     the capacity of the ring
+     * @param idleStrategy the strategy to idle with before the consumer
+     *                     blocks. If {@code null}, the consumer spins,
+     *                     yields and parks for up to 100 microseconds.
+     */
+    public ArrayOperationQueue(int capacity, IdleStrategy idleStrategy) {
+        checkPositive("capacity", capacity);
+        this.normalQueue = new ManyToOneConcurrentArrayQueue<>(capacity);
+        this.idleStrategy = idleStrategy != null ? idleStrategy
+                : new BackoffIdleStrategy(IDLE_MAX_SPINS, IDLE_MAX_YIELDS, IDLE_MIN_PARK_NS, IDLE_MAX_PARK_NS);
+    }
+
+    @Override
+    public void add(Object task, boolean priority) {
+        checkNotNull(task, "task can't be null");
+
+        if (priority) {
+            priorityQueue.add(task);
+        } else if (!overflowQueue.isEmpty() || !normalQueue.offer(task)) {
+            overflowQueue.add(task);
+        }
+
+        // the volatile read comes after the CAS which published the task, so either the
+        // consumer sees the task before it blocks, or we see that the consumer blocks
+        if (consumerBlocked) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    @Override
+    public Object take(boolean priorityOnly) throws InterruptedException {
+        if (priorityOnly) {
+            throw new UnsupportedOperationException("Taking only priority tasks is not supported");
+        }
+        if (consumerThread == null) {
+            consumerThread = Thread.currentThread();
+        }
+
+        for (long idleCount = 0; ; idleCount++) {
+            Object task = poll();
+            if (task != null) {
+                return task;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (!idleStrategy.idle(idleCount)) {
+                continue;
+            }
+
+            consumerBlocked = true;
+            if (!hasPendingTasks()) {
+                LockSupport.park(this);
+            }
+            consumerBlocked = false;
+            idleCount = -1;
+        }
+    }
+
+    @Override
+    public Object poll() {
+        Object task = priorityQueue.poll();
+        if (task != null) {
+            return task;
+        }
+
+        if (batchIndex == batchSize) {
+            batchIndex = 0;
+            batchSize = 0;
+            if (normalQueue.drain(batchCollector) == 0) {
+                return pollOverflow();
+            }
+        }
+
+        task = batch[batchIndex];
+        batch[batchIndex++] = null;
+        return task;
+    }
+
+    private Object pollOverflow() {
+        Object task = overflowQueue.peek();
+        // A producer claims the slots of its earlier tasks in the ring before it adds a task
+        // to the overflow queue. If the ring has no claimed slots after the task was seen,
+        // the earlier tasks were taken already.
+        if (task == null || normalQueue.size() > 0) {
+            return null;
+        }
+        overflowQueue.poll();
+        return task;
+    }
+
+    private boolean collect(Object task) {
+        batch[batchSize++] = task;
+        return batchSize < BATCH_SIZE;
+    }
+
+    private boolean hasPendingTasks() {
+        // the size reads the tail of the ring which is updated with a CAS before the slot is published
+        return normalQueue.size() > 0 || !overflowQueue.isEmpty() || !priorityQueue.isEmpty();
+    }
+
+    @Override
+    public int normalSize() {
+        return (batchSize - batchIndex) + normalQueue.size() + overflowQueue.size();
+    }
+
+    @Override
+    public int prioritySize() {
+        return priorityQueue.size();
+    }
+
+    @Override
+    public int size() {
+        return normalSize() + prioritySize();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return batchSize == batchIndex && !hasPendingTasks();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.metrics.DynamicMetricsProvider;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.util.LatencyHistogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_DISCRIMINATOR_OPERATION;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_LATENCY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_LATENCY_MAX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_LATENCY_P50;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_LATENCY_P90;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_LATENCY_P99;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_LATENCY_WINDOW_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_PREFIX_INVOCATIONS_LATENCY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_TAG_TARGET;
+import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
+import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
+import static com.hazelcast.internal.metrics.ProbeUnit.US;
+
+/**
+ * Keeps a {@link LatencyHistogram} of the invocation latencies per operation type
+ * and target member, and publishes their percentiles as metrics.
+ * <p>
+ * Percentiles over the whole lifetime of a member hide latency spikes, so the
+ * published percentiles are calculated over the last complete window. The
+ * windows are rolled by a timer, the {@link InvocationMonitor} calls {@link
+ * #rollWindows()} every {@link #windowNanos()}. So they don't depend on how
+ * often the metrics are collected, nor on how many consumers, e.g. the metrics
+ * service and the diagnostics, collect them. The first window of an operation
+ * type and target member pair starts with its first invocation, so it may be
+ * shorter.
+ * <p>
+ * Rolling and collecting the windows is synchronized on this instance,
+ * recording a latency isn't.
+ */
+final class InvocationLatencyHistograms implements DynamicMetricsProvider {
+
+    private static final double P50 = 50;
+    private static final double P90 = 90;
+    private static final double P99 = 99;
+    private static final double P999 = 99.9;
+
+    private final long windowNanos;
+    private final ConcurrentMap<Class, ConcurrentMap<Address, Window>> windows = new ConcurrentHashMap<>();
+
+    InvocationLatencyHistograms(long windowNanos) {
+        this.windowNanos = windowNanos;
+    }
+
+    void record(Class operationType, Address target, long startNanos) {
+        ConcurrentMap<Address, Window> targetWindows = windows.get(operationType);
+        if (targetWindows == null) {
+            targetWindows = windows.computeIfAbsent(operationType, k -> new ConcurrentHashMap<>());
+        }
+
+        Window window = targetWindows.get(target);
+        if (window == null) {
+            window = targetWindows.computeIfAbsent(target, k -> new Window());
+        }
+        window.histogram.done(startNanos);
+    }
+
+    /**
+     * Removes the histograms of the given target, e.g. when it left the cluster.
+     */
+    void removeTarget(Address target) {
+        for (ConcurrentMap<Address, Window> targetWindows : windows.values()) {
+            targetWindows.remove(target);
+        }
+    }
+
+    long windowNanos() {
+        return windowNanos;
+    }
+
+    /**
+     * Completes the current window of every histogram and starts a new one.
+     */
+    synchronized void rollWindows() {
+        for (ConcurrentMap<Address, Window> targetWindows : windows.values()) {
+            for (Window window : targetWindows.values()) {
+                window.roll();
+            }
+        }
+    }
+
+    // just for testing
+    synchronized LatencyHistogram.Snapshot lastWindow(Class operationType, Address target) {
+        Map<Address, Window> targetWindows = windows.get(operationType);
+        Window window = targetWindows == null ? null : targetWindows.get(target);
+        return window == null ? null : window.lastWindow;
+    }
+
+    @Override
+    public synchronized void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (Map.Entry<Class, ConcurrentMap<Address, Window>> entry : windows.entrySet()) {
+            String operationType = entry.getKey().getName();
+            for (Map.Entry<Address, Window> targetEntry : entry.getValue().entrySet()) {
+                Window window = targetEntry.getValue();
+
+                MetricDescriptor windowDescriptor = descriptor
+                        .copy()
+                        .withPrefix(OPERATION_PREFIX_INVOCATIONS_LATENCY)
+                        .withDiscriminator(OPERATION_DISCRIMINATOR_OPERATION, operationType)
+                        .withTag(OPERATION_TAG_TARGET, targetEntry.getKey().toString());
+                LatencyHistogram.Snapshot lastWindow = window.lastWindow;
+                context.collect(windowDescriptor, OPERATION_METRIC_INVOCATION_LATENCY_COUNT, INFO, COUNT,
+                        window.previous.count());
+                context.collect(windowDescriptor, OPERATION_METRIC_INVOCATION_LATENCY_WINDOW_COUNT, INFO, COUNT,
+                        lastWindow.count());
+                context.collect(windowDescriptor, OPERATION_METRIC_INVOCATION_LATENCY_P50, INFO, US,
+                        lastWindow.valueAtPercentile(P50));
+                context.collect(windowDescriptor, OPERATION_METRIC_INVOCATION_LATENCY_P90, INFO, US,
+                        lastWindow.valueAtPercentile(P90));
+                context.collect(windowDescriptor, OPERATION_METRIC_INVOCATION_LATENCY_P99, INFO, US,
+                        lastWindow.valueAtPercentile(P99));
+                context.collect(windowDescriptor, OPERATION_METRIC_INVOCATION_LATENCY_P999, INFO, US,
+                        lastWindow.valueAtPercentile(P999));
+                context.collect(windowDescriptor, OPERATION_METRIC_INVOCATION_LATENCY_MAX, INFO, US,
+                        lastWindow.maxMicros());
+            }
+        }
+    }
+
+    private static final class Window {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        // the snapshot taken at the end of the last complete window, guarded by the histograms
+        private LatencyHistogram.Snapshot previous = LatencyHistogram.Snapshot.EMPTY;
+        // the latencies recorded in the last complete window, guarded by the histograms
+        private LatencyHistogram.Snapshot lastWindow = LatencyHistogram.Snapshot.EMPTY;
+
+        private void roll() {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            lastWindow = snapshot.since(previous);
+            previous = snapshot;
+        }
+    }
+}
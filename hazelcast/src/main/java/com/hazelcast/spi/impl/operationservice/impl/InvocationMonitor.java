@@ -68,6 +68,7 @@ import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BACKUP_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.INFO;
@@ -227,6 +228,13 @@ public class InvocationMonitor implements Consumer<Packet>, StaticMetricsProvide
                 = new BroadcastOperationControlTask(heartbeatBroadcastPeriodMillis);
         scheduler.scheduleAtFixedRate(
                 broadcastOperationControlTask, 0, broadcastOperationControlTask.periodMillis, MILLISECONDS);
+
+        InvocationLatencyHistograms latencyHistograms = invocationRegistry.latencyHistograms();
+        if (latencyHistograms != null) {
+            RollLatencyHistogramsTask rollLatencyHistogramsTask = new RollLatencyHistogramsTask(latencyHistograms);
+            scheduler.scheduleAtFixedRate(rollLatencyHistogramsTask, rollLatencyHistogramsTask.periodMillis,
+                    rollLatencyHistogramsTask.periodMillis, MILLISECONDS);
+        }
     }
 
     public void shutdown() {
@@ -494,6 +502,24 @@ public class InvocationMonitor implements Consumer<Packet>, StaticMetricsProvide
         }
     }
 
+    /**
+     * Completes the windows of the invocation latency histograms, so that
+     * they don't depend on when the metrics are collected.
+     */
+    private final class RollLatencyHistogramsTask extends FixedRateMonitorTask {
+        private final InvocationLatencyHistograms latencyHistograms;
+
+        private RollLatencyHistogramsTask(InvocationLatencyHistograms latencyHistograms) {
+            super(NANOSECONDS.toMillis(latencyHistograms.windowNanos()));
+            this.latencyHistograms = latencyHistograms;
+        }
+
+        @Override
+        protected void run0() {
+            latencyHistograms.rollWindows();
+        }
+    }
+
     private final class BroadcastOperationControlTask extends FixedRateMonitorTask {
         private final CallsPerMember calls = new CallsPerMember(thisAddress);
 
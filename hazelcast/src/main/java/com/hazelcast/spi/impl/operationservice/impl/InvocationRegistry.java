@@ -17,6 +17,7 @@
 package com.hazelcast.spi.impl.operationservice.impl;
 
 import com.hazelcast.client.impl.operations.OperationFactoryWrapper;
+import com.hazelcast.cluster.Address;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.HazelcastOverloadException;
 import com.hazelcast.core.MemberLeftException;
@@ -46,6 +47,7 @@ import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.deactivate;
 import static com.hazelcast.spi.impl.operationservice.OperationAccessor.setCallId;
+import static com.hazelcast.spi.properties.ClusterProperty.INVOCATION_LATENCY_HISTOGRAM_WINDOW_SECONDS;
 
 /**
  * Responsible for the registration of all pending invocations.
@@ -81,6 +83,7 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
     private final CallIdSequence callIdSequence;
     private final boolean profilerEnabled;
     private final ConcurrentMap<Class, LatencyDistribution> latencyDistributions = new ConcurrentHashMap<>();
+    private final InvocationLatencyHistograms latencyHistograms;
     private volatile boolean alive = true;
 
     public InvocationRegistry(ILogger logger, CallIdSequence callIdSequence, HazelcastProperties properties) {
@@ -93,11 +96,16 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
 
         this.invocations = new ConcurrentHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, concurrencyLevel);
         this.profilerEnabled = properties.getInteger(InvocationProfilerPlugin.PERIOD_SECONDS) > 0;
+        long histogramWindowNanos = properties.getNanos(INVOCATION_LATENCY_HISTOGRAM_WINDOW_SECONDS);
+        this.latencyHistograms = histogramWindowNanos > 0 ? new InvocationLatencyHistograms(histogramWindowNanos) : null;
     }
 
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, OPERATION_PREFIX_INVOCATIONS);
+        if (latencyHistograms != null) {
+            registry.registerDynamicMetricsProvider(latencyHistograms);
+        }
     }
 
     @Probe(name = OPERATION_METRIC_INVOCATION_REGISTRY_INVOCATIONS_USED_PERCENTAGE, unit = PERCENT)
@@ -161,7 +169,7 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
     }
 
     public void retire(Invocation invocation) {
-        if (!profilerEnabled) {
+        if (!profilerEnabled && latencyHistograms == null) {
             return;
         }
 
@@ -173,8 +181,32 @@ public class InvocationRegistry implements Iterable<Invocation>, StaticMetricsPr
                 c = wrapper.getOperationFactory().getClass();
             }
         }
-        LatencyDistribution distribution = latencyDistributions.computeIfAbsent(c, k -> new LatencyDistribution());
-        distribution.done(invocation.firstInvocationTimeNanos);
+
+        if (profilerEnabled) {
+            LatencyDistribution distribution = latencyDistributions.computeIfAbsent(c, k -> new LatencyDistribution());
+            distribution.done(invocation.firstInvocationTimeNanos);
+        }
+
+        Address target = invocation.getTargetAddress();
+        if (latencyHistograms != null && target != null) {
+            latencyHistograms.record(c, target, invocation.firstInvocationTimeNanos);
+        }
+    }
+
+    /**
+     * Removes the invocation latency histograms of a target which left the cluster.
+     *
+     * @param target the address of the target
+     */
+    void onTargetLeft(Address target) {
+        if (latencyHistograms != null) {
+            latencyHistograms.removeTarget(target);
+        }
+    }
+
+    // just for testing
+    InvocationLatencyHistograms latencyHistograms() {
+        return latencyHistograms;
     }
 
     public final ConcurrentMap<Class, LatencyDistribution> latencyDistributions() {
@@ -527,6 +527,7 @@ public final class OperationServiceImpl implements StaticMetricsProvider, LiveOp
 
     public void onMemberLeft(MemberImpl member) {
         invocationMonitor.onMemberLeft(member);
+        invocationRegistry.onTargetLeft(member.getAddress());
     }
 
     @Override
@@ -363,6 +363,28 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.io.write.through", true);
 
+    /**
+     * The minimum payload size in bytes of a member to member packet to be
+     * written to the socket using a gathering write. The payload of such a
+     * packet isn't copied into the send buffer; the send buffer, containing
+     * the coalesced smaller packets and the header, and the payload are
+     * written using a single {@code SocketChannel.write(ByteBuffer[])} call.
+     * <p>
+     * The threshold also applies to the frames of the messages sent to
+     * clients: a large serialized value, e.g. returned by {@code IMap.get},
+     * is written to the socket straight from the array it is stored in.
+     * <p>
+     * Gathering writes are only used when the packet or client message encoder
+     * is the last handler of the outbound pipeline, e.g. not when TLS is
+     * enabled.
+     * <p>
+     * A value smaller than 1 disables gathering writes, which is the default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_WRITE_GATHERING_THRESHOLD
+            = new HazelcastProperty("hazelcast.io.write.gathering.threshold", -1);
+
     /**
      * Property needed for concurrency detection so that write through can be
      * done correctly.
@@ -532,6 +554,28 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB
             = new HazelcastProperty("hazelcast.partition.migration.chunks.max.migrating.data.in.mb", 250);
 
+    /**
+     * Maximum number of migration fragments in flight from a migration
+     * source to a single destination member, shared by all partitions
+     * migrating between them.
+     * <p>
+     * Each migration fragment takes one of them before it is sent and gives
+     * it back once the destination has applied it. Sends which exceed the
+     * limit are parked without blocking any thread. A fragment carries at
+     * most {@link #PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB} of chunked
+     * data, so the in-flight migration data per destination is bounded by
+     * this value times that size. Bounding it this way allows raising
+     * {@link #PARTITION_MAX_PARALLEL_MIGRATIONS} to keep the network busy
+     * without overloading the destination's memory.
+     * <p>
+     * Default is 0, which disables the limit.
+     *
+     * @see ClusterProperty#PARTITION_CHUNKED_MIGRATION_ENABLED
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_CHUNKED_MAX_IN_FLIGHT_FRAGMENTS_PER_MEMBER
+            = new HazelcastProperty("hazelcast.partition.migration.chunks.max.in.flight.fragments.per.member", 0);
+
     /**
      * The time that a newly-appointed master node waits before forming a cluster.
      * Once a cluster is being started, a newly-appointed master node may receive
@@ -1170,6 +1214,58 @@ public final class ClusterProperty {
     public static final HazelcastProperty INDEX_COPY_BEHAVIOR
             = new HazelcastProperty("hazelcast.index.copy.behavior", IndexCopyBehavior.COPY_ON_READ.toString());
 
+    /**
+     * Defines how the bit sets of {@link com.hazelcast.config.IndexType#BITMAP
+     * bitmap indexes} are stored and combined on members. Possible values:
+     * <ul>
+     * <li>SPARSE - on-heap sparse bit sets combined one member at a time.
+     * Default value.
+     * </li>
+     * <li>ROARING - compressed container-based bit sets which keep their dense
+     * containers off-heap and are intersected and united a {@code long} word
+     * at a time. Speeds up the evaluation of predicates over low-cardinality
+     * attributes of large maps.
+     * </li>
+     * </ul>
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty BITMAP_INDEX_BACKEND
+            = new HazelcastProperty("hazelcast.index.bitmap.backend", "SPARSE");
+
+    /**
+     * Defines how the entries of {@link com.hazelcast.config.IndexType#SORTED
+     * sorted indexes} are stored on members. Possible values:
+     * <ul>
+     * <li>SKIP_LIST - a skip list of attribute values, each with a skip list
+     * or a tree of the entries having the value. Default value.
+     * </li>
+     * <li>B_PLUS_TREE - a B+tree keeping the entries in packed arrays ordered
+     * by the attribute value and the entry key. Takes less memory and speeds
+     * up range scans, queries don't block on concurrent index updates.
+     * </li>
+     * </ul>
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty SORTED_INDEX_BACKEND
+            = new HazelcastProperty("hazelcast.index.sorted.backend", "SKIP_LIST");
+
+    /**
+     * Enables the binary form of the Json metadata which is created for
+     * {@link com.hazelcast.core.HazelcastJsonValue} keys and values of maps
+     * with {@link com.hazelcast.config.MetadataPolicy#CREATE_ON_UPDATE}.
+     * The Json text is parsed once when an entry is stored and the queries,
+     * indexes and SQL navigate the binary form with an offset table for
+     * object attributes instead of parsing the text again. Takes more memory
+     * than the default metadata, which only records the positions of values
+     * in the text.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty QUERY_JSON_BINARY_METADATA_ENABLED
+            = new HazelcastProperty("hazelcast.query.json.binary.metadata.enabled", false);
+
     /**
      * The number of threads that the client engine has available for processing
      * requests that are related to the query engine.
@@ -1318,6 +1414,21 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_WRITE_BEHIND_QUEUE_CAPACITY
             = new HazelcastProperty("hazelcast.map.write.behind.queue.capacity", 50000);
 
+    /**
+     * The maximum number of batches of a write-behind map which are stored
+     * concurrently when the map is backed by an {@link com.hazelcast.map.AsyncMapStore}
+     * with {@code writeCoalescing} enabled.
+     * <p>
+     * Partitions are split into this many groups; the batches of a group are
+     * stored one after another, so the store operations on a key keep their
+     * order, while the batches of different groups are in flight at the same
+     * time.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty MAP_WRITE_BEHIND_ASYNC_CONCURRENCY
+            = new HazelcastProperty("hazelcast.map.write.behind.async.concurrency", 4);
+
     /*
      * INVOCATION / OPERATION SYSTEM PROPERTIES
      */
@@ -1361,6 +1472,24 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.invocation.retry.pause.millis",
             InvocationBuilder.DEFAULT_TRY_PAUSE_MILLIS, MILLISECONDS);
 
+    /**
+     * The window in seconds over which the invocation latency percentiles per
+     * operation type and target member are calculated. The windows are
+     * completed by a timer, independently of the metrics collection. The
+     * percentiles of the last complete window are published as metrics, so
+     * they are available through JMX and Management Center without enabling
+     * the diagnostics. A collection interval longer than the window skips
+     * windows, it doesn't make them longer.
+     * <p>
+     * Every operation type and target member pair costs a few KB of memory,
+     * so the histograms are disabled by default. A value larger than 0
+     * enables them.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty INVOCATION_LATENCY_HISTOGRAM_WINDOW_SECONDS
+            = new HazelcastProperty("hazelcast.invocation.latency.histogram.window.seconds", 0, SECONDS);
+
     /**
      * Using back pressure, you can prevent an overload of pending asynchronous
      * backups. With a map with a single asynchronous backup, producing asynchronous
@@ -1875,6 +2004,55 @@ public final class ClusterProperty {
     public static final HazelcastProperty PROCESSOR_CUSTOM_LIB_DIR
             = new HazelcastProperty("hazelcast.jet.custom.lib.dir", "custom-lib");
 
+    /**
+     * The maximum number of items a sorting processor (used by {@code
+     * BatchStage.sort()} and SQL {@code ORDER BY}) buffers in memory. When
+     * the buffer is full, its content is written as a sorted run to a
+     * temporary file in the default temporary-file directory and the runs
+     * are merged when the input is exhausted. This allows sorting inputs
+     * larger than {@link com.hazelcast.jet.config.InstanceConfig#setMaxProcessorAccumulatedRecords
+     * the accumulation limit}.
+     * <p>
+     * The default value of {@code -1} disables spilling.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SORT_SPILL_THRESHOLD
+            = new HazelcastProperty("hazelcast.jet.sort.spill.threshold", -1L);
+
+    /**
+     * The maximum number of groups a grouping processor (used by {@code
+     * groupingKey().aggregate()} in pipelines and SQL {@code GROUP BY})
+     * keeps in memory. When it is exceeded, a hash partition of the groups
+     * is written to a temporary file in the default temporary-file
+     * directory, together with all later items belonging to it. Spilled
+     * partitions are re-aggregated one at a time when the input is
+     * exhausted. Spilling requires an aggregate operation with a {@code
+     * combineFn}, other aggregations are kept in memory.
+     * <p>
+     * The default value of {@code -1} disables spilling.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_GROUP_SPILL_THRESHOLD
+            = new HazelcastProperty("hazelcast.jet.group.spill.threshold", -1L);
+
+    /**
+     * The maximum number of build-side rows an SQL hash join processor
+     * keeps in memory. SQL equi-joins already partition both inputs by the
+     * join key across members; when a processor's build side exceeds this
+     * number, a hash partition of it is written to a temporary file in the
+     * default temporary-file directory (grace hash join). Probe-side rows
+     * of spilled partitions are written to disk as well and joined
+     * partition by partition when the input is exhausted.
+     * <p>
+     * The default value of {@code -1} disables spilling.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_HASH_JOIN_SPILL_THRESHOLD
+            = new HazelcastProperty("hazelcast.jet.hash.join.spill.threshold", -1L);
+
     /**
      * Controls whether cluster emojis can be used in log messages. This is just a hint for components calling the logging.
      *
@@ -1911,6 +2089,40 @@ public final class ClusterProperty {
     public static final HazelcastProperty SQL_TSTORE_ENABLED = new HazelcastProperty(
             "hazelcast.sql.tstore.enabled", false);
 
+    /**
+     * The number of IMap entries an SQL full scan collects into a
+     * column-oriented batch before filtering and projecting them. In batch
+     * mode, the fields used by the query are extracted into column arrays,
+     * the filter conditions comparing a numeric field with a constant are
+     * evaluated over primitive arrays and only the selected rows are
+     * projected.
+     * <p>
+     * The default value of {@code 0} disables the batch mode, entries are
+     * then filtered and projected one at a time.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty SQL_SCAN_BATCH_SIZE = new HazelcastProperty(
+            "hazelcast.sql.scan.batch.size", 0);
+
+    /**
+     * Enables the compilation of SQL filter conditions to bytecode. When
+     * enabled, the filter of a scan or a projection is translated into a
+     * generated class evaluating the supported conditions directly, without
+     * interpreting the expression tree for every row. When disabled, all
+     * filters are interpreted.
+     * <p>
+     * The compiled classes of the least recently used filter shapes are
+     * evicted from a bounded cache, so the filters of many distinct queries
+     * may be compiled again.
+     * <p>
+     * The default value is {@code false}.
+     *
+     * @since 6.0
+     */
+    @Beta
+    public static final HazelcastProperty SQL_PREDICATE_COMPILATION_ENABLED = new HazelcastProperty(
+            "hazelcast.sql.predicate.compilation.enabled", false);
 
     /**
      * When {@code true}, enables monitoring of the runtime environment to detect the intent of shutdown
@@ -20,6 +20,7 @@ import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.ClientMessage.Frame;
 import com.hazelcast.client.impl.protocol.codec.ClientAuthenticationCodec;
 import com.hazelcast.client.impl.protocol.codec.MapAddEntryListenerCodec;
+import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutCodec;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.internal.cluster.MemberInfo;
@@ -55,8 +56,11 @@ import static com.hazelcast.client.impl.protocol.ClientMessage.IS_FINAL_FLAG;
 import static com.hazelcast.client.impl.protocol.ClientMessage.UNFRAGMENTED_MESSAGE;
 import static com.hazelcast.client.impl.protocol.util.ClientMessageSplitter.getFragments;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -365,6 +369,82 @@ public class ClientMessageEncoderDecoderTest extends HazelcastTestSupport {
         }
     }
 
+    @Test
+    public void testGatheredFrame() {
+        byte[] payload = new byte[10_000];
+        new Random().nextBytes(payload);
+        HeapData value = new HeapData(payload);
+        ClientMessage message = MapGetCodec.encodeResponse(value);
+        ClientMessage secondMessage = MapGetCodec.encodeResponse(randomData());
+        Iterator<ClientMessage> messages = Arrays.asList(message, secondMessage).iterator();
+
+        ClientMessageEncoder encoder = new ClientMessageEncoder(1000);
+        encoder.setGatheringEnabled(true);
+        encoder.src(() -> messages.hasNext() ? messages.next() : null);
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+        encoder.dst(dst);
+
+        ByteBuffer socket = ByteBuffer.allocate(20_000);
+        assertEquals(DIRTY, encoder.onWrite());
+        ByteBuffer gatheredBuffer = encoder.gatheredBuffer();
+        // the value isn't copied
+        assertSame(payload, gatheredBuffer.array());
+        socket.put(dst);
+        socket.put(gatheredBuffer);
+
+        assertEquals(CLEAN, encoder.onWrite());
+        assertNull(encoder.gatheredBuffer());
+        socket.put(dst);
+
+        List<ClientMessage> resultingMessages = new ArrayList<>();
+        ClientMessageDecoder decoder = new ClientMessageDecoder(null, resultingMessages::add, null);
+        decoder.setNormalPacketsRead(SwCounter.newSwCounter());
+        decoder.src(socket);
+        decoder.onRead();
+
+        assertEquals(2, resultingMessages.size());
+        assertEquals(value, MapGetCodec.decodeResponse(resultingMessages.get(0)));
+        assertEquals(MapGetCodec.decodeResponse(secondMessage), MapGetCodec.decodeResponse(resultingMessages.get(1)));
+    }
+
+    @Test
+    public void testLargeFrameCopied_whenEncoderNotLastHandler() {
+        byte[] payload = new byte[10_000];
+        new Random().nextBytes(payload);
+        HeapData value = new HeapData(payload);
+        ClientMessage message = MapGetCodec.encodeResponse(value);
+        ClientMessage secondMessage = MapGetCodec.encodeResponse(randomData());
+        Iterator<ClientMessage> messages = Arrays.asList(message, secondMessage).iterator();
+
+        // the gathering threshold is configured, but a handler, e.g. TLS, follows the encoder
+        ClientMessageEncoder encoder = new ClientMessageEncoder(1000);
+        encoder.setGatheringEnabled(false);
+        encoder.src(() -> messages.hasNext() ? messages.next() : null);
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+        encoder.dst(dst);
+
+        // the handler behind the encoder only sees its dst
+        ByteBuffer socket = ByteBuffer.allocate(20_000);
+        HandlerStatus status;
+        do {
+            status = encoder.onWrite();
+            assertNull(encoder.gatheredBuffer());
+            socket.put(dst);
+        } while (status != CLEAN);
+
+        List<ClientMessage> resultingMessages = new ArrayList<>();
+        ClientMessageDecoder decoder = new ClientMessageDecoder(null, resultingMessages::add, null);
+        decoder.setNormalPacketsRead(SwCounter.newSwCounter());
+        decoder.src(socket);
+        decoder.onRead();
+
+        assertEquals(2, resultingMessages.size());
+        assertEquals(value, MapGetCodec.decodeResponse(resultingMessages.get(0)));
+        assertEquals(MapGetCodec.decodeResponse(secondMessage), MapGetCodec.decodeResponse(resultingMessages.get(1)));
+    }
+
     private ClientMessage createMessage(int frameLength, int frameCount) {
         ClientMessage message = ClientMessage.createForEncode();
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.impl.connection.ClientConnectionManager;
+import com.hazelcast.client.impl.spi.ClientPartitionService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientReadReplicaSelectorTest {
+
+    private static final int PARTITION_ID = 1;
+
+    private final UUID owner = UUID.randomUUID();
+    private final UUID backup = UUID.randomUUID();
+
+    private ClientPartitionService partitionService;
+    private ClientReadReplicaSelector selector;
+
+    @Before
+    public void setup() {
+        partitionService = mock(ClientPartitionService.class);
+        when(partitionService.getPartitionOwner(PARTITION_ID)).thenReturn(owner);
+        ClientConnectionManager connectionManager = mock(ClientConnectionManager.class);
+        when(connectionManager.getActiveConnection(any(UUID.class))).thenReturn(mock(ClientConnection.class));
+        selector = new ClientReadReplicaSelector(partitionService, connectionManager);
+    }
+
+    @Test
+    public void whenNoBackupKnown_thenOwnerSelected() {
+        assertEquals(owner, selector.select(PARTITION_ID, owner));
+        assertEquals(owner, selector.select(PARTITION_ID, owner));
+    }
+
+    @Test
+    public void whenOwnerNotLoaded_thenOwnerSelected() {
+        selector.onBackupAck(PARTITION_ID, backup);
+
+        UUID target = selector.select(PARTITION_ID, owner);
+        selector.release(target);
+
+        assertEquals(owner, target);
+        assertEquals(owner, selector.select(PARTITION_ID, owner));
+    }
+
+    @Test
+    public void whenOwnerLoaded_thenBackupSelected() {
+        selector.onBackupAck(PARTITION_ID, backup);
+
+        assertEquals(owner, selector.select(PARTITION_ID, owner));
+        assertEquals(backup, selector.select(PARTITION_ID, owner));
+        assertEquals(owner, selector.select(PARTITION_ID, owner));
+    }
+
+    @Test
+    public void whenOwnerChanged_thenBackupForgotten() {
+        selector.onBackupAck(PARTITION_ID, backup);
+        UUID newOwner = UUID.randomUUID();
+        when(partitionService.getPartitionOwner(PARTITION_ID)).thenReturn(newOwner);
+
+        assertEquals(newOwner, selector.select(PARTITION_ID, newOwner));
+        assertEquals(newOwner, selector.select(PARTITION_ID, newOwner));
+    }
+
+    @Test
+    public void whenBackupAckFromOwner_thenIgnored() {
+        selector.onBackupAck(PARTITION_ID, owner);
+
+        assertEquals(owner, selector.select(PARTITION_ID, owner));
+        assertEquals(owner, selector.select(PARTITION_ID, owner));
+    }
+}
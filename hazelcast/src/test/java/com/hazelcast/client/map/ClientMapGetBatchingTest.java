@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.transaction.TransactionContext;
+import com.hazelcast.transaction.TransactionOptions;
+import com.hazelcast.transaction.TransactionOptions.TransactionType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapGetBatchingTest extends HazelcastTestSupport {
+
+    private static final int KEY_COUNT = 1000;
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+
+    private HazelcastInstance member;
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        member = factory.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(ClientProperty.MAP_GET_BATCHING_ENABLED.getName(), "true")
+                .setProperty(ClientProperty.MAP_GET_BATCHING_MAX_SIZE.getName(), "16")
+                .addNearCacheConfig(new NearCacheConfig("nearCached*"));
+        client = factory.newHazelcastClient(clientConfig);
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testGetAsync() {
+        IMap<Integer, String> map = populate(client.getMap(randomMapName()));
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 2 * KEY_COUNT; i++) {
+            futures.add(map.getAsync(i).toCompletableFuture());
+        }
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertEquals("value-" + i, futures.get(i).join());
+        }
+        for (int i = KEY_COUNT; i < 2 * KEY_COUNT; i++) {
+            assertNull(futures.get(i).join());
+        }
+    }
+
+    @Test
+    public void testGetAsync_sameKey() {
+        IMap<Integer, String> map = populate(client.getMap(randomMapName()));
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(map.getAsync(1).toCompletableFuture());
+        }
+
+        for (CompletableFuture<String> future : futures) {
+            assertEquals("value-1", future.join());
+        }
+    }
+
+    @Test
+    public void testGet_concurrently() throws Exception {
+        testGet_concurrently(client.getMap(randomMapName()));
+    }
+
+    @Test
+    public void testGet_concurrently_withNearCache() throws Exception {
+        testGet_concurrently(client.getMap(randomMapName("nearCached")));
+    }
+
+    @Test
+    public void testGet_seesPrecedingWrite() {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+
+        for (int i = 0; i < 100; i++) {
+            map.getAsync(i);
+            map.set(i, "value-" + i);
+            assertEquals("value-" + i, map.get(i));
+        }
+    }
+
+    @Test
+    public void testGetAsync_notHeldBackByGetWaitingForLock() {
+        IMap<Integer, String> map = populate(client.getMap(randomMapName()));
+        TransactionContext context = member.newTransactionContext(
+                new TransactionOptions().setTransactionType(TransactionType.ONE_PHASE));
+        context.beginTransaction();
+        context.getMap(map.getName()).put(1, "updated");
+
+        int partitionId = member.getPartitionService().getPartition(1).getPartitionId();
+        int otherKey = 2;
+        while (member.getPartitionService().getPartition(otherKey).getPartitionId() != partitionId) {
+            otherKey++;
+        }
+
+        // sent alone, waits for the transaction
+        CompletableFuture<String> lockedFuture = map.getAsync(1).toCompletableFuture();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(map.getAsync(otherKey).toCompletableFuture());
+        }
+
+        for (CompletableFuture<String> future : futures) {
+            assertEquals(otherKey < KEY_COUNT ? "value-" + otherKey : null, future.join());
+        }
+        assertFalse(lockedFuture.isDone());
+
+        context.commitTransaction();
+
+        assertEquals("updated", lockedFuture.join());
+    }
+
+    private void testGet_concurrently(IMap<Integer, String> map) throws Exception {
+        populate(map);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(spawn((Runnable) () -> {
+                for (int i = 0; i < 2 * KEY_COUNT; i++) {
+                    String value = map.get(i);
+                    if (i < KEY_COUNT) {
+                        assertEquals("value-" + i, value);
+                    } else {
+                        assertNull(value);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private IMap<Integer, String> populate(IMap<Integer, String> map) {
+        IMap<Integer, String> memberMap = member.getMap(map.getName());
+        for (int i = 0; i < KEY_COUNT; i++) {
+            memberMap.set(i, "value-" + i);
+        }
+        return map;
+    }
+}
@@ -1081,6 +1081,20 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapConfig.isPerEntryStatsEnabled());
     }
 
+    @Override
+    public void testMapConfig_openAddressingStorageEnabled() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<open-addressing-storage-enabled>true</open-addressing-storage-enabled>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isOpenAddressingStorageEnabled());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
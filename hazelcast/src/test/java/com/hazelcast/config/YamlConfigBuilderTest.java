@@ -1089,6 +1089,20 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapConfig.isStatisticsEnabled());
     }
 
+    @Override
+    public void testMapConfig_openAddressingStorageEnabled() {
+        String yaml = """
+                hazelcast:
+                  map:
+                    mymap:
+                      open-addressing-storage-enabled: true""";
+
+        Config config = buildConfig(yaml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isOpenAddressingStorageEnabled());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
@@ -357,6 +357,14 @@ public abstract class NearCacheTestSupport extends CommonNearCacheTestSupport {
             staleReadDetector = detector;
         }
 
+        @Override
+        public void enableAdmissionFilter() {
+        }
+
+        @Override
+        public void enablePreloaderSnapshot() {
+        }
+
         @Override
         public long tryReserveForUpdate(Integer key, Data keyData, NearCache.UpdateSemantic updateSemantic) {
             return reservationIdGenerator.incrementAndGet();
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.preloader;
+
+import com.hazelcast.internal.adapter.DataStructureAdapter;
+import com.hazelcast.internal.nearcache.impl.record.NearCacheDataRecord;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.hazelcast.internal.nearcache.NearCacheRecord.TIME_NOT_SET;
+import static com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloader.FileFormat.KEY_VALUE_LOG;
+import static com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloaderSnapshot.HEADER_SIZE;
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NearCachePreloaderSnapshotTest extends HazelcastTestSupport {
+
+    private static final int KEY_COUNT = 100;
+    private static final UUID PARTITION_UUID = UUID.randomUUID();
+
+    private final SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private final File storeFile = new File(randomName());
+    private final File tmpStoreFile = new File(storeFile.getName() + "~");
+    private final Map<Integer, NearCacheDataRecord> records = new HashMap<>();
+
+    private final NearCachePreloaderSnapshot<Integer> snapshot = newSnapshot();
+
+    @After
+    public void tearDown() {
+        deleteQuietly(storeFile);
+        deleteQuietly(tmpStoreFile);
+    }
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        putRecords(0, KEY_COUNT, "value");
+
+        int writtenBytes = snapshot.store(records.entrySet().iterator());
+
+        assertThat(writtenBytes).isGreaterThan(HEADER_SIZE);
+        assertThat(snapshot.size()).isEqualTo(KEY_COUNT);
+        assertThat(load()).hasSize(KEY_COUNT).containsEntry(42, "value-42");
+    }
+
+    @Test
+    public void testStore_writesOnlyChangedRecords() throws IOException {
+        putRecords(0, KEY_COUNT, "value");
+        int fullBytes = snapshot.store(records.entrySet().iterator());
+
+        putRecords(0, 1, "updated");
+        records.remove(1);
+        int deltaBytes = snapshot.store(records.entrySet().iterator());
+
+        assertThat(deltaBytes).isGreaterThan(0).isLessThan(fullBytes / 10);
+        assertThat(load())
+                .hasSize(KEY_COUNT - 1)
+                .containsEntry(0, "updated-0")
+                .doesNotContainKey(1)
+                .containsEntry(2, "value-2");
+    }
+
+    @Test
+    public void testStore_whenNothingChanged_thenNothingIsWritten() throws IOException {
+        putRecords(0, KEY_COUNT, "value");
+        snapshot.store(records.entrySet().iterator());
+
+        int writtenBytes = snapshot.store(records.entrySet().iterator());
+
+        assertThat(writtenBytes).isZero();
+        assertThat(load()).hasSize(KEY_COUNT);
+    }
+
+    @Test
+    public void testStore_compactsLog() throws IOException {
+        putRecords(0, KEY_COUNT, "value");
+        int fullBytes = snapshot.store(records.entrySet().iterator());
+        for (int i = 0; i < 3; i++) {
+            putRecords(0, KEY_COUNT, "value" + i);
+            snapshot.store(records.entrySet().iterator());
+        }
+
+        assertThat(committedEnd()).isLessThanOrEqualTo(3L * fullBytes);
+        assertThat(load()).hasSize(KEY_COUNT).containsEntry(42, "value2-42");
+    }
+
+    @Test
+    public void testStore_whenAllRecordsAreRemoved_thenFileIsDeleted() throws IOException {
+        putRecords(0, KEY_COUNT, "value");
+        snapshot.store(records.entrySet().iterator());
+
+        records.clear();
+        snapshot.store(records.entrySet().iterator());
+
+        assertThat(storeFile).doesNotExist();
+    }
+
+    @Test
+    public void testStore_skipsReservedRecords() throws IOException {
+        putRecords(0, KEY_COUNT, "value");
+        records.get(0).setReservationId(1);
+
+        snapshot.store(records.entrySet().iterator());
+
+        assertThat(load()).hasSize(KEY_COUNT - 1).doesNotContainKey(0);
+    }
+
+    @Test
+    public void testLoad_whenValueIsRejected_thenKeyIsFetched() throws IOException {
+        putRecords(0, KEY_COUNT, "value");
+        snapshot.store(records.entrySet().iterator());
+        DataStructureAdapter<Object, ?> adapter = mock(DataStructureAdapter.class);
+
+        int restored = newSnapshot().load(adapter, (key, value, partitionId, partitionUuid, sequence) -> false);
+
+        assertThat(restored).isZero();
+        verify(adapter, atLeastOnce()).getAll(anySet());
+    }
+
+    @Test
+    public void testLoad_restoresInvalidationMetaData() throws IOException {
+        putRecords(0, 1, "value");
+        snapshot.store(records.entrySet().iterator());
+        DataStructureAdapter<Object, ?> adapter = mock(DataStructureAdapter.class);
+        Set<UUID> partitionUuids = new HashSet<>();
+        Set<Long> sequences = new HashSet<>();
+
+        int restored = newSnapshot().load(adapter, (key, value, partitionId, partitionUuid, sequence) -> {
+            partitionUuids.add(partitionUuid);
+            sequences.add(sequence);
+            return partitionId == 23;
+        });
+
+        assertThat(restored).isEqualTo(1);
+        assertThat(partitionUuids).containsExactly(PARTITION_UUID);
+        assertThat(sequences).containsExactly(42L);
+        verify(adapter, never()).getAll(anySet());
+    }
+
+    private void putRecords(int from, int to, String valuePrefix) {
+        for (int key = from; key < to; key++) {
+            Data value = serializationService.toData(valuePrefix + "-" + key);
+            NearCacheDataRecord record = new NearCacheDataRecord(value, System.currentTimeMillis(), TIME_NOT_SET);
+            record.setPartitionId(23);
+            record.setUuid(PARTITION_UUID);
+            record.setInvalidationSequence(42);
+            records.put(key, record);
+        }
+    }
+
+    private Map<Integer, String> load() throws IOException {
+        Map<Integer, String> loaded = new HashMap<>();
+        DataStructureAdapter<Object, ?> adapter = mock(DataStructureAdapter.class);
+        newSnapshot().load(adapter, (key, value, partitionId, partitionUuid, sequence) -> {
+            loaded.put(serializationService.toObject(key), serializationService.toObject(value));
+            return true;
+        });
+        verify(adapter, never()).getAll(anySet());
+        return loaded;
+    }
+
+    private long committedEnd() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(storeFile, "r")) {
+            file.seek(HEADER_SIZE - Long.BYTES);
+            return file.readLong();
+        }
+    }
+
+    private NearCachePreloaderSnapshot<Integer> newSnapshot() {
+        return new NearCachePreloaderSnapshot<>(KEY_VALUE_LOG.ordinal(), storeFile, tmpStoreFile, serializationService);
+    }
+}
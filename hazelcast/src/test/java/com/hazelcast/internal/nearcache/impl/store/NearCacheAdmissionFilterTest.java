@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nearcache.NearCacheStats;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NearCacheAdmissionFilterTest {
+
+    private static final int MAX_SIZE = 100;
+    private static final int SCAN_KEY_OFFSET = 1000000;
+    private static final int READ_COUNT = 20000;
+
+    private final SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    private NearCacheObjectRecordStore<Integer, String> store;
+    private boolean admissionFilterEnabled;
+
+    @After
+    public void tearDown() {
+        store.destroy();
+    }
+
+    @Test
+    public void testHotKeysSurviveScan_withAdmissionFilter() {
+        store = createStore(true);
+
+        double hotKeyHitRatio = readHotKeysDuringScan();
+
+        NearCacheStats stats = store.getNearCacheStats();
+        assertTrue("hot key hit ratio was " + hotKeyHitRatio, hotKeyHitRatio > 0.9);
+        assertTrue(stats.getAdmissionRejections() > 0);
+        assertEquals(MAX_SIZE, store.size());
+    }
+
+    @Test
+    public void testScanEvictsHotKeys_withoutAdmissionFilter() {
+        store = createStore(false);
+
+        double hotKeyHitRatio = readHotKeysDuringScan();
+
+        NearCacheStats stats = store.getNearCacheStats();
+        assertTrue("hot key hit ratio was " + hotKeyHitRatio, hotKeyHitRatio < 0.9);
+        assertEquals(0, stats.getAdmissions());
+        assertEquals(0, stats.getAdmissionRejections());
+    }
+
+    @Test
+    public void testNewKeyIsAdmitted_whenNearCacheIsNotFull() {
+        store = createStore(true);
+
+        for (int key = 0; key < MAX_SIZE; key++) {
+            assertNotEquals(NOT_RESERVED, read(key));
+        }
+
+        assertEquals(MAX_SIZE, store.size());
+        assertEquals(0, store.getNearCacheStats().getAdmissionRejections());
+    }
+
+    @Test
+    public void testFrequentKeyIsAdmitted_whenNearCacheIsFull() {
+        store = createStore(true);
+        for (int key = 0; key < MAX_SIZE; key++) {
+            read(key);
+        }
+
+        int newKey = SCAN_KEY_OFFSET;
+        // the first misses are rejected, since the key isn't read more frequently than the eviction victims
+        while (read(newKey) == NOT_RESERVED) {
+            assertTrue(store.getNearCacheStats().getAdmissionRejections() < MAX_SIZE);
+        }
+
+        NearCacheStats stats = store.getNearCacheStats();
+        assertEquals(1, stats.getAdmissions());
+        assertEquals(MAX_SIZE, store.size());
+    }
+
+    /**
+     * Interleaves reads of {@link #MAX_SIZE} hot keys with a scan over keys
+     * which are read only once and returns the hit ratio of the hot keys
+     * in the second half of the run.
+     */
+    private double readHotKeysDuringScan() {
+        int hotReads = 0;
+        int hotHits = 0;
+        for (int i = 0; i < READ_COUNT; i++) {
+            int hotKey = i % MAX_SIZE;
+            boolean hit = store.get(hotKey) != null;
+            if (!hit) {
+                load(hotKey);
+            }
+            if (i >= READ_COUNT / 2) {
+                hotReads++;
+                hotHits += hit ? 1 : 0;
+            }
+
+            read(SCAN_KEY_OFFSET + i);
+        }
+        return (double) hotHits / hotReads;
+    }
+
+    private long read(int key) {
+        if (store.get(key) != null) {
+            return NOT_RESERVED;
+        }
+        return load(key);
+    }
+
+    private long load(int key) {
+        // the same as DefaultNearCache: with an admission filter the record store evicts on reservation
+        if (!admissionFilterEnabled) {
+            store.doEviction(false);
+        }
+        long reservationId = store.tryReserveForUpdate(key, serializationService.toData(key), READ_UPDATE);
+        if (reservationId != NOT_RESERVED) {
+            store.tryPublishReserved(key, "value-" + key, reservationId, false);
+        }
+        return reservationId;
+    }
+
+    private NearCacheObjectRecordStore<Integer, String> createStore(boolean admissionFilterEnabled) {
+        EvictionConfig evictionConfig = new EvictionConfig()
+                .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setSize(MAX_SIZE);
+        NearCacheConfig config = new NearCacheConfig()
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setSerializeKeys(false)
+                .setEvictionConfig(evictionConfig);
+
+        NearCacheObjectRecordStore<Integer, String> recordStore
+                = new NearCacheObjectRecordStore<>("name", config, serializationService, getClass().getClassLoader());
+        this.admissionFilterEnabled = admissionFilterEnabled;
+        if (admissionFilterEnabled) {
+            recordStore.enableAdmissionFilter();
+        }
+        recordStore.initialize();
+        return recordStore;
+    }
+}
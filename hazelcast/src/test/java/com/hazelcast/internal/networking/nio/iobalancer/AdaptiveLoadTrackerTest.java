@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio.iobalancer;
+
+import com.hazelcast.internal.networking.nio.MigratablePipeline;
+import com.hazelcast.internal.networking.nio.NioThread;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.networking.nio.iobalancer.AdaptiveLoadTracker.BYTES_TRANSCEIVED_WEIGHT;
+import static com.hazelcast.internal.networking.nio.iobalancer.AdaptiveLoadTracker.FRAMES_PENDING_WEIGHT;
+import static com.hazelcast.internal.networking.nio.iobalancer.AdaptiveLoadTracker.LOAD_SCALE;
+import static com.hazelcast.internal.networking.nio.iobalancer.AdaptiveLoadTracker.PROCESSING_TIME_WEIGHT;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AdaptiveLoadTrackerTest {
+
+    private NioThread owner1;
+    private NioThread owner2;
+    private AdaptiveLoadTracker loadTracker;
+
+    @Before
+    public void setUp() {
+        owner1 = mock(NioThread.class);
+        owner2 = mock(NioThread.class);
+
+        loadTracker = new AdaptiveLoadTracker(new NioThread[]{owner1, owner2}, mock(ILogger.class));
+    }
+
+    @Test
+    public void testUpdateImbalance() {
+        MigratablePipeline owner1Pipeline1 = mock(MigratablePipeline.class);
+        when(owner1Pipeline1.owner()).thenReturn(owner1);
+        when(owner1Pipeline1.processingTimeNanos()).thenReturn(0L).thenReturn(100L);
+        when(owner1Pipeline1.bytesTransceived()).thenReturn(0L).thenReturn(1000L);
+        when(owner1Pipeline1.framesPending()).thenReturn(0);
+        loadTracker.addPipeline(owner1Pipeline1);
+
+        MigratablePipeline owner2Pipeline1 = mock(MigratablePipeline.class);
+        when(owner2Pipeline1.owner()).thenReturn(owner2);
+        when(owner2Pipeline1.processingTimeNanos()).thenReturn(0L).thenReturn(300L);
+        when(owner2Pipeline1.bytesTransceived()).thenReturn(0L).thenReturn(1000L);
+        when(owner2Pipeline1.framesPending()).thenReturn(0).thenReturn(10);
+        loadTracker.addPipeline(owner2Pipeline1);
+
+        MigratablePipeline owner2Pipeline2 = mock(MigratablePipeline.class);
+        when(owner2Pipeline2.owner()).thenReturn(owner2);
+        loadTracker.addPipeline(owner2Pipeline2);
+
+        loadTracker.updateImbalance();
+        LoadImbalance loadImbalance = loadTracker.updateImbalance();
+
+        long owner1Load = (long) ((PROCESSING_TIME_WEIGHT * 0.25 + BYTES_TRANSCEIVED_WEIGHT * 0.5) * LOAD_SCALE);
+        long owner2Load = (long) ((PROCESSING_TIME_WEIGHT * 0.75 + BYTES_TRANSCEIVED_WEIGHT * 0.5
+                + FRAMES_PENDING_WEIGHT) * LOAD_SCALE);
+        assertEquals(owner1Load, loadImbalance.getLoad(owner1Pipeline1));
+        assertEquals(owner2Load, loadImbalance.getLoad(owner2Pipeline1));
+        assertEquals(0, loadImbalance.getLoad(owner2Pipeline2));
+        assertEquals(owner1, loadImbalance.dstOwner);
+        assertEquals(owner2, loadImbalance.srcOwner);
+        assertEquals(owner1Load, loadImbalance.minimumLoad);
+        assertEquals(owner2Load, loadImbalance.maximumLoad);
+    }
+}
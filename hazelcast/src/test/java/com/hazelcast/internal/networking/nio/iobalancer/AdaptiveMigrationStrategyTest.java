@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio.iobalancer;
+
+import com.hazelcast.internal.networking.nio.MigratablePipeline;
+import com.hazelcast.internal.networking.nio.NioThread;
+import com.hazelcast.internal.util.ItemCounter;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.internal.networking.nio.iobalancer.AdaptiveMigrationStrategy.IMBALANCE_ROUNDS;
+import static com.hazelcast.internal.networking.nio.iobalancer.AdaptiveMigrationStrategy.MIGRATION_COOLDOWN_ROUNDS;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AdaptiveMigrationStrategyTest {
+
+    private Map<NioThread, Set<MigratablePipeline>> ownerToPipelines;
+    private ItemCounter<MigratablePipeline> loadCounter;
+    private LoadImbalance imbalance;
+    private NioThread srcOwner;
+    private NioThread dstOwner;
+
+    private AdaptiveMigrationStrategy strategy;
+
+    @Before
+    public void setUp() {
+        ownerToPipelines = new HashMap<>();
+        loadCounter = new ItemCounter<>();
+        imbalance = new LoadImbalance(ownerToPipelines, loadCounter);
+        srcOwner = mock(NioThread.class);
+        dstOwner = mock(NioThread.class);
+        imbalance.srcOwner = srcOwner;
+        imbalance.dstOwner = dstOwner;
+        strategy = new AdaptiveMigrationStrategy();
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldReturnFalseWhenNoSource() {
+        imbalance.srcOwner = null;
+        imbalance.maximumLoad = Long.MIN_VALUE;
+        imbalance.minimumLoad = 0;
+
+        for (int i = 0; i < IMBALANCE_ROUNDS; i++) {
+            assertFalse(strategy.imbalanceDetected(imbalance));
+        }
+        assertEquals(0, strategy.migrationsSuppressed());
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldReturnFalseWhenBalanced() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 800;
+
+        for (int i = 0; i < IMBALANCE_ROUNDS; i++) {
+            assertFalse(strategy.imbalanceDetected(imbalance));
+        }
+        assertEquals(0, strategy.migrationsSuppressed());
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldReturnTrueWhenImbalancePersists() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 500;
+
+        for (int i = 1; i < IMBALANCE_ROUNDS; i++) {
+            assertFalse(strategy.imbalanceDetected(imbalance));
+        }
+        assertTrue(strategy.imbalanceDetected(imbalance));
+        assertEquals(IMBALANCE_ROUNDS - 1, strategy.migrationsSuppressed());
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldRestartWhenSourceChanges() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 500;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+
+        imbalance.srcOwner = mock(NioThread.class);
+        assertFalse(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldKeepImbalanceBetweenEnterAndExitRatio() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 500;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+
+        // not imbalanced enough to start an imbalance, but not balanced enough to end it either
+        imbalance.minimumLoad = 750;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+
+        imbalance.minimumLoad = 500;
+        assertTrue(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldEndImbalanceWhenBalanced() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 500;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+
+        imbalance.minimumLoad = 900;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+
+        imbalance.minimumLoad = 500;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testFindPipelineToMigrate_shouldNotOverloadDestination() {
+        imbalance.minimumLoad = 100;
+        MigratablePipeline pipeline1 = mock(MigratablePipeline.class);
+        loadCounter.set(pipeline1, 100L);
+        ownerToPipelines.put(dstOwner, singleton(pipeline1));
+
+        imbalance.maximumLoad = 600;
+        MigratablePipeline pipeline2 = mock(MigratablePipeline.class);
+        MigratablePipeline pipeline3 = mock(MigratablePipeline.class);
+        MigratablePipeline pipeline4 = mock(MigratablePipeline.class);
+        loadCounter.set(pipeline2, 300L);
+        loadCounter.set(pipeline3, 200L);
+        loadCounter.set(pipeline4, 100L);
+        ownerToPipelines.put(srcOwner, Set.of(pipeline2, pipeline3, pipeline4));
+
+        // moving pipeline2 would make the destination busier than the source
+        assertEquals(pipeline3, strategy.findPipelineToMigrate(imbalance));
+    }
+
+    @Test
+    public void testFindPipelineToMigrate_shouldNotMigrateDuringCooldown() {
+        imbalance.minimumLoad = 0;
+        imbalance.maximumLoad = 300;
+        MigratablePipeline pipeline1 = mock(MigratablePipeline.class);
+        MigratablePipeline pipeline2 = mock(MigratablePipeline.class);
+        loadCounter.set(pipeline1, 150L);
+        loadCounter.set(pipeline2, 150L);
+        ownerToPipelines.put(srcOwner, Set.of(pipeline1, pipeline2));
+
+        strategy.imbalanceDetected(imbalance);
+        MigratablePipeline migrated = strategy.findPipelineToMigrate(imbalance);
+        MigratablePipeline other = migrated == pipeline1 ? pipeline2 : pipeline1;
+        loadCounter.set(other, 0L);
+
+        for (int i = 1; i < MIGRATION_COOLDOWN_ROUNDS; i++) {
+            strategy.imbalanceDetected(imbalance);
+            assertNull(strategy.findPipelineToMigrate(imbalance));
+        }
+        long suppressed = strategy.migrationsSuppressed();
+        assertTrue(suppressed >= MIGRATION_COOLDOWN_ROUNDS - 1);
+
+        strategy.imbalanceDetected(imbalance);
+        assertEquals(migrated, strategy.findPipelineToMigrate(imbalance));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ChunkedMigrationCreditsTest {
+
+    private final ChunkedMigrationCredits credits = new ChunkedMigrationCredits(2);
+
+    @Test
+    public void test_acquire_runsImmediately_whenCreditsAvailable() throws UnknownHostException {
+        Address destination = new Address("127.0.0.1", 5701);
+        AtomicInteger sent = new AtomicInteger();
+
+        assertTrue(credits.acquire(destination, sent::incrementAndGet));
+
+        assertEquals(1, sent.get());
+        assertEquals(1, credits.getAvailableCredits(destination));
+    }
+
+    @Test
+    public void test_acquire_parksUntilRelease_whenCreditsExhausted() throws UnknownHostException {
+        Address destination = new Address("127.0.0.1", 5701);
+        AtomicInteger sent = new AtomicInteger();
+
+        credits.acquire(destination, sent::incrementAndGet);
+        credits.acquire(destination, sent::incrementAndGet);
+        assertFalse(credits.acquire(destination, sent::incrementAndGet));
+        assertEquals(2, sent.get());
+
+        credits.release(destination);
+
+        assertEquals(3, sent.get());
+        assertEquals(0, credits.getAvailableCredits(destination));
+    }
+
+    @Test
+    public void test_release_returnsCredit_whenNoSendParked() throws UnknownHostException {
+        Address destination = new Address("127.0.0.1", 5701);
+        AtomicInteger sent = new AtomicInteger();
+
+        credits.acquire(destination, sent::incrementAndGet);
+        credits.acquire(destination, sent::incrementAndGet);
+        credits.release(destination);
+        credits.release(destination);
+
+        assertEquals(2, credits.getAvailableCredits(destination));
+    }
+
+    @Test
+    public void test_destinations_haveSeparateBudgets() throws UnknownHostException {
+        Address destination1 = new Address("127.0.0.1", 5701);
+        Address destination2 = new Address("127.0.0.1", 5702);
+        AtomicInteger sent = new AtomicInteger();
+
+        credits.acquire(destination1, sent::incrementAndGet);
+        credits.acquire(destination1, sent::incrementAndGet);
+
+        assertTrue(credits.acquire(destination2, sent::incrementAndGet));
+        assertEquals(3, sent.get());
+    }
+
+    @Test
+    public void test_removeDestination_runsParkedSends() throws UnknownHostException {
+        Address destination = new Address("127.0.0.1", 5701);
+        AtomicInteger sent = new AtomicInteger();
+
+        credits.acquire(destination, sent::incrementAndGet);
+        credits.acquire(destination, sent::incrementAndGet);
+        credits.acquire(destination, sent::incrementAndGet);
+
+        credits.removeDestination(destination);
+
+        assertEquals(3, sent.get());
+        assertEquals(2, credits.getAvailableCredits(destination));
+    }
+
+    @Test
+    public void test_release_ignoresRemovedDestination() throws UnknownHostException {
+        Address destination = new Address("127.0.0.1", 5701);
+        AtomicInteger sent = new AtomicInteger();
+
+        credits.acquire(destination, sent::incrementAndGet);
+        credits.removeDestination(destination);
+        credits.release(destination);
+
+        assertEquals(2, credits.getAvailableCredits(destination));
+    }
+
+    @Test
+    public void test_disabled_neverParks() throws UnknownHostException {
+        ChunkedMigrationCredits disabled = new ChunkedMigrationCredits(0);
+        Address destination = new Address("127.0.0.1", 5701);
+        AtomicInteger sent = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(disabled.acquire(destination, sent::incrementAndGet));
+        }
+
+        assertFalse(disabled.isEnabled());
+        assertEquals(10, sent.get());
+    }
+}
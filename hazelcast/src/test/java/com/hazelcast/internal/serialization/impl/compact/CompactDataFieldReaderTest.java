@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
+import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import example.serialization.MainDTO;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteOrder;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactDataFieldReader.NOT_DIRECTLY_READABLE;
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createMainDTO;
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createSerializationService;
+import static com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder.compact;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactDataFieldReaderTest {
+
+    @Test
+    public void testFieldsReadAsThroughGenericRecord() throws Exception {
+        InternalSerializationService serializationService = createSerializationService();
+        Data data = serializationService.toData(createMainDTO());
+
+        assertFieldsReadAsThroughGenericRecord(serializationService, data);
+    }
+
+    @Test
+    public void testFieldsReadAsThroughGenericRecord_whenLittleEndian() throws Exception {
+        SerializationConfig config = new SerializationConfig().setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        InternalSerializationService serializationService = createSerializationService(config);
+        Data data = serializationService.toData(createMainDTO());
+
+        assertFieldsReadAsThroughGenericRecord(serializationService, data);
+    }
+
+    @Test
+    public void testNullFields() throws Exception {
+        InternalSerializationService serializationService = createSerializationService();
+        MainDTO dto = createMainDTO();
+        dto.str = null;
+        dto.nullableI = null;
+        dto.nullableBool = null;
+        Data data = serializationService.toData(dto);
+
+        assertFieldsReadAsThroughGenericRecord(serializationService, data);
+        CompactDataFieldReader reader = new CompactDataFieldReader(serializationService);
+        assertNull(reader.read(data, "str"));
+        assertNull(reader.read(data, "nullableI"));
+        assertNull(reader.read(data, "nullableBool"));
+    }
+
+    @Test
+    public void testLargeVariableSizeSection() throws Exception {
+        // offsets of the variable size fields take two and four bytes
+        for (int length : new int[]{1_000, 100_000}) {
+            InternalSerializationService serializationService = createSerializationService();
+            GenericRecord record = compact("large")
+                    .setString("padding", "x".repeat(length))
+                    .setString("str", "value")
+                    .setNullableInt64("nullableL", 42L)
+                    .setInt32("i", 7)
+                    .build();
+            Data data = serializationService.toData(record);
+
+            CompactDataFieldReader reader = new CompactDataFieldReader(serializationService);
+            assertEquals("value", reader.read(data, "str"));
+            assertEquals(42L, reader.read(data, "nullableL"));
+            assertEquals(7, reader.read(data, "i"));
+        }
+    }
+
+    @Test
+    public void testMissingField() throws Exception {
+        InternalSerializationService serializationService = createSerializationService();
+        Data data = serializationService.toData(createMainDTO());
+
+        assertNull(new CompactDataFieldReader(serializationService).read(data, "notAField"));
+    }
+
+    @Test
+    public void testNestedField_notDirectlyReadable() throws Exception {
+        InternalSerializationService serializationService = createSerializationService();
+        Data data = serializationService.toData(createMainDTO());
+
+        assertSame(NOT_DIRECTLY_READABLE, new CompactDataFieldReader(serializationService).read(data, "p"));
+    }
+
+    @Test
+    public void testNonCompactData_notDirectlyReadable() throws Exception {
+        InternalSerializationService serializationService = createSerializationService();
+        Data data = serializationService.toData("string");
+
+        assertSame(NOT_DIRECTLY_READABLE, new CompactDataFieldReader(serializationService).read(data, "str"));
+    }
+
+    private static void assertFieldsReadAsThroughGenericRecord(InternalSerializationService serializationService,
+                                                               Data data) throws Exception {
+        CompactDataFieldReader reader = new CompactDataFieldReader(serializationService);
+        InternalGenericRecord record = serializationService.readAsInternalGenericRecord(data);
+        int directlyRead = 0;
+        for (String fieldName : record.getFieldNames()) {
+            Object value = reader.read(data, fieldName);
+            if (value == NOT_DIRECTLY_READABLE) {
+                continue;
+            }
+            directlyRead++;
+            Object expected = new GenericRecordQueryReader(serializationService.readAsInternalGenericRecord(data))
+                    .read(fieldName);
+            assertEquals(fieldName, expected, value);
+        }
+        // at least the fixed-size fields and the string
+        assertTrue(directlyRead >= 9);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class FieldAccessorTest {
+
+    @Test
+    public void testPrimitiveFields() throws Exception {
+        Fields fields = new Fields();
+
+        accessor("b").setByte(fields, (byte) 1);
+        accessor("c").setChar(fields, 'c');
+        accessor("s").setShort(fields, (short) 2);
+        accessor("i").setInt(fields, 3);
+        accessor("l").setLong(fields, 4L);
+        accessor("f").setFloat(fields, 5.5f);
+        accessor("d").setDouble(fields, 6.5d);
+        accessor("z").setBoolean(fields, true);
+
+        assertEquals(1, accessor("b").getByte(fields));
+        assertEquals('c', accessor("c").getChar(fields));
+        assertEquals(2, accessor("s").getShort(fields));
+        assertEquals(3, accessor("i").getInt(fields));
+        assertEquals(4L, accessor("l").getLong(fields));
+        assertEquals(5.5f, accessor("f").getFloat(fields), 0);
+        assertEquals(6.5d, accessor("d").getDouble(fields), 0);
+        assertTrue(accessor("z").getBoolean(fields));
+    }
+
+    @Test
+    public void testReferenceField() throws Exception {
+        Fields fields = new Fields();
+
+        accessor("string").set(fields, "value");
+
+        assertEquals("value", accessor("string").get(fields));
+    }
+
+    @Test
+    public void testFinalField() throws Exception {
+        Fields fields = new Fields();
+
+        accessor("finalInt").setInt(fields, 42);
+
+        assertEquals(42, accessor("finalInt").getInt(fields));
+    }
+
+    @Test
+    public void testRecordComponentField() throws Exception {
+        Field field = Point.class.getDeclaredField("x");
+        field.setAccessible(true);
+
+        assertEquals(7, FieldAccessor.of(field).getInt(new Point(7)));
+    }
+
+    private static FieldAccessor accessor(String name) throws Exception {
+        Field field = Fields.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return FieldAccessor.of(field);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Fields {
+        private byte b;
+        private char c;
+        private short s;
+        private int i;
+        private long l;
+        private float f;
+        private double d;
+        private boolean z;
+        private String string;
+        private final int finalInt = 0;
+    }
+
+    private record Point(int x) {
+    }
+}
@@ -17,6 +17,7 @@
 package com.hazelcast.internal.server.tcp;
 
 import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.nio.PacketIOHelper;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -37,7 +38,11 @@ import java.util.function.Supplier;
 
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -90,6 +95,208 @@ public class PacketEncoderTest extends HazelcastTestSupport {
         assertEquals(DIRTY, result);
     }
 
+    @Test
+    public void whenGathering_thenPayloadNotCopied() {
+        final Packet packet = new Packet(serializationService.toBytes(new byte[2000]));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(packet);
+
+        encoder = new PacketEncoder(1000);
+        encoder.setGatheringEnabled(true);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        HandlerStatus result = encoder.onWrite();
+
+        assertEquals(DIRTY, result);
+        assertEquals(PacketIOHelper.HEADER_SIZE, dst.remaining());
+        ByteBuffer gathered = encoder.gatheredBuffer();
+        assertSame(packet.toByteArray(), gathered.array());
+        assertEquals(packet.totalSize(), gathered.remaining());
+        assertEquals(packet, new PacketIOHelper().readFrom(concat(dst, gathered)));
+    }
+
+    @Test
+    public void whenGathering_thenSmallPacketsCoalesced() {
+        final Packet small1 = new Packet(serializationService.toBytes("foo"));
+        final Packet large = new Packet(serializationService.toBytes(new byte[2000]));
+        final Packet small2 = new Packet(serializationService.toBytes("bar"));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(small1);
+        src.queue.add(large);
+        src.queue.add(small2);
+
+        encoder = new PacketEncoder(1000);
+        encoder.setGatheringEnabled(true);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        assertEquals(DIRTY, encoder.onWrite());
+        ByteBuffer gathered = encoder.gatheredBuffer();
+        ByteBuffer written = concat(dst, gathered);
+        PacketIOHelper reader = new PacketIOHelper();
+        assertEquals(small1, reader.readFrom(written));
+        assertEquals(large, reader.readFrom(written));
+        assertFalse(written.hasRemaining());
+        dst.position(dst.limit());
+
+        // nothing is added to the dst as long as the gathered buffer isn't written
+        assertEquals(DIRTY, encoder.onWrite());
+        assertEquals(0, dst.remaining());
+        assertSame(gathered, encoder.gatheredBuffer());
+        assertEquals(1, src.queue.size());
+
+        // once the gathered buffer is written, the next packets are coalesced in the dst again
+        gathered.position(gathered.limit());
+        assertEquals(CLEAN, encoder.onWrite());
+        assertNull(encoder.gatheredBuffer());
+        assertEquals(small2, new PacketIOHelper().readFrom(dst));
+    }
+
+    @Test
+    public void whenGathering_andNoSpaceForHeader() {
+        final Packet small = new Packet(serializationService.toBytes(new byte[80]));
+        final Packet large = new Packet(serializationService.toBytes(new byte[2000]));
+        ByteBuffer dst = ByteBuffer.allocate(small.getFrameLength() + PacketIOHelper.HEADER_SIZE - 1);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(small);
+        src.queue.add(large);
+
+        encoder = new PacketEncoder(1000);
+        encoder.setGatheringEnabled(true);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        assertEquals(DIRTY, encoder.onWrite());
+        assertNull(encoder.gatheredBuffer());
+        assertEquals(small, new PacketIOHelper().readFrom(dst));
+
+        assertEquals(DIRTY, encoder.onWrite());
+        ByteBuffer gathered = encoder.gatheredBuffer();
+        assertEquals(large, new PacketIOHelper().readFrom(concat(dst, gathered)));
+    }
+
+    @Test
+    public void whenHandlerAfterEncoder_thenPayloadCopied() {
+        final Packet small = new Packet(serializationService.toBytes("foo"));
+        final Packet large = new Packet(serializationService.toBytes(new byte[5000]));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(large);
+        src.queue.add(small);
+
+        // the gathering threshold is configured, but the encoder isn't the last handler of the pipeline
+        encoder = new PacketEncoder(1000);
+        encoder.setGatheringEnabled(false);
+        encoder.dst(dst);
+        encoder.src(src);
+        ByteBufferCopier next = new ByteBufferCopier();
+        next.src(dst);
+
+        ByteBuffer socket = writeAll(next);
+
+        assertNull(encoder.gatheredBuffer());
+        PacketIOHelper reader = new PacketIOHelper();
+        assertEquals(large, reader.readFrom(socket));
+        assertEquals(small, reader.readFrom(socket));
+        assertFalse(socket.hasRemaining());
+    }
+
+    @Test
+    public void whenNoLongerLastHandler_thenRestOfPayloadCopied() {
+        final Packet large = new Packet(serializationService.toBytes(new byte[5000]));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        dst.flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(large);
+
+        encoder = new PacketEncoder(1000);
+        encoder.setGatheringEnabled(true);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        assertEquals(DIRTY, encoder.onWrite());
+        ByteBuffer gathered = encoder.gatheredBuffer();
+        ByteBuffer socket = ByteBuffer.allocate(large.getFrameLength());
+        socket.put(dst);
+        // a part of the payload was written before a handler got added behind the encoder
+        ByteBuffer writtenPart = gathered.duplicate();
+        writtenPart.limit(writtenPart.position() + 100);
+        socket.put(writtenPart);
+        gathered.position(writtenPart.limit());
+
+        encoder.setGatheringEnabled(false);
+        ByteBufferCopier next = new ByteBufferCopier();
+        next.src(dst);
+        socket.put(writeAll(next));
+        socket.flip();
+
+        assertNull(encoder.gatheredBuffer());
+        assertEquals(large, new PacketIOHelper().readFrom(socket));
+    }
+
+    /**
+     * Runs the encoder and the given handler behind it until both are clean,
+     * draining the dst of the handler as a socket would.
+     */
+    private ByteBuffer writeAll(ByteBufferCopier next) {
+        ByteBuffer socket = ByteBuffer.allocate(100_000);
+        HandlerStatus encoderStatus;
+        HandlerStatus nextStatus;
+        do {
+            encoderStatus = encoder.onWrite();
+            nextStatus = next.onWrite();
+            socket.put(next.dst());
+        } while (encoderStatus != CLEAN || nextStatus != CLEAN);
+        socket.flip();
+        return socket;
+    }
+
+    private static ByteBuffer concat(ByteBuffer first, ByteBuffer second) {
+        ByteBuffer result = ByteBuffer.allocate(first.remaining() + second.remaining());
+        result.put(first.duplicate()).put(second.duplicate()).flip();
+        return result;
+    }
+
+    /**
+     * A handler behind the encoder, like a TLS encoder, which only sees the
+     * dst buffer of the encoder.
+     */
+    static class ByteBufferCopier extends OutboundHandler<ByteBuffer, ByteBuffer> {
+
+        ByteBufferCopier() {
+            ByteBuffer buffer = ByteBuffer.allocate(700);
+            buffer.flip();
+            dst = buffer;
+        }
+
+        @Override
+        public HandlerStatus onWrite() {
+            compactOrClear(dst);
+            try {
+                int n = Math.min(src.remaining(), dst.remaining());
+                ByteBuffer chunk = src.duplicate();
+                chunk.limit(chunk.position() + n);
+                dst.put(chunk);
+                src.position(src.position() + n);
+                return src.hasRemaining() ? DIRTY : CLEAN;
+            } finally {
+                dst.flip();
+            }
+        }
+    }
+
     static class PacketSupplier implements Supplier<Packet> {
         Queue<Packet> queue = new LinkedBlockingQueue<>();
 
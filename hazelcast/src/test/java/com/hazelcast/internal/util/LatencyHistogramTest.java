@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketIndex() {
+        assertEquals(0, LatencyHistogram.bucketIndex(0));
+        assertEquals(63, LatencyHistogram.bucketIndex(63));
+        assertEquals(64, LatencyHistogram.bucketIndex(64));
+        assertEquals(64, LatencyHistogram.bucketIndex(65));
+        assertEquals(65, LatencyHistogram.bucketIndex(66));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void bucketMaxUs() {
+        for (int bucket = 0; bucket < LatencyHistogram.BUCKET_COUNT - 1; bucket++) {
+            long max = LatencyHistogram.bucketMaxUs(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketIndex((int) max));
+            assertEquals(bucket + 1, LatencyHistogram.bucketIndex((int) max + 1));
+        }
+        assertEquals(Integer.MAX_VALUE, LatencyHistogram.bucketMaxUs(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void valueAtPercentile_whenEmpty() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.valueAtPercentile(99.9));
+        assertEquals(0, snapshot.maxMicros());
+    }
+
+    @Test
+    public void valueAtPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int k = 1; k <= 1000; k++) {
+            histogram.recordNanos(MICROSECONDS.toNanos(k));
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(1000, snapshot.maxMicros());
+        assertWithinError(500, snapshot.valueAtPercentile(50));
+        assertWithinError(990, snapshot.valueAtPercentile(99));
+        assertWithinError(999, snapshot.valueAtPercentile(99.9));
+        assertEquals(1000, snapshot.valueAtPercentile(100));
+    }
+
+    @Test
+    public void valueAtPercentile_accuracy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] values = new long[100000];
+        for (int k = 0; k < values.length; k++) {
+            values[k] = random.nextInt(1000000);
+            histogram.recordNanos(MICROSECONDS.toNanos(values[k]));
+        }
+        Arrays.sort(values);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertWithinError(values[values.length / 2 - 1], snapshot.valueAtPercentile(50));
+        assertWithinError(values[values.length * 99 / 100 - 1], snapshot.valueAtPercentile(99));
+        assertWithinError(values[values.length * 999 / 1000 - 1], snapshot.valueAtPercentile(99.9));
+    }
+
+    @Test
+    public void since() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(MICROSECONDS.toNanos(10000));
+        LatencyHistogram.Snapshot previous = histogram.snapshot();
+
+        histogram.recordNanos(MICROSECONDS.toNanos(10));
+        histogram.recordNanos(MICROSECONDS.toNanos(20));
+        LatencyHistogram.Snapshot interval = histogram.snapshot().since(previous);
+
+        assertEquals(2, interval.count());
+        assertEquals(20, interval.valueAtPercentile(99.9));
+        assertEquals(20, interval.maxMicros());
+    }
+
+    @Test
+    public void recordNanos_whenNegative() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(-1);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.count());
+        assertEquals(0, snapshot.valueAtPercentile(50));
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) Math.max(1, expected);
+        assertTrue("expected " + expected + " but was " + actual, error <= 1d / LatencyHistogram.SUB_BUCKET_COUNT);
+    }
+}
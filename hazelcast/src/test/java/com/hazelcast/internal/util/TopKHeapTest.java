@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TopKHeapTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenCapacityNotPositive_thenThrows() {
+        new TopKHeap<Integer>(0, Comparator.naturalOrder());
+    }
+
+    @Test
+    public void whenFewerElementsThanCapacity_thenAllRetained() {
+        TopKHeap<Integer> heap = new TopKHeap<>(10, Comparator.naturalOrder());
+        for (int i : asList(5, 3, 8, 1)) {
+            assertTrue(heap.offer(i));
+        }
+
+        assertEquals(4, heap.size());
+        assertEquals(asList(1, 3, 5, 8), heap.toSortedList());
+    }
+
+    @Test
+    public void whenFull_thenLargerElementRejected() {
+        TopKHeap<Integer> heap = new TopKHeap<>(2, Comparator.naturalOrder());
+        heap.offer(1);
+        heap.offer(2);
+
+        assertFalse(heap.offer(3));
+        assertFalse(heap.offer(2));
+        assertTrue(heap.offer(0));
+        assertEquals(asList(0, 1), heap.toSortedList());
+    }
+
+    @Test
+    public void whenEmpty_thenSortedListEmpty() {
+        TopKHeap<Integer> heap = new TopKHeap<>(3, Comparator.naturalOrder());
+
+        assertTrue(heap.isEmpty());
+        assertTrue(heap.toSortedList().isEmpty());
+    }
+
+    @Test
+    public void whenManyElements_thenSmallestRetainedInOrder() {
+        Random random = new Random(42);
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            input.add(random.nextInt(1_000));
+        }
+        Comparator<Integer> comparator = Comparator.reverseOrder();
+        TopKHeap<Integer> heap = new TopKHeap<>(100, comparator);
+        input.forEach(heap::offer);
+
+        List<Integer> expected = new ArrayList<>(input);
+        Collections.sort(expected, comparator);
+        assertEquals(expected.subList(0, 100), heap.toSortedList());
+    }
+}
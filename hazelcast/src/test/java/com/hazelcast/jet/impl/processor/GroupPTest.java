@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.jet.aggregate.AggregateOperation1;
+import com.hazelcast.jet.core.test.TestInbox;
+import com.hazelcast.jet.core.test.TestOutbox;
+import com.hazelcast.jet.core.test.TestProcessorContext;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.datamodel.Tuple2;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.hazelcast.jet.aggregate.AggregateOperations.summingLong;
+import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class GroupPTest extends SimpleTestInClusterSupport {
+
+    private static final int KEY_COUNT = 2_000;
+    private static final int ITEMS_PER_KEY = 3;
+
+    @BeforeClass
+    public static void setUp() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void when_spillThresholdExceeded_then_allGroupsAggregated() {
+        test(100);
+    }
+
+    @Test
+    public void when_spillThresholdNotExceeded_then_allGroupsAggregated() {
+        test(2 * KEY_COUNT);
+    }
+
+    @Test
+    public void when_notSpilling_then_allGroupsAggregated() {
+        test(-1);
+    }
+
+    @Test
+    public void when_spilledPartitionExceedsLimit_then_spilledAgain() throws Exception {
+        // every one of the 16 partitions has more groups than the limit
+        GroupP<Integer, LongAccumulator, Long, Tuple2<Integer, Long>> processor =
+                new GroupP<>(keyFns(), aggrOp(), Tuple2::tuple2, 10);
+        TestProcessorContext context = new TestProcessorContext().setHazelcastInstance(instance());
+        context.setMaxProcessorAccumulatedRecords(50);
+        TestOutbox outbox = new TestOutbox(128);
+        processor.init(outbox, context);
+
+        TestInbox inbox = new TestInbox(input());
+        while (!inbox.isEmpty()) {
+            processor.process(0, inbox);
+        }
+        List<Tuple2<Integer, Long>> output = new ArrayList<>();
+        boolean done;
+        do {
+            done = processor.complete();
+            outbox.drainQueueAndReset(0, output, false);
+        } while (!done);
+        assertFalse(processor.closeIsCooperative());
+        processor.close();
+
+        assertEquals(KEY_COUNT, output.size());
+        assertEquals(new HashSet<>(expectedOutput()), new HashSet<>(output));
+    }
+
+    private void test(long spillThreshold) {
+        List<FunctionEx<?, ? extends Integer>> keyFns = keyFns();
+        AggregateOperation1<Integer, LongAccumulator, Long> aggrOp = aggrOp();
+
+        TestSupport
+                .verifyProcessor(() -> new GroupP<>(keyFns, aggrOp, Tuple2::tuple2, spillThreshold))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input())
+                .outputChecker(TestSupport.SAME_ITEMS_ANY_ORDER)
+                .expectOutput(expectedOutput());
+    }
+
+    private static List<Integer> input() {
+        List<Integer> input = new ArrayList<>();
+        for (int round = 0; round < ITEMS_PER_KEY; round++) {
+            for (int key = 0; key < KEY_COUNT; key++) {
+                input.add(key);
+            }
+        }
+        return input;
+    }
+
+    private static List<Tuple2<Integer, Long>> expectedOutput() {
+        Map<Integer, Long> expected = new TreeMap<>();
+        for (int key = 0; key < KEY_COUNT; key++) {
+            expected.put(key, (long) key * ITEMS_PER_KEY);
+        }
+        List<Tuple2<Integer, Long>> expectedOutput = new ArrayList<>();
+        expected.forEach((k, v) -> expectedOutput.add(tuple2(k, v)));
+        return expectedOutput;
+    }
+
+    private static List<FunctionEx<?, ? extends Integer>> keyFns() {
+        return singletonList(i -> (Integer) i);
+    }
+
+    private static AggregateOperation1<Integer, LongAccumulator, Long> aggrOp() {
+        return summingLong(i -> i);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.core.test.TestOutbox;
+import com.hazelcast.jet.core.test.TestProcessorContext;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SortPTest extends SimpleTestInClusterSupport {
+
+    private static final int ITEM_COUNT = 5_000;
+
+    @BeforeClass
+    public static void setUp() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void when_spillThresholdExceeded_then_outputSorted() {
+        List<Integer> input = shuffledInput();
+
+        TestSupport
+                .verifyProcessor(() -> new SortP<Integer>(null, 100))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(sorted(input, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void when_spillThresholdExceeded_withComparator_then_outputSorted() {
+        List<Integer> input = shuffledInput();
+        Comparator<Integer> comparator = Comparator.reverseOrder();
+
+        TestSupport
+                .verifyProcessor(() -> new SortP<>(comparator, 1_000))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(sorted(input, comparator));
+    }
+
+    @Test
+    public void when_spillThresholdNotExceeded_then_outputSorted() {
+        List<Integer> input = shuffledInput();
+
+        TestSupport
+                .verifyProcessor(() -> new SortP<Integer>(null, 2 * ITEM_COUNT))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(sorted(input, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void when_limit_then_onlyFirstItemsOutput() {
+        List<Integer> input = shuffledInput();
+
+        TestSupport
+                .verifyProcessor(() -> new SortP<Integer>(null, 100, ctx -> 10))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(sorted(input, Comparator.naturalOrder()).subList(0, 10));
+    }
+
+    @Test
+    public void when_limitZero_then_noOutput() {
+        TestSupport
+                .verifyProcessor(() -> new SortP<Integer>(null, 100, ctx -> 0))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(shuffledInput())
+                .expectOutput(List.of());
+    }
+
+    @Test
+    public void when_limitExceedsSpillThreshold_then_outputSorted() {
+        List<Integer> input = shuffledInput();
+
+        TestSupport
+                .verifyProcessor(() -> new SortP<Integer>(null, 100, ctx -> 1_000))
+                .hazelcastInstance(instance())
+                .disableSnapshots()
+                .input(input)
+                .expectOutput(sorted(input, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void when_spillingEnabled_then_closeNotCooperative() throws Exception {
+        SortP<Integer> processor = new SortP<>(null, 100);
+        processor.init(new TestOutbox(1), new TestProcessorContext().setHazelcastInstance(instance()));
+
+        assertTrue(processor.isCooperative());
+        assertFalse(processor.closeIsCooperative());
+    }
+
+    @Test
+    public void when_spillingDisabled_then_closeCooperative() throws Exception {
+        SortP<Integer> processor = new SortP<>(null, -1);
+        processor.init(new TestOutbox(1), new TestProcessorContext().setHazelcastInstance(instance()));
+
+        assertTrue(processor.closeIsCooperative());
+    }
+
+    private static List<Integer> shuffledInput() {
+        // a permutation of 0..ITEM_COUNT-1 with a fixed seed
+        return IntStream.range(0, ITEM_COUNT)
+                .map(i -> (int) ((i * 7919L) % ITEM_COUNT))
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> sorted(List<Integer> input, Comparator<Integer> comparator) {
+        return input.stream().sorted(comparator).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.json.internal;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.HazelcastJsonValue;
+import com.hazelcast.internal.json.Json;
+import com.hazelcast.internal.json.JsonArray;
+import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.internal.json.JsonValue;
+import com.hazelcast.internal.json.NonTerminalJsonValue;
+import com.hazelcast.internal.json.PrettyPrint;
+import com.hazelcast.internal.json.WriterConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.JsonMetadataInitializer;
+import com.hazelcast.query.impl.getters.JsonGetter;
+import com.hazelcast.query.impl.getters.JsonPathCursor;
+import com.hazelcast.query.impl.getters.MultiResult;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastParametrizedRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collection;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Checks that {@link BinaryJson} returns the same values as the Json
+ * getters which parse the text, for all valid paths of
+ * {@link TestJsonValues} and for paths that do not exist.
+ */
+@RunWith(HazelcastParametrizedRunner.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BinaryJsonTest {
+
+    @Parameters(name = "InMemoryFormat: {0}")
+    public static Collection<Object[]> parameters() {
+        return asList(new Object[][]{
+                {InMemoryFormat.BINARY},
+                {InMemoryFormat.OBJECT}
+        });
+    }
+
+    @Parameter
+    public InMemoryFormat inMemoryFormat;
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testAllValidPaths_MinimalPrint() throws Exception {
+        testPaths(WriterConfig.MINIMAL);
+    }
+
+    @Test
+    public void testAllValidPaths_PrettyPrint() throws Exception {
+        testPaths(PrettyPrint.PRETTY_PRINT);
+    }
+
+    @Test
+    public void testMissingPaths() throws Exception {
+        String json = Json.object()
+                .add("a", Json.object().add("b", 1))
+                .add("c", Json.array(1, 2))
+                .add("d", "x")
+                .toString();
+
+        assertValue(json, "x");
+        assertValue(json, "a.x");
+        assertValue(json, "a.b.c");
+        assertValue(json, "a[0]");
+        assertValue(json, "c[2]");
+        assertValue(json, "c.a");
+        assertValue(json, "d.a");
+        assertValue(json, "d[0]");
+    }
+
+    @Test
+    public void testNonTerminalValues() throws Exception {
+        String json = Json.object()
+                .add("a", Json.object().add("b", 1))
+                .add("c", Json.array(1, 2))
+                .toString();
+
+        assertSame(NonTerminalJsonValue.INSTANCE, getValue(json, "a"));
+        assertSame(NonTerminalJsonValue.INSTANCE, getValue(json, "c"));
+    }
+
+    @Test
+    public void testScalarTypes() throws Exception {
+        String json = "{\"long\": -12, \"double\": 1.5, \"exponent\": 1e3, \"true\": true, \"false\": false,"
+                + " \"null\": null, \"string\": \"a\\\"b\\u00e7\\n\", \"max\": " + Long.MAX_VALUE + "}";
+
+        assertEquals(-12L, getValue(json, "long"));
+        assertEquals(1.5d, getValue(json, "double"));
+        assertEquals(1000d, getValue(json, "exponent"));
+        assertEquals(true, getValue(json, "true"));
+        assertEquals(false, getValue(json, "false"));
+        assertNull(getValue(json, "null"));
+        assertEquals("a\"bç\n", getValue(json, "string"));
+        assertEquals(Long.MAX_VALUE, getValue(json, "max"));
+        assertValue(json, "string");
+    }
+
+    @Test
+    public void testAttributeNames() throws Exception {
+        JsonObject object = Json.object();
+        for (int i = 0; i < 100; i++) {
+            object.add("attribute" + i, i);
+        }
+        // "Aa" and "BB" have the same hash
+        object.add("Aa", "first").add("BB", "second").add("ç", "non-ascii").add("Aa", "duplicate");
+        String json = object.toString();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals((long) i, getValue(json, "attribute" + i));
+        }
+        assertEquals("first", getValue(json, "Aa"));
+        assertEquals("second", getValue(json, "BB"));
+        assertEquals("non-ascii", getValue(json, "ç"));
+        assertValue(json, "Aa");
+    }
+
+    @Test
+    public void testAnyPaths() throws Exception {
+        String json = Json.object()
+                .add("array", Json.array()
+                        .add(1)
+                        .add(Json.object().add("a", Json.object().add("b", 2)))
+                        .add(Json.array(3))
+                        .add("x")
+                        .add(Json.NULL)
+                        .add(Json.object().add("a", 4))
+                        .add(Json.object().add("c", 5)))
+                .add("scalar", 6)
+                .toString();
+
+        assertValue(json, "array[any]");
+        assertValue(json, "array[any].a");
+        assertValue(json, "array[any].a.b");
+        assertValue(json, "array[any].c");
+        assertValue(json, "array[any].x");
+        assertValue(json, "scalar[any]");
+        assertValue(json, "missing[any]");
+    }
+
+    @Test
+    public void testNestedArraysAfterAny_throw() throws Exception {
+        String json = Json.object()
+                .add("array", Json.array()
+                        .add(Json.array(1))
+                        .add(Json.object().add("a", Json.array(2))))
+                .toString();
+        BinaryJson binaryJson = create(json);
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> binaryJson.getValue(path("array[any][0]")));
+        assertThrows(UnsupportedOperationException.class,
+                () -> binaryJson.getValue(path("array[any].a[0]")));
+    }
+
+    @Test
+    public void testScalarRoot() throws Exception {
+        assertValue("5", "a");
+        assertValue("\"a\"", "[0]");
+    }
+
+    @Test
+    public void testEmptyInput() throws Exception {
+        assertNull(create(""));
+    }
+
+    @Test
+    public void testIntegerOutOfLongRange_storedAsDouble() throws Exception {
+        String json = "{\"a\": 1" + Long.MAX_VALUE + ", \"b\": -1" + Long.MAX_VALUE + ", \"c\": 1}";
+
+        assertEquals(new BigInteger("1" + Long.MAX_VALUE).doubleValue(), getValue(json, "a"));
+        assertEquals(new BigInteger("-1" + Long.MAX_VALUE).doubleValue(), getValue(json, "b"));
+        assertEquals(1L, getValue(json, "c"));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        BinaryJson binaryJson = create(Json.object().add("a", Json.array(1, 2)).add("b", "c").toString());
+
+        Data data = serializationService.toData(binaryJson);
+        BinaryJson deserialized = serializationService.toObject(data);
+
+        assertEquals(binaryJson, deserialized);
+        assertEquals(2L, deserialized.getValue(path("a[1]")));
+        assertEquals("c", deserialized.getValue(path("b")));
+    }
+
+    private void testPaths(WriterConfig config) throws Exception {
+        for (JsonValue value : TestJsonValues.LIST) {
+            String json = value.toString(config);
+            validate(json, value, null);
+        }
+    }
+
+    private void validate(String json, JsonValue value, String path) throws Exception {
+        if (path != null) {
+            assertValue(json, path);
+        }
+        if (value.isObject()) {
+            JsonObject object = value.asObject();
+            for (String name : object.names()) {
+                validate(json, object.get(name), path == null ? name : path + "." + name);
+            }
+        } else if (value.isArray()) {
+            JsonArray array = value.asArray();
+            String prefix = path == null ? "" : path;
+            for (int i = 0; i < array.size(); i++) {
+                validate(json, array.get(i), prefix + "[" + i + "]");
+            }
+            if (path != null) {
+                assertValue(json, path + "[any]");
+            }
+        }
+    }
+
+    private void assertValue(String json, String path) throws Exception {
+        Object expected = JsonGetter.INSTANCE.getValue(new HazelcastJsonValue(json), path);
+        Object actual = getValue(json, path);
+        String message = String.format("Path ( %s ) failed on ( %s )", path, json);
+        if (expected instanceof MultiResult<?> expectedResult) {
+            assertEquals(message, expectedResult.getResults(), ((MultiResult<?>) actual).getResults());
+        } else {
+            assertEquals(message, expected, actual);
+        }
+    }
+
+    private Object getValue(String json, String path) throws IOException {
+        return create(json).getValue(path(path));
+    }
+
+    private BinaryJson create(String json) throws IOException {
+        HazelcastJsonValue jsonValue = new HazelcastJsonValue(json);
+        if (inMemoryFormat == InMemoryFormat.OBJECT) {
+            return (BinaryJson) JsonMetadataInitializer.BINARY_INSTANCE.createFromObject(jsonValue);
+        } else {
+            return (BinaryJson) JsonMetadataInitializer.BINARY_INSTANCE.createFromData(serializationService.toData(jsonValue));
+        }
+    }
+
+    private static BinaryJson.Path path(String path) {
+        return BinaryJson.Path.create(JsonPathCursor.createCursor(path));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.AsyncMapStore;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class WriteBehindAsyncMapStoreTest extends HazelcastTestSupport {
+
+    private static final int CONCURRENCY = 4;
+    private static final int ENTRY_COUNT = 1000;
+
+    private final ScheduledExecutorService executor = newScheduledThreadPool(CONCURRENCY);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBatchesStoredConcurrently() {
+        SlowAsyncMapStore mapStore = new SlowAsyncMapStore(0);
+        IMap<Integer, Integer> map = createMap(mapStore);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            map.remove(i);
+        }
+
+        assertTrueEventually(() -> {
+            assertThat(mapStore.store).hasSize(ENTRY_COUNT / 2);
+            for (int i = 1; i < ENTRY_COUNT; i += 2) {
+                assertThat(mapStore.store).containsEntry(i, i);
+            }
+        });
+        assertThat(mapStore.maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(CONCURRENCY);
+    }
+
+    @Test
+    public void testFailedBatchesRetried() {
+        SlowAsyncMapStore mapStore = new SlowAsyncMapStore(5);
+        IMap<Integer, Integer> map = createMap(mapStore);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+
+        assertTrueEventually(() -> assertThat(mapStore.store).hasSize(ENTRY_COUNT));
+    }
+
+    private IMap<Integer, Integer> createMap(SlowAsyncMapStore mapStore) {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.MAP_WRITE_BEHIND_ASYNC_CONCURRENCY.getName(), String.valueOf(CONCURRENCY));
+        config.getMapConfig("map").setMapStoreConfig(new MapStoreConfig()
+                .setImplementation(mapStore)
+                .setWriteDelaySeconds(1)
+                .setWriteBatchSize(10)
+                .setWriteCoalescing(true));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        return instance.getMap("map");
+    }
+
+    private class SlowAsyncMapStore implements AsyncMapStore<Integer, Integer> {
+
+        final Map<Integer, Integer> store = new ConcurrentHashMap<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final AtomicInteger failures;
+
+        SlowAsyncMapStore(int failures) {
+            this.failures = new AtomicInteger(failures);
+        }
+
+        @Override
+        public CompletionStage<Void> storeAllAsync(Map<Integer, Integer> map) {
+            return complete(() -> store.putAll(map));
+        }
+
+        @Override
+        public CompletionStage<Void> deleteAllAsync(Collection<Integer> keys) {
+            return complete(() -> store.keySet().removeAll(keys));
+        }
+
+        private CompletionStage<Void> complete(Runnable action) {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            executor.schedule(() -> {
+                inFlight.decrementAndGet();
+                if (failures.getAndDecrement() > 0) {
+                    future.completeExceptionally(new IllegalStateException("expected failure"));
+                } else {
+                    action.run();
+                    future.complete(null);
+                }
+            }, 20, MILLISECONDS);
+            return future;
+        }
+
+        @Override
+        public Integer load(Integer key) {
+            return store.get(key);
+        }
+
+        @Override
+        public Map<Integer, Integer> loadAll(Collection<Integer> keys) {
+            return emptyMap();
+        }
+
+        @Override
+        public Iterable<Integer> loadAllKeys() {
+            return null;
+        }
+    }
+}
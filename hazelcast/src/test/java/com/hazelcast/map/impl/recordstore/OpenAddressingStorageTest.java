@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.DataRecordFactory;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OpenAddressingStorageTest {
+
+    private SerializationService serializationService;
+    private DataRecordFactory recordFactory;
+    private OpenAddressingStorage<Record> storage;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        MapContainer mapContainer = mock(MapContainer.class);
+        when(mapContainer.getMapConfig()).thenReturn(new MapConfig());
+        recordFactory = new DataRecordFactory(mapContainer, serializationService);
+        ExpirySystem expirySystem = mock(ExpirySystem.class);
+        when(expirySystem.getExpiryMetadata(any())).thenReturn(ExpiryMetadata.NULL);
+        storage = new OpenAddressingStorage<>(InMemoryFormat.BINARY, expirySystem, serializationService);
+    }
+
+    @Test
+    public void put_get_remove() {
+        Data key = toData(1);
+        Record record = newRecord(key, "value");
+
+        storage.put(key, record);
+
+        assertSame(record, storage.get(key));
+        assertTrue(storage.containsKey(key));
+        assertEquals(1, storage.size());
+
+        storage.removeRecord(key, record);
+
+        assertNull(storage.get(key));
+        assertFalse(storage.containsKey(key));
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    public void put_replacesRecordOfExistingKey() {
+        Data key = toData(1);
+        storage.put(key, newRecord(key, "old"));
+        Record newRecord = newRecord(key, "new");
+
+        storage.put(key, newRecord);
+
+        assertSame(newRecord, storage.get(key));
+        assertEquals(1, storage.size());
+    }
+
+    @Test
+    public void entriesSurviveResizeAndRemovals() {
+        int count = 10_000;
+        putAll(count);
+        for (int i = 0; i < count; i += 2) {
+            Data key = toData(i);
+            storage.removeRecord(key, storage.get(key));
+        }
+
+        assertEquals(count / 2, storage.size());
+        assertTrue(storage.capacity() > OpenAddressingStorage.DEFAULT_INITIAL_CAPACITY);
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 2 != 0, storage.containsKey(toData(i)));
+        }
+    }
+
+    @Test
+    public void mutationTolerantIterator_toleratesRemovalOfReturnedEntries() {
+        int count = 1_000;
+        putAll(count);
+
+        Set<Data> seen = new HashSet<>();
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Data, Record> entry = iterator.next();
+            assertTrue(seen.add(entry.getKey()));
+            storage.removeRecord(entry.getKey(), entry.getValue());
+        }
+
+        assertEquals(count, seen.size());
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    public void mutationTolerantIterator_returnsRemainingEntriesOnce_whenOtherEntriesRemoved() {
+        int count = 1_000;
+        putAll(count);
+
+        Set<Data> seen = new HashSet<>();
+        Set<Data> removed = new HashSet<>();
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        for (int step = 0; iterator.hasNext(); step++) {
+            Map.Entry<Data, Record> entry = iterator.next();
+            assertTrue(seen.add(entry.getKey()));
+            // remove an entry which hasn't been returned yet, the backward
+            // shift may move entries across the position of the iterator
+            Data key = toData((int) ((step * 7919L) % count));
+            Record record = storage.get(key);
+            if (record != null && !seen.contains(key)) {
+                storage.removeRecord(key, record);
+                removed.add(key);
+            }
+        }
+
+        assertEquals(count, seen.size() + removed.size());
+        assertEquals(count - removed.size(), storage.size());
+    }
+
+    @Test
+    public void mutationTolerantIterator_returnsEachEntryOnce_whenResizedDuringIteration() {
+        int count = 100;
+        putAll(count);
+
+        Set<Data> seen = new HashSet<>();
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        boolean resized = false;
+        while (iterator.hasNext()) {
+            assertTrue(seen.add(iterator.next().getKey()));
+            if (!resized) {
+                for (int i = count; i < 10 * count; i++) {
+                    Data key = toData(i);
+                    storage.put(key, newRecord(key, i));
+                }
+                resized = true;
+            }
+        }
+
+        assertEquals(count, seen.size());
+    }
+
+    @Test
+    public void fetchKeys_returnsEachKeyOnce_whenResizedDuringIteration() {
+        int count = 100;
+        putAll(count);
+
+        Set<Data> fetched = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        boolean resized = false;
+        do {
+            MapKeysWithCursor result = storage.fetchKeys(pointers, 10);
+            for (Data key : result.getBatch()) {
+                assertTrue(fetched.add(key));
+            }
+            pointers = result.getIterationPointers();
+            if (!resized) {
+                // grow the table a couple of times with keys which need not be observed
+                for (int i = count; i < 10 * count; i++) {
+                    Data key = toData(i);
+                    storage.put(key, newRecord(key, i));
+                }
+                resized = true;
+            }
+        } while (pointers[pointers.length - 1].getIndex() >= 0);
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(fetched.contains(toData(i)));
+        }
+    }
+
+    @Test
+    public void getRandomSamples_returnsRequestedSampleCount() {
+        putAll(100);
+
+        int sampled = 0;
+        for (EntryView entryView : storage.getRandomSamples(15)) {
+            assertTrue(storage.containsKey(storage.extractDataKeyFromLazy(entryView)));
+            sampled++;
+        }
+
+        assertEquals(15, sampled);
+    }
+
+    @Test
+    public void clear_removesAllEntries() {
+        putAll(1_000);
+
+        storage.clear(false);
+
+        assertTrue(storage.isEmpty());
+        assertFalse(storage.mutationTolerantIterator().hasNext());
+        assertEquals(0, storage.getEntryCostEstimator().getEstimate());
+    }
+
+    private void putAll(int count) {
+        for (int i = 0; i < count; i++) {
+            Data key = toData(i);
+            storage.put(key, newRecord(key, i));
+        }
+    }
+
+    private Record newRecord(Data key, Object value) {
+        return recordFactory.newRecord(key, value);
+    }
+
+    private Data toData(Object object) {
+        return serializationService.toData(object);
+    }
+}
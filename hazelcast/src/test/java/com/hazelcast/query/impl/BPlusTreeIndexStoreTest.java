@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BPlusTreeIndexStoreTest extends OrderedIndexStoreTest {
+
+    private static final int NODE_CAPACITY = 4;
+
+    @Override
+    BaseSingleValueIndexStore createStore() {
+        // a small capacity to have a few levels even for small data sets
+        return new BPlusTreeIndexStore(IndexCopyBehavior.COPY_ON_WRITE, NODE_CAPACITY);
+    }
+
+    @Test
+    public void testMatchesSkipListStore_whenManyEntriesInsertedAndRemoved() {
+        BPlusTreeIndexStore tree = new BPlusTreeIndexStore(IndexCopyBehavior.COPY_ON_WRITE, NODE_CAPACITY);
+        OrderedIndexStore skipList = new OrderedIndexStore(IndexCopyBehavior.COPY_ON_WRITE);
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(2_000);
+            Comparable value = random.nextInt(10) == 0 ? NULL : random.nextInt(100);
+            if (random.nextInt(3) == 0) {
+                assertEquals(skipList.removeInternal(value, new DummyEntry(key, 0).getKeyData()),
+                        tree.removeInternal(value, new DummyEntry(key, 0).getKeyData()));
+            } else {
+                DummyEntry entry = new DummyEntry(key, 0);
+                assertEquals(skipList.insertInternal(value, entry), tree.insertInternal(value, entry));
+            }
+        }
+
+        assertSameKeys(skipList.getSqlRecordIterator(false), tree.getSqlRecordIterator(false));
+        assertSameKeys(skipList.getSqlRecordIterator(true), tree.getSqlRecordIterator(true));
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(110) - 5;
+            int to = from + random.nextInt(20);
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+            boolean descending = random.nextBoolean();
+            assertSameKeys(skipList.getSqlRecordIterator(from, fromInclusive, to, toInclusive, descending),
+                    tree.getSqlRecordIterator(from, fromInclusive, to, toInclusive, descending));
+            assertSameKeys(skipList.getSqlRecordIterator(Comparison.LESS, from, descending),
+                    tree.getSqlRecordIterator(Comparison.LESS, from, descending));
+            assertSameKeys(skipList.getSqlRecordIterator(from), tree.getSqlRecordIterator(from));
+            assertEquals(keys(skipList.getRecords(from, fromInclusive, to, toInclusive).iterator()),
+                    keys(tree.getRecords(from, fromInclusive, to, toInclusive).iterator()));
+            assertEquals(keys(skipList.getRecords(Comparison.GREATER_OR_EQUAL, to).iterator()),
+                    keys(tree.getRecords(Comparison.GREATER_OR_EQUAL, to).iterator()));
+        }
+        assertEquals(keys(skipList.getRecords(NULL).iterator()), keys(tree.getRecords(NULL).iterator()));
+    }
+
+    @Test
+    public void testCursor_whenValueSpansManyLeaves() {
+        BPlusTreeIndexStore tree = new BPlusTreeIndexStore(IndexCopyBehavior.COPY_ON_WRITE, NODE_CAPACITY);
+        for (int key = 0; key < 100; key++) {
+            tree.insertInternal(key % 2, new DummyEntry(key, key % 2));
+        }
+
+        // read an entry at a time, continuing from the last one
+        List<Integer> keys = new ArrayList<>();
+        Comparable lastValue = 0;
+        Data lastEntryKeyData = null;
+        for (int i = 0; i < 100; i++) {
+            IndexKeyEntries batch = tree.getSqlRecordIteratorBatch(lastValue, true, 1, true, false, lastEntryKeyData).next();
+            QueryableEntry entry = batch.getEntries().next();
+            keys.add((Integer) entry.getKey());
+            lastValue = batch.getIndexKey();
+            lastEntryKeyData = entry.getKeyData();
+        }
+        Iterator<IndexKeyEntries> rest = tree.getSqlRecordIteratorBatch(lastValue, true, 1, true, false, lastEntryKeyData);
+        assertFalse(rest.hasNext() && rest.next().getEntries().hasNext());
+
+        List<Integer> expected = new ArrayList<>();
+        for (int key = 0; key < 100; key += 2) {
+            expected.add(key);
+        }
+        for (int key = 1; key < 100; key += 2) {
+            expected.add(key);
+        }
+        assertEquals(expected, keys);
+    }
+
+    @Test(timeout = 120_000)
+    public void testConcurrentScan_whenRootIsReplaced() throws Exception {
+        BPlusTreeIndexStore tree = new BPlusTreeIndexStore(IndexCopyBehavior.COPY_ON_WRITE, NODE_CAPACITY);
+        // entries which are never removed, spread over the whole range of values
+        Set<Object> stableKeys = new HashSet<>();
+        for (int key = 0; key < 5; key++) {
+            tree.insertInternal(key * 1000, new DummyEntry(key, key * 1000));
+            stableKeys.add(key);
+        }
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<Throwable> writerFailure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            try {
+                while (!stop.get()) {
+                    // grow the tree by a few levels and shrink it back, splitting and collapsing the root
+                    for (int key = 5; key < 200; key++) {
+                        tree.insertInternal(key * 31 % 4001, new DummyEntry(key, key * 31 % 4001));
+                    }
+                    for (int key = 5; key < 200; key++) {
+                        tree.removeInternal(key * 31 % 4001, new DummyEntry(key, 0).getKeyData());
+                    }
+                }
+            } catch (Throwable t) {
+                writerFailure.set(t);
+            }
+        });
+        writer.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                List<Object> keys = new ArrayList<>();
+                tree.getSqlRecordIterator(i % 2 == 0).forEachRemaining(entry -> keys.add(entry.getKey()));
+                assertTrue("Missing stable entries in " + keys, keys.containsAll(stableKeys));
+                assertEquals("Duplicate entries in " + keys, new HashSet<>(keys).size(), keys.size());
+            }
+        } finally {
+            stop.set(true);
+            writer.join();
+        }
+        assertNull(writerFailure.get());
+    }
+
+    @Test
+    public void testSkipsUnreadEntriesOfBatch() {
+        Iterator<IndexKeyEntries> batches = store.getSqlRecordIteratorBatch(false);
+        assertEquals(0, batches.next().getIndexKey());
+        assertEquals(1, batches.next().getIndexKey());
+        IndexKeyEntries last = batches.next();
+        assertEquals(2, last.getIndexKey());
+        assertEquals(3, keys(last.getEntries()).size());
+        assertFalse(batches.hasNext());
+    }
+
+    @Test
+    public void testClear() {
+        store.clear();
+        assertFalse(store.getSqlRecordIterator(false).hasNext());
+        assertTrue(store.getRecords(0).isEmpty());
+        assertNull(store.insertInternal(0, new DummyEntry(0, 0)));
+        assertEquals(1, store.getRecords(0).size());
+    }
+
+    private static void assertSameKeys(Iterator<QueryableEntry> expected, Iterator<QueryableEntry> actual) {
+        List<Object> expectedKeys = new ArrayList<>();
+        expected.forEachRemaining(entry -> expectedKeys.add(entry.getKey()));
+        List<Object> actualKeys = new ArrayList<>();
+        actual.forEachRemaining(entry -> actualKeys.add(entry.getKey()));
+        assertEquals(expectedKeys, actualKeys);
+    }
+
+    private static Set<Object> keys(Iterator<QueryableEntry> entries) {
+        Set<Object> keys = new HashSet<>();
+        entries.forEachRemaining(entry -> keys.add(entry.getKey()));
+        return keys;
+    }
+}
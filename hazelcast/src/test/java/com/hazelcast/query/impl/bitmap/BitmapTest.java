@@ -20,14 +20,20 @@ import com.hazelcast.internal.monitor.impl.GlobalIndexOperationStats;
 import com.hazelcast.internal.monitor.impl.IndexOperationStats;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
-import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastParametrizedRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.SortedSet;
@@ -40,13 +46,23 @@ import static com.hazelcast.query.Predicates.not;
 import static com.hazelcast.query.Predicates.notEqual;
 import static com.hazelcast.query.Predicates.or;
 import static com.hazelcast.query.impl.TypeConverters.INTEGER_CONVERTER;
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
-@RunWith(HazelcastParallelClassRunner.class)
+@RunWith(HazelcastParametrizedRunner.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
 public class BitmapTest {
 
+    @Parameters(name = "backend:{0}")
+    public static Collection<Object[]> parameters() {
+        return asList(new Object[][]{{Bitmap.Backend.SPARSE}, {Bitmap.Backend.ROARING}});
+    }
+
+    @Parameter
+    public Bitmap.Backend backend;
+
     private static final long COUNT = 1000;
 
     private static final Predicate[] actualQueries;
@@ -89,10 +105,15 @@ public class BitmapTest {
         expectedQueries[9] = new ExpectedQuery(value -> bit(1, value));
     }
 
-    private final Bitmap<String> bitmap = new Bitmap<>();
-
     private final IndexOperationStats operationStats = new GlobalIndexOperationStats();
 
+    private Bitmap<String> bitmap;
+
+    @Before
+    public void before() {
+        bitmap = new Bitmap<>(backend);
+    }
+
     @Test
     public void testInsertUpdateRemove() {
         // insert
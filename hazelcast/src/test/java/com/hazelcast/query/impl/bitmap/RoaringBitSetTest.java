@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.query.impl.bitmap;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static com.hazelcast.query.impl.bitmap.RoaringBitSet.ARRAY_CONTAINER_MAX_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RoaringBitSetTest {
+
+    private static final long CONTAINER_SIZE = 1 << 16;
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void testAddRemove() {
+        for (boolean offHeap : new boolean[]{false, true}) {
+            NavigableSet<Long> expected = new TreeSet<>();
+            RoaringBitSet actual = new RoaringBitSet(offHeap);
+
+            // upgrade to a bitmap container and back
+            for (long i = 0; i < ARRAY_CONTAINER_MAX_SIZE + 10; ++i) {
+                add(expected, actual, i * 3);
+            }
+            verify(expected, actual);
+            for (long i = 0; i < ARRAY_CONTAINER_MAX_SIZE + 10; ++i) {
+                remove(expected, actual, i * 3);
+            }
+            verify(expected, actual);
+            assertTrue(actual.isEmpty());
+
+            // edge cases
+            for (long member : new long[]{0, CONTAINER_SIZE - 1, CONTAINER_SIZE, Long.MAX_VALUE - 1, Long.MAX_VALUE}) {
+                add(expected, actual, member);
+                verify(expected, actual);
+            }
+            for (long member : new long[]{CONTAINER_SIZE, 1, Long.MAX_VALUE}) {
+                remove(expected, actual, member);
+                verify(expected, actual);
+            }
+
+            actual.clear();
+            expected.clear();
+            verify(expected, actual);
+        }
+    }
+
+    @Test
+    public void testSetOperations() {
+        for (int round = 0; round < 5; ++round) {
+            NavigableSet<Long> expected1 = new TreeSet<>();
+            NavigableSet<Long> expected2 = new TreeSet<>();
+            NavigableSet<Long> expected3 = new TreeSet<>();
+            RoaringBitSet actual1 = randomBitSet(expected1);
+            RoaringBitSet actual2 = randomBitSet(expected2);
+            RoaringBitSet actual3 = randomBitSet(expected3);
+
+            NavigableSet<Long> and = new TreeSet<>(expected1);
+            and.retainAll(expected2);
+            and.retainAll(expected3);
+            verify(and, RoaringBitSet.and(new RoaringBitSet[]{actual1, actual2, actual3}));
+
+            NavigableSet<Long> or = new TreeSet<>(expected1);
+            or.addAll(expected2);
+            or.addAll(expected3);
+            verify(or, RoaringBitSet.or(new RoaringBitSet[]{actual1, actual2, actual3}));
+
+            NavigableSet<Long> andNot = new TreeSet<>(expected1);
+            andNot.removeAll(expected2);
+            verify(andNot, RoaringBitSet.andNot(actual1, actual2));
+
+            // the operands are left intact
+            verify(expected1, actual1);
+            verify(expected2, actual2);
+            verify(expected3, actual3);
+        }
+
+        verify(new TreeSet<>(), RoaringBitSet.or(new RoaringBitSet[0]));
+    }
+
+    @Test
+    public void testAdvanceAtLeastTo() {
+        NavigableSet<Long> expected = new TreeSet<>();
+        RoaringBitSet actual = randomBitSet(expected);
+
+        for (int i = 0; i < 100; ++i) {
+            AscendingLongIterator iterator = actual.iterator();
+            long member = 0;
+            while (member != AscendingLongIterator.END) {
+                long target = member + random.nextInt((int) CONTAINER_SIZE);
+                Long ceiling = expected.ceiling(target);
+                member = iterator.advanceAtLeastTo(target);
+                assertEquals(ceiling == null ? AscendingLongIterator.END : ceiling, member);
+                assertEquals(member, iterator.getIndex());
+            }
+        }
+    }
+
+    private RoaringBitSet randomBitSet(NavigableSet<Long> expected) {
+        RoaringBitSet bitSet = new RoaringBitSet(random.nextBoolean());
+        for (int container = 0; container < 6; ++container) {
+            // mix empty, sparse, dense and full containers
+            int kind = random.nextInt(4);
+            int count = kind == 0 ? 0 : kind == 1 ? random.nextInt(100) : kind == 2 ? 20_000 : (int) CONTAINER_SIZE;
+            for (int i = 0; i < count; ++i) {
+                long member = container * CONTAINER_SIZE + (kind == 3 ? i : random.nextInt((int) CONTAINER_SIZE));
+                add(expected, bitSet, member);
+            }
+        }
+        return bitSet;
+    }
+
+    private static void add(NavigableSet<Long> expected, RoaringBitSet actual, long member) {
+        expected.add(member);
+        actual.add(member);
+    }
+
+    private static void remove(NavigableSet<Long> expected, RoaringBitSet actual, long member) {
+        expected.remove(member);
+        actual.remove(member);
+    }
+
+    private static void verify(NavigableSet<Long> expected, RoaringBitSet actual) {
+        assertEquals(expected.size(), actual.cardinality());
+        assertEquals(expected.isEmpty(), actual.isEmpty());
+
+        AscendingLongIterator iterator = actual.iterator();
+        for (long member : expected) {
+            assertEquals(member, iterator.getIndex());
+            assertEquals(member, iterator.advance());
+        }
+        assertEquals(AscendingLongIterator.END, iterator.getIndex());
+        assertEquals(AscendingLongIterator.END, iterator.advance());
+    }
+
+}
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.hazelcast.core.HazelcastJsonValue;
 import com.hazelcast.internal.json.Json;
 import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.json.internal.BinaryJson;
 import com.hazelcast.json.internal.JsonSchemaHelper;
 import com.hazelcast.json.internal.JsonSchemaNode;
 import com.hazelcast.test.HazelcastParallelClassRunner;
@@ -37,6 +38,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static com.hazelcast.test.HazelcastTestSupport.sleepAtLeastSeconds;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNull;
 import static junit.framework.TestCase.assertTrue;
 
 /**
@@ -83,6 +85,19 @@ public class AbstractJsonGetterTest {
         assertEquals(2, getter.getContextCacheSize());
     }
 
+    @Test
+    public void testBinaryJsonMetadata() throws Exception {
+        String jsonText = Json.object().add("at1", "val1").add("at2", Json.object().add("at3", 3)).toString();
+        HazelcastJsonValue jsonValue = new HazelcastJsonValue(jsonText);
+        BinaryJson binaryJson = BinaryJson.create(factory.createParser(jsonText));
+        assertEquals("val1", getter.getValue(jsonValue, "at1", binaryJson));
+        assertEquals(3L, getter.getValue(jsonValue, "at2.at3", binaryJson));
+        assertEquals(3L, getter.getValue(jsonValue, "at2.at3", binaryJson));
+        assertNull(getter.getValue(jsonValue, "at4", binaryJson));
+
+        assertEquals(3, getter.getContextCacheSize());
+    }
+
     @Test
     public void testQueryObjectsWithDifferentPatterns() throws Exception {
         testRandomOrderObjectRepetitiveQuerying(100);
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ArrayOperationQueueTest extends HazelcastTestSupport {
+
+    private static final int CAPACITY = 16;
+
+    private final ArrayOperationQueue operationQueue = new ArrayOperationQueue(CAPACITY, null);
+
+    // ================== add =====================
+
+    @Test(expected = NullPointerException.class)
+    public void add_whenNull() {
+        operationQueue.add(null, false);
+    }
+
+    @Test
+    public void add_whenPriority() {
+        operationQueue.add("task", true);
+
+        assertEquals(1, operationQueue.prioritySize());
+        assertEquals(0, operationQueue.normalSize());
+        assertEquals(1, operationQueue.size());
+        assertFalse(operationQueue.isEmpty());
+    }
+
+    @Test
+    public void add_whenNormal() {
+        operationQueue.add("task", false);
+
+        assertEquals(0, operationQueue.prioritySize());
+        assertEquals(1, operationQueue.normalSize());
+        assertEquals(1, operationQueue.size());
+        assertFalse(operationQueue.isEmpty());
+    }
+
+    @Test
+    public void add_whenRingFull_thenOverflowKeepsOrder() throws InterruptedException {
+        int taskCount = CAPACITY * 3;
+        for (int i = 0; i < taskCount; i++) {
+            operationQueue.add(i, false);
+        }
+        assertEquals(taskCount, operationQueue.normalSize());
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(i, operationQueue.take(false));
+        }
+        // the ring has space again, but the overflow isn't empty
+        operationQueue.add(taskCount, false);
+
+        for (int i = CAPACITY; i <= taskCount; i++) {
+            assertEquals(i, operationQueue.take(false));
+        }
+        assertTrue(operationQueue.isEmpty());
+    }
+
+    // ================== take =====================
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void take_whenPriorityOnly() throws InterruptedException {
+        operationQueue.take(true);
+    }
+
+    @Test
+    public void take_priorityIsRetrievedFirst() throws InterruptedException {
+        operationQueue.add("priority1", true);
+        operationQueue.add("normal1", false);
+        operationQueue.add("normal2", false);
+        operationQueue.add("priority2", true);
+
+        assertSame("priority1", operationQueue.take(false));
+        assertSame("priority2", operationQueue.take(false));
+        assertSame("normal1", operationQueue.take(false));
+
+        // a priority task overtakes the drained batch
+        operationQueue.add("priority3", true);
+        assertSame("priority3", operationQueue.take(false));
+        assertSame("normal2", operationQueue.take(false));
+
+        assertEquals(0, operationQueue.size());
+        assertTrue(operationQueue.isEmpty());
+    }
+
+    @Test
+    public void take_whenMoreThanBatch() throws InterruptedException {
+        ArrayOperationQueue queue = new ArrayOperationQueue(ArrayOperationQueue.BATCH_SIZE * 4, null);
+        int taskCount = ArrayOperationQueue.BATCH_SIZE * 3 + 1;
+        for (int i = 0; i < taskCount; i++) {
+            queue.add(i, false);
+        }
+
+        for (int i = 0; i < taskCount; i++) {
+            assertEquals(i, queue.take(false));
+            assertEquals(taskCount - i - 1, queue.normalSize());
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void take_whenNoItemAvailable_thenBlockTillItemAvailable() throws Exception {
+        Future<Object> future = spawn((Callable<Object>) () -> operationQueue.take(false));
+        sleepSeconds(1);
+
+        operationQueue.add("task", false);
+
+        assertSame("task", future.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+    }
+
+    @Test
+    public void take_whenNoItemAvailable_thenBlockTillPriorityItemAvailable() throws Exception {
+        Future<Object> future = spawn((Callable<Object>) () -> operationQueue.take(false));
+        sleepSeconds(1);
+
+        operationQueue.add("task", true);
+
+        assertSame("task", future.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+    }
+
+    @Test
+    public void take_whenInterrupted() throws Exception {
+        Thread.currentThread().interrupt();
+        try {
+            operationQueue.take(false);
+            fail();
+        } catch (InterruptedException expected) {
+            assertFalse(Thread.currentThread().isInterrupted());
+        }
+    }
+
+    @Test
+    public void take_whenManyProducers_thenOrderPerProducerIsKept() throws Exception {
+        int producerCount = 4;
+        int tasksPerProducer = 100_000;
+        Future<?>[] producers = new Future[producerCount];
+        for (int producer = 0; producer < producerCount; producer++) {
+            long producerId = producer;
+            producers[producer] = spawn((Runnable) () -> {
+                for (int i = 0; i < tasksPerProducer; i++) {
+                    operationQueue.add(producerId << 32 | i, false);
+                }
+            });
+        }
+
+        long[] lastTaken = new long[producerCount];
+        for (int producer = 0; producer < producerCount; producer++) {
+            lastTaken[producer] = -1;
+        }
+        for (int i = 0; i < producerCount * tasksPerProducer; i++) {
+            long task = (Long) operationQueue.take(false);
+            int producer = (int) (task >>> 32);
+            long sequence = task & 0xFFFFFFFFL;
+            assertEquals(lastTaken[producer] + 1, sequence);
+            lastTaken[producer] = sequence;
+        }
+        for (Future<?> producer : producers) {
+            producer.get();
+        }
+        assertTrue(operationQueue.isEmpty());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_LATENCY_P999;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_INVOCATION_LATENCY_WINDOW_COUNT;
+import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
+import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
+import static com.hazelcast.internal.metrics.ProbeUnit.US;
+import static com.hazelcast.internal.metrics.impl.DefaultMetricDescriptorSupplier.DEFAULT_DESCRIPTOR_SUPPLIER;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class InvocationLatencyHistogramsTest {
+
+    private Address target;
+    private MetricDescriptor descriptor;
+    private MetricsCollectionContext context;
+
+    @Before
+    public void setup() throws Exception {
+        target = new Address("127.0.0.1", 5701);
+        descriptor = DEFAULT_DESCRIPTOR_SUPPLIER.get();
+        context = mock(MetricsCollectionContext.class);
+    }
+
+    @Test
+    public void provideDynamicMetrics_publishesLastWindow() {
+        InvocationLatencyHistograms histograms = new InvocationLatencyHistograms(1);
+        histograms.record(DummyOperation.class, target, System.nanoTime());
+        histograms.record(DummyOperation.class, target, System.nanoTime());
+        histograms.rollWindows();
+
+        histograms.provideDynamicMetrics(descriptor, context);
+
+        assertEquals(2, histograms.lastWindow(DummyOperation.class, target).count());
+        verify(context).collect(any(MetricDescriptor.class), eq(OPERATION_METRIC_INVOCATION_LATENCY_WINDOW_COUNT),
+                eq(INFO), eq(COUNT), eq(2L));
+        verify(context).collect(any(MetricDescriptor.class), eq(OPERATION_METRIC_INVOCATION_LATENCY_P999),
+                eq(INFO), eq(US), anyLong());
+    }
+
+    @Test
+    public void rollWindows_whenNothingRecordedInWindow() {
+        InvocationLatencyHistograms histograms = new InvocationLatencyHistograms(1);
+        histograms.record(DummyOperation.class, target, System.nanoTime());
+        histograms.rollWindows();
+
+        histograms.rollWindows();
+
+        assertEquals(0, histograms.lastWindow(DummyOperation.class, target).count());
+    }
+
+    @Test
+    public void provideDynamicMetrics_doesNotRollWindow() {
+        InvocationLatencyHistograms histograms = new InvocationLatencyHistograms(1);
+        histograms.record(DummyOperation.class, target, System.nanoTime());
+        histograms.rollWindows();
+
+        histograms.provideDynamicMetrics(descriptor, context);
+        histograms.provideDynamicMetrics(descriptor, context);
+
+        // collecting twice publishes the same window
+        assertEquals(1, histograms.lastWindow(DummyOperation.class, target).count());
+    }
+
+    @Test
+    public void provideDynamicMetrics_whenWindowNotRolled() {
+        InvocationLatencyHistograms histograms = new InvocationLatencyHistograms(HOURS.toNanos(1));
+        histograms.record(DummyOperation.class, target, System.nanoTime());
+
+        histograms.provideDynamicMetrics(descriptor, context);
+
+        assertEquals(0, histograms.lastWindow(DummyOperation.class, target).count());
+    }
+
+    @Test
+    public void removeTarget() {
+        InvocationLatencyHistograms histograms = new InvocationLatencyHistograms(1);
+        histograms.record(DummyOperation.class, target, System.nanoTime());
+
+        histograms.removeTarget(target);
+
+        assertNull(histograms.lastWindow(DummyOperation.class, target));
+    }
+}